@@ -0,0 +1,70 @@
+package com.ururulab.ururu.groupBuy.util;
+
+import com.ururulab.ururu.groupBuy.dto.common.DiscountStageDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * 할인율 계산 벤치마크: 호출마다 할인 단계 JSON 파싱 vs 컴파일된 할인 단계 표 조회
+ * 판매량은 모든 단계 구간(미달성 ~ 전 단계 달성)에 고르게 걸치도록 돌아가며 사용합니다.
+ */
+@State(Scope.Benchmark)
+public class DiscountTierTableBenchmark {
+
+    private static final int SOLD_QUANTITY_COUNT = 1_024; // 2의 거듭제곱 (인덱스 마스킹)
+
+    @Param({"5", "20"})
+    private int stageCount;
+
+    private String stagesJson;
+    private DiscountTierTable table;
+    private int[] soldQuantities;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StringBuilder json = new StringBuilder("[");
+        for (int stage = 1; stage <= stageCount; stage++) {
+            if (stage > 1) {
+                json.append(',');
+            }
+            json.append("{\"count\":").append(stage * 10).append(",\"rate\":").append(stage).append('}');
+        }
+        stagesJson = json.append(']').toString();
+        table = DiscountTierTable.compile(stagesJson);
+
+        soldQuantities = new int[SOLD_QUANTITY_COUNT];
+        for (int i = 0; i < SOLD_QUANTITY_COUNT; i++) {
+            soldQuantities[i] = (i * 7) % ((stageCount + 1) * 10);
+        }
+    }
+
+    /**
+     * 기존 방식: 호출마다 JSON 파싱 후 달성한 단계 중 최대 할인율
+     */
+    @Benchmark
+    public int parseAndCalculate() {
+        int soldQuantity = nextSoldQuantity();
+        List<DiscountStageDto> stages = DiscountStageParser.parseDiscountStages(stagesJson);
+        return stages.stream()
+                .filter(stage -> soldQuantity >= stage.minQuantity())
+                .mapToInt(DiscountStageDto::discountRate)
+                .max()
+                .orElse(0);
+    }
+
+    @Benchmark
+    public int compiledTable() {
+        return table.rateFor(nextSoldQuantity());
+    }
+
+    private int nextSoldQuantity() {
+        return soldQuantities[next++ & (SOLD_QUANTITY_COUNT - 1)];
+    }
+}
@@ -5,8 +5,7 @@ import com.ururulab.ururu.global.exception.BusinessException;
 import com.ururulab.ururu.global.exception.error.ErrorCode;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
-import com.ururulab.ururu.groupBuy.dto.common.DiscountStageDto;
-import com.ururulab.ururu.groupBuy.util.DiscountStageParser;
+import com.ururulab.ururu.groupBuy.service.GroupBuyDiscountTierCache;
 import com.ururulab.ururu.order.domain.repository.OrderItemRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +30,7 @@ public class AiResponseMappingService {
 
     private final GroupBuyRepository groupBuyRepository;
     private final OrderItemRepository orderItemRepository;
+    private final GroupBuyDiscountTierCache discountTierCache;
 
     /**
      * AI 서비스 응답을 RecommendedGroupBuy 리스트로 변환.
@@ -262,15 +262,8 @@ public class AiResponseMappingService {
      */
     private Integer calculateCurrentDiscountRate(final GroupBuy groupBuy, final Integer currentParticipants) {
         try {
-            final List<DiscountStageDto> stages = DiscountStageParser.parseDiscountStages(groupBuy.getDiscountStages());
-            
-            // 참여자 수에 따라 적용 가능한 최고 할인율 계산
-            return stages.stream()
-                    .filter(stage -> currentParticipants >= stage.minQuantity())
-                    .mapToInt(DiscountStageDto::discountRate)
-                    .max()
-                    .orElse(0); // 최소 참여자 수 미달 시 할인 없음
-                    
+            // 참여자 수에 따라 적용 가능한 최고 할인율 계산 (최소 참여자 수 미달 시 할인 없음)
+            return discountTierCache.get(groupBuy).rateFor(currentParticipants);
         } catch (final Exception e) {
             log.warn("할인율 계산 실패 - GroupBuy ID: {}, 기본 할인율 0% 적용", groupBuy.getId(), e);
             return 0;
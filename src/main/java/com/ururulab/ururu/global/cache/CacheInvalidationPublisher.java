@@ -0,0 +1,55 @@
+package com.ururulab.ururu.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.UUID;
+
+/**
+ * 로컬 캐시(L1) 무효화 메시지 발행 (Redis Pub/Sub)
+ * blue/green 등 여러 노드가 같은 Redis(L2)를 쓰므로, 한 노드에서 값이 바뀌면 나머지 노드의 L1만 비웁니다.
+ */
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "cache:invalidation";
+    static final String CLEAR_ALL = "*";
+    private static final String DELIMITER = "\n";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString(); // 자기 메시지 무시용
+
+    public CacheInvalidationPublisher(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        publish(cacheName, key);
+    }
+
+    public void publishClear(String cacheName) {
+        publish(cacheName, CLEAR_ALL);
+    }
+
+    /**
+     * 수신한 메시지 해석 (자기 노드가 보낸 메시지면 null)
+     *
+     * @return [cacheName, key] (key가 "*"이면 전체 삭제)
+     */
+    String[] parse(String message) {
+        String[] parts = message.split(DELIMITER, 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return null;
+        }
+        return new String[]{parts[1], parts[2]};
+    }
+
+    private void publish(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.join(DELIMITER, nodeId, cacheName, key));
+        } catch (Exception e) {
+            // 발행 실패 시 다른 노드의 L1은 TTL 만료로 정리됨
+            log.warn("Failed to publish cache invalidation - cache: {}, key: {}", cacheName, key, e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.ururulab.ururu.global.cache;
+
+import java.time.Duration;
+
+/**
+ * 캐시 이름별 계층 설정
+ *
+ * @param localMaxSize 로컬(Caffeine, L1) 최대 항목 수 (0이면 L1 없이 Redis만 사용)
+ * @param localTtl 로컬 캐시 만료 시간 (Redis TTL보다 짧게 두어 노드 간 차이를 줄임)
+ * @param redisTtl 값이 최신으로 취급되는 시간 (Redis(L2) TTL의 기준)
+ * @param staleTtl 최신 시간이 지난 뒤에도 재계산하는 동안 이전 값을 돌려줄 수 있는 시간 (0이면 사용 안 함)
+ * @param earlyRefreshBeta 만료 전 확률적 조기 갱신 강도 (0이면 사용 안 함, 1.0이 일반적인 값)
+ */
+public record CacheSpec(
+        long localMaxSize,
+        Duration localTtl,
+        Duration redisTtl,
+        Duration staleTtl,
+        double earlyRefreshBeta
+) {
+    public static CacheSpec of(long localMaxSize, Duration localTtl, Duration redisTtl) {
+        return new CacheSpec(localMaxSize, localTtl, redisTtl, Duration.ZERO, 0);
+    }
+
+    public static CacheSpec redisOnly(Duration redisTtl) {
+        return of(0, Duration.ZERO, redisTtl);
+    }
+
+    /**
+     * stale-while-revalidate + 확률적 조기 갱신 설정
+     * (@Cacheable(sync = true)로 조회하는 캐시에만 적용)
+     */
+    public CacheSpec withStaleWhileRevalidate(Duration staleTtl, double earlyRefreshBeta) {
+        return new CacheSpec(localMaxSize, localTtl, redisTtl, staleTtl, earlyRefreshBeta);
+    }
+
+    public boolean hasLocal() {
+        return localMaxSize > 0 && !localTtl.isZero();
+    }
+
+    /**
+     * Redis에 실제로 보관하는 시간 (최신 시간 + 이전 값 제공 시간)
+     */
+    public Duration physicalRedisTtl() {
+        return redisTtl.plus(staleTtl);
+    }
+}
@@ -0,0 +1,16 @@
+package com.ururulab.ururu.global.cache;
+
+/**
+ * 캐시에 저장하는 값 (L1/L2 공통)
+ * 저장 시각과 계산에 걸린 시간을 함께 두어 최신 여부와 조기 갱신 시점을 판단합니다.
+ *
+ * @param value 캐시 값 (null 가능)
+ * @param createdAtMillis 저장 시각 (epoch millis)
+ * @param computeMillis 원본 계산 소요 시간 (모르면 0)
+ */
+public record CachedValue(
+        Object value,
+        long createdAtMillis,
+        long computeMillis
+) {
+}
@@ -0,0 +1,60 @@
+package com.ururulab.ururu.global.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+
+/**
+ * L2(Redis) 캐시 값 직렬화 (캐시별 값 타입 지정)
+ * CachedValue.value는 Object라 타입 없이 읽으면 LinkedHashMap이 되므로, 캐시마다 정해진 값 타입으로 복원합니다.
+ * 타입 정보를 JSON에 싣지 않아 List.of() 같은 불변 컬렉션도 그대로 저장할 수 있습니다.
+ */
+public class CachedValueRedisSerializer implements RedisSerializer<CachedValue> {
+
+    private static final String VALUE = "value";
+    private static final String CREATED_AT_MILLIS = "createdAtMillis";
+    private static final String COMPUTE_MILLIS = "computeMillis";
+
+    private final ObjectMapper objectMapper;
+    private final JavaType valueType;
+
+    public CachedValueRedisSerializer(ObjectMapper objectMapper, JavaType valueType) {
+        this.objectMapper = objectMapper;
+        this.valueType = valueType;
+    }
+
+    @Override
+    public byte[] serialize(CachedValue cachedValue) {
+        if (cachedValue == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.writeValueAsBytes(cachedValue);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write cached value", e);
+        }
+    }
+
+    @Override
+    public CachedValue deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try {
+            JsonNode node = objectMapper.readTree(bytes);
+            JsonNode value = node.get(VALUE);
+            return new CachedValue(
+                    value == null || value.isNull() ? null : objectMapper.readerFor(valueType).readValue(value),
+                    node.path(CREATED_AT_MILLIS).asLong(),
+                    node.path(COMPUTE_MILLIS).asLong());
+        } catch (IOException e) {
+            throw new SerializationException("Could not read cached value as " + valueType, e);
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.ururulab.ururu.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로컬 Caffeine(L1) + Redis(L2) 2단계 캐시
+ * 조회는 L1 -> L2 -> 원본 순서로 하고, L2에서 찾은 값은 L1에 채웁니다.
+ * 변경/삭제는 L2에 먼저 반영한 뒤 다른 노드의 L1을 무효화하도록 알립니다.
+ *
+ * @Cacheable(sync = true) 조회(get(key, valueLoader))에서는
+ * - 같은 키의 원본 계산을 노드당 하나로 합치고 (나머지 요청은 결과를 기다림)
+ * - 최신 시간이 지난 값이 남아 있으면 기다리지 않고 그 값을 돌려준 뒤 백그라운드에서 다시 계산하며
+ * - 만료가 가까워지면 계산 시간에 비례한 확률로 미리 갱신합니다. (XFetch)
+ * 백그라운드 재계산은 호출한 요청의 트랜잭션 밖에서 실행되므로 읽기 전용 트랜잭션을 새로 열어 원본을 계산합니다.
+ * (지연 로딩 연관관계를 건드리는 계산도 LazyInitializationException 없이 동작)
+ */
+@Slf4j
+public class LayeredCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache<String, CachedValue> local;
+    private final org.springframework.cache.Cache redis;
+    private final CacheSpec spec;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final Executor refreshExecutor;
+    private final TransactionOperations refreshTransaction;
+
+    // 키 문자열 -> 진행 중인 원본 계산
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter loads;
+    private final Counter coalescedLoads;
+    private final Counter staleServed;
+    private final Counter earlyRefreshes;
+
+    LayeredCache(String name,
+                 Cache<String, CachedValue> local,
+                 org.springframework.cache.Cache redis,
+                 CacheSpec spec,
+                 CacheInvalidationPublisher invalidationPublisher,
+                 Executor refreshExecutor,
+                 TransactionOperations refreshTransaction,
+                 MeterRegistry meterRegistry) {
+        super(true);
+        this.name = name;
+        this.local = local;
+        this.redis = redis;
+        this.spec = spec;
+        this.invalidationPublisher = invalidationPublisher;
+        this.refreshExecutor = refreshExecutor;
+        this.refreshTransaction = refreshTransaction;
+
+        this.localHits = requestCounter(meterRegistry, name, "l1", "hit");
+        this.localMisses = requestCounter(meterRegistry, name, "l1", "miss");
+        this.redisHits = requestCounter(meterRegistry, name, "l2", "hit");
+        this.redisMisses = requestCounter(meterRegistry, name, "l2", "miss");
+        this.loads = loadCounter(meterRegistry, name, "loaded");
+        this.coalescedLoads = loadCounter(meterRegistry, name, "coalesced");
+        this.staleServed = loadCounter(meterRegistry, name, "stale_served");
+        this.earlyRefreshes = loadCounter(meterRegistry, name, "early_refresh");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redis.getNativeCache();
+    }
+
+    /**
+     * 일반 조회 (@Cacheable 기본 모드): 최신 값만 반환
+     */
+    @Override
+    protected Object lookup(Object key) {
+        CachedValue cached = lookupCached(key);
+        if (cached == null || !isFresh(cached, System.currentTimeMillis())) {
+            return null;
+        }
+        return toStoreValue(cached.value());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        long now = System.currentTimeMillis();
+        CachedValue cached = lookupCached(key);
+
+        if (cached != null) {
+            if (isFresh(cached, now)) {
+                if (shouldRefreshEarly(cached, now)) {
+                    earlyRefreshes.increment();
+                    refreshAsync(key, valueLoader);
+                }
+                return (T) cached.value();
+            }
+            if (isServableStale(cached, now)) {
+                staleServed.increment();
+                refreshAsync(key, valueLoader);
+                return (T) cached.value();
+            }
+        }
+
+        return (T) loadCoalesced(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        store(key, new CachedValue(value, System.currentTimeMillis(), 0));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        CachedValue cached = new CachedValue(value, System.currentTimeMillis(), 0);
+        ValueWrapper existing = redis.putIfAbsent(key, cached);
+        if (existing != null && existing.get() instanceof CachedValue previous) {
+            return toValueWrapper(toStoreValue(previous.value()));
+        }
+        if (local != null) {
+            local.put(localKey(key), cached);
+        }
+        invalidationPublisher.publishEvict(name, localKey(key));
+        return null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        redis.evict(key);
+        evictLocal(localKey(key));
+        invalidationPublisher.publishEvict(name, localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        redis.clear();
+        clearLocal();
+        invalidationPublisher.publishClear(name);
+    }
+
+    /**
+     * 다른 노드의 변경 알림으로 로컬 항목만 제거
+     */
+    void evictLocal(String localKey) {
+        if (local != null) {
+            local.invalidate(localKey);
+        }
+    }
+
+    /**
+     * 다른 노드의 전체 삭제 알림으로 로컬 캐시만 비움
+     */
+    void clearLocal() {
+        if (local != null) {
+            local.invalidateAll();
+        }
+    }
+
+    /**
+     * 노드 간 무효화 메시지에 실을 수 있도록 키를 문자열로 통일
+     * (RedisCache도 단순 키는 toString으로 Redis 키를 만듦)
+     */
+    static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private CachedValue lookupCached(Object key) {
+        String localKey = localKey(key);
+        if (local != null) {
+            CachedValue cached = local.getIfPresent(localKey);
+            if (cached != null) {
+                localHits.increment();
+                return cached;
+            }
+            localMisses.increment();
+        }
+
+        ValueWrapper wrapper = redis.get(key);
+        if (wrapper == null || !(wrapper.get() instanceof CachedValue cached)) {
+            redisMisses.increment();
+            return null;
+        }
+        redisHits.increment();
+
+        if (local != null) {
+            local.put(localKey, cached);
+        }
+        return cached;
+    }
+
+    /**
+     * 같은 키의 원본 계산은 한 번만 실행하고 나머지 요청은 그 결과를 기다림
+     */
+    private Object loadCoalesced(Object key, Callable<?> valueLoader) {
+        String localKey = localKey(key);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(localKey, mine);
+        if (running != null) {
+            coalescedLoads.increment();
+            return await(running, key, valueLoader);
+        }
+
+        try {
+            // 계산을 맡기 직전에 다른 요청이 채웠을 수 있음
+            CachedValue cached = lookupCached(key);
+            Object value = cached != null && isFresh(cached, System.currentTimeMillis())
+                    ? cached.value()
+                    : loadAndStore(key, valueLoader);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(localKey, mine);
+        }
+    }
+
+    /**
+     * 백그라운드 재계산 (이미 계산 중이면 생략, 읽기 전용 트랜잭션 안에서 계산)
+     */
+    private void refreshAsync(Object key, Callable<?> valueLoader) {
+        String localKey = localKey(key);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(localKey, mine) != null) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    mine.complete(loadAndStore(key, inRefreshTransaction(key, valueLoader)));
+                } catch (RuntimeException e) {
+                    log.warn("Cache refresh failed - cache: {}, key: {}", name, localKey, e);
+                    mine.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(localKey, mine);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 갱신 스레드가 모자라면 이번에는 이전 값만 돌려주고 다음 요청에서 다시 시도
+            inFlight.remove(localKey, mine);
+            mine.completeExceptionally(e);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> running, Object key, Callable<?> valueLoader) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RejectedExecutionException) {
+                return loadAndStore(key, valueLoader);
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Callable<?> inRefreshTransaction(Object key, Callable<?> valueLoader) {
+        return () -> refreshTransaction.execute(status -> {
+            try {
+                return valueLoader.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        });
+    }
+
+    private Object loadAndStore(Object key, Callable<?> valueLoader) {
+        long startedAt = System.currentTimeMillis();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (ValueRetrievalException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        long now = System.currentTimeMillis();
+        loads.increment();
+
+        store(key, new CachedValue(value, now, now - startedAt));
+        return value;
+    }
+
+    private void store(Object key, CachedValue cached) {
+        redis.put(key, cached);
+        if (local != null) {
+            local.put(localKey(key), cached);
+        }
+        invalidationPublisher.publishEvict(name, localKey(key));
+    }
+
+    private boolean isFresh(CachedValue cached, long now) {
+        return now < expiresAt(cached);
+    }
+
+    private boolean isServableStale(CachedValue cached, long now) {
+        return now < expiresAt(cached) + spec.staleTtl().toMillis();
+    }
+
+    /**
+     * XFetch: 만료 시각 - 계산 시간 x beta x (-ln(난수)) 를 지나면 갱신
+     * 계산이 오래 걸리는 값일수록, 만료에 가까울수록 미리 갱신될 확률이 높아집니다.
+     */
+    private boolean shouldRefreshEarly(CachedValue cached, long now) {
+        if (spec.earlyRefreshBeta() <= 0 || cached.computeMillis() <= 0) {
+            return false;
+        }
+        double random = ThreadLocalRandom.current().nextDouble(Double.MIN_VALUE, 1.0);
+        return now - cached.computeMillis() * spec.earlyRefreshBeta() * Math.log(random) >= expiresAt(cached);
+    }
+
+    private long expiresAt(CachedValue cached) {
+        return cached.createdAtMillis() + spec.redisTtl().toMillis();
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String cacheName, String layer, String result) {
+        return Counter.builder("ururu_cache_requests")
+                .description("계층별 캐시 조회 결과 (hit / miss)")
+                .tag("cache", cacheName)
+                .tag("layer", layer)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter loadCounter(MeterRegistry meterRegistry, String cacheName, String result) {
+        return Counter.builder("ururu_cache_loads")
+                .description("원본 계산 (loaded), 대기 합류 (coalesced), 이전 값 제공 (stale_served), 조기 갱신 (early_refresh)")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,107 @@
+package com.ururulab.ururu.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 캐시 이름별로 Caffeine(L1)과 Redis(L2)를 묶어 주는 CacheManager
+ * CacheSpec이 없는 캐시는 기본 설정(Redis만 사용)을 따릅니다.
+ * 다른 노드의 무효화 메시지를 받아 해당 캐시의 L1 항목을 제거합니다.
+ */
+@Slf4j
+public class LayeredCacheManager implements CacheManager, MessageListener {
+
+    private final RedisCacheManager redisCacheManager;
+    private final Map<String, CacheSpec> specs;
+    private final CacheSpec defaultSpec;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final Executor refreshExecutor;
+    private final TransactionOperations refreshTransaction;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, LayeredCache> caches = new ConcurrentHashMap<>();
+
+    public LayeredCacheManager(RedisCacheManager redisCacheManager,
+                               Map<String, CacheSpec> specs,
+                               CacheSpec defaultSpec,
+                               CacheInvalidationPublisher invalidationPublisher,
+                               Executor refreshExecutor,
+                               TransactionOperations refreshTransaction,
+                               MeterRegistry meterRegistry) {
+        this.redisCacheManager = redisCacheManager;
+        this.specs = specs;
+        this.defaultSpec = defaultSpec;
+        this.invalidationPublisher = invalidationPublisher;
+        this.refreshExecutor = refreshExecutor;
+        this.refreshTransaction = refreshTransaction;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        LayeredCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache redisCache = redisCacheManager.getCache(name);
+        if (redisCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> createCache(cacheName, redisCache));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parsed = invalidationPublisher.parse(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (parsed == null) {
+            return;
+        }
+
+        LayeredCache cache = caches.get(parsed[0]);
+        if (cache == null) {
+            return; // 이 노드에서 아직 사용하지 않은 캐시
+        }
+        if (CacheInvalidationPublisher.CLEAR_ALL.equals(parsed[1])) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parsed[1]);
+        }
+        log.debug("Local cache invalidated by peer - cache: {}, key: {}", parsed[0], parsed[1]);
+    }
+
+    private LayeredCache createCache(String name, Cache redisCache) {
+        CacheSpec spec = specs.getOrDefault(name, defaultSpec);
+        com.github.benmanes.caffeine.cache.Cache<String, CachedValue> local = null;
+        if (spec.hasLocal()) {
+            local = Caffeine.newBuilder()
+                    .maximumSize(spec.localMaxSize())
+                    .expireAfterWrite(spec.localTtl())
+                    .build();
+            Gauge.builder("ururu_cache_local_size", local, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                    .description("로컬(L1) 캐시 항목 수")
+                    .tag("cache", name)
+                    .register(meterRegistry);
+        }
+        return new LayeredCache(name, local, redisCache, spec, invalidationPublisher, refreshExecutor,
+                refreshTransaction, meterRegistry);
+    }
+}
@@ -50,4 +50,89 @@ public class AsyncConfig {
 		executor.initialize();
 		return executor;
 	}
+
+	/**
+	 * 결제 웹훅 수신함 처리 전용 스레드풀
+	 * 결제 키 단위로 이벤트를 순서대로 처리
+	 */
+	@Bean("webhookInboxExecutor")
+	public TaskExecutor webhookInboxExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(4);
+		executor.setMaxPoolSize(4);
+		executor.setQueueCapacity(200);
+		executor.setThreadNamePrefix("WebhookInbox-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * 아웃박스 릴레이 전용 스레드풀
+	 * 한 배치의 이벤트를 병렬로 핸들러에 전달
+	 */
+	@Bean("outboxRelayExecutor")
+	public TaskExecutor outboxRelayExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(4);
+		executor.setMaxPoolSize(8);
+		executor.setQueueCapacity(200);
+		executor.setThreadNamePrefix("OutboxRelay-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * 인스턴스 전용 아웃박스 이벤트 전달 스레드풀
+	 * 로컬 임시 파일을 S3로 올리는 느린 이미지 업로드가 공유 이벤트 전달을 막지 않도록 분리
+	 */
+	@Bean("outboxLocalRelayExecutor")
+	public TaskExecutor outboxLocalRelayExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(2);
+		executor.setMaxPoolSize(4);
+		executor.setQueueCapacity(50);
+		executor.setThreadNamePrefix("OutboxLocalRelay-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * 캐시 백그라운드 갱신 전용 스레드풀
+	 * 큐가 차면 갱신을 건너뛰고 이전 값을 계속 제공 (다음 요청에서 다시 시도)
+	 */
+	@Bean("cacheRefreshExecutor")
+	public TaskExecutor cacheRefreshExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(2);
+		executor.setMaxPoolSize(4);
+		executor.setQueueCapacity(100);
+		executor.setThreadNamePrefix("CacheRefresh-");
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * 실시간 현황(SSE) 전송 전용 스레드풀
+	 * 큐가 차면 스케줄러 스레드가 직접 전송해 다음 flush를 늦춤 (전송 지연이 쌓이지 않도록)
+	 */
+	@Bean("liveStreamExecutor")
+	public TaskExecutor liveStreamExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(4);
+		executor.setMaxPoolSize(8);
+		executor.setQueueCapacity(500);
+		executor.setThreadNamePrefix("LiveStream-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.initialize();
+		return executor;
+	}
 }
@@ -1,9 +1,18 @@
 package com.ururulab.ururu.global.config;
 
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.fasterxml.jackson.datatype.hibernate6.Hibernate6Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ururulab.ururu.global.cache.CacheInvalidationPublisher;
+import com.ururulab.ururu.global.cache.CacheSpec;
+import com.ururulab.ururu.global.cache.CachedValueRedisSerializer;
+import com.ururulab.ururu.global.cache.LayeredCacheManager;
+import com.ururulab.ururu.groupBuy.dto.response.GroupBuyListResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
@@ -11,15 +20,46 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
 @Configuration
 public class RedisConfig {
 
+    private static final CacheSpec DEFAULT_CACHE_SPEC = CacheSpec.redisOnly(Duration.ofMinutes(5)); // 5분 TTL
+
+    /**
+     * 캐시별 L1(Caffeine)/L2(Redis) 설정
+     * 메인 화면 순위는 리더보드로 실시간 반영되므로 짧게 캐싱하여 요청 몰림만 흡수하고,
+     * 만료 후 1분까지는 재계산을 기다리지 않고 이전 값을 돌려줌 (@Cacheable(sync = true))
+     */
+    private static final Map<String, CacheSpec> CACHE_SPECS = Map.of(
+            "realtimeBest", CacheSpec.of(10, Duration.ofSeconds(3), Duration.ofSeconds(10))
+                    .withStaleWhileRevalidate(Duration.ofMinutes(1), 1.0),
+            "categoryPopular", CacheSpec.of(500, Duration.ofSeconds(3), Duration.ofSeconds(10))
+                    .withStaleWhileRevalidate(Duration.ofMinutes(1), 1.0)
+    );
+
+    /**
+     * 캐시별 L2(Redis) 값 타입
+     * 등록하지 않은 캐시는 JSON 기본 타입(Map/List/문자열/숫자)으로 복원되므로 DTO를 담는 캐시는 여기에 추가
+     */
+    private static final Map<String, JavaType> CACHE_VALUE_TYPES = Map.of(
+            "realtimeBest", TypeFactory.defaultInstance().constructCollectionType(List.class, GroupBuyListResponse.class),
+            "categoryPopular", TypeFactory.defaultInstance().constructCollectionType(List.class, GroupBuyListResponse.class)
+    );
+
     @Bean
     public ObjectMapper redisObjectMapper() {
         ObjectMapper objectMapper = new ObjectMapper();
@@ -63,17 +103,59 @@ public class RedisConfig {
     }
 
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(redisObjectMapper());
+    public CacheInvalidationPublisher cacheInvalidationPublisher(StringRedisTemplate stringRedisTemplate) {
+        return new CacheInvalidationPublisher(stringRedisTemplate);
+    }
 
+    /**
+     * Caffeine(L1) + Redis(L2) 캐시
+     * CACHE_SPECS에 없는 캐시는 Redis만 사용 (기본 TTL 5분)
+     * 값은 저장 시각을 담은 CachedValue로 감싸 저장하고, L2에서는 CACHE_VALUE_TYPES의 타입으로 복원
+     * 백그라운드 재계산은 읽기 전용 트랜잭션 안에서 실행
+     */
+    @Bean
+    public LayeredCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                            CacheInvalidationPublisher cacheInvalidationPublisher,
+                                            @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor,
+                                            PlatformTransactionManager transactionManager,
+                                            MeterRegistry meterRegistry) {
+        ObjectMapper objectMapper = redisObjectMapper();
 
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(5))  // 5분 TTL
+                .entryTtl(DEFAULT_CACHE_SPEC.physicalRedisTtl())
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer));
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new CachedValueRedisSerializer(objectMapper, objectMapper.constructType(Object.class))));
+
+        Map<String, RedisCacheConfiguration> redisConfigs = new HashMap<>();
+        CACHE_SPECS.forEach((name, spec) -> redisConfigs.put(name, config.entryTtl(spec.physicalRedisTtl())));
+        CACHE_VALUE_TYPES.forEach((name, valueType) -> redisConfigs.put(name,
+                redisConfigs.getOrDefault(name, config).serializeValuesWith(RedisSerializationContext.SerializationPair
+                        .fromSerializer(new CachedValueRedisSerializer(objectMapper, valueType)))));
 
-        return RedisCacheManager.builder(redisConnectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(config)
+                .withInitialCacheConfigurations(redisConfigs)
                 .build();
+        redisCacheManager.afterPropertiesSet(); // 빈으로 등록하지 않으므로 직접 초기화
+
+        TransactionTemplate refreshTransaction = new TransactionTemplate(transactionManager);
+        refreshTransaction.setReadOnly(true);
+
+        return new LayeredCacheManager(redisCacheManager, CACHE_SPECS, DEFAULT_CACHE_SPEC,
+                cacheInvalidationPublisher, cacheRefreshExecutor, refreshTransaction, meterRegistry);
+    }
+
+    /**
+     * Redis Pub/Sub 구독 컨테이너
+     * 다른 노드의 L1 무효화 메시지를 구독하며, 다른 도메인 리스너도 이 컨테이너에 채널을 추가해 사용
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       LayeredCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+        return container;
     }
 }
@@ -0,0 +1,31 @@
+package com.ururulab.ururu.global.config.loader;
+
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 목록 조회용 비정규화 컬럼(최저 시작가, 누적 판매량)이 비어 있는 공동구매 보정
+ * 컬럼 추가 이전에 등록된 공동구매를 위해 기동 시 한 번 실행
+ */
+@Slf4j
+@Component
+@Order(3)
+@RequiredArgsConstructor
+public class GroupBuyListSummaryInitializer implements CommandLineRunner {
+
+    private final GroupBuyRepository groupBuyRepository;
+
+    @Override
+    @Transactional
+    public void run(String... args) {
+        int updated = groupBuyRepository.backfillListSummaries();
+        if (updated > 0) {
+            log.info("Backfilled list summaries for {} group buys", updated);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.ururulab.ururu.global.domain.entity;
+
+import com.ururulab.ururu.global.domain.entity.enumerated.OutboxEventStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 트랜잭셔널 아웃박스
+ * 도메인 이벤트를 비즈니스 데이터와 같은 트랜잭션에 저장하고, 커밋 후 릴레이가 핸들러로 전달합니다.
+ * 프로세스가 중단되어도 이벤트가 유실되지 않으며, 최소 한 번(at-least-once) 전달됩니다.
+ */
+@Entity
+@Getter
+@Table(
+        name = "outbox_events",
+        indexes = {
+                @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_outbox_dedup_key", columnList = "dedup_key")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent extends BaseEntity {
+
+    private static final int LAST_ERROR_MAX_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 200)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "dedup_key", length = 200)
+    private String dedupKey;
+
+    @Column(length = 100)
+    private String instanceId; // 로컬 임시 파일을 참조하는 이벤트는 발행한 인스턴스에서만 전달
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxEventStatus status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column
+    private Instant claimedUntil;
+
+    @Column
+    private Instant deliveredAt;
+
+    @Column(length = LAST_ERROR_MAX_LENGTH)
+    private String lastError;
+
+    public static OutboxEvent of(String eventType, String payload, String dedupKey, String instanceId) {
+        OutboxEvent event = new OutboxEvent();
+        event.eventType = eventType;
+        event.payload = payload;
+        event.dedupKey = dedupKey;
+        event.instanceId = instanceId;
+        event.status = OutboxEventStatus.PENDING;
+        event.attempts = 0;
+        event.nextAttemptAt = Instant.now();
+        return event;
+    }
+
+    public void claim(Instant claimedUntil) {
+        this.status = OutboxEventStatus.PROCESSING;
+        this.claimedUntil = claimedUntil;
+    }
+
+    public void markAsDelivered() {
+        this.status = OutboxEventStatus.DELIVERED;
+        this.deliveredAt = Instant.now();
+        this.claimedUntil = null;
+        this.lastError = null;
+    }
+
+    /**
+     * 전달 실패 기록 - 지수 백오프 후 재시도하며, 한도를 넘으면 FAILED로 전환합니다.
+     */
+    public void recordFailure(String error, int maxAttempts, Duration backoff) {
+        this.attempts++;
+        this.claimedUntil = null;
+        this.lastError = error != null && error.length() > LAST_ERROR_MAX_LENGTH
+                ? error.substring(0, LAST_ERROR_MAX_LENGTH)
+                : error;
+
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxEventStatus.FAILED;
+        } else {
+            this.status = OutboxEventStatus.PENDING;
+            this.nextAttemptAt = Instant.now().plus(backoff.multipliedBy(1L << Math.min(this.attempts - 1, 10)));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.ururulab.ururu.global.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 아웃박스 릴레이 인스턴스 생존 기록
+ * 릴레이가 주기마다 갱신하며, 오래 갱신되지 않은 인스턴스 전용 이벤트는 다른 릴레이가 넘겨받습니다.
+ */
+@Entity
+@Getter
+@Table(name = "outbox_relay_instances")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxRelayInstance extends BaseEntity {
+
+    @Id
+    @Column(length = 100)
+    private String instanceId;
+
+    @Column(nullable = false)
+    private Instant heartbeatAt;
+
+    public static OutboxRelayInstance of(String instanceId, Instant heartbeatAt) {
+        OutboxRelayInstance instance = new OutboxRelayInstance();
+        instance.instanceId = instanceId;
+        instance.heartbeatAt = heartbeatAt;
+        return instance;
+    }
+}
@@ -0,0 +1,12 @@
+package com.ururulab.ururu.global.domain.entity.enumerated;
+
+public enum OutboxEventStatus {
+    PENDING,     // 전달 대기
+    PROCESSING,  // 릴레이가 가져가 전달 중 (임대 시간 내)
+    DELIVERED,   // 전달 완료
+    FAILED;      // 재시도 한도 초과
+
+    public static OutboxEventStatus from(String value) {
+        return EnumParser.fromString(OutboxEventStatus.class, value, "OutboxEventStatus");
+    }
+}
@@ -0,0 +1,69 @@
+package com.ururulab.ururu.global.domain.repository;
+
+import com.ururulab.ururu.global.domain.entity.OutboxEvent;
+import com.ururulab.ururu.global.domain.entity.enumerated.OutboxEventStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 같은 중복 제거 키로 아직 전달되지 않은 이벤트가 있는지 확인
+     */
+    @Query("SELECT CASE WHEN COUNT(e) > 0 THEN true ELSE false END FROM OutboxEvent e " +
+            "WHERE e.dedupKey = :dedupKey AND e.status = 'PENDING'")
+    boolean existsPendingByDedupKey(@Param("dedupKey") String dedupKey);
+
+    /**
+     * 전달할 차례가 된 이벤트 잠금 조회
+     * 대기 중이거나 임대 시간이 지난(릴레이 중단) 이벤트를 대상으로 하며,
+     * 다른 인스턴스가 잠근 행은 건너뜁니다 (SKIP LOCKED).
+     * 다른 인스턴스 전용 이벤트는 기록된 지 takeoverBefore 이전이고, 그 인스턴스가 takeoverBefore 이후로
+     * 생존을 기록하지 않았을 때만(인스턴스 종료) 넘겨받습니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e " +
+            "WHERE ((e.status = 'PENDING' AND e.nextAttemptAt <= :now) " +
+            "    OR (e.status = 'PROCESSING' AND e.claimedUntil < :now)) " +
+            "AND (e.instanceId IS NULL OR e.instanceId = :instanceId " +
+            "    OR (e.createdAt < :takeoverBefore AND NOT EXISTS (" +
+            "        SELECT i FROM OutboxRelayInstance i " +
+            "        WHERE i.instanceId = e.instanceId AND i.heartbeatAt >= :takeoverBefore))) " +
+            "ORDER BY e.id")
+    List<OutboxEvent> findDueEventsForUpdate(
+            @Param("now") Instant now,
+            @Param("instanceId") String instanceId,
+            @Param("takeoverBefore") Instant takeoverBefore,
+            Pageable pageable
+    );
+
+    /**
+     * 전달 완료 일괄 처리
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.status = 'DELIVERED', e.deliveredAt = :deliveredAt, " +
+            "e.claimedUntil = null, e.lastError = null, e.updatedAt = :deliveredAt " +
+            "WHERE e.id IN :ids AND e.status = 'PROCESSING'")
+    int markDelivered(@Param("ids") Collection<Long> ids, @Param("deliveredAt") Instant deliveredAt);
+
+    long countByStatus(OutboxEventStatus status);
+
+    /**
+     * 보관 기간이 지난 전달 완료 이벤트 정리
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = 'DELIVERED' AND e.deliveredAt < :deliveredBefore")
+    int deleteDeliveredBefore(@Param("deliveredBefore") Instant deliveredBefore);
+}
@@ -0,0 +1,21 @@
+package com.ururulab.ururu.global.domain.repository;
+
+import com.ururulab.ururu.global.domain.entity.OutboxRelayInstance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+public interface OutboxRelayInstanceRepository extends JpaRepository<OutboxRelayInstance, String> {
+
+    /**
+     * 릴레이 인스턴스 생존 시각 갱신
+     * @return 갱신된 행 수 (처음 실행한 인스턴스면 0)
+     */
+    @Modifying
+    @Query("UPDATE OutboxRelayInstance i SET i.heartbeatAt = :heartbeatAt, i.updatedAt = :heartbeatAt " +
+            "WHERE i.instanceId = :instanceId")
+    int updateHeartbeat(@Param("instanceId") String instanceId, @Param("heartbeatAt") Instant heartbeatAt);
+}
@@ -2,6 +2,7 @@ package com.ururulab.ururu.global.domain.repository;
 
 import com.ururulab.ururu.global.domain.entity.TagCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,4 +10,8 @@ import java.util.List;
 @Repository
 public interface TagCategoryRepository extends JpaRepository<TagCategory, Long> {
     List<TagCategory> findAllByIsActiveTrueOrderByDisplayOrder();
+
+    // 태그 변경 여부 확인용 (메타데이터 ETag): [count, activeCount, maxUpdatedAt]
+    @Query("SELECT COUNT(t), SUM(CASE WHEN t.isActive = true THEN 1 ELSE 0 END), MAX(t.updatedAt) FROM TagCategory t")
+    List<Object[]> findVersion();
 }
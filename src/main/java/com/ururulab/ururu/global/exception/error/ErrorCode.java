@@ -9,6 +9,9 @@ public enum ErrorCode {
 	// --- 공통 ---
 	METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "COMMON001", "잘못된 HTTP 메서드를 호출했습니다."),
 	INVALID_ARGUMENT(HttpStatus.BAD_REQUEST, "COMMON002", "요청 파라미터가 유효하지 않습니다."),
+	INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "COMMON003", "Idempotency-Key 헤더 형식이 올바르지 않습니다."),
+	IDEMPOTENT_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "COMMON004", "같은 Idempotency-Key로 처리 중인 요청이 있습니다. 잠시 후 다시 시도해주세요."),
+	IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "COMMON005", "Idempotency-Key가 다른 요청 내용으로 재사용되었습니다."),
 
 	// --- 리뷰 ---
 	REVIEW_NOT_FOUND(HttpStatus.BAD_REQUEST, "REVIEW001", "리뷰가 존재하지 않습니다."),
@@ -45,6 +48,7 @@ public enum ErrorCode {
 	ORDER_NOT_REFUNDABLE(HttpStatus.BAD_REQUEST, "ORDER009", "환불 가능한 주문 상태가 아닙니다."),
 	ORDER_NOT_SHIPPABLE(HttpStatus.BAD_REQUEST, "ORDER010", "주문 상태가 배송 정보 등록이 불가능합니다."),
 	TRACKING_ALREADY_REGISTERED(HttpStatus.BAD_REQUEST, "ORDER011", "이미 운송장이 등록된 주문입니다."),
+	STOCK_SHORTFALL(HttpStatus.CONFLICT, "ORDER012", "재고가 부족한 옵션이 있습니다. %s"),
 
 	// --- 결제 ---
 	PAYMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "PAYMENT001", "존재하지 않는 결제입니다."),
@@ -55,6 +59,7 @@ public enum ErrorCode {
 	ORDER_NOT_PENDING(HttpStatus.CONFLICT, "PAYMENT006", "주문이 결제 대기 상태가 아닙니다."),
 	INSUFFICIENT_POINTS(HttpStatus.BAD_REQUEST, "PAYMENT007", "보유 포인트가 부족합니다."),
 	TOSS_API_CALL_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "PAYMENT008", "토스 API 호출에 실패했습니다."),
+	PAYMENT_AMOUNT_MISMATCH(HttpStatus.BAD_REQUEST, "PAYMENT009", "결제 금액이 일치하지 않습니다."),
 
 	// --- 웹훅 관련 ---
 	INVALID_SIGNATURE(HttpStatus.FORBIDDEN, "WEBHOOK001", "웹훅 서명이 유효하지 않습니다"),
@@ -130,6 +135,8 @@ public enum ErrorCode {
 	GROUPBUY_DELETE_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "GROUPBUY033", "DRAFT 상태인 공동구매만 삭제할 수 있습니다."),
 	INVALID_SEARCH_KEYWORD(HttpStatus.BAD_REQUEST, "GROUPBUY034", "유효하지 않은 검색어입니다."),
 	GROUPBUY_EMPTY(HttpStatus.NOT_FOUND, "GROUPBUY035", "판매자의 공동구매가 존재하지 않습니다."),
+	GROUPBUY_STOCK_SHARDING_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "GROUPBUY036", "종료된 공동구매는 재고 분할 설정을 변경할 수 없습니다."),
+	GROUPBUY_ADMISSION_REQUIRED(HttpStatus.TOO_MANY_REQUESTS, "GROUPBUY037", "주문이 몰리고 있습니다. 대기열에 입장한 뒤 순서를 기다려주세요."),
 
 	// -- 커서 --
 	CURSOR_ENCODING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "CURSOR001", "커서 인코딩에 실패했습니다"),
@@ -0,0 +1,66 @@
+package com.ururulab.ururu.global.idempotency;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * 멱등성 키 상태 조작용 Lua 스크립트 모음
+ *
+ * 키 구조
+ * - idempotency:{scope}:{key}  HASH  state(PROCESSING|COMPLETED), token, fingerprint, body
+ */
+final class IdempotencyScripts {
+
+    private IdempotencyScripts() {
+    }
+
+    /**
+     * 요청 선점
+     * 키가 없으면 PROCESSING 상태로 선점하고, 있으면 기존 상태를 그대로 돌려줍니다.
+     * KEYS: [idempotencyKey]
+     * ARGV: [ownerToken, fingerprint, processingTtlMillis]
+     * 반환: {'ACQUIRED'} 또는 {state, fingerprint, body}
+     */
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> BEGIN = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('HSET', KEYS[1], 'state', 'PROCESSING', 'token', ARGV[1], 'fingerprint', ARGV[2])
+                redis.call('PEXPIRE', KEYS[1], ARGV[3])
+                return {'ACQUIRED'}
+            end
+            local current = redis.call('HMGET', KEYS[1], 'state', 'fingerprint', 'body')
+            return {current[1] or '', current[2] or '', current[3] or ''}
+            """, List.class);
+
+    /**
+     * 응답 스냅샷 저장
+     * 선점한 요청(토큰 일치)만 COMPLETED 상태로 전환합니다.
+     * KEYS: [idempotencyKey]
+     * ARGV: [ownerToken, body, snapshotTtlMillis]
+     * 반환: 1 (저장) / 0 (소유자 불일치 또는 만료)
+     */
+    static final RedisScript<Long> COMPLETE = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'token') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'state', 'COMPLETED', 'body', ARGV[2])
+            redis.call('HDEL', KEYS[1], 'token')
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * 선점 해제 (처리 실패 시 재시도를 허용)
+     * KEYS: [idempotencyKey]
+     * ARGV: [ownerToken]
+     * 반환: 1 (해제) / 0 (소유자 불일치 또는 만료)
+     */
+    static final RedisScript<Long> ABANDON = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'token') == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+}
@@ -0,0 +1,181 @@
+package com.ururulab.ururu.global.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ururulab.ururu.global.exception.BusinessException;
+import com.ururulab.ururu.global.exception.error.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Idempotency-Key 기반 중복 요청 처리 서비스
+ * 첫 요청의 응답을 Redis에 스냅샷으로 저장하고, 같은 키로 재시도하면 DB 접근 없이 저장된 응답을 돌려줍니다.
+ * 트랜잭션 커밋 이후 스냅샷을 저장해야 하므로 컨트롤러에서 서비스 호출을 감싸서 사용합니다.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER_NAME = "Idempotency-Key";
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String ACQUIRED = "ACQUIRED";
+    private static final String STATE_COMPLETED = "COMPLETED";
+    private static final Pattern KEY_PATTERN = Pattern.compile("^[A-Za-z0-9._:-]{1,100}$");
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration processingTtl;
+    private final Duration snapshotTtl;
+    private final Counter replayCounter;
+    private final Counter conflictCounter;
+
+    public IdempotencyService(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${idempotency.processing-ttl-seconds:60}") long processingTtlSeconds,
+            @Value("${idempotency.snapshot-ttl-hours:24}") long snapshotTtlHours
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.processingTtl = Duration.ofSeconds(processingTtlSeconds);
+        this.snapshotTtl = Duration.ofHours(snapshotTtlHours);
+        this.replayCounter = Counter.builder("ururu_idempotency_replays")
+                .description("Idempotency-Key 재시도로 저장된 응답을 반환한 횟수")
+                .register(meterRegistry);
+        this.conflictCounter = Counter.builder("ururu_idempotency_conflicts")
+                .description("처리 중이거나 다른 요청 내용으로 재사용된 Idempotency-Key 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 멱등성 키 기준으로 작업을 한 번만 실행합니다.
+     * - 키가 없으면 그대로 실행
+     * - 처음 보는 키면 실행 후 응답 스냅샷 저장 (실패 시 선점을 풀어 재시도 허용)
+     * - 완료된 키면 저장된 응답 반환 (요청 내용이 다르면 예외)
+     * - 처리 중인 키면 예외
+     *
+     * @param scope 키 충돌 방지용 범위 (예: "order:groupbuy:{memberId}")
+     * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key (null 허용)
+     * @param request 요청 본문 (재사용 검증용 지문 생성에 사용)
+     * @param responseType 응답 타입
+     * @param action 실제 처리
+     * @return 처리 결과 또는 저장된 응답
+     * @throws BusinessException 키 형식 오류, 처리 중인 요청 존재, 다른 요청 내용으로 키 재사용 시
+     */
+    public <T> T execute(String scope, String idempotencyKey, Object request,
+                         Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (!KEY_PATTERN.matcher(idempotencyKey).matches()) {
+            throw new BusinessException(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+
+        String key = KEY_PREFIX + scope + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+        String ownerToken = UUID.randomUUID().toString();
+
+        List<?> state = redisTemplate.execute(
+                IdempotencyScripts.BEGIN,
+                List.of(key),
+                ownerToken,
+                fingerprint,
+                String.valueOf(processingTtl.toMillis())
+        );
+
+        if (state == null || state.isEmpty() || !ACQUIRED.equals(state.get(0))) {
+            return replay(key, state, fingerprint, responseType);
+        }
+
+        T response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            abandon(key, ownerToken);
+            throw e;
+        }
+
+        complete(key, ownerToken, response);
+        return response;
+    }
+
+    private <T> T replay(String key, List<?> state, String fingerprint, Class<T> responseType) {
+        if (state == null || state.size() < 3) {
+            // Redis 응답 이상 시에는 중복 처리 위험이 있으므로 처리 중으로 간주
+            conflictCounter.increment();
+            throw new BusinessException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        }
+
+        if (!fingerprint.equals(state.get(1))) {
+            conflictCounter.increment();
+            log.warn("Idempotency-Key 재사용 감지 - key: {}", key);
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+
+        if (!STATE_COMPLETED.equals(state.get(0))) {
+            conflictCounter.increment();
+            throw new BusinessException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        }
+
+        try {
+            T response = objectMapper.readValue((String) state.get(2), responseType);
+            replayCounter.increment();
+            log.debug("저장된 응답 반환 - key: {}", key);
+            return response;
+        } catch (JsonProcessingException e) {
+            log.error("응답 스냅샷 역직렬화 실패 - key: {}", key, e);
+            throw new BusinessException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    private void complete(String key, String ownerToken, Object response) {
+        try {
+            Long saved = redisTemplate.execute(
+                    IdempotencyScripts.COMPLETE,
+                    List.of(key),
+                    ownerToken,
+                    objectMapper.writeValueAsString(response),
+                    String.valueOf(snapshotTtl.toMillis())
+            );
+            if (saved == null || saved == 0L) {
+                log.warn("응답 스냅샷 저장 실패 (선점 만료) - key: {}", key);
+            }
+        } catch (Exception e) {
+            // 처리 자체는 완료되었으므로 응답은 그대로 반환, 선점 마커는 TTL로 정리
+            log.error("응답 스냅샷 저장 중 오류 - key: {}", key, e);
+        }
+    }
+
+    private void abandon(String key, String ownerToken) {
+        try {
+            redisTemplate.execute(IdempotencyScripts.ABANDON, List.of(key), ownerToken);
+        } catch (Exception e) {
+            log.warn("멱등성 선점 해제 중 오류 (무시됨) - key: {}", key, e);
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(request);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("요청 지문 생성 실패", e);
+        }
+    }
+}
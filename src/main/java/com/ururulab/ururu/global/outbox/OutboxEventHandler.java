@@ -0,0 +1,20 @@
+package com.ururulab.ururu.global.outbox;
+
+/**
+ * 아웃박스 이벤트 핸들러
+ * 릴레이가 이벤트 타입별로 등록된 핸들러를 동기 호출하며, 예외 없이 반환되어야 전달 완료로 기록됩니다.
+ * 최소 한 번 전달되므로 같은 이벤트가 다시 들어와도 결과가 같도록(멱등) 구현해야 합니다.
+ * <p>
+ * 이벤트는 이를 선점한 인스턴스 한 곳에서만 처리됩니다(브로드캐스트가 아님).
+ * 따라서 핸들러는 DB, Redis, S3처럼 모든 인스턴스가 공유하는 상태만 변경해야 하며,
+ * 인스턴스 메모리(로컬 캐시, 인덱스 등)를 갱신해야 하는 작업은 Redis pub/sub으로 각 노드에 전파합니다.
+ * 임시 파일처럼 특정 인스턴스에만 있는 자원을 쓰는 이벤트는 {@link OutboxEventService#appendLocal}로 기록합니다.
+ *
+ * @param <T> 이벤트 타입
+ */
+public interface OutboxEventHandler<T> {
+
+    Class<T> eventType();
+
+    void handle(T event);
+}
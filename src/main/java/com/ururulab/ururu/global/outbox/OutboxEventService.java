@@ -0,0 +1,183 @@
+package com.ururulab.ururu.global.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ururulab.ururu.global.domain.entity.OutboxEvent;
+import com.ururulab.ururu.global.domain.entity.OutboxRelayInstance;
+import com.ururulab.ururu.global.domain.entity.enumerated.OutboxEventStatus;
+import com.ururulab.ururu.global.domain.repository.OutboxEventRepository;
+import com.ururulab.ururu.global.domain.repository.OutboxRelayInstanceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 트랜잭셔널 아웃박스 서비스
+ * 도메인 이벤트를 호출한 쪽의 트랜잭션 안에서 outbox_events 에 기록합니다.
+ * 커밋되지 않은 이벤트는 전달되지 않고, 커밋된 이벤트는 프로세스가 중단되어도 릴레이가 이어서 전달합니다.
+ */
+@Slf4j
+@Service
+public class OutboxEventService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxRelayInstanceRepository relayInstanceRepository;
+    private final ObjectMapper objectMapper;
+    private final String instanceId;
+    private final Duration claimLease;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Duration takeoverAfter;
+
+    public OutboxEventService(
+            OutboxEventRepository outboxEventRepository,
+            OutboxRelayInstanceRepository relayInstanceRepository,
+            ObjectMapper objectMapper,
+            @Value("${outbox.instance-id:${HOSTNAME:local}}") String instanceId,
+            @Value("${outbox.relay.claim-lease-seconds:60}") long claimLeaseSeconds,
+            @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+            @Value("${outbox.relay.backoff-ms:1000}") long backoffMillis,
+            @Value("${outbox.relay.takeover-after-seconds:300}") long takeoverAfterSeconds
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.relayInstanceRepository = relayInstanceRepository;
+        this.objectMapper = objectMapper;
+        this.instanceId = instanceId;
+        this.claimLease = Duration.ofSeconds(claimLeaseSeconds);
+        this.maxAttempts = maxAttempts;
+        this.backoff = Duration.ofMillis(backoffMillis);
+        this.takeoverAfter = Duration.ofSeconds(takeoverAfterSeconds);
+    }
+
+    /**
+     * 이벤트 기록
+     * @param event 도메인 이벤트
+     */
+    @Transactional
+    public void append(Object event) {
+        save(event, null, null);
+    }
+
+    /**
+     * 중복 제거 키와 함께 이벤트 기록
+     * 같은 키로 아직 전달되지 않은 이벤트가 있으면 새로 기록하지 않습니다.
+     * @param event 도메인 이벤트
+     * @param dedupKey 중복 제거 키
+     */
+    @Transactional
+    public void append(Object event, String dedupKey) {
+        if (outboxEventRepository.existsPendingByDedupKey(dedupKey)) {
+            log.debug("전달 대기 중인 동일 이벤트 존재 - dedupKey: {}", dedupKey);
+            return;
+        }
+        save(event, dedupKey, null);
+    }
+
+    /**
+     * 현재 인스턴스에서만 전달할 이벤트 기록
+     * 로컬 임시 파일 경로를 담은 이미지 업로드 이벤트처럼 다른 인스턴스에서는 처리할 수 없는 이벤트에 사용합니다.
+     * @param event 도메인 이벤트
+     */
+    @Transactional
+    public void appendLocal(Object event) {
+        save(event, null, instanceId);
+    }
+
+    /**
+     * 현재 인스턴스의 릴레이 생존 기록 (릴레이 주기마다 호출)
+     * 기록이 takeover-after 동안 끊긴 인스턴스의 전용 이벤트는 다른 릴레이가 넘겨받습니다.
+     */
+    @Transactional
+    public void heartbeat() {
+        Instant now = Instant.now();
+        if (relayInstanceRepository.updateHeartbeat(instanceId, now) == 0) {
+            relayInstanceRepository.save(OutboxRelayInstance.of(instanceId, now));
+        }
+    }
+
+    /**
+     * 전달할 이벤트를 가져와 임대(claim)합니다.
+     * 임대 시간 안에 전달 결과가 기록되지 않으면 다른 릴레이가 다시 가져갑니다.
+     * 종료된 인스턴스의 전용 이벤트도 takeover-after가 지나면 가져옵니다.
+     * 넘겨받은 이벤트의 임시 파일이 이 인스턴스에 없으면 전달 실패로 재시도 후 FAILED로 남아 확인할 수 있습니다.
+     * @param limit 최대 건수
+     * @return 임대한 이벤트 목록 (기록 순서)
+     */
+    @Transactional
+    public List<OutboxEvent> claimBatch(int limit) {
+        Instant now = Instant.now();
+        List<OutboxEvent> events = outboxEventRepository.findDueEventsForUpdate(
+                now, instanceId, now.minus(takeoverAfter), PageRequest.of(0, limit));
+        Instant claimedUntil = now.plus(claimLease);
+        events.forEach(event -> event.claim(claimedUntil));
+        return events;
+    }
+
+    /**
+     * 전달 완료 일괄 기록
+     * @param eventIds 아웃박스 이벤트 ID 목록
+     */
+    @Transactional
+    public void markDelivered(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        outboxEventRepository.markDelivered(eventIds, Instant.now());
+    }
+
+    /**
+     * 전달 실패 기록
+     * @param eventId 아웃박스 이벤트 ID
+     * @param error 실패 사유
+     */
+    @Transactional
+    public void recordFailure(Long eventId, String error) {
+        outboxEventRepository.findById(eventId)
+                .ifPresent(event -> event.recordFailure(error, maxAttempts, backoff));
+    }
+
+    /**
+     * 전달 대기 중인 이벤트 수 (적체 지표용)
+     */
+    @Transactional(readOnly = true)
+    public long countBacklog() {
+        return outboxEventRepository.countByStatus(OutboxEventStatus.PENDING);
+    }
+
+    /**
+     * 보관 기간이 지난 전달 완료 이벤트 삭제
+     * @param retention 보관 기간
+     * @return 삭제 건수
+     */
+    @Transactional
+    public int purgeDelivered(Duration retention) {
+        return outboxEventRepository.deleteDeliveredBefore(Instant.now().minus(retention));
+    }
+
+    /**
+     * 저장된 페이로드를 이벤트 객체로 복원
+     */
+    public Object deserialize(OutboxEvent event) throws ClassNotFoundException, JsonProcessingException {
+        return objectMapper.readValue(event.getPayload(), Class.forName(event.getEventType()));
+    }
+
+    private void save(Object event, String dedupKey, String instanceId) {
+        try {
+            outboxEventRepository.save(OutboxEvent.of(
+                    event.getClass().getName(),
+                    objectMapper.writeValueAsString(event),
+                    dedupKey,
+                    instanceId
+            ));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 직렬화 실패: " + event.getClass().getSimpleName(), e);
+        }
+    }
+}
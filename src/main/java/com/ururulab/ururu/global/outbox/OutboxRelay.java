@@ -0,0 +1,161 @@
+package com.ururulab.ururu.global.outbox;
+
+import com.ururulab.ururu.global.domain.entity.OutboxEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스 릴레이
+ * 커밋된 이벤트를 배치로 가져와 타입별 핸들러에 전달하고 결과를 기록합니다.
+ * 한 배치 안에서 같은 중복 제거 키를 가진 이벤트는 한 번만 전달합니다.
+ * 인스턴스 전용 이벤트(이미지 업로드)는 별도 스레드풀에서 전달해 공유 이벤트 전달이 밀리지 않게 합니다.
+ * 이미지 업로드/삭제 리스너는 기존 @Async 이미지 스레드풀 대신 이 릴레이 스레드풀에서 동기 실행되며,
+ * 작업이 끝나야 전달 완료로 기록됩니다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventService outboxEventService;
+    private final TaskExecutor outboxRelayExecutor;
+    private final TaskExecutor outboxLocalRelayExecutor;
+    private final Map<Class<?>, List<OutboxEventHandler<?>>> handlersByType = new HashMap<>();
+    private final AtomicLong backlog = new AtomicLong();
+    private final Counter deliveredCounter;
+    private final Counter failedCounter;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.relay.retention-days:7}")
+    private long retentionDays;
+
+    public OutboxRelay(
+            OutboxEventService outboxEventService,
+            @Qualifier("outboxRelayExecutor") TaskExecutor outboxRelayExecutor,
+            @Qualifier("outboxLocalRelayExecutor") TaskExecutor outboxLocalRelayExecutor,
+            List<OutboxEventHandler<?>> handlers,
+            MeterRegistry meterRegistry
+    ) {
+        this.outboxEventService = outboxEventService;
+        this.outboxRelayExecutor = outboxRelayExecutor;
+        this.outboxLocalRelayExecutor = outboxLocalRelayExecutor;
+        for (OutboxEventHandler<?> handler : handlers) {
+            handlersByType.computeIfAbsent(handler.eventType(), type -> new ArrayList<>()).add(handler);
+        }
+
+        Gauge.builder("ururu_outbox_backlog", backlog, AtomicLong::get)
+                .description("전달 대기 중인 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        this.deliveredCounter = Counter.builder("ururu_outbox_delivered")
+                .description("전달 완료된 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("ururu_outbox_failed")
+                .description("전달에 실패한 아웃박스 이벤트 수 (재시도 포함)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 아웃박스 이벤트 전달
+     * 한 배치를 병렬로 전달한 뒤 성공한 이벤트를 한 번에 전달 완료로 기록
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:1000}")
+    public void relay() {
+        try {
+            outboxEventService.heartbeat();
+
+            List<OutboxEvent> events;
+            do {
+                events = outboxEventService.claimBatch(batchSize);
+                relayBatch(events);
+            } while (events.size() >= batchSize);
+
+            backlog.set(outboxEventService.countBacklog());
+
+        } catch (Exception e) {
+            log.error("Failed to relay outbox events", e);
+            // 임대 시간이 지나면 다음 주기에 다시 전달
+        }
+    }
+
+    /**
+     * 전달 완료 이벤트 정리
+     */
+    @Scheduled(cron = "${outbox.relay.purge-cron:0 30 4 * * *}")
+    public void purgeDelivered() {
+        try {
+            int purged = outboxEventService.purgeDelivered(Duration.ofDays(retentionDays));
+            log.info("Purged {} delivered outbox events", purged);
+        } catch (Exception e) {
+            log.error("Failed to purge delivered outbox events", e);
+        }
+    }
+
+    private void relayBatch(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        // 같은 중복 제거 키는 첫 이벤트만 전달하고 나머지는 함께 완료 처리
+        Map<String, List<OutboxEvent>> groups = new LinkedHashMap<>();
+        for (OutboxEvent event : events) {
+            String groupKey = event.getDedupKey() != null ? event.getDedupKey() : "#" + event.getId();
+            groups.computeIfAbsent(groupKey, key -> new ArrayList<>()).add(event);
+        }
+
+        Queue<Long> deliveredIds = new ConcurrentLinkedQueue<>();
+        CompletableFuture.allOf(groups.values().stream()
+                .map(group -> CompletableFuture.runAsync(() -> {
+                    if (deliver(group.get(0))) {
+                        group.forEach(event -> deliveredIds.add(event.getId()));
+                    }
+                }, executorFor(group.get(0))))
+                .toArray(CompletableFuture[]::new)
+        ).join();
+
+        outboxEventService.markDelivered(deliveredIds);
+        deliveredCounter.increment(deliveredIds.size());
+    }
+
+    private TaskExecutor executorFor(OutboxEvent event) {
+        return event.getInstanceId() != null ? outboxLocalRelayExecutor : outboxRelayExecutor;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean deliver(OutboxEvent outboxEvent) {
+        try {
+            Object event = outboxEventService.deserialize(outboxEvent);
+            List<OutboxEventHandler<?>> handlers = handlersByType.getOrDefault(event.getClass(), List.of());
+            if (handlers.isEmpty()) {
+                log.warn("No outbox handler for event type: {}", outboxEvent.getEventType());
+            }
+            for (OutboxEventHandler<?> handler : handlers) {
+                ((OutboxEventHandler<Object>) handler).handle(event);
+            }
+            return true;
+
+        } catch (Exception e) {
+            log.warn("Failed to deliver outbox event: {} ({})", outboxEvent.getId(), outboxEvent.getEventType(), e);
+            failedCounter.increment();
+            try {
+                outboxEventService.recordFailure(outboxEvent.getId(), e.getMessage());
+            } catch (Exception recordException) {
+                log.error("Failed to record outbox failure: {}", outboxEvent.getId(), recordException);
+            }
+            return false;
+        }
+    }
+}
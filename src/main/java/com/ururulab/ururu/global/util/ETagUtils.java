@@ -0,0 +1,42 @@
+package com.ururulab.ururu.global.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 조건부 조회(If-None-Match)용 ETag 생성
+ * 응답 본문 대신 버전/재고 등 변경 여부를 나타내는 값으로 만들므로 약한(weak) ETag를 사용합니다.
+ */
+@UtilityClass
+public class ETagUtils {
+
+    private static final int HASH_BYTES = 16;
+
+    /**
+     * 버전 값들로 약한 ETag 생성
+     * 예) W/"3f2a..."
+     */
+    public static String weak(Object... versionParts) {
+        StringBuilder source = new StringBuilder();
+        for (Object part : versionParts) {
+            source.append(part).append('|');
+        }
+        return weak(source.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 바이트(직렬화된 응답 등)로 약한 ETag 생성
+     */
+    public static String weak(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return "W/\"" + HexFormat.of().formatHex(digest, 0, HASH_BYTES) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
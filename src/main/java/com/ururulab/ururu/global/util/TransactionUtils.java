@@ -0,0 +1,32 @@
+package com.ururulab.ururu.global.util;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 작업 등록
+ * Redis처럼 DB 롤백에 함께 되돌아가지 않는 저장소는 커밋이 확정된 뒤에 변경해야 합니다.
+ */
+@UtilityClass
+public class TransactionUtils {
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 실행 (롤백되면 실행하지 않음)
+     * 트랜잭션 밖에서 호출하면 바로 실행합니다.
+     * 커밋 이후 예외는 이미 커밋된 요청을 실패로 만들므로 action 안에서 처리해야 합니다.
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package com.ururulab.ururu.groupBuy.controller;
+
+import com.ururulab.ururu.global.domain.dto.ApiResponseFormat;
+import com.ururulab.ururu.groupBuy.dto.response.GroupBuyAdmissionResponse;
+import com.ururulab.ururu.groupBuy.service.GroupBuyAdmissionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "공동구매 입장 대기열", description = "인기 공동구매 주문 대기열 API")
+@RestController
+@RequestMapping("/api/groupbuys")
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuyAdmissionController {
+
+    private final GroupBuyAdmissionService groupBuyAdmissionService;
+
+    @Operation(
+            summary = "대기열 입장",
+            description = "주문서 생성 전 대기열에 입장합니다. 바로 주문 가능하면 ADMITTED, 아니면 대기 순번을 반환합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "대기열 입장 성공"),
+            @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @PostMapping("/{groupbuyId}/admission")
+    public ResponseEntity<ApiResponseFormat<GroupBuyAdmissionResponse>> enterAdmission(
+            @AuthenticationPrincipal Long memberId,
+            @PathVariable Long groupbuyId
+    ) {
+        GroupBuyAdmissionResponse response = groupBuyAdmissionService.enter(groupbuyId, memberId);
+
+        return ResponseEntity.ok(ApiResponseFormat.success("대기열 입장에 성공하였습니다.", response));
+    }
+
+    @Operation(
+            summary = "대기 상태 조회",
+            description = "대기 순번과 예상 대기 시간을 조회합니다. ADMITTED가 되면 입장권 만료 전까지 주문서를 생성할 수 있습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "대기 상태 조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/{groupbuyId}/admission")
+    public ResponseEntity<ApiResponseFormat<GroupBuyAdmissionResponse>> getAdmissionStatus(
+            @AuthenticationPrincipal Long memberId,
+            @PathVariable Long groupbuyId
+    ) {
+        GroupBuyAdmissionResponse response = groupBuyAdmissionService.getStatus(groupbuyId, memberId);
+
+        return ResponseEntity.ok(ApiResponseFormat.success("대기 상태 조회에 성공하였습니다.", response));
+    }
+}
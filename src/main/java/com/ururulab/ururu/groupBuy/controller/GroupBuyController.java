@@ -3,6 +3,7 @@ package com.ururulab.ururu.groupBuy.controller;
 import com.ururulab.ururu.global.domain.dto.ApiResponseFormat;
 import com.ururulab.ururu.groupBuy.dto.request.GroupBuyRequest;
 import com.ururulab.ururu.groupBuy.dto.request.GroupBuyStatusUpdateRequest;
+import com.ururulab.ururu.groupBuy.dto.request.GroupBuyStockShardingRequest;
 import com.ururulab.ururu.groupBuy.dto.response.*;
 import com.ururulab.ururu.groupBuy.service.*;
 import com.ururulab.ururu.groupBuy.util.AuthUtils;
@@ -10,6 +11,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -17,11 +19,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -39,6 +45,9 @@ public class GroupBuyController {
     private final GroupBuyProductService groupBuyProductService;
     private final GroupBuyDeleteService groupBuyDeleteService;
     private final GroupBuySellerListService groupBuySellerListService;
+    private final GroupBuyStockShardService groupBuyStockShardService;
+    private final GroupBuySuggestService groupBuySuggestService;
+    private final GroupBuyLiveService groupBuyLiveService;
 
     @Operation(summary = "공동구매 등록", description = "판매자가 새로운 공동구매를 등록합니다.")
     @ApiResponses({
@@ -75,15 +84,47 @@ public class GroupBuyController {
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "공동구매 상세 정보 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match와 ETag 일치)"),
             @ApiResponse(responseCode = "400", description = "해당 공동구매를 찾을 수 없습니다."),
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
     @GetMapping("/{groupBuyId}")
     public ResponseEntity<ApiResponseFormat<GroupBuyDetailResponse>> getGroupBuyDetail(
-            @PathVariable Long groupBuyId) {
+            @PathVariable Long groupBuyId,
+            WebRequest webRequest) {
+
+        // 변경이 없으면 상세 조회 없이 304 응답
+        String eTag = groupBuyDetailService.getPublicGroupBuyDetailETag(groupBuyId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
 
         GroupBuyDetailResponse response = groupBuyDetailService.getPublicGroupBuyDetail(groupBuyId);
-        return ResponseEntity.ok(ApiResponseFormat.success("공동구매 상세 정보를 성공적으로 조회했습니다.", response));
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+        if (eTag != null) {
+            builder.eTag(eTag);
+        }
+        return builder.body(ApiResponseFormat.success("공동구매 상세 정보를 성공적으로 조회했습니다.", response));
+    }
+
+    @Operation(
+            summary = "공동구매 실시간 현황 구독 (SSE)",
+            description = "옵션별 남은 재고, 총 판매량, 현재 할인 단계를 Server-Sent Events로 전송합니다. "
+                    + "구독 직후 현재 현황을 보내고, 이후 결제/환불로 바뀐 내용을 1초 단위로 모아 'update' 이벤트로 보냅니다. "
+                    + "공동구매가 종료되면 closed=true 현황을 보낸 뒤 스트림을 닫습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "구독 성공 (text/event-stream)"),
+            @ApiResponse(responseCode = "404", description = "해당 공동구매를 찾을 수 없습니다."),
+            @ApiResponse(responseCode = "429", description = "구독자가 너무 많습니다. 잠시 후 다시 시도해주세요.")
+    })
+    @GetMapping(value = "/{groupBuyId}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamGroupBuyLive(
+            @PathVariable Long groupBuyId,
+            HttpServletResponse response) {
+        response.setHeader("X-Accel-Buffering", "no"); // 프록시(nginx) 응답 버퍼링 해제
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        return groupBuyLiveService.subscribe(groupBuyId);
     }
 
 
@@ -163,6 +204,34 @@ public class GroupBuyController {
         ));
     }
 
+    @Operation(
+            summary = "공동구매 재고 분할 설정",
+            description = "판매자가 인기 공동구매의 재고를 여러 버킷으로 나눠 결제 시 재고 경합을 줄입니다. 0이면 분할을 해제합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "재고 분할 설정 변경 성공"),
+            @ApiResponse(responseCode = "400", description = """
+                    - 분할 개수가 허용 범위를 벗어났습니다.
+                    - 종료된 공동구매는 재고 분할 설정을 변경할 수 없습니다.
+                    """),
+            @ApiResponse(responseCode = "403", description = "다른 판매자의 공동구매에 접근할 수 없습니다."),
+            @ApiResponse(responseCode = "404", description = "해당 공동구매를 찾을 수 없습니다.")
+    })
+    @PatchMapping("/{groupBuyId}/stock-sharding")
+    public ResponseEntity<ApiResponseFormat<Void>> updateStockSharding(
+            @PathVariable Long groupBuyId,
+            @Valid @RequestBody GroupBuyStockShardingRequest request) {
+
+        Long sellerId = AuthUtils.getSellerIdFromAuthentication();
+
+        groupBuyStockShardService.updateStockSharding(sellerId, groupBuyId, request.shardCount());
+
+        return ResponseEntity.ok(ApiResponseFormat.success(
+                String.format("공동구매 재고 분할 개수가 %d개로 변경되었습니다.", request.shardCount()),
+                null
+        ));
+    }
+
     @Operation(
             summary = "공동구매 목록 조회",
             description = "카테고리별, 정렬 기준별로 공동구매 목록을 조회합니다. 페이지네이션과 필터링을 지원합니다."
@@ -185,6 +254,24 @@ public class GroupBuyController {
         return ResponseEntity.ok(ApiResponseFormat.success("공동 구매 목록 조회에 성공하였습니다.", responses));
     }
 
+    @Operation(
+            summary = "검색어 자동완성",
+            description = "입력 중인 검색어로 시작하는 진행 중 공동구매 제목, 브랜드명, 인기 검색어를 판매량/검색 횟수 순으로 조회합니다. 초성(예: ㅅㅂㅋㄹ) 입력을 지원합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "자동완성 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 검색 키워드"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponseFormat<List<GroupBuySuggestResponse>>> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(20) int limit
+    ) {
+        List<GroupBuySuggestResponse> responses = groupBuySuggestService.suggest(q, limit);
+        return ResponseEntity.ok(ApiResponseFormat.success("검색어 자동완성 조회에 성공하였습니다.", responses));
+    }
+
     @Operation(summary = "공동구매 등록 페이지 데이터",
             description = "공동구매 등록 시 필요한 판매자의 상품과 옵션 정보를 조회합니다.")
     @GetMapping("/create")
@@ -1,6 +1,9 @@
 package com.ururulab.ururu.groupBuy.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ururulab.ururu.global.domain.dto.ApiResponseFormat;
+import com.ururulab.ururu.global.util.ETagUtils;
 import com.ururulab.ururu.groupBuy.dto.response.GroupBuyListResponse;
 import com.ururulab.ururu.groupBuy.service.GroupBuyMainService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -8,11 +11,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -23,6 +28,7 @@ import java.util.List;
 public class GroupBuyMainController {
 
     private final GroupBuyMainService groupBuyMainService;
+    private final ObjectMapper objectMapper;
 
     @Operation(
             summary = "실시간 베스트 공동구매 조회",
@@ -30,15 +36,16 @@ public class GroupBuyMainController {
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "실시간 베스트 공동구매 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match와 ETag 일치)"),
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
     @GetMapping("/top3")
-    public ResponseEntity<ApiResponseFormat<List<GroupBuyListResponse>>> getRealtimeBest() {
+    public ResponseEntity<ApiResponseFormat<List<GroupBuyListResponse>>> getRealtimeBest(WebRequest webRequest) {
         log.debug("GET /groupbuy/top3 - 실시간 베스트 공동구매 조회");
 
         List<GroupBuyListResponse> bestList = groupBuyMainService.getRealtimeBestGroupBuys();
 
-        return ResponseEntity.ok(ApiResponseFormat.success("실시간 베스트 공동구매 조회에 성공하였습니다.", bestList));
+        return conditionalResponse(bestList, "실시간 베스트 공동구매 조회에 성공하였습니다.", webRequest);
     }
 
     @Operation(
@@ -47,16 +54,45 @@ public class GroupBuyMainController {
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "카테고리별 인기 공동구매 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match와 ETag 일치)"),
             @ApiResponse(responseCode = "400", description = "해당 카테고리를 찾을 수 없음"),
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
     @GetMapping("/{categoryId}/top6")
     public ResponseEntity<ApiResponseFormat<List<GroupBuyListResponse>>> getCategoryPopular(
-            @PathVariable Long categoryId) {
+            @PathVariable Long categoryId,
+            WebRequest webRequest) {
         log.debug("GET /groupbuy/{}/top6 - 카테고리별 인기 공동구매 조회", categoryId);
 
         List<GroupBuyListResponse> popularList = groupBuyMainService.getCategoryPopularGroupBuys(categoryId);
 
-        return ResponseEntity.ok(ApiResponseFormat.success("카테고리별 인기 공동구매 조회에 성공하였습니다.", popularList));
+        return conditionalResponse(popularList, "카테고리별 인기 공동구매 조회에 성공하였습니다.", webRequest);
+    }
+
+    /**
+     * 캐시에서 꺼낸 목록 내용으로 ETag를 만들어, 순위가 바뀌지 않았으면 본문 없이 304 응답
+     */
+    private ResponseEntity<ApiResponseFormat<List<GroupBuyListResponse>>> conditionalResponse(
+            List<GroupBuyListResponse> list, String message, WebRequest webRequest) {
+        String eTag = toETag(list);
+        if (eTag == null) {
+            return ResponseEntity.ok(ApiResponseFormat.success(message, list));
+        }
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(eTag)
+                .body(ApiResponseFormat.success(message, list));
+    }
+
+    private String toETag(List<GroupBuyListResponse> list) {
+        try {
+            return ETagUtils.weak(objectMapper.writeValueAsBytes(list));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to build ETag for main page list", e);
+            return null;
+        }
     }
 }
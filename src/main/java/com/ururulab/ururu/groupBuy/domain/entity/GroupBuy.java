@@ -10,6 +10,7 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -21,7 +22,11 @@ import static com.ururulab.ururu.groupBuy.dto.validation.GroupBuyValidationConst
 
 @Entity
 @Getter
-@Table(name = "groupbuys")
+@Table(name = "groupbuys", indexes = {
+        @Index(name = "idx_groupbuy_status_sold_quantity", columnList = "status, sold_quantity, id"),
+        @Index(name = "idx_groupbuy_updated_at", columnList = "updated_at") // 검색 색인 변경분 동기화
+})
+@DynamicUpdate // 판매량 카운터는 벌크 UPDATE로 집계하므로 엔티티 저장 시 변경된 컬럼만 갱신
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class GroupBuy extends BaseEntity {
 
@@ -64,12 +69,41 @@ public class GroupBuy extends BaseEntity {
     private GroupBuyStatus status; // 공동구매 상태
 
     /**
-     * 화면 표시용 최종 할인 적용 가격 (성능 최적화를 위한 비정규화)
-     * = 첫 번째 옵션의 priceOverride * (100 - 최고 할인율) / 100
+     * 화면 표시용 현재 할인 적용 가격 (성능 최적화를 위한 비정규화)
+     * = 최저 공구 시작가에 현재 달성한 할인 단계의 할인율을 적용한 가격
+     * 판매량이 다음 할인 단계를 넘으면 옵션 판매가와 함께 갱신
      */
     @Column(name = "display_final_price")
     private Integer displayFinalPrice;
 
+    /**
+     * 현재 달성한 할인 단계의 할인율 (단계 진입 여부 판단용)
+     * 판매량 변화로 단계가 바뀔 때 옵션 판매가/표시 가격과 함께 벌크 UPDATE로 갱신
+     */
+    @Column(name = "current_discount_rate", nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int currentDiscountRate = 0;
+
+    /**
+     * 옵션 공구 시작가 중 최저가 (목록 조회용 비정규화)
+     */
+    @Column(name = "min_start_price")
+    private Integer minStartPrice;
+
+    /**
+     * 누적 판매량 (목록 조회/판매량순 정렬용 비정규화)
+     * = 모든 옵션의 (initialStock - stock) 합계, 주문마다 갱신하지 않고 판매량 증감 기록(GroupBuySoldQuantityDelta)을 스케줄러가 주기적으로 반영
+     * 재고 분할 공동구매는 스냅샷 동기화 주기에 맞춰 보정
+     */
+    @Column(name = "sold_quantity", nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int soldQuantity = 0;
+
+    /**
+     * 재고 분할 카운터 개수 (0이면 옵션 행 단일 재고 사용)
+     * 인기 공동구매의 옵션 행 경합을 줄이기 위해 재고를 N개 버킷으로 나눠 차감
+     */
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int stockShardCount = 0;
+
     @Column(nullable = true)
     private Instant startAt; // 공동구매 시작일
 
@@ -134,6 +168,41 @@ public class GroupBuy extends BaseEntity {
         this.displayFinalPrice = finalPrice;
     }
 
+    /**
+     * 현재 할인 단계의 할인율 업데이트
+     */
+    public void updateCurrentDiscountRate(int currentDiscountRate) {
+        this.currentDiscountRate = currentDiscountRate;
+    }
+
+    /**
+     * 최저 공구 시작가 업데이트
+     */
+    public void updateMinStartPrice(Integer minStartPrice) {
+        this.minStartPrice = minStartPrice;
+    }
+
+    /**
+     * 옵션 재고 기준으로 집계한 판매량으로 보정
+     */
+    public void syncSoldQuantity(int soldQuantity) {
+        this.soldQuantity = soldQuantity;
+    }
+
+    /**
+     * 재고 분할 카운터 사용 여부
+     */
+    public boolean isStockSharded() {
+        return stockShardCount > 0;
+    }
+
+    /**
+     * 재고 분할 카운터 개수 변경 (0이면 단일 재고로 복귀)
+     */
+    public void updateStockShardCount(int stockShardCount) {
+        this.stockShardCount = stockShardCount;
+    }
+
     private static Integer calculateMaxDiscountRateFromJson(String discountStagesJson) {
         return DiscountStageParser.extractMaxDiscountRate(discountStagesJson);
     }
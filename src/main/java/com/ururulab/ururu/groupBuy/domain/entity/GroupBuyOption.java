@@ -65,6 +65,13 @@ public class GroupBuyOption extends BaseEntity {
         this.salePrice = salePrice;
     }
 
+    /**
+     * 재고 분할 해제 시 버킷 합계로 재고 복원
+     */
+    public void syncStock(int stock) {
+        this.stock = stock;
+    }
+
     /**
      * 판매량 계산 메서드 추가
      * @return
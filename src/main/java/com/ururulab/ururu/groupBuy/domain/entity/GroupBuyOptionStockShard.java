@@ -0,0 +1,50 @@
+package com.ururulab.ururu.groupBuy.domain.entity;
+
+import com.ururulab.ururu.global.domain.entity.BaseEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Min;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공구 옵션 재고 분할 카운터
+ * 재고 분할이 켜진 공동구매의 옵션 재고를 N개 버킷으로 나눠 저장합니다.
+ * 옵션의 실제 재고는 모든 버킷의 합이며, groupbuy_options.stock 은 주기적으로 동기화되는 스냅샷입니다.
+ */
+@Entity
+@Getter
+@Table(
+        name = "groupbuy_option_stock_shards",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"groupbuy_option_id", "shard_no"})
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GroupBuyOptionStockShard extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "groupbuy_option_id", nullable = false)
+    private GroupBuyOption groupBuyOption;
+
+    @Column(name = "shard_no", nullable = false)
+    private Integer shardNo;
+
+    @Column(nullable = false)
+    @Min(0)
+    private Integer stock;
+
+    public static GroupBuyOptionStockShard of(GroupBuyOption groupBuyOption, int shardNo, int stock) {
+        GroupBuyOptionStockShard shard = new GroupBuyOptionStockShard();
+        shard.groupBuyOption = groupBuyOption;
+        shard.shardNo = shardNo;
+        shard.stock = stock;
+        return shard;
+    }
+
+    public void updateStock(int stock) {
+        this.stock = stock;
+    }
+}
@@ -0,0 +1,36 @@
+package com.ururulab.ururu.groupBuy.domain.entity;
+
+import com.ururulab.ururu.global.domain.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공동구매 누적 판매량 증감 기록
+ * 결제/환불 트랜잭션은 공동구매 행 대신 이 테이블에 행을 추가하므로 인기 공동구매 행에 쓰기 잠금이 몰리지 않습니다.
+ * 스케줄러가 주기적으로 공동구매별로 합산해 groupbuys.sold_quantity 에 반영한 뒤 삭제합니다.
+ */
+@Entity
+@Getter
+@Table(name = "groupbuy_sold_quantity_deltas")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GroupBuySoldQuantityDelta extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "groupbuy_id", nullable = false)
+    private Long groupBuyId;
+
+    @Column(nullable = false)
+    private Integer delta;
+
+    public static GroupBuySoldQuantityDelta of(Long groupBuyId, int delta) {
+        GroupBuySoldQuantityDelta soldQuantityDelta = new GroupBuySoldQuantityDelta();
+        soldQuantityDelta.groupBuyId = groupBuyId;
+        soldQuantityDelta.delta = delta;
+        return soldQuantityDelta;
+    }
+}
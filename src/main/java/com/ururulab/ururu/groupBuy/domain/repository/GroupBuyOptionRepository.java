@@ -4,15 +4,19 @@ import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyOption;
 import com.ururulab.ururu.groupBuy.dto.common.StockCheckDto;
 import com.ururulab.ururu.groupBuy.dto.projection.GroupBuyOptionBasicInfo;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface GroupBuyOptionRepository extends JpaRepository<GroupBuyOption, Long> {
+public interface GroupBuyOptionRepository extends JpaRepository<GroupBuyOption, Long>, GroupBuyOptionRepositoryCustom {
 
     /**
      * 공구 옵션 조회 (연관 엔티티 포함)
@@ -29,6 +33,51 @@ public interface GroupBuyOptionRepository extends JpaRepository<GroupBuyOption,
             "WHERE gbo.id = :optionId")
     Optional<GroupBuyOption> findByIdWithDetails(@Param("optionId") Long optionId);
 
+    /**
+     * 여러 공구 옵션을 연관 엔티티와 함께 한 번에 조회 (주문서 생성용)
+     * findByIdWithDetails의 다건 버전 - 주문 아이템 수와 무관하게 쿼리 1회
+     */
+    @Query("SELECT gbo FROM GroupBuyOption gbo " +
+            "LEFT JOIN FETCH gbo.groupBuy gb " +
+            "LEFT JOIN FETCH gb.product p " +
+            "LEFT JOIN FETCH gbo.productOption po " +
+            "WHERE gbo.id IN :optionIds")
+    List<GroupBuyOption> findAllByIdWithDetails(@Param("optionIds") Collection<Long> optionIds);
+
+    /**
+     * 옵션이 속한 공동구매 ID와 재고 분할 개수 조회
+     * @return [optionId, groupBuyId, stockShardCount] 형태의 결과 리스트 (분할이 꺼진 옵션은 0)
+     */
+    @Query("SELECT gbo.id, gb.id, gb.stockShardCount FROM GroupBuyOption gbo " +
+            "JOIN gbo.groupBuy gb " +
+            "WHERE gbo.id IN :optionIds")
+    List<Object[]> findStockRoutesByOptionIds(@Param("optionIds") Collection<Long> optionIds);
+
+    /**
+     * 재고 분할 옵션의 재고 스냅샷 동기화 (버킷 합계 → groupbuy_options.stock)
+     * 목록/상세 표시, 판매량 집계 등 옵션 행의 재고를 읽는 곳을 위해 주기적으로 실행
+     */
+    @Modifying
+    @Query("UPDATE GroupBuyOption gbo SET gbo.stock = " +
+            "(SELECT COALESCE(SUM(s.stock), 0) FROM GroupBuyOptionStockShard s WHERE s.groupBuyOption.id = gbo.id) " +
+            "WHERE gbo.groupBuy.id IN (SELECT gb.id FROM GroupBuy gb WHERE gb.stockShardCount > 0)")
+    int syncShardedStockSnapshots();
+
+    /**
+     * 공동구매의 모든 옵션 판매가를 할인율로 일괄 갱신 (할인 단계 진입 시)
+     * 벌크 UPDATE는 @Version을 올리지 않으므로 버전도 함께 증가 (상세 조회 ETag 갱신)
+     */
+    @Modifying
+    @Query("UPDATE GroupBuyOption gbo SET " +
+            "gbo.salePrice = gbo.priceOverride - CAST(ROUND(gbo.priceOverride * :discountRate / 100.0, 0) AS Integer), " +
+            "gbo.version = gbo.version + 1, gbo.updatedAt = :now " +
+            "WHERE gbo.groupBuy.id = :groupBuyId")
+    int updateSalePrices(
+            @Param("groupBuyId") Long groupBuyId,
+            @Param("discountRate") int discountRate,
+            @Param("now") Instant now
+    );
+
     /**
      * 공구 옵션 재고 증가
      * 환불 승인 시 재고 복구용
@@ -60,6 +109,14 @@ public interface GroupBuyOptionRepository extends JpaRepository<GroupBuyOption,
             "ORDER BY po.id ASC")
     List<GroupBuyOption> findAllByGroupBuy(GroupBuy groupBuy);
 
+    /**
+     * 공동구매의 모든 옵션을 잠금과 함께 조회
+     * 재고 분할 설정 변경 시 옵션 재고와 버킷을 맞추는 동안 결제 차감을 막기 위해 사용
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT gbo FROM GroupBuyOption gbo WHERE gbo.groupBuy.id = :groupBuyId ORDER BY gbo.id ASC")
+    List<GroupBuyOption> findAllByGroupBuyIdForUpdate(@Param("groupBuyId") Long groupBuyId);
+
     /**
      * 여러 옵션 ID로 옵션 ID와 이름만 조회
      * @param ids
@@ -0,0 +1,17 @@
+package com.ururulab.ururu.groupBuy.domain.repository;
+
+import java.util.List;
+import java.util.Map;
+
+public interface GroupBuyOptionRepositoryCustom {
+
+    /**
+     * 여러 공구 옵션의 재고를 단일 UPDATE로 일괄 차감합니다.
+     * 대상 행을 잠근 뒤 모든 옵션의 재고가 충분할 때만 차감하며, 하나라도 부족하면 차감하지 않고 부족한 옵션 ID를 반환합니다.
+     * 호출 측은 실패 옵션이 있으면 트랜잭션을 롤백해야 합니다.
+     *
+     * @param quantitiesByOptionId 옵션 ID별 차감 수량
+     * @return 재고 부족으로 차감되지 않은 옵션 ID 목록 (모두 성공 시 빈 목록)
+     */
+    List<Long> decreaseStocks(Map<Long, Integer> quantitiesByOptionId);
+}
@@ -0,0 +1,95 @@
+package com.ururulab.ururu.groupBuy.domain.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.ururulab.ururu.groupBuy.domain.entity.QGroupBuyOption;
+
+@Repository
+@RequiredArgsConstructor
+public class GroupBuyOptionRepositoryImpl implements GroupBuyOptionRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 여러 공구 옵션의 재고를 단일 UPDATE로 일괄 차감합니다.
+     * SELECT .. FROM groupbuy_options WHERE id IN (..) ORDER BY id FOR UPDATE
+     * UPDATE groupbuy_options SET stock = stock - CASE id WHEN .. THEN .. END
+     * WHERE id IN (..) AND stock >= CASE id WHEN .. THEN .. END
+     *
+     * 대상 행을 ID 순서로 먼저 잠그고 행마다 재고를 비교해 부족한 옵션을 정확히 판별합니다.
+     * 하나라도 부족하면 차감하지 않고 부족한 옵션 ID를 반환합니다.
+     *
+     * @param quantitiesByOptionId 옵션 ID별 차감 수량
+     * @return 재고 부족으로 차감되지 않은 옵션 ID 목록 (모두 성공 시 빈 목록)
+     */
+    @Override
+    public List<Long> decreaseStocks(Map<Long, Integer> quantitiesByOptionId) {
+        if (quantitiesByOptionId.isEmpty()) {
+            return List.of();
+        }
+
+        QGroupBuyOption groupBuyOption = QGroupBuyOption.groupBuyOption;
+        Set<Long> optionIds = quantitiesByOptionId.keySet();
+
+        Map<Long, Integer> lockedStocks = new HashMap<>();
+        for (Tuple row : queryFactory
+                .select(groupBuyOption.id, groupBuyOption.stock)
+                .from(groupBuyOption)
+                .where(groupBuyOption.id.in(optionIds))
+                .orderBy(groupBuyOption.id.asc())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch()) {
+            lockedStocks.put(row.get(groupBuyOption.id), row.get(groupBuyOption.stock));
+        }
+
+        List<Long> failedOptionIds = optionIds.stream()
+                .filter(optionId -> {
+                    Integer stock = lockedStocks.get(optionId);
+                    return stock == null || stock < quantitiesByOptionId.get(optionId);
+                })
+                .sorted()
+                .toList();
+        if (!failedOptionIds.isEmpty()) {
+            return failedOptionIds;
+        }
+
+        NumberExpression<Integer> quantity = quantityCase(groupBuyOption, quantitiesByOptionId);
+        long updatedRows = queryFactory
+                .update(groupBuyOption)
+                .set(groupBuyOption.stock, groupBuyOption.stock.subtract(quantity))
+                .set(groupBuyOption.updatedAt, Instant.now())
+                .where(
+                        groupBuyOption.id.in(optionIds),
+                        groupBuyOption.stock.goe(quantity)
+                )
+                .execute();
+
+        // 행을 잠근 상태에서 재고를 확인했으므로 모두 차감되어야 함
+        if (updatedRows != optionIds.size()) {
+            throw new IllegalStateException("Locked stock rows changed during decrease: " + optionIds);
+        }
+        return List.of();
+    }
+
+    private NumberExpression<Integer> quantityCase(QGroupBuyOption groupBuyOption, Map<Long, Integer> quantitiesByOptionId) {
+        CaseBuilder.Cases<Integer, NumberExpression<Integer>> cases = null;
+        for (Map.Entry<Long, Integer> entry : quantitiesByOptionId.entrySet()) {
+            cases = (cases == null)
+                    ? new CaseBuilder().when(groupBuyOption.id.eq(entry.getKey())).then(entry.getValue())
+                    : cases.when(groupBuyOption.id.eq(entry.getKey())).then(entry.getValue());
+        }
+        return cases.otherwise(0);
+    }
+}
@@ -0,0 +1,96 @@
+package com.ururulab.ururu.groupBuy.domain.repository;
+
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyOptionStockShard;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface GroupBuyOptionStockShardRepository extends JpaRepository<GroupBuyOptionStockShard, Long> {
+
+    /**
+     * 재고 버킷 하나를 잠금과 함께 조회 (다른 트랜잭션이 잠근 버킷이면 기다리지 않고 빈 결과)
+     * 단일 버킷 차감용 - 잠긴 버킷을 건너뛰므로 동시 구매가 서로 다른 버킷으로 흩어집니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT s FROM GroupBuyOptionStockShard s " +
+            "WHERE s.groupBuyOption.id = :optionId AND s.shardNo = :shardNo")
+    Optional<GroupBuyOptionStockShard> findByOptionIdAndShardNoSkipLocked(
+            @Param("optionId") Long optionId,
+            @Param("shardNo") Integer shardNo
+    );
+
+    /**
+     * 재고 버킷 하나에 재고 증가
+     * 환불 승인 시 재고 복구용
+     */
+    @Modifying
+    @Query("UPDATE GroupBuyOptionStockShard s SET s.stock = s.stock + :quantity " +
+            "WHERE s.groupBuyOption.id = :optionId AND s.shardNo = :shardNo")
+    int increaseStock(
+            @Param("optionId") Long optionId,
+            @Param("shardNo") Integer shardNo,
+            @Param("quantity") Integer quantity
+    );
+
+    /**
+     * 재고 분할 공동구매의 누적 판매량 (옵션 초기 재고 합계 - 버킷 재고 합계)
+     */
+    @Query("SELECT COALESCE(SUM(gbo.initialStock), 0) - " +
+            "(SELECT COALESCE(SUM(s.stock), 0) FROM GroupBuyOptionStockShard s WHERE s.groupBuyOption.groupBuy.id = :groupBuyId) " +
+            "FROM GroupBuyOption gbo WHERE gbo.groupBuy.id = :groupBuyId")
+    Long sumSoldQuantityByGroupBuyId(@Param("groupBuyId") Long groupBuyId);
+
+    /**
+     * 옵션별 재고 합계 조회 (모든 버킷 합산 - 정확한 재고)
+     * @return [optionId, totalStock] 형태의 결과 리스트
+     */
+    @Query("SELECT s.groupBuyOption.id, SUM(s.stock) FROM GroupBuyOptionStockShard s " +
+            "WHERE s.groupBuyOption.id IN :optionIds " +
+            "GROUP BY s.groupBuyOption.id")
+    List<Object[]> sumStockByOptionIds(@Param("optionIds") Collection<Long> optionIds);
+
+    /**
+     * 옵션의 모든 재고 버킷을 잠금과 함께 조회
+     * 여러 버킷에 걸친 차감과 재분배에 사용 - 교착 방지를 위해 항상 shardNo 순서로 잠금
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM GroupBuyOptionStockShard s " +
+            "WHERE s.groupBuyOption.id = :optionId " +
+            "ORDER BY s.shardNo ASC")
+    List<GroupBuyOptionStockShard> findAllByOptionIdForUpdate(@Param("optionId") Long optionId);
+
+    /**
+     * 지정한 버킷보다 번호가 큰 버킷을 잠금과 함께 조회
+     * 분할 재고 차감 중 이미 잠근 버킷이 있을 때 사용 - 쥔 버킷보다 큰 번호만 shardNo 순서로 잠금
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM GroupBuyOptionStockShard s " +
+            "WHERE s.groupBuyOption.id = :optionId AND s.shardNo > :shardNo " +
+            "ORDER BY s.shardNo ASC")
+    List<GroupBuyOptionStockShard> findAllByOptionIdAndShardNoGreaterThanForUpdate(
+            @Param("optionId") Long optionId,
+            @Param("shardNo") Integer shardNo
+    );
+
+    /**
+     * 비어 있는 버킷이 있으면서 전체 재고는 남아 있는 옵션 ID 조회 (재분배 대상)
+     */
+    @Query("SELECT s.groupBuyOption.id FROM GroupBuyOptionStockShard s " +
+            "GROUP BY s.groupBuyOption.id " +
+            "HAVING MIN(s.stock) = 0 AND SUM(s.stock) > 0")
+    List<Long> findOptionIdsWithEmptyShard();
+
+    @Modifying
+    @Query("DELETE FROM GroupBuyOptionStockShard s WHERE s.groupBuyOption.id IN :optionIds")
+    int deleteAllByOptionIds(@Param("optionIds") Collection<Long> optionIds);
+}
@@ -4,6 +4,7 @@ import com.querydsl.core.Tuple;
 import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuySortOption;
 import com.ururulab.ururu.groupBuy.dto.common.CursorInfoDto;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface GroupBuyQueryRepository {
@@ -13,6 +14,8 @@ public interface GroupBuyQueryRepository {
      * @param sortOption
      * @param limit
      * @param cursorInfo
+     * @param keyword
+     * @param candidateIds 검색 색인에서 찾은 키워드 후보 ID (null이면 DB에서 키워드 검색)
      * @return
      */
     List<Tuple> findGroupBuysSortedWithCursor(
@@ -20,6 +23,7 @@ public interface GroupBuyQueryRepository {
             GroupBuySortOption sortOption,
             int limit,
             CursorInfoDto cursorInfo,
-            String keyword // 키워드 추가
+            String keyword, // 키워드 추가
+            Collection<Long> candidateIds
             );
 }
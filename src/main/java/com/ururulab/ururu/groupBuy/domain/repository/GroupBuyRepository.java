@@ -5,11 +5,13 @@ import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -57,20 +59,73 @@ public interface GroupBuyRepository extends JpaRepository<GroupBuy, Long>, Group
     @Query("SELECT gb FROM GroupBuy gb WHERE gb.id = :groupBuyId AND gb.status ='OPEN'")
     Optional<GroupBuy> findPublicGroupBuyWithDetails(@Param("groupBuyId") Long groupBuyId);
 
+    /**
+     * 구매자용 상세 조회 ETag 기준 값 (엔티티 조회 없이 한 번의 집계 쿼리)
+     * 공동구매 변경 시각/판매량, 상품 변경 시각, 옵션 버전/재고 합계와 변경 시각, 상품 옵션/이미지 변경 시각
+     * @return [status, updatedAt, soldQuantity, productUpdatedAt, optionCount, optionVersionSum, stockSum,
+     *          optionUpdatedAt, productOptionUpdatedAt, imageCount, imageUpdatedAt] (OPEN이 아니면 빈 결과)
+     */
+    @Query("""
+        SELECT gb.status, gb.updatedAt, gb.soldQuantity, p.updatedAt,
+               COUNT(gbo.id), COALESCE(SUM(gbo.version), 0), COALESCE(SUM(gbo.stock), 0),
+               MAX(gbo.updatedAt), MAX(po.updatedAt),
+               (SELECT COUNT(img.id) FROM GroupBuyImage img WHERE img.groupBuy.id = gb.id),
+               (SELECT MAX(img.updatedAt) FROM GroupBuyImage img WHERE img.groupBuy.id = gb.id)
+        FROM GroupBuy gb
+        JOIN gb.product p
+        LEFT JOIN gb.options gbo
+        LEFT JOIN gbo.productOption po
+        WHERE gb.id = :groupBuyId AND gb.status = 'OPEN'
+        GROUP BY gb.id, gb.status, gb.updatedAt, gb.soldQuantity, p.updatedAt
+        """)
+    List<Object[]> findPublicDetailVersion(@Param("groupBuyId") Long groupBuyId);
+
+    /**
+     * 만료된 공동구매 ID 조회 (OPEN 상태이면서 종료일이 지난 것들)
+     * 배치 종료용 키셋 페이징 - lastId 이후 ID를 오름차순으로 pageable 크기만큼 조회
+     */
+    @Query("""
+        SELECT gb.id FROM GroupBuy gb
+        WHERE gb.status = 'OPEN'
+        AND gb.endsAt <= :currentTime
+        AND gb.id > :lastId
+        ORDER BY gb.id ASC
+        """)
+    List<Long> findExpiredGroupBuyIds(
+            @Param("currentTime") Instant currentTime,
+            @Param("lastId") Long lastId,
+            Pageable pageable
+    );
+
+    /**
+     * 진행 중인 공동구매의 종료 시각 조회 (만료 대기열 등록/복구용, groupBuyId가 null이면 전체)
+     * @return [groupBuyId, endsAt] 형태의 결과 리스트
+     */
+    @Query("""
+        SELECT gb.id, gb.endsAt FROM GroupBuy gb
+        WHERE gb.status = 'OPEN'
+          AND (:groupBuyId IS NULL OR gb.id = :groupBuyId)
+        """)
+    List<Object[]> findOpenEndsAt(@Param("groupBuyId") Long groupBuyId);
+
     /**
      * 만료된 공동구매 조회 (OPEN 상태이면서 종료일이 지난 것들)
-     * 배치 처리용 - 필요한 연관 엔티티들을 한번에 페치
+     * 배치 처리용 - 청크의 ID로 필요한 연관 엔티티들을 한번에 페치 (컬렉션 페치 조인이라 페이징은 ID 조회에서)
      */
     @Query("""
         SELECT DISTINCT gb FROM GroupBuy gb
         LEFT JOIN FETCH gb.product p
         LEFT JOIN FETCH gb.seller s
         LEFT JOIN FETCH gb.options o
-        WHERE gb.status = 'OPEN' 
+        WHERE gb.id IN :groupBuyIds
+        AND gb.status = 'OPEN'
         AND gb.endsAt <= :currentTime
-        ORDER BY gb.endsAt ASC
+        ORDER BY gb.id ASC
         """)
-    List<GroupBuy> findExpiredGroupBuys(@Param("currentTime") Instant currentTime);
+    List<GroupBuy> findExpiredGroupBuys(
+            @Param("currentTime") Instant currentTime,
+            @Param("groupBuyIds") Collection<Long> groupBuyIds
+    );
 
     @Query("""
     SELECT DISTINCT gb FROM GroupBuy gb
@@ -117,4 +172,135 @@ public interface GroupBuyRepository extends JpaRepository<GroupBuy, Long>, Group
         ORDER BY gb.createdAt DESC
         """)
     List<GroupBuy> findActiveGroupBuysByProductIds(@Param("productIds") List<Long> productIds);
+
+    /**
+     * 재고 분할이 켜진 채 종료된 공동구매 조회 (분할 재고 회수용)
+     */
+    @Query("SELECT gb FROM GroupBuy gb WHERE gb.status = 'CLOSED' AND gb.stockShardCount > 0")
+    List<GroupBuy> findClosedWithStockSharding();
+
+    /**
+     * 검색 색인용 진행 중 공동구매 조회 (판매자, 옵션 전성분 포함)
+     */
+    @Query("""
+        SELECT DISTINCT gb FROM GroupBuy gb
+        JOIN FETCH gb.seller s
+        LEFT JOIN FETCH gb.options gbo
+        LEFT JOIN FETCH gbo.productOption po
+        WHERE gb.status = 'OPEN'
+          AND gb.endsAt > CURRENT_TIMESTAMP
+        """)
+    List<GroupBuy> findAllOpenForSearchIndex();
+
+    /**
+     * 검색 색인용 공동구매 조회 (상태 무관, 색인 갱신/제거 판단용)
+     */
+    @Query("""
+        SELECT DISTINCT gb FROM GroupBuy gb
+        JOIN FETCH gb.seller s
+        LEFT JOIN FETCH gb.options gbo
+        LEFT JOIN FETCH gbo.productOption po
+        WHERE gb.id IN :groupBuyIds
+        """)
+    List<GroupBuy> findAllForSearchIndexByIds(@Param("groupBuyIds") Collection<Long> groupBuyIds);
+
+    /**
+     * 지정 시각 이후 변경된 공동구매 ID 조회 (다른 인스턴스의 변경을 검색 색인에 반영하기 위해 사용)
+     */
+    @Query("SELECT gb.id FROM GroupBuy gb WHERE gb.updatedAt >= :since")
+    List<Long> findIdsUpdatedSince(@Param("since") Instant since);
+
+    /**
+     * 진행 중인 공동구매의 누적 판매량 조회 (자동완성 점수 갱신용)
+     * @return [groupBuyId, soldQuantity] 형태의 결과 리스트
+     */
+    @Query("SELECT gb.id, gb.soldQuantity FROM GroupBuy gb WHERE gb.status = 'OPEN' AND gb.endsAt > CURRENT_TIMESTAMP")
+    List<Object[]> findOpenSoldQuantities();
+
+    /**
+     * 진행 중인 공동구매의 옵션 재고 기준 판매량 조회 (판매량 순위 재구성용)
+     * 주기적으로 반영되는 sold_quantity 컬럼 대신 옵션 재고 차감을 바로 합산합니다.
+     * @return [groupBuyId, SUM(initialStock - stock)] 형태의 결과 리스트
+     */
+    @Query("SELECT gb.id, COALESCE(SUM(gbo.initialStock - gbo.stock), 0) FROM GroupBuy gb LEFT JOIN gb.options gbo " +
+            "WHERE gb.status = 'OPEN' AND gb.endsAt > CURRENT_TIMESTAMP GROUP BY gb.id")
+    List<Object[]> findOpenSoldQuantitiesFromStock();
+
+    /**
+     * 공동구매 상품의 카테고리 ID 조회 (판매량 순위 갱신용)
+     * @return [groupBuyId, categoryId] 형태의 결과 리스트
+     */
+    @Query("SELECT gb.id, pc.category.id FROM GroupBuy gb JOIN gb.product p JOIN p.productCategories pc WHERE gb.id IN :groupBuyIds")
+    List<Object[]> findCategoryIdsByGroupBuyIds(@Param("groupBuyIds") Collection<Long> groupBuyIds);
+
+    /**
+     * 진행 중인 공동구매 상품의 카테고리 ID 조회 (판매량 순위 재구성용)
+     * @return [groupBuyId, categoryId] 형태의 결과 리스트
+     */
+    @Query("""
+        SELECT gb.id, pc.category.id FROM GroupBuy gb
+        JOIN gb.product p
+        JOIN p.productCategories pc
+        WHERE gb.status = 'OPEN'
+          AND gb.endsAt > CURRENT_TIMESTAMP
+        """)
+    List<Object[]> findOpenCategoryIds();
+
+    /**
+     * 진행 중인 공동구매의 할인 단계 판단용 값 (groupBuyId가 null이면 전체)
+     * @return [id, discountStages, soldQuantity, currentDiscountRate, stockShardCount, minStartPrice, displayFinalPrice]
+     */
+    @Query("""
+        SELECT gb.id, gb.discountStages, gb.soldQuantity, gb.currentDiscountRate, gb.stockShardCount,
+               gb.minStartPrice, gb.displayFinalPrice
+        FROM GroupBuy gb
+        WHERE gb.status = 'OPEN'
+          AND (:groupBuyId IS NULL OR gb.id = :groupBuyId)
+        """)
+    List<Object[]> findOpenDiscountStates(@Param("groupBuyId") Long groupBuyId);
+
+    /**
+     * 할인 단계 변경 반영 (현재 할인율과 표시 가격)
+     * 반영 전 할인율이 일치할 때만 갱신해 여러 노드가 동시에 반영해도 한 번만 적용
+     */
+    @Modifying
+    @Query("UPDATE GroupBuy gb SET gb.currentDiscountRate = :discountRate, " +
+            "gb.displayFinalPrice = gb.minStartPrice - CAST(ROUND(gb.minStartPrice * :discountRate / 100.0, 0) AS Integer), " +
+            "gb.updatedAt = :now " +
+            "WHERE gb.id = :groupBuyId AND gb.status = 'OPEN' AND gb.currentDiscountRate = :previousDiscountRate")
+    int updateCurrentDiscountRate(
+            @Param("groupBuyId") Long groupBuyId,
+            @Param("previousDiscountRate") int previousDiscountRate,
+            @Param("discountRate") int discountRate,
+            @Param("now") Instant now
+    );
+
+    /**
+     * 진행 중인 공동구매의 누적 판매량 증감 (판매량 증감 기록 반영용)
+     * 종료된 공동구매는 종료 시 최종 집계값으로 보정되므로 갱신하지 않습니다.
+     */
+    @Modifying
+    @Query("UPDATE GroupBuy gb SET gb.soldQuantity = gb.soldQuantity + :delta " +
+            "WHERE gb.id = :groupBuyId AND gb.status = 'OPEN'")
+    int addSoldQuantity(@Param("groupBuyId") Long groupBuyId, @Param("delta") int delta);
+
+    /**
+     * 재고 분할 공동구매의 누적 판매량을 옵션 재고 스냅샷 기준으로 보정
+     * 분할 재고는 버킷에서 차감되므로 옵션 스냅샷 동기화 직후 호출
+     */
+    @Modifying
+    @Query("UPDATE GroupBuy gb SET gb.soldQuantity = " +
+            "(SELECT COALESCE(SUM(gbo.initialStock - gbo.stock), 0) FROM GroupBuyOption gbo WHERE gbo.groupBuy.id = gb.id) " +
+            "WHERE gb.stockShardCount > 0")
+    int syncShardedSoldQuantities();
+
+    /**
+     * 비정규화 컬럼이 비어 있는 공동구매의 최저 시작가/누적 판매량 채우기 (컬럼 추가 이전 데이터용)
+     */
+    @Modifying
+    @Query("UPDATE GroupBuy gb SET " +
+            "gb.minStartPrice = (SELECT MIN(gbo.priceOverride) FROM GroupBuyOption gbo WHERE gbo.groupBuy.id = gb.id), " +
+            "gb.soldQuantity = (SELECT COALESCE(SUM(gbo.initialStock - gbo.stock), 0) FROM GroupBuyOption gbo WHERE gbo.groupBuy.id = gb.id) " +
+            "WHERE gb.minStartPrice IS NULL")
+    int backfillListSummaries();
 }
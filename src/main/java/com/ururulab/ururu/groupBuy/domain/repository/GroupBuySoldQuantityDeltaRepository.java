@@ -0,0 +1,39 @@
+package com.ururulab.ururu.groupBuy.domain.repository;
+
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuySoldQuantityDelta;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface GroupBuySoldQuantityDeltaRepository extends JpaRepository<GroupBuySoldQuantityDelta, Long> {
+
+    /**
+     * 반영할 판매량 증감 기록 잠금 조회
+     * 다른 인스턴스가 반영 중인 행은 건너뛰어(SKIP LOCKED) 같은 증감을 두 번 반영하지 않습니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT d FROM GroupBuySoldQuantityDelta d ORDER BY d.id")
+    List<GroupBuySoldQuantityDelta> findBatchForUpdate(Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM GroupBuySoldQuantityDelta d WHERE d.id IN :ids")
+    int deleteAllByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 공동구매의 반영 전 증감 기록 삭제
+     * 누적 판매량을 옵션 재고 기준으로 다시 맞출 때 이미 포함된 증감이 두 번 반영되지 않도록 함께 호출
+     */
+    @Modifying
+    @Query("DELETE FROM GroupBuySoldQuantityDelta d WHERE d.groupBuyId = :groupBuyId")
+    int deleteAllByGroupBuyId(@Param("groupBuyId") Long groupBuyId);
+}
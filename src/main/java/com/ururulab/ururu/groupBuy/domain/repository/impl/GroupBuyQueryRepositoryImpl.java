@@ -3,8 +3,10 @@ package com.ururulab.ururu.groupBuy.domain.repository.impl;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ururulab.ururu.groupBuy.domain.entity.QGroupBuy;
 import com.ururulab.ururu.groupBuy.domain.entity.QGroupBuyOption;
@@ -12,7 +14,6 @@ import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuySortOption;
 import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyQueryRepository;
 import com.ururulab.ururu.groupBuy.dto.common.CursorInfoDto;
-import com.ururulab.ururu.product.domain.entity.QProduct;
 import com.ururulab.ururu.product.domain.entity.QProductCategory;
 import com.ururulab.ururu.product.domain.entity.QProductOption;
 import com.ururulab.ururu.seller.domain.entity.QSeller;
@@ -20,7 +21,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -30,6 +35,9 @@ public class GroupBuyQueryRepositoryImpl implements GroupBuyQueryRepository {
 
     /**
      * 무한스크롤
+     * 1단계에서 조건/정렬/커서만으로 현재 페이지의 공동구매 ID를 찾고, 2단계에서 목록 컬럼을 한 번에 조회합니다.
+     * (카테고리·옵션을 조인하면 옵션 x 카테고리 수만큼 행이 늘어나 DISTINCT 후에야 LIMIT이 적용되므로
+     * 다대다 조건은 EXISTS 서브쿼리로 검사)
      * @param categoryId
      * @param sortOption
      * @param limit
@@ -37,36 +45,49 @@ public class GroupBuyQueryRepositoryImpl implements GroupBuyQueryRepository {
      * @return
      */
     @Override
-    public List<Tuple> findGroupBuysSortedWithCursor(Long categoryId, GroupBuySortOption sortOption, int limit, CursorInfoDto cursorInfo, String keyword) {
+    public List<Tuple> findGroupBuysSortedWithCursor(Long categoryId, GroupBuySortOption sortOption, int limit, CursorInfoDto cursorInfo, String keyword, Collection<Long> candidateIds) {
+        List<Long> ids = findPageIds(categoryId, sortOption, limit, cursorInfo, keyword, candidateIds);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return hydrate(ids);
+    }
+
+    /**
+     * 1단계: 현재 페이지의 공동구매 ID (정렬 순서)
+     */
+    private List<Long> findPageIds(Long categoryId, GroupBuySortOption sortOption, int limit, CursorInfoDto cursorInfo, String keyword, Collection<Long> candidateIds) {
         QGroupBuy gb = QGroupBuy.groupBuy;
-        QProduct p = QProduct.product;
-        QProductCategory pc = QProductCategory.productCategory;
-        QGroupBuyOption gbo = QGroupBuyOption.groupBuyOption;
-        QProductOption po = QProductOption.productOption;
         QSeller s = QSeller.seller;
 
         BooleanBuilder where = new BooleanBuilder()
                 .and(gb.status.eq(GroupBuyStatus.OPEN))
                 .and(gb.endsAt.after(Instant.now()));
 
-        // 키워드 검색: 공백 + 대소문자 무시
-        if (keyword != null && !keyword.isBlank()) {
+        boolean keywordSearch = false;
+        if (candidateIds != null) {
+            // 검색 색인에서 키워드 후보를 찾은 경우 ID 조건만 적용
+            where.and(gb.id.in(candidateIds));
+            log.debug("검색 색인 후보 적용: '{}' ({}건)", keyword, candidateIds.size());
+        } else if (keyword != null && !keyword.isBlank()) {
+            // 키워드 검색: 공백 + 대소문자 무시
             BooleanBuilder keywordCondition = new BooleanBuilder()
                     // 공동구매 제목에서 검색
                     .or(Expressions.stringTemplate("LOWER(REPLACE({0}, ' ', ''))", gb.title).contains(keyword))
-                    // 상품 옵션 전성분에서 검색
-                    .or(Expressions.stringTemplate("LOWER(REPLACE({0}, ' ', ''))", po.fullIngredients).contains(keyword))
                     // 판매자명에서 검색
-                    .or(Expressions.stringTemplate("LOWER(REPLACE({0}, ' ', ''))", s.name).contains(keyword));
+                    .or(Expressions.stringTemplate("LOWER(REPLACE({0}, ' ', ''))", s.name).contains(keyword))
+                    // 상품 옵션 전성분에서 검색
+                    .or(optionIngredientsContain(gb, keyword));
 
             where.and(keywordCondition);
+            keywordSearch = true;
             log.info("키워드 검색 조건 적용: '{}' (공백+대소문자 무시)", keyword);
         } else {
             log.info("키워드 조건 없음");
         }
 
         if (categoryId != null) {
-            where.and(pc.category.id.eq(categoryId));
+            where.and(inCategory(gb, categoryId));
         }
 
         // 커서 조건 추가
@@ -76,37 +97,81 @@ public class GroupBuyQueryRepositoryImpl implements GroupBuyQueryRepository {
 
         log.info("➡ [Repo] where = {}", where);
 
-        return queryFactory
+        JPAQuery<Long> query = queryFactory
+                .select(gb.id)
+                .from(gb);
+        if (keywordSearch) {
+            query.join(gb.seller, s); // 다대일 조인이라 행이 늘어나지 않음
+        }
+
+        return query
+                .where(where)
+                .orderBy(getOrderSpecifier(sortOption, gb))
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 2단계: ID로 목록 컬럼 조회 후 1단계 정렬 순서로 재배열
+     */
+    private List<Tuple> hydrate(List<Long> ids) {
+        QGroupBuy gb = QGroupBuy.groupBuy;
+
+        List<Tuple> rows = queryFactory
                 .select(
                         gb.id, // 0
                         gb.title, // 1
                         gb.thumbnailUrl, //2
                         gb.displayFinalPrice, //3
-                        // 최저 시작가 조회
-                        JPAExpressions.select(gbo.priceOverride.min())
-                                .from(gbo)
-                                .where(gbo.groupBuy.id.eq(gb.id)), //4
+                        gb.minStartPrice, //4 최저 시작가 (비정규화)
                         gb.endsAt, //5
-                        // initialStock 기반 총 판매량 조회
-                        JPAExpressions.select(
-                                        gbo.initialStock.sum().subtract(gbo.stock.sum()).coalesce(0)
-                                )
-                                .from(gbo)
-                                .where(gbo.groupBuy.id.eq(gb.id)), //6
+                        gb.soldQuantity, //6 누적 판매량 (비정규화)
                         gb.createdAt, //7
                         gb.maxDiscountRate //8
                 )
                 .from(gb)
-                .join(gb.seller, s)
-                .join(gb.product, QProduct.product)
-                .join(QProduct.product.productCategories, pc)
-                .join(gb.options, gbo)
-                .join(gbo.productOption, po)
-                .where(where)
-                .orderBy(getOrderSpecifier(sortOption, gb))
-                .limit(limit)
-                .distinct()
+                .where(gb.id.in(ids))
                 .fetch();
+
+        Map<Long, Tuple> rowsById = new HashMap<>();
+        for (Tuple row : rows) {
+            rowsById.put(row.get(gb.id), row);
+        }
+
+        List<Tuple> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Tuple row = rowsById.get(id);
+            if (row != null) {
+                ordered.add(row);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * 공동구매 상품이 해당 카테고리에 속하는지 (EXISTS)
+     */
+    private BooleanExpression inCategory(QGroupBuy gb, Long categoryId) {
+        QProductCategory pc = QProductCategory.productCategory;
+        return JPAExpressions.selectOne()
+                .from(pc)
+                .where(pc.product.id.eq(gb.product.id)
+                        .and(pc.category.id.eq(categoryId)))
+                .exists();
+    }
+
+    /**
+     * 공동구매 옵션 중 전성분에 키워드가 포함된 옵션이 있는지 (EXISTS)
+     */
+    private BooleanExpression optionIngredientsContain(QGroupBuy gb, String keyword) {
+        QGroupBuyOption gbo = QGroupBuyOption.groupBuyOption;
+        QProductOption po = QProductOption.productOption;
+        return JPAExpressions.selectOne()
+                .from(gbo)
+                .join(gbo.productOption, po)
+                .where(gbo.groupBuy.id.eq(gb.id)
+                        .and(Expressions.stringTemplate("LOWER(REPLACE({0}, ' ', ''))", po.fullIngredients).contains(keyword)))
+                .exists();
     }
 
     /**
@@ -145,8 +210,13 @@ public class GroupBuyQueryRepositoryImpl implements GroupBuyQueryRepository {
                         .or(gb.maxDiscountRate.eq(cursorInfo.maxDiscountRate()).and(gb.id.lt(cursorInfo.id())));
                 break;
 
+            case ORDER_COUNT:
+                // 판매량순: 판매량이 더 적거나, 같으면 id가 더 작은 것
+                condition.or(gb.soldQuantity.lt(cursorInfo.orderCount()))
+                        .or(gb.soldQuantity.eq(cursorInfo.orderCount()).and(gb.id.lt(cursorInfo.id())));
+                break;
+
             default:
-                // 주문량순: DB에서 직접 정렬이 어려우므로 createdAt 기준으로 처리
                 condition.or(gb.createdAt.lt(cursorInfo.createdAt()))
                         .or(gb.createdAt.eq(cursorInfo.createdAt()).and(gb.id.lt(cursorInfo.id())));
                 break;
@@ -155,14 +225,19 @@ public class GroupBuyQueryRepositoryImpl implements GroupBuyQueryRepository {
         return condition;
     }
 
-    private OrderSpecifier<?> getOrderSpecifier(GroupBuySortOption sort, QGroupBuy gb) {
-        return switch (sort) {
+    /**
+     * 정렬 옵션에 따른 정렬 조건 생성
+     * 커서 조건과 같은 순서가 되도록 모든 정렬에 id 내림차순을 보조 키로 붙입니다.
+     */
+    private OrderSpecifier<?>[] getOrderSpecifier(GroupBuySortOption sort, QGroupBuy gb) {
+        OrderSpecifier<?> primary = switch (sort) {
             case LATEST -> gb.createdAt.desc(); // 생성순
             case DEADLINE -> gb.endsAt.asc();
             case PRICE_LOW -> gb.displayFinalPrice.asc();
             case PRICE_HIGH -> gb.displayFinalPrice.desc();
             case DISCOUNT -> gb.maxDiscountRate.desc();
-            default -> gb.createdAt.desc(); // 주문 많은 순 - 계산 위임
+            case ORDER_COUNT -> gb.soldQuantity.desc(); // 판매량순 (비정규화 컬럼)
         };
+        return new OrderSpecifier<?>[]{primary, gb.id.desc()};
     }
 }
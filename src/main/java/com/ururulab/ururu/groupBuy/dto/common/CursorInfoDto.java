@@ -10,7 +10,7 @@ public record CursorInfoDto(
         Instant endsAt,
         Integer price,
         Integer maxDiscountRate,
-        Integer orderCount
+        Integer orderCount // 판매량순 커서 기준 (groupbuys.sold_quantity)
 ) {
     public static CursorInfoDto from(GroupBuyListResponse response) {
         return new CursorInfoDto(
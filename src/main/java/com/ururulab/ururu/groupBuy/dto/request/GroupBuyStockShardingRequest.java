@@ -0,0 +1,16 @@
+package com.ururulab.ururu.groupBuy.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import static com.ururulab.ururu.groupBuy.dto.validation.GroupBuyValidationConstants.*;
+import static com.ururulab.ururu.groupBuy.dto.validation.GroupBuyValidationMessages.*;
+
+public record GroupBuyStockShardingRequest(
+        @NotNull(message = STOCK_SHARD_COUNT_REQUIRED)
+        @Min(value = STOCK_SHARD_COUNT_MIN, message = STOCK_SHARD_COUNT_MIN_MSG)
+        @Max(value = STOCK_SHARD_COUNT_MAX, message = STOCK_SHARD_COUNT_MAX_MSG)
+        Integer shardCount
+) {
+}
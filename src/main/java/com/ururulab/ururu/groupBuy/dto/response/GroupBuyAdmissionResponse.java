@@ -0,0 +1,33 @@
+package com.ururulab.ururu.groupBuy.dto.response;
+
+import java.time.Instant;
+
+public record GroupBuyAdmissionResponse(
+        Status status,
+        Long position, // 대기 순번 (WAITING일 때만)
+        Long estimatedWaitSeconds, // 예상 대기 시간 (WAITING일 때만)
+        Instant admittedUntil // 입장권 만료 시각 (ADMITTED일 때만)
+) {
+    public enum Status {
+        ADMITTED, // 주문서 생성 가능
+        WAITING, // 대기 중
+        CLOSED, // 종료/품절
+        NOT_IN_QUEUE // 대기열에 없음 (입장 요청 필요)
+    }
+
+    public static GroupBuyAdmissionResponse admitted(Instant admittedUntil) {
+        return new GroupBuyAdmissionResponse(Status.ADMITTED, 0L, 0L, admittedUntil);
+    }
+
+    public static GroupBuyAdmissionResponse waiting(long position, long estimatedWaitSeconds) {
+        return new GroupBuyAdmissionResponse(Status.WAITING, position, estimatedWaitSeconds, null);
+    }
+
+    public static GroupBuyAdmissionResponse closed() {
+        return new GroupBuyAdmissionResponse(Status.CLOSED, null, null, null);
+    }
+
+    public static GroupBuyAdmissionResponse notInQueue() {
+        return new GroupBuyAdmissionResponse(Status.NOT_IN_QUEUE, null, null, null);
+    }
+}
@@ -0,0 +1,18 @@
+package com.ururulab.ururu.groupBuy.dto.response;
+
+import java.util.Map;
+
+/**
+ * 공동구매 실시간 현황 (SSE로 전송)
+ */
+public record GroupBuyLiveResponse(
+        Long groupBuyId,
+        long sequence, // 같은 스트림 안에서 증가하는 갱신 번호
+        boolean closed, // 종료(재고 소진/기간 만료)되면 true, 이후 스트림도 종료됨
+        Integer soldQuantity, // 총 판매량
+        Integer currentStage, // 달성한 할인 단계 (1부터, 미달성이면 0)
+        Integer discountRate, // 현재 적용 할인율 (%)
+        Integer nextStageQuantity, // 다음 단계 달성 수량 (마지막 단계면 null)
+        Map<Long, Integer> stocks // 옵션 ID -> 남은 재고
+) {
+}
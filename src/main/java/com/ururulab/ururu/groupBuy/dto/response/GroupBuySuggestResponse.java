@@ -0,0 +1,14 @@
+package com.ururulab.ururu.groupBuy.dto.response;
+
+public record GroupBuySuggestResponse(
+        Type type,
+        String text, // 표시할 문구 (공동구매 제목, 판매자명, 검색어)
+        Long groupBuyId, // GROUPBUY일 때만
+        long score // 공동구매/판매자는 판매량, 검색어는 최근 검색 횟수
+) {
+    public enum Type {
+        GROUPBUY, // 진행 중인 공동구매
+        SELLER, // 판매자(브랜드)
+        KEYWORD // 인기 검색어
+    }
+}
@@ -17,6 +17,10 @@ public class GroupBuyValidationConstants {
     public static final int LIMIT_RATE_MAX = 100;
     public static final int LIMIT_REWARD_QUANTITY_MAX = 9999999;
 
+    // 재고 분할 카운터
+    public static final int STOCK_SHARD_COUNT_MIN = 0;
+    public static final int STOCK_SHARD_COUNT_MAX = 32;
+
     // 이미지 관련
     public static final int MAX_GROUP_BUY_THUMBNAIL_IMAGES = 1;
     public static final int MAX_GROUP_BUY_DETAIL_IMAGES = 10;
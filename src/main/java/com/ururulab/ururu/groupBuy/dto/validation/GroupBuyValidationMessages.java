@@ -21,6 +21,10 @@ public class GroupBuyValidationMessages {
     public static final String START_AT_REQUIRED = "공동구매 시작일은 필수입니다";
     public static final String ENDS_AT_REQUIRED = "공동구매 종료일은 필수입니다";
 
+    public static final String STOCK_SHARD_COUNT_REQUIRED = "재고 분할 개수는 필수입니다";
+    public static final String STOCK_SHARD_COUNT_MIN_MSG = "재고 분할 개수는 " + STOCK_SHARD_COUNT_MIN + " 이상이어야 합니다";
+    public static final String STOCK_SHARD_COUNT_MAX_MSG = "재고 분할 개수는 " + STOCK_SHARD_COUNT_MAX + "개를 초과할 수 없습니다";
+
     // 옵션 관련 메시지
     public static final String GROUP_BUY_OPTIONS_REQUIRED = "공동구매 옵션은 최소 1개 이상 등록해야 합니다";
     public static final String PRODUCT_OPTION_ID_REQUIRED = "상품 옵션 ID는 필수입니다";
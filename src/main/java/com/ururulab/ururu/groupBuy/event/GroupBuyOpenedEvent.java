@@ -0,0 +1,10 @@
+package com.ururulab.ururu.groupBuy.event;
+
+/**
+ * 공동구매가 OPEN 상태로 전환되었을 때 발생하는 이벤트
+ * 검색 색인 등록 등에 사용
+ */
+public record GroupBuyOpenedEvent(
+        Long groupBuyId
+) {
+}
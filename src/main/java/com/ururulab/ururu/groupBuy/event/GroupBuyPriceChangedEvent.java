@@ -0,0 +1,12 @@
+package com.ururulab.ururu.groupBuy.event;
+
+/**
+ * 판매량이 할인 단계 경계를 넘어 옵션 판매가/표시 가격이 바뀌었을 때 발생하는 이벤트
+ * 가격이 담긴 메인 화면 캐시 무효화 등에 사용
+ */
+public record GroupBuyPriceChangedEvent(
+        Long groupBuyId,
+        int previousDiscountRate,
+        int discountRate
+) {
+}
@@ -0,0 +1,10 @@
+package com.ururulab.ururu.groupBuy.event;
+
+/**
+ * 재고 소진으로 공동구매가 즉시 종료되었을 때 발생하는 이벤트
+ * 입장 대기열 종료 처리 등에 사용
+ */
+public record GroupBuySoldOutEvent(
+        Long groupBuyId
+) {
+}
@@ -0,0 +1,13 @@
+package com.ururulab.ururu.groupBuy.event;
+
+import java.util.Map;
+
+/**
+ * 결제 완료/환불로 공동구매 판매량이 바뀌었을 때 발생하는 이벤트
+ * 판매량 순위(리더보드) 갱신과 실시간 재고 스트림(SSE)에 사용
+ */
+public record GroupBuySoldQuantityChangedEvent(
+        Map<Long, Integer> deltas, // 공동구매 ID -> 판매량 증감
+        Map<Long, Map<Long, Integer>> optionDeltas // 공동구매 ID -> (옵션 ID -> 판매량 증감)
+) {
+}
@@ -0,0 +1,16 @@
+package com.ururulab.ururu.groupBuy.event;
+
+import java.util.Set;
+
+/**
+ * 예약 만료 등으로 묶여 있던 재고가 다시 구매 가능해졌을 때 발생하는 이벤트
+ * 회수 트랜잭션 커밋 후 목록 캐시 갱신 등에 사용
+ */
+public record StockAvailableEvent(
+        Set<Long> groupBuyOptionIds,
+        int reclaimedQuantity
+) {
+    public boolean hasOptions() {
+        return groupBuyOptionIds != null && !groupBuyOptionIds.isEmpty();
+    }
+}
@@ -0,0 +1,37 @@
+package com.ururulab.ururu.groupBuy.listener;
+
+import com.ururulab.ururu.groupBuy.event.GroupBuySoldOutEvent;
+import com.ururulab.ururu.groupBuy.service.GroupBuyAdmissionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 공동구매 종료 시 입장 대기열을 닫아 이후 주문 요청을 DB 조회 없이 거절
+ * (배치 종료는 아웃박스를 거쳐 GroupBuysBatchClosedListener 에서 처리)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuyAdmissionListener {
+
+    private final GroupBuyAdmissionService groupBuyAdmissionService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleGroupBuySoldOut(GroupBuySoldOutEvent event) {
+        closeAdmission(List.of(event.groupBuyId()));
+    }
+
+    private void closeAdmission(List<Long> groupBuyIds) {
+        try {
+            groupBuyAdmissionService.markClosed(groupBuyIds);
+        } catch (Exception e) {
+            // 대기열 종료 실패 시에도 주문 생성의 재고 예약 단계에서 거절됨
+            log.warn("Failed to close admission queue - groupBuyIds: {}", groupBuyIds, e);
+        }
+    }
+}
@@ -1,24 +1,26 @@
 package com.ururulab.ururu.groupBuy.listener;
 
+import com.ururulab.ururu.global.outbox.OutboxEventHandler;
 import com.ururulab.ururu.groupBuy.event.GroupBuyDetailImageDeleteEvent;
 import com.ururulab.ururu.image.service.ImageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 @Slf4j
 @RequiredArgsConstructor
-public class GroupBuyDetailImageDeleteListener {
+public class GroupBuyDetailImageDeleteListener implements OutboxEventHandler<GroupBuyDetailImageDeleteEvent> {
 
     private final ImageService imageService;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Async("imageDeleteExecutor")
-    public void handleGroupBuyDetailImageDelete(GroupBuyDetailImageDeleteEvent event) {
+    @Override
+    public Class<GroupBuyDetailImageDeleteEvent> eventType() {
+        return GroupBuyDetailImageDeleteEvent.class;
+    }
+
+    @Override
+    public void handle(GroupBuyDetailImageDeleteEvent event) {
         log.info("Starting async detail image deletion for groupBuy: {}, {} images",
                 event.groupBuyId(), event.imageUrls().size());
 
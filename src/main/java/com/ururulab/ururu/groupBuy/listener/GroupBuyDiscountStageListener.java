@@ -0,0 +1,44 @@
+package com.ururulab.ururu.groupBuy.listener;
+
+import com.ururulab.ururu.groupBuy.event.GroupBuyPriceChangedEvent;
+import com.ururulab.ururu.groupBuy.event.GroupBuySoldQuantityChangedEvent;
+import com.ururulab.ururu.groupBuy.service.GroupBuyDiscountStageService;
+import com.ururulab.ururu.groupBuy.service.GroupBuyMainService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 결제 완료/환불 후 할인 단계 반영, 가격 변경 후 메인 화면 캐시 무효화
+ * 반영에 실패한 공동구매는 GroupBuyDiscountStageScheduler 의 주기적인 점검으로 보정됨
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuyDiscountStageListener {
+
+    private final GroupBuyDiscountStageService discountStageService;
+    private final GroupBuyMainService groupBuyMainService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSoldQuantityChanged(GroupBuySoldQuantityChangedEvent event) {
+        for (Long groupBuyId : event.deltas().keySet()) {
+            try {
+                discountStageService.syncDiscountStage(groupBuyId);
+            } catch (Exception e) {
+                log.warn("Failed to sync discount stage - groupBuyId: {}", groupBuyId, e);
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePriceChanged(GroupBuyPriceChangedEvent event) {
+        try {
+            groupBuyMainService.evictMainPageCaches();
+        } catch (Exception e) {
+            log.warn("Failed to evict main page caches - groupBuyId: {}", event.groupBuyId(), e);
+        }
+    }
+}
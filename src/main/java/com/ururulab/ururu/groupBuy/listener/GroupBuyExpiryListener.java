@@ -0,0 +1,42 @@
+package com.ururulab.ururu.groupBuy.listener;
+
+import com.ururulab.ururu.groupBuy.event.GroupBuyOpenedEvent;
+import com.ururulab.ururu.groupBuy.event.GroupBuySoldOutEvent;
+import com.ururulab.ururu.groupBuy.service.GroupBuyExpiryQueueService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 공동구매 오픈/품절 종료 시 종료 시각 대기열 갱신
+ * 반영에 실패한 항목은 GroupBuyExpiryScheduler 의 주기적인 복구로 보정됨
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuyExpiryListener {
+
+    private final GroupBuyExpiryQueueService expiryQueueService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleGroupBuyOpened(GroupBuyOpenedEvent event) {
+        try {
+            expiryQueueService.schedule(event.groupBuyId());
+        } catch (Exception e) {
+            log.warn("Failed to schedule group buy expiry - groupBuyId: {}", event.groupBuyId(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleGroupBuySoldOut(GroupBuySoldOutEvent event) {
+        try {
+            expiryQueueService.remove(List.of(event.groupBuyId()));
+        } catch (Exception e) {
+            log.warn("Failed to remove sold out group buy from expiry queue - groupBuyId: {}", event.groupBuyId(), e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.ururulab.ururu.groupBuy.listener;
+
+import com.ururulab.ururu.global.outbox.OutboxEventHandler;
+import com.ururulab.ururu.groupBuy.event.GroupBuyOpenedEvent;
+import com.ururulab.ururu.groupBuy.event.GroupBuySoldOutEvent;
+import com.ururulab.ururu.groupBuy.event.GroupBuySoldQuantityChangedEvent;
+import com.ururulab.ururu.groupBuy.event.GroupBuysBatchClosedEvent;
+import com.ururulab.ururu.groupBuy.service.GroupBuyLeaderboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 결제 완료/환불, 공동구매 오픈/종료 시 판매량 순위 갱신
+ * 반영에 실패한 증감은 GroupBuyLeaderboardScheduler 의 주기적인 재구성으로 보정됨
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuyLeaderboardListener implements OutboxEventHandler<GroupBuysBatchClosedEvent> {
+
+    private final GroupBuyLeaderboardService leaderboardService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSoldQuantityChanged(GroupBuySoldQuantityChangedEvent event) {
+        try {
+            leaderboardService.increment(event.deltas());
+        } catch (Exception e) {
+            log.warn("Failed to update leaderboard - deltas: {}", event.deltas(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleGroupBuyOpened(GroupBuyOpenedEvent event) {
+        try {
+            leaderboardService.add(event.groupBuyId());
+        } catch (Exception e) {
+            log.warn("Failed to add opened group buy to leaderboard - groupBuyId: {}", event.groupBuyId(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleGroupBuySoldOut(GroupBuySoldOutEvent event) {
+        try {
+            leaderboardService.remove(List.of(event.groupBuyId()));
+        } catch (Exception e) {
+            log.warn("Failed to remove sold out group buy from leaderboard - groupBuyId: {}", event.groupBuyId(), e);
+        }
+    }
+
+    @Override
+    public Class<GroupBuysBatchClosedEvent> eventType() {
+        return GroupBuysBatchClosedEvent.class;
+    }
+
+    @Override
+    public void handle(GroupBuysBatchClosedEvent event) {
+        leaderboardService.remove(event.groupBuyIds());
+    }
+}
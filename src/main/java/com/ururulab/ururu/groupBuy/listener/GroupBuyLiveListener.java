@@ -0,0 +1,108 @@
+package com.ururulab.ururu.groupBuy.listener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ururulab.ururu.global.outbox.OutboxEventHandler;
+import com.ururulab.ururu.groupBuy.event.GroupBuySoldOutEvent;
+import com.ururulab.ururu.groupBuy.event.GroupBuySoldQuantityChangedEvent;
+import com.ururulab.ururu.groupBuy.event.GroupBuysBatchClosedEvent;
+import com.ururulab.ururu.groupBuy.service.GroupBuyLiveService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 결제 완료/환불, 공동구매 종료를 실시간 현황 스트림(SSE)에 전달
+ * 구독자는 어느 노드에든 붙을 수 있으므로 커밋 이후 Redis Pub/Sub으로 모든 노드(자기 자신 포함)에 알리고,
+ * 각 노드는 수신한 메시지만 자기 구독자 현황에 반영합니다.
+ * 유실된 메시지는 GroupBuyLiveScheduler 의 주기적인 재조회로 보정됨
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuyLiveListener implements MessageListener, OutboxEventHandler<GroupBuysBatchClosedEvent> {
+
+    public static final String CHANNEL = "groupbuy:live";
+
+    private final GroupBuyLiveService liveService;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @PostConstruct
+    void subscribeChannel() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSoldQuantityChanged(GroupBuySoldQuantityChangedEvent event) {
+        try {
+            publish(new LiveMessage(event.optionDeltas(), List.of()));
+        } catch (Exception e) {
+            log.warn("Failed to publish live update - deltas: {}", event.optionDeltas(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleGroupBuySoldOut(GroupBuySoldOutEvent event) {
+        try {
+            publish(new LiveMessage(Map.of(), List.of(event.groupBuyId())));
+        } catch (Exception e) {
+            log.warn("Failed to publish live close - groupBuyId: {}", event.groupBuyId(), e);
+        }
+    }
+
+    @Override
+    public Class<GroupBuysBatchClosedEvent> eventType() {
+        return GroupBuysBatchClosedEvent.class;
+    }
+
+    @Override
+    public void handle(GroupBuysBatchClosedEvent event) {
+        publish(new LiveMessage(Map.of(), event.groupBuyIds()));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            LiveMessage liveMessage = objectMapper.readValue(message.getBody(), LiveMessage.class);
+            if (liveMessage.optionDeltas() != null && !liveMessage.optionDeltas().isEmpty()) {
+                liveService.applySoldQuantityChanges(liveMessage.optionDeltas());
+            }
+            if (liveMessage.closedGroupBuyIds() != null && !liveMessage.closedGroupBuyIds().isEmpty()) {
+                liveService.close(liveMessage.closedGroupBuyIds());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to apply live message: {}", new String(message.getBody(), StandardCharsets.UTF_8), e);
+        }
+    }
+
+    private void publish(LiveMessage message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize live message", e);
+        }
+    }
+
+    /**
+     * 노드 간 전달 메시지
+     */
+    record LiveMessage(
+            Map<Long, Map<Long, Integer>> optionDeltas, // 공동구매 ID -> (옵션 ID -> 판매량 증감)
+            List<Long> closedGroupBuyIds // 종료된 공동구매 ID
+    ) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.ururulab.ururu.groupBuy.listener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ururulab.ururu.global.outbox.OutboxEventHandler;
+import com.ururulab.ururu.groupBuy.event.GroupBuyOpenedEvent;
+import com.ururulab.ururu.groupBuy.event.GroupBuySoldOutEvent;
+import com.ururulab.ururu.groupBuy.event.GroupBuysBatchClosedEvent;
+import com.ururulab.ururu.groupBuy.service.GroupBuySearchIndexService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 공동구매 오픈/종료 시 검색 색인 즉시 갱신
+ * 색인은 인스턴스별 메모리에 있으므로 커밋 이후 Redis Pub/Sub으로 모든 노드(자기 자신 포함)에 알리고,
+ * 각 노드는 수신한 메시지로 자기 색인을 갱신합니다.
+ * 메시지를 받지 못한 인스턴스는 GroupBuySearchIndexScheduler 의 변경분 동기화로 따라잡음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuySearchIndexListener implements MessageListener, OutboxEventHandler<GroupBuysBatchClosedEvent> {
+
+    public static final String CHANNEL = "groupbuy:search-index";
+
+    private final GroupBuySearchIndexService searchIndexService;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @PostConstruct
+    void subscribeChannel() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleGroupBuyOpened(GroupBuyOpenedEvent event) {
+        try {
+            publish(new SearchIndexMessage(List.of(event.groupBuyId()), List.of()));
+        } catch (Exception e) {
+            log.warn("Failed to publish search index refresh - groupBuyId: {}", event.groupBuyId(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleGroupBuySoldOut(GroupBuySoldOutEvent event) {
+        try {
+            publish(new SearchIndexMessage(List.of(), List.of(event.groupBuyId())));
+        } catch (Exception e) {
+            log.warn("Failed to publish search index removal - groupBuyId: {}", event.groupBuyId(), e);
+        }
+    }
+
+    @Override
+    public Class<GroupBuysBatchClosedEvent> eventType() {
+        return GroupBuysBatchClosedEvent.class;
+    }
+
+    @Override
+    public void handle(GroupBuysBatchClosedEvent event) {
+        publish(new SearchIndexMessage(List.of(), event.groupBuyIds()));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            SearchIndexMessage indexMessage = objectMapper.readValue(message.getBody(), SearchIndexMessage.class);
+            if (indexMessage.refreshedGroupBuyIds() != null && !indexMessage.refreshedGroupBuyIds().isEmpty()) {
+                searchIndexService.refresh(indexMessage.refreshedGroupBuyIds());
+            }
+            if (indexMessage.removedGroupBuyIds() != null && !indexMessage.removedGroupBuyIds().isEmpty()) {
+                searchIndexService.remove(indexMessage.removedGroupBuyIds());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to apply search index message: {}", new String(message.getBody(), StandardCharsets.UTF_8), e);
+        }
+    }
+
+    private void publish(SearchIndexMessage message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize search index message", e);
+        }
+    }
+
+    /**
+     * 노드 간 전달 메시지
+     */
+    record SearchIndexMessage(
+            List<Long> refreshedGroupBuyIds, // 새로 열린 공동구매 ID (DB에서 다시 읽어 색인)
+            List<Long> removedGroupBuyIds // 종료/품절된 공동구매 ID
+    ) {
+    }
+}
@@ -1,24 +1,26 @@
 package com.ururulab.ururu.groupBuy.listener;
 
+import com.ururulab.ururu.global.outbox.OutboxEventHandler;
 import com.ururulab.ururu.groupBuy.event.GroupBuyThumbnailDeleteEvent;
 import com.ururulab.ururu.image.service.ImageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 @Slf4j
 @RequiredArgsConstructor
-public class GroupBuyThumbnailDeleteListener {
+public class GroupBuyThumbnailDeleteListener implements OutboxEventHandler<GroupBuyThumbnailDeleteEvent> {
 
     private final ImageService imageService;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Async("imageDeleteExecutor")
-    public void handleGroupBuyThumbnailDelete(GroupBuyThumbnailDeleteEvent event) {
+    @Override
+    public Class<GroupBuyThumbnailDeleteEvent> eventType() {
+        return GroupBuyThumbnailDeleteEvent.class;
+    }
+
+    @Override
+    public void handle(GroupBuyThumbnailDeleteEvent event) {
         log.info("Starting async thumbnail deletion for groupBuy: {}, {} images",
                 event.groupBuyId(), event.imageUrls().size());
 
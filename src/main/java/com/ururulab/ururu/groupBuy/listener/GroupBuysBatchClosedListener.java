@@ -0,0 +1,36 @@
+package com.ururulab.ururu.groupBuy.listener;
+
+import com.ururulab.ururu.global.outbox.OutboxEventHandler;
+import com.ururulab.ururu.groupBuy.event.GroupBuysBatchClosedEvent;
+import com.ururulab.ururu.groupBuy.service.GroupBuyAdmissionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배치 종료된 공동구매 후처리 (아웃박스 릴레이에서 호출)
+ * 입장 대기열을 닫아 종료된 공동구매의 주문 요청을 DB 조회 없이 거절
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuysBatchClosedListener implements OutboxEventHandler<GroupBuysBatchClosedEvent> {
+
+    private final GroupBuyAdmissionService groupBuyAdmissionService;
+
+    @Override
+    public Class<GroupBuysBatchClosedEvent> eventType() {
+        return GroupBuysBatchClosedEvent.class;
+    }
+
+    @Override
+    public void handle(GroupBuysBatchClosedEvent event) {
+        if (event.groupBuyIds().isEmpty()) {
+            return;
+        }
+
+        // 대기열 종료는 멱등 - 실패 시 예외를 그대로 던져 릴레이가 재시도
+        groupBuyAdmissionService.markClosed(event.groupBuyIds());
+        log.info("배치 종료 공동구매 입장 대기열 종료 - {}개", event.groupBuyIds().size());
+    }
+}
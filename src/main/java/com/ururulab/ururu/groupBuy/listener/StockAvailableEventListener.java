@@ -0,0 +1,37 @@
+package com.ururulab.ururu.groupBuy.listener;
+
+import com.ururulab.ururu.groupBuy.event.StockAvailableEvent;
+import com.ururulab.ururu.groupBuy.service.GroupBuyMainService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 만료 예약에서 재고가 회수되면 메인 화면 목록 캐시 무효화
+ * 무효화에 실패해도 캐시 TTL이 지나면 회수된 재고가 반영됨
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockAvailableEventListener {
+
+    private final GroupBuyMainService groupBuyMainService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleStockAvailable(StockAvailableEvent event) {
+        if (!event.hasOptions()) {
+            return;
+        }
+
+        try {
+            groupBuyMainService.evictMainPageCaches();
+            log.debug("Evicted main page caches after stock reclaim - options: {}, quantity: {}",
+                    event.groupBuyOptionIds(), event.reclaimedQuantity());
+        } catch (Exception e) {
+            log.warn("Failed to evict main page caches after stock reclaim - options: {}",
+                    event.groupBuyOptionIds(), e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.ururulab.ururu.groupBuy.scheduler;
+
+import com.ururulab.ururu.groupBuy.service.GroupBuyAdmissionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuyAdmissionScheduler {
+
+    private final GroupBuyAdmissionService groupBuyAdmissionService;
+
+    /**
+     * 대기열이 형성된 공동구매의 대기자를 초당 입장 인원만큼 입장 처리
+     */
+    @Scheduled(fixedDelayString = "${admission.interval-ms:1000}")
+    public void admitWaitingMembers() {
+        try {
+            long admitted = groupBuyAdmissionService.admitWaiting();
+            if (admitted > 0) {
+                log.debug("Admitted waiting members: {}", admitted);
+            }
+
+        } catch (Exception e) {
+            log.warn("Failed to admit waiting members", e);
+        }
+    }
+}
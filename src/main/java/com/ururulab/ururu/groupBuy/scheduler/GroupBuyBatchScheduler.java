@@ -21,8 +21,8 @@ public class GroupBuyBatchScheduler {
         log.info("Starting daily batch process for expired group buys...");
 
         try {
-            batchCloseService.closeExpiredGroupBuys();
-            log.info("Daily batch process completed successfully");
+            int closed = batchCloseService.closeExpiredGroupBuys();
+            log.info("Daily batch process completed successfully - closed: {}", closed);
 
         } catch (Exception e) {
             log.error("Failed to execute daily batch process for group buy closure", e);
@@ -33,6 +33,7 @@ public class GroupBuyBatchScheduler {
     /**
      * 시간별 헬스체크용
      * 매 시간마다 급하게 처리해야 할 만료된 공동구매가 있는지 확인
+     * 종료 시각 종료는 GroupBuyExpiryScheduler 가 처리하며, 여기서는 대기열에서 누락된 공동구매를 보정
      */
     @Scheduled(cron = "0 0 * * * *", zone = "Asia/Seoul") // 매시간 정각
     public void hourlyHealthCheck() {
@@ -48,4 +49,19 @@ public class GroupBuyBatchScheduler {
             // 헬스체크 실패는 심각하지 않으므로 경고 로그만
         }
     }
+
+    /**
+     * 중단된 배치 이어서 처리
+     * 배치 도중 서버가 재시작되면 남은 진행 위치부터 이어서 종료 (락 만료 후)
+     */
+    @Scheduled(initialDelayString = "${groupbuy.batch-close.resume-initial-delay-ms:60000}",
+            fixedDelayString = "${groupbuy.batch-close.resume-interval-ms:300000}")
+    public void resumeInterruptedBatch() {
+        try {
+            batchCloseService.resumeInterruptedClose();
+
+        } catch (Exception e) {
+            log.warn("Failed to resume interrupted batch closure", e);
+        }
+    }
 }
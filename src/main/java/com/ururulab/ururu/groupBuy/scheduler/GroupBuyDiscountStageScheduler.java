@@ -0,0 +1,39 @@
+package com.ururulab.ururu.groupBuy.scheduler;
+
+import com.ururulab.ururu.groupBuy.service.GroupBuyDiscountStageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuyDiscountStageScheduler {
+
+    private final GroupBuyDiscountStageService discountStageService;
+
+    /**
+     * 할인 단계 반영 점검 (기동 직후 + 주기적으로)
+     * 커밋 이후 반영에 실패했거나 재고 분할로 판매량이 늦게 보정된 공동구매, 기존 표시 가격을 현재 할인율에 맞춤
+     */
+    @Scheduled(fixedDelayString = "${groupbuy.discount-stage.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        try {
+            List<Long> groupBuyIds = discountStageService.findOutdatedGroupBuyIds();
+            int changed = 0;
+            for (Long groupBuyId : groupBuyIds) {
+                if (discountStageService.syncDiscountStage(groupBuyId)) {
+                    changed++;
+                }
+            }
+            if (changed > 0) {
+                log.info("Reconciled discount stages for {} group buys", changed);
+            }
+        } catch (Exception e) {
+            log.warn("Discount stage reconcile encountered an issue", e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.ururulab.ururu.groupBuy.scheduler;
+
+import com.ururulab.ururu.groupBuy.service.GroupBuyExpiryQueueService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuyExpiryScheduler {
+
+    private final GroupBuyExpiryQueueService expiryQueueService;
+
+    @Value("${groupbuy.expiry.batch-size:100}")
+    private int batchSize;
+
+    @Value("${groupbuy.expiry.max-batches:20}")
+    private int maxBatches;
+
+    /**
+     * 종료 시각이 된 공동구매 종료
+     * 종료 시각이 된 공동구매가 남아 있는 동안 배치 단위로 반복 (실행당 최대 maxBatches회)
+     */
+    @Scheduled(fixedDelayString = "${groupbuy.expiry.poll-interval-ms:1000}")
+    public void closeDueGroupBuys() {
+        try {
+            int batches = 0;
+            int closed;
+            do {
+                closed = expiryQueueService.closeDue();
+                batches++;
+            } while (closed >= batchSize && batches < maxBatches);
+
+        } catch (Exception e) {
+            log.warn("Failed to close group buys at their end time", e);
+            // 다음 주기에 다시 시도, 매시간 배치 종료가 안전망
+        }
+    }
+
+    /**
+     * 종료 시각 대기열 복구 (기동 직후 + 주기적으로 DB 종료 시각과 맞춤)
+     */
+    @Scheduled(fixedDelayString = "${groupbuy.expiry.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        try {
+            expiryQueueService.rebuild();
+        } catch (Exception e) {
+            log.warn("Expiry queue rebuild encountered an issue", e);
+        }
+    }
+}
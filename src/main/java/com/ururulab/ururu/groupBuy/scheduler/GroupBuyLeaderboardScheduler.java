@@ -0,0 +1,27 @@
+package com.ururulab.ururu.groupBuy.scheduler;
+
+import com.ururulab.ururu.groupBuy.service.GroupBuyLeaderboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuyLeaderboardScheduler {
+
+    private final GroupBuyLeaderboardService leaderboardService;
+
+    /**
+     * 판매량 순위 재구성 (기동 직후 + 주기적으로 DB 판매량과 맞춤)
+     */
+    @Scheduled(fixedDelayString = "${groupbuy.leaderboard.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        try {
+            leaderboardService.rebuild();
+        } catch (Exception e) {
+            log.warn("Leaderboard rebuild encountered an issue", e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.ururulab.ururu.groupBuy.scheduler;
+
+import com.ururulab.ururu.groupBuy.service.GroupBuyLiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuyLiveScheduler {
+
+    private final GroupBuyLiveService liveService;
+
+    /**
+     * 모아 둔 실시간 현황 변화 전송 (공동구매당 주기마다 최대 한 번)
+     */
+    @Scheduled(fixedDelayString = "${groupbuy.live.flush-interval-ms:1000}")
+    public void flush() {
+        try {
+            liveService.flush();
+        } catch (Exception e) {
+            log.warn("Live update flush encountered an issue", e);
+        }
+    }
+
+    /**
+     * 구독 중인 공동구매 현황을 DB와 맞춤 (유실된 메시지 보정)
+     */
+    @Scheduled(fixedDelayString = "${groupbuy.live.resync-interval-ms:60000}",
+            initialDelayString = "${groupbuy.live.resync-interval-ms:60000}")
+    public void resync() {
+        try {
+            liveService.resync();
+        } catch (Exception e) {
+            log.warn("Live stream resync encountered an issue", e);
+        }
+    }
+}
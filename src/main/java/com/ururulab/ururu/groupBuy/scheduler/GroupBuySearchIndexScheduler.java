@@ -0,0 +1,54 @@
+package com.ururulab.ururu.groupBuy.scheduler;
+
+import com.ururulab.ururu.groupBuy.service.GroupBuySearchIndexService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuySearchIndexScheduler {
+
+    private final GroupBuySearchIndexService searchIndexService;
+
+    /**
+     * 다른 인스턴스에서 변경된 공동구매를 검색 색인에 반영
+     */
+    @Scheduled(fixedDelayString = "${groupbuy.search-index.sync-interval-ms:5000}")
+    public void syncChanges() {
+        try {
+            int checked = searchIndexService.syncChanges();
+            if (checked > 0) {
+                log.debug("Search index synced - checked group buys: {}", checked);
+            }
+        } catch (Exception e) {
+            log.warn("Search index sync encountered an issue", e);
+        }
+    }
+
+    /**
+     * 자동완성 판매량 순위와 인기 검색어 갱신
+     */
+    @Scheduled(fixedDelayString = "${groupbuy.suggest.score-refresh-interval-ms:60000}")
+    public void refreshSuggestScores() {
+        try {
+            searchIndexService.refreshSuggestScores();
+        } catch (Exception e) {
+            log.warn("Suggest score refresh encountered an issue", e);
+        }
+    }
+
+    /**
+     * 판매자명/전성분 변경 등 공동구매 변경 시각에 잡히지 않는 변경 보정용 전체 재색인
+     */
+    @Scheduled(cron = "${groupbuy.search-index.rebuild-cron:0 15 * * * *}", zone = "Asia/Seoul")
+    public void rebuild() {
+        try {
+            searchIndexService.rebuild();
+        } catch (Exception e) {
+            log.warn("Search index rebuild encountered an issue", e);
+        }
+    }
+}
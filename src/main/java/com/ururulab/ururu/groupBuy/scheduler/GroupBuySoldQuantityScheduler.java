@@ -0,0 +1,37 @@
+package com.ururulab.ururu.groupBuy.scheduler;
+
+import com.ururulab.ururu.groupBuy.service.GroupBuyStockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuySoldQuantityScheduler {
+
+    private final GroupBuyStockService groupBuyStockService;
+
+    /**
+     * 누적 판매량 반영 (목록 판매량순 정렬/순위 재구성 기준 컬럼)
+     * 실시간 판매량은 GroupBuySoldQuantityChangedEvent로 전파되므로 컬럼은 이 주기만큼 늦게 반영
+     * 쌓인 증감 기록이 한 배치를 넘으면 남은 기록이 없을 때까지 이어서 반영
+     */
+    @Scheduled(fixedDelayString = "${groupbuy.sold-quantity.sync-interval-ms:5000}")
+    public void syncSoldQuantities() {
+        try {
+            int applied;
+            int total = 0;
+            do {
+                applied = groupBuyStockService.applySoldQuantityDeltas();
+                total += applied;
+            } while (applied == GroupBuyStockService.SOLD_QUANTITY_DELTA_BATCH_SIZE);
+            if (total > 0) {
+                log.debug("Applied {} sold quantity deltas", total);
+            }
+        } catch (Exception e) {
+            log.warn("Sold quantity sync encountered an issue", e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.ururulab.ururu.groupBuy.scheduler;
+
+import com.ururulab.ururu.groupBuy.service.GroupBuyStockService;
+import com.ururulab.ururu.groupBuy.service.GroupBuyStockShardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuyStockShardScheduler {
+
+    private final GroupBuyStockService groupBuyStockService;
+    private final GroupBuyStockShardService stockShardService;
+
+    /**
+     * 결제 중 비어 있는 버킷을 만난 옵션의 재고 재분배
+     */
+    @Scheduled(fixedDelayString = "${groupbuy.stock-shard.rebalance-interval-ms:1000}")
+    public void rebalanceDrainedShards() {
+        Set<Long> optionIds = groupBuyStockService.drainRebalanceCandidates();
+
+        for (Long optionId : optionIds) {
+            try {
+                stockShardService.rebalance(optionId);
+            } catch (Exception e) {
+                log.warn("Failed to rebalance stock shards - optionId: {}", optionId, e);
+                // 다음 보정 주기에 빈 버킷 조회로 다시 처리됨
+            }
+        }
+    }
+
+    /**
+     * 옵션 재고 스냅샷 동기화 + 재분배 누락 보정 + 종료된 공동구매의 분할 해제
+     * 다른 인스턴스에서 발생한 재분배 요청도 빈 버킷 조회로 함께 처리
+     */
+    @Scheduled(fixedDelayString = "${groupbuy.stock-shard.sync-interval-ms:30000}")
+    public void syncShardedStocks() {
+        try {
+            stockShardService.findRebalanceTargets().forEach(stockShardService::rebalance);
+
+            int synced = stockShardService.syncStockSnapshots();
+            int released = stockShardService.releaseClosedGroupBuys();
+
+            if (synced > 0 || released > 0) {
+                log.debug("Sharded stock sync completed - synced options: {}, released group buys: {}", synced, released);
+            }
+
+        } catch (Exception e) {
+            log.warn("Sharded stock sync encountered an issue", e);
+        }
+    }
+}
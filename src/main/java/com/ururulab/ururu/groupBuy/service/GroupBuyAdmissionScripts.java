@@ -0,0 +1,198 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * 공동구매 입장 대기열 조작용 Lua 스크립트 모음
+ *
+ * 키 구조 (groupBuyId 기준)
+ * - admission:queue:{groupBuyId}  ZSET   memberId → 대기 번호
+ * - admission:seq:{groupBuyId}    STRING 대기 번호 발급 카운터
+ * - admission:pass:{groupBuyId}   ZSET   memberId → 입장권 만료 시각(epoch millis), 주문서 생성이 커밋된 뒤 소진
+ * - admission:window:{groupBuyId} STRING 현재 1초 구간의 입장 수 (입장 속도 제한)
+ * - admission:closed:{groupBuyId} STRING 종료/품절 표시 (주문 요청 즉시 거절)
+ * - admission:active              SET    대기열이 형성된 groupBuyId 목록 (스케줄러 처리 대상)
+ *
+ * 결과 코드: -1 종료/품절, 0 입장 가능, 1 이상 대기 순번
+ */
+final class GroupBuyAdmissionScripts {
+
+    private GroupBuyAdmissionScripts() {
+    }
+
+    /**
+     * 입장 시도 로직 (ENTER)
+     * 입장권이 있으면 통과, 대기열이 비어 있고 이번 구간 입장 수에 여유가 있으면 바로 입장권 발급
+     */
+    private static final String TRY_ADMIT_FUNCTION = """
+            local function tryAdmit(queue, pass, window, memberId, now, passTtl, rate)
+                local passUntil = tonumber(redis.call('ZSCORE', pass, memberId) or '0')
+                if passUntil > now then
+                    return passUntil
+                end
+                if redis.call('ZCARD', queue) == 0 and tonumber(redis.call('GET', window) or '0') < rate then
+                    if redis.call('INCR', window) == 1 then
+                        redis.call('PEXPIRE', window, 1000)
+                    end
+                    local expireAt = now + passTtl
+                    redis.call('ZADD', pass, expireAt, memberId)
+                    redis.call('PEXPIRE', pass, passTtl)
+                    return expireAt
+                end
+                return 0
+            end
+            """;
+
+    /**
+     * 대기열 입장 (바로 입장 가능하면 입장권 발급, 아니면 대기 번호 발급)
+     * KEYS: [queue, seq, pass, window, closed, active]
+     * ARGV: [memberId, nowMillis, passTtlMillis, ratePerSecond, groupBuyId]
+     * 반환: [결과 코드, 입장권 만료 시각]
+     */
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> ENTER = new DefaultRedisScript<>(TRY_ADMIT_FUNCTION + """
+            if redis.call('EXISTS', KEYS[5]) == 1 then
+                return {-1, 0}
+            end
+            local rank = redis.call('ZRANK', KEYS[1], ARGV[1])
+            if rank then
+                return {rank + 1, 0}
+            end
+            local passUntil = tryAdmit(KEYS[1], KEYS[3], KEYS[4], ARGV[1], tonumber(ARGV[2]), tonumber(ARGV[3]), tonumber(ARGV[4]))
+            if passUntil > 0 then
+                return {0, passUntil}
+            end
+            local ticket = redis.call('INCR', KEYS[2])
+            redis.call('ZADD', KEYS[1], ticket, ARGV[1])
+            redis.call('SADD', KEYS[6], ARGV[5])
+            return {redis.call('ZRANK', KEYS[1], ARGV[1]) + 1, 0}
+            """, List.class);
+
+    /**
+     * 대기 상태 조회 (읽기 전용)
+     * KEYS: [queue, pass, closed]
+     * ARGV: [memberId, nowMillis]
+     * 반환: [결과 코드 (대기열에 없으면 -2), 입장권 만료 시각]
+     */
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> STATUS = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[3]) == 1 then
+                return {-1, 0}
+            end
+            local passUntil = tonumber(redis.call('ZSCORE', KEYS[2], ARGV[1]) or '0')
+            if passUntil > tonumber(ARGV[2]) then
+                return {0, passUntil}
+            end
+            local rank = redis.call('ZRANK', KEYS[1], ARGV[1])
+            if rank then
+                return {rank + 1, 0}
+            end
+            return {-2, 0}
+            """, List.class);
+
+    /**
+     * 주문 생성 전 입장 확인 (장바구니 주문은 여러 공동구매를 한 번에 확인)
+     * 입장권은 확인만 하고 소진하지 않습니다. 주문서 생성이 실패하면 같은 입장권으로 다시 시도할 수 있도록
+     * 소진은 주문서가 커밋된 뒤 CONSUME으로 처리합니다.
+     * 입장권이 없어도 대기열이 없고 속도 여유가 있으면 입장권 발급 없이 통과시키고(구간 입장 수 증가),
+     * 하나라도 막히면 구간 입장 수를 늘리지 않은 채 막힌 공동구매의 대기열을 활성화합니다.
+     * KEYS: 공동구매마다 [queue, pass, window, closed] 4개씩, 마지막에 [active]
+     * ARGV: [memberId, nowMillis, ratePerSecond, groupBuyId...]
+     * 반환: -1 종료/품절, 0 통과, 1 대기열 입장 필요
+     */
+    static final RedisScript<Long> VERIFY = new DefaultRedisScript<>("""
+            local n = #ARGV - 3
+            local memberId = ARGV[1]
+            local now = tonumber(ARGV[2])
+            local rate = tonumber(ARGV[3])
+            for i = 0, n - 1 do
+                if redis.call('EXISTS', KEYS[i * 4 + 4]) == 1 then
+                    return -1
+                end
+            end
+            local hasPass = {}
+            local blocked = false
+            for i = 0, n - 1 do
+                local passUntil = tonumber(redis.call('ZSCORE', KEYS[i * 4 + 2], memberId) or '0')
+                if passUntil > now then
+                    hasPass[i] = true
+                elseif redis.call('ZCARD', KEYS[i * 4 + 1]) > 0
+                        or tonumber(redis.call('GET', KEYS[i * 4 + 3]) or '0') >= rate then
+                    redis.call('SADD', KEYS[n * 4 + 1], ARGV[i + 4])
+                    blocked = true
+                end
+            end
+            if blocked then
+                return 1
+            end
+            for i = 0, n - 1 do
+                if not hasPass[i] and redis.call('INCR', KEYS[i * 4 + 3]) == 1 then
+                    redis.call('PEXPIRE', KEYS[i * 4 + 3], 1000)
+                end
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 주문서 생성 커밋 후 입장권 소진 (장바구니 주문은 여러 공동구매를 한 번에 소진)
+     * KEYS: 공동구매마다 [pass]
+     * ARGV: [memberId]
+     * 반환: 소진된 입장권 수
+     */
+    static final RedisScript<Long> CONSUME = new DefaultRedisScript<>("""
+            local consumed = 0
+            for i = 1, #KEYS do
+                consumed = consumed + redis.call('ZREM', KEYS[i], ARGV[1])
+            end
+            return consumed
+            """, Long.class);
+
+    /**
+     * 대기열 앞에서부터 이번 구간 여유만큼 입장권 발급 (스케줄러용)
+     * 여러 인스턴스가 동시에 실행해도 구간 카운터를 공유하므로 전체 입장 속도는 rate를 넘지 않습니다.
+     * KEYS: [queue, pass, window, active]
+     * ARGV: [nowMillis, passTtlMillis, ratePerSecond, groupBuyId]
+     * 반환: 입장 처리된 인원
+     */
+    static final RedisScript<Long> ADMIT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now)
+            local available = tonumber(ARGV[3]) - tonumber(redis.call('GET', KEYS[3]) or '0')
+            if available <= 0 then
+                return 0
+            end
+            local members = redis.call('ZRANGE', KEYS[1], 0, available - 1)
+            if #members == 0 then
+                redis.call('SREM', KEYS[4], ARGV[4])
+                return 0
+            end
+            local expireAt = now + tonumber(ARGV[2])
+            for _, member in ipairs(members) do
+                redis.call('ZADD', KEYS[2], expireAt, member)
+                redis.call('ZREM', KEYS[1], member)
+            end
+            redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            if redis.call('INCRBY', KEYS[3], #members) == #members then
+                redis.call('PEXPIRE', KEYS[3], 1000)
+            end
+            if redis.call('ZCARD', KEYS[1]) == 0 then
+                redis.call('SREM', KEYS[4], ARGV[4])
+            end
+            return #members
+            """, Long.class);
+
+    /**
+     * 종료/품절 표시와 대기열 정리를 한 번에 처리
+     * KEYS: [closed, queue, seq, pass, active]
+     * ARGV: [closedMarkTtlMillis, groupBuyId]
+     */
+    static final RedisScript<Long> MARK_CLOSED = new DefaultRedisScript<>("""
+            redis.call('SET', KEYS[1], 'closed', 'PX', ARGV[1])
+            redis.call('DEL', KEYS[2], KEYS[3], KEYS[4])
+            redis.call('SREM', KEYS[5], ARGV[2])
+            return 1
+            """, Long.class);
+}
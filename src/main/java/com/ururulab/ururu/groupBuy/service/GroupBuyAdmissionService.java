@@ -0,0 +1,243 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.ururulab.ururu.global.exception.BusinessException;
+import com.ururulab.ururu.global.exception.error.ErrorCode;
+import com.ururulab.ururu.groupBuy.dto.response.GroupBuyAdmissionResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 공동구매 입장 대기열 (가상 대기실)
+ * 인기 공동구매 오픈 시 주문서 생성 요청을 초당 일정 인원으로 제한하여 DB를 보호합니다.
+ * 평소에는 대기열 없이 바로 통과하고, 입장 속도를 넘는 순간부터 대기열이 형성됩니다.
+ * 종료/품절된 공동구매는 DB 조회 없이 즉시 거절합니다.
+ */
+@Slf4j
+@Service
+public class GroupBuyAdmissionService {
+
+    private static final String QUEUE_KEY_PREFIX = "admission:queue:";
+    private static final String SEQ_KEY_PREFIX = "admission:seq:";
+    private static final String PASS_KEY_PREFIX = "admission:pass:";
+    private static final String WINDOW_KEY_PREFIX = "admission:window:";
+    private static final String CLOSED_KEY_PREFIX = "admission:closed:";
+    private static final String ACTIVE_KEY = "admission:active";
+    private static final Duration CLOSED_MARK_TTL = Duration.ofDays(7);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int ratePerSecond;
+    private final Duration passTtl;
+
+    public GroupBuyAdmissionService(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${admission.rate-per-second:200}") int ratePerSecond,
+            @Value("${admission.pass-ttl-seconds:300}") long passTtlSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ratePerSecond = ratePerSecond;
+        this.passTtl = Duration.ofSeconds(passTtlSeconds);
+    }
+
+    /**
+     * 대기열 입장
+     * 이미 대기 중이면 현재 순번을, 입장권이 있으면 입장권 정보를 반환합니다.
+     *
+     * @param groupBuyId 공동구매 ID
+     * @param memberId 회원 ID
+     * @return 입장 상태
+     */
+    public GroupBuyAdmissionResponse enter(Long groupBuyId, Long memberId) {
+        List<?> result = redisTemplate.execute(
+                GroupBuyAdmissionScripts.ENTER,
+                List.of(queueKey(groupBuyId), SEQ_KEY_PREFIX + groupBuyId, passKey(groupBuyId),
+                        windowKey(groupBuyId), closedKey(groupBuyId), ACTIVE_KEY),
+                memberId.toString(),
+                String.valueOf(Instant.now().toEpochMilli()),
+                String.valueOf(passTtl.toMillis()),
+                String.valueOf(ratePerSecond),
+                groupBuyId.toString()
+        );
+
+        GroupBuyAdmissionResponse response = toResponse(result);
+        log.debug("대기열 입장 - 공동구매ID: {}, 회원ID: {}, 상태: {}", groupBuyId, memberId, response.status());
+        return response;
+    }
+
+    /**
+     * 대기 상태 조회 (폴링용, 읽기 전용)
+     *
+     * @param groupBuyId 공동구매 ID
+     * @param memberId 회원 ID
+     * @return 입장 상태
+     */
+    public GroupBuyAdmissionResponse getStatus(Long groupBuyId, Long memberId) {
+        List<?> result = redisTemplate.execute(
+                GroupBuyAdmissionScripts.STATUS,
+                List.of(queueKey(groupBuyId), passKey(groupBuyId), closedKey(groupBuyId)),
+                memberId.toString(),
+                String.valueOf(Instant.now().toEpochMilli())
+        );
+        return toResponse(result);
+    }
+
+    /**
+     * 주문서 생성 전 입장 확인
+     * 입장권이 있거나 대기열 없이 통과 가능한 경우에만 통과합니다.
+     * 입장권은 확인만 하며, 주문서 생성이 커밋된 뒤 consumeAdmission으로 소진합니다.
+     *
+     * @param groupBuyId 공동구매 ID
+     * @param memberId 회원 ID
+     * @throws BusinessException 종료/품절된 공동구매이거나 대기열 입장이 필요한 경우
+     */
+    public void verifyAdmission(Long groupBuyId, Long memberId) {
+        verifyAdmission(List.of(groupBuyId), memberId);
+    }
+
+    /**
+     * 여러 공동구매에 대한 입장 확인 (장바구니 주문용)
+     * 모든 공동구매가 통과 가능할 때만 통과합니다.
+     */
+    public void verifyAdmission(Collection<Long> groupBuyIds, Long memberId) {
+        if (groupBuyIds.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(groupBuyIds.size() * 4 + 1);
+        List<String> args = new ArrayList<>(groupBuyIds.size() + 3);
+        args.add(memberId.toString());
+        args.add(String.valueOf(Instant.now().toEpochMilli()));
+        args.add(String.valueOf(ratePerSecond));
+        for (Long groupBuyId : groupBuyIds) {
+            keys.add(queueKey(groupBuyId));
+            keys.add(passKey(groupBuyId));
+            keys.add(windowKey(groupBuyId));
+            keys.add(closedKey(groupBuyId));
+            args.add(groupBuyId.toString());
+        }
+        keys.add(ACTIVE_KEY);
+
+        Long result = redisTemplate.execute(GroupBuyAdmissionScripts.VERIFY, keys, args.toArray());
+
+        if (result == null || result == 0L) {
+            return;
+        }
+        if (result < 0) {
+            throw new BusinessException(ErrorCode.GROUPBUY_ENDED);
+        }
+        throw new BusinessException(ErrorCode.GROUPBUY_ADMISSION_REQUIRED);
+    }
+
+    /**
+     * 주문서 생성이 커밋된 뒤 입장권 소진
+     * 같은 입장권으로 주문서를 다시 만들 수 없도록 하며, 실패해도 입장권은 TTL이 지나면 만료되므로 주문 결과에 영향을 주지 않습니다.
+     *
+     * @param groupBuyIds 주문한 공동구매 ID 목록
+     * @param memberId 회원 ID
+     */
+    public void consumeAdmission(Collection<Long> groupBuyIds, Long memberId) {
+        if (groupBuyIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.execute(GroupBuyAdmissionScripts.CONSUME,
+                    groupBuyIds.stream().map(this::passKey).toList(), memberId.toString());
+        } catch (Exception e) {
+            log.warn("입장권 소진 실패 - 공동구매ID: {}, 회원ID: {}", groupBuyIds, memberId, e);
+        }
+    }
+
+    /**
+     * 대기열이 형성된 공동구매의 대기자 입장 처리 (스케줄러용)
+     *
+     * @return 입장 처리된 전체 인원
+     */
+    public long admitWaiting() {
+        Set<String> activeGroupBuyIds = redisTemplate.opsForSet().members(ACTIVE_KEY);
+        if (activeGroupBuyIds == null || activeGroupBuyIds.isEmpty()) {
+            return 0;
+        }
+
+        String now = String.valueOf(Instant.now().toEpochMilli());
+        long admitted = 0;
+        for (String groupBuyId : activeGroupBuyIds) {
+            Long count = redisTemplate.execute(
+                    GroupBuyAdmissionScripts.ADMIT,
+                    List.of(QUEUE_KEY_PREFIX + groupBuyId, PASS_KEY_PREFIX + groupBuyId,
+                            WINDOW_KEY_PREFIX + groupBuyId, ACTIVE_KEY),
+                    now,
+                    String.valueOf(passTtl.toMillis()),
+                    String.valueOf(ratePerSecond),
+                    groupBuyId
+            );
+            admitted += count != null ? count : 0;
+        }
+        return admitted;
+    }
+
+    /**
+     * 종료/품절 표시
+     * 이후 입장/주문 요청은 DB 조회 없이 거절되며, 대기열은 정리됩니다.
+     *
+     * @param groupBuyIds 종료된 공동구매 ID 목록
+     */
+    public void markClosed(Collection<Long> groupBuyIds) {
+        String closedMarkTtl = String.valueOf(CLOSED_MARK_TTL.toMillis());
+        for (Long groupBuyId : groupBuyIds) {
+            redisTemplate.execute(
+                    GroupBuyAdmissionScripts.MARK_CLOSED,
+                    List.of(closedKey(groupBuyId), queueKey(groupBuyId), SEQ_KEY_PREFIX + groupBuyId,
+                            passKey(groupBuyId), ACTIVE_KEY),
+                    closedMarkTtl,
+                    groupBuyId.toString()
+            );
+        }
+        log.info("대기열 종료 표시 - 공동구매ID: {}", groupBuyIds);
+    }
+
+    private GroupBuyAdmissionResponse toResponse(List<?> result) {
+        long code = result != null && !result.isEmpty() ? toLong(result.get(0)) : -2;
+
+        if (code == -1) {
+            return GroupBuyAdmissionResponse.closed();
+        }
+        if (code == 0) {
+            long admittedUntil = toLong(result.get(1));
+            return GroupBuyAdmissionResponse.admitted(Instant.ofEpochMilli(admittedUntil));
+        }
+        if (code > 0) {
+            long estimatedWaitSeconds = (code + ratePerSecond - 1) / ratePerSecond;
+            return GroupBuyAdmissionResponse.waiting(code, estimatedWaitSeconds);
+        }
+        return GroupBuyAdmissionResponse.notInQueue();
+    }
+
+    private long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(value.toString());
+    }
+
+    private String queueKey(Long groupBuyId) {
+        return QUEUE_KEY_PREFIX + groupBuyId;
+    }
+
+    private String passKey(Long groupBuyId) {
+        return PASS_KEY_PREFIX + groupBuyId;
+    }
+
+    private String windowKey(Long groupBuyId) {
+        return WINDOW_KEY_PREFIX + groupBuyId;
+    }
+
+    private String closedKey(Long groupBuyId) {
+        return CLOSED_KEY_PREFIX + groupBuyId;
+    }
+}
@@ -1,5 +1,6 @@
 package com.ururulab.ururu.groupBuy.service;
 
+import com.ururulab.ururu.global.outbox.OutboxEventService;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyStatistics;
 import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
@@ -8,71 +9,262 @@ import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyStatisticsRepositor
 import com.ururulab.ururu.groupBuy.event.GroupBuysBatchClosedEvent;
 import com.ururulab.ururu.product.domain.entity.Product;
 import com.ururulab.ururu.product.domain.entity.enumerated.Status;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
+/**
+ * 만료된 공동구매 배치 종료
+ * 만료 공동구매를 ID 키셋 페이징으로 청크 단위로 나눠 청크마다 별도 트랜잭션으로 종료합니다.
+ * 청크가 커밋될 때마다 진행 위치(기준 시각, 마지막 ID)를 Redis에 기록해 중단되면 그 위치부터 이어서 처리하고,
+ * 실패한 청크는 OPEN 상태로 남아 다음 실행에서 다시 처리됩니다.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class GroupBuyBatchCloseService {
 
+    private static final String LOCK_KEY = "groupbuy:batch-close:lock";
+    private static final String CHECKPOINT_KEY = "groupbuy:batch-close:checkpoint"; // HASH cutoff, lastId
+    private static final String CUTOFF_FIELD = "cutoff";
+    private static final String LAST_ID_FIELD = "lastId";
+    private static final Duration CHECKPOINT_TTL = Duration.ofDays(1);
+
+    private static final RedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> EXTEND_LOCK = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
     private final GroupBuyRepository groupBuyRepository;
     private final GroupBuyStatisticsRepository groupBuyStatisticsRepository;
     private final GroupBuyStatisticsCalculatorService statisticsCalculatorService;
     private final GroupBuyPriceService groupBuyPriceService;
-    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxEventService outboxEventService;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate redisTemplate;
+
+    private final int chunkSize;
+    private final Duration lockTtl;
+
+    private final Timer chunkSuccessTimer;
+    private final Timer chunkFailureTimer;
+    private final Counter closedCounter;
+
+    public GroupBuyBatchCloseService(
+            GroupBuyRepository groupBuyRepository,
+            GroupBuyStatisticsRepository groupBuyStatisticsRepository,
+            GroupBuyStatisticsCalculatorService statisticsCalculatorService,
+            GroupBuyPriceService groupBuyPriceService,
+            OutboxEventService outboxEventService,
+            TransactionTemplate transactionTemplate,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${groupbuy.batch-close.chunk-size:200}") int chunkSize,
+            @Value("${groupbuy.batch-close.lock-ttl-ms:300000}") long lockTtlMs
+    ) {
+        this.groupBuyRepository = groupBuyRepository;
+        this.groupBuyStatisticsRepository = groupBuyStatisticsRepository;
+        this.statisticsCalculatorService = statisticsCalculatorService;
+        this.groupBuyPriceService = groupBuyPriceService;
+        this.outboxEventService = outboxEventService;
+        this.transactionTemplate = transactionTemplate;
+        this.redisTemplate = redisTemplate;
+        this.chunkSize = chunkSize;
+        this.lockTtl = Duration.ofMillis(lockTtlMs);
+
+        this.chunkSuccessTimer = Timer.builder("ururu_groupbuy_batch_close_chunk")
+                .description("Duration of one group buy close chunk transaction")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+
+        this.chunkFailureTimer = Timer.builder("ururu_groupbuy_batch_close_chunk")
+                .description("Duration of one group buy close chunk transaction")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+
+        this.closedCounter = Counter.builder("ururu_groupbuy_batch_closed")
+                .description("Group buys closed after their end time (batch and expiry queue)")
+                .register(meterRegistry);
+    }
 
     /**
-     * 만료된 공동구매들을 배치로 종료 처리
-     * 매일 자정에 실행되는 스케줄러에서 호출
+     * 만료된 공동구매들을 청크 단위로 종료 처리
+     * 매일 자정 / 매시간 스케줄러에서 호출하며, 진행 위치가 남아 있으면 그 위치부터 이어서 처리
+     * 다른 실행이 진행 중이면 바로 반환
+     *
+     * @return 종료한 공동구매 수
      */
-    public void closeExpiredGroupBuys() {
-        log.info("Starting batch closure process for expired group buys...");
+    public int closeExpiredGroupBuys() {
+        String ownerToken = tryAcquireLock();
+        if (ownerToken == null) {
+            log.info("Batch closure already running on another node, skipping");
+            return 0;
+        }
 
-        Instant currentTime = Instant.now();
+        try {
+            return closeInChunks(ownerToken);
+        } finally {
+            releaseLock(ownerToken);
+        }
+    }
 
-        // 만료된 공동구매들 조회 (필요한 연관 엔티티 한번에 페치)
-        List<GroupBuy> expiredGroupBuys = groupBuyRepository.findExpiredGroupBuys(currentTime);
+    /**
+     * 종료 시각이 된 공동구매들을 바로 종료 (만료 대기열에서 호출, 청크 하나로 처리)
+     * 배치와 같은 락을 사용해 같은 공동구매를 동시에 종료하지 않으며, 실패하면 매시간 배치가 다시 처리
+     *
+     * @param groupBuyIds 종료 시각이 된 공동구매 ID (이미 종료되었거나 종료 시각이 늦춰진 공동구매는 건너뜀)
+     * @return 종료 결과 (락 점유 여부, 종료한 ID, 실패한 ID)
+     */
+    public DueCloseResult closeDueGroupBuys(List<Long> groupBuyIds) {
+        String ownerToken = tryAcquireLock();
+        if (ownerToken == null) {
+            return DueCloseResult.lockUnavailable();
+        }
 
-        if (expiredGroupBuys.isEmpty()) {
-            log.info("No expired group buys found at {}", currentTime);
-            return;
+        try {
+            List<Long> closedIds = closeChunkInTransaction(Instant.now(), groupBuyIds);
+            closedCounter.increment(closedIds.size());
+            return DueCloseResult.closed(closedIds);
+        } catch (Exception e) {
+            log.error("Failed to close due group buys: {}", groupBuyIds, e);
+            // 청크 전체가 롤백되어 OPEN으로 남음
+            return DueCloseResult.failed(groupBuyIds);
+        } finally {
+            releaseLock(ownerToken);
         }
+    }
 
-        log.info("Found {} expired group buys to close", expiredGroupBuys.size());
+    /**
+     * 중단된 배치가 남아 있으면 이어서 처리 (재시작 후 복구용)
+     * 진행 중인 실행의 락이 만료되어야 이어받을 수 있음
+     */
+    public void resumeInterruptedClose() {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(CHECKPOINT_KEY))) {
+            log.info("Resuming interrupted batch closure for expired group buys");
+            closeExpiredGroupBuys();
+        }
+    }
 
-        try {
-            // 배치로 통계 계산
-            List<GroupBuyStatistics> statisticsList = statisticsCalculatorService
-                    .calculateBatchStatistics(expiredGroupBuys);
+    private int closeInChunks(String ownerToken) {
+        Checkpoint checkpoint = loadOrStartCheckpoint();
+        log.info("Starting batch closure process for expired group buys - cutoff: {}, lastId: {}, chunkSize: {}",
+                checkpoint.cutoff(), checkpoint.lastId(), chunkSize);
 
-            updateGroupBuyStatusesAndPrices(expiredGroupBuys, statisticsList);
+        int closedCount = 0;
+        int failedChunks = 0;
+        Long lastId = checkpoint.lastId();
 
-            // 통계 일괄 저장
-            groupBuyStatisticsRepository.saveAll(statisticsList);
+        while (true) {
+            List<Long> chunkIds = groupBuyRepository.findExpiredGroupBuyIds(
+                    checkpoint.cutoff(), lastId, PageRequest.of(0, chunkSize));
+            if (chunkIds.isEmpty()) {
+                break;
+            }
 
-            // 성공적으로 처리된 공동구매 ID 목록
-            List<Long> closedGroupBuyIds = expiredGroupBuys.stream()
-                    .map(GroupBuy::getId)
-                    .toList();
+            try {
+                closedCount += closeChunkInTransaction(checkpoint.cutoff(), chunkIds).size();
+            } catch (Exception e) {
+                failedChunks++;
+                log.error("Failed to close chunk of expired group buys: {}", chunkIds, e);
+                // 청크 전체가 롤백되어 OPEN으로 남으므로 다음 실행에서 다시 처리
+            }
 
-            log.info("Successfully closed {} group buys: {}",
-                    closedGroupBuyIds.size(), closedGroupBuyIds);
+            lastId = chunkIds.get(chunkIds.size() - 1);
+            saveCheckpoint(checkpoint.cutoff(), lastId);
 
-            // 배치 종료 이벤트 발행
-            eventPublisher.publishEvent(new GroupBuysBatchClosedEvent(closedGroupBuyIds));
+            if (!extendLock(ownerToken)) {
+                // 락이 만료되어 다른 노드가 이어받았을 수 있으므로 진행 위치를 남기고 중단
+                log.warn("Lost batch closure lock, stopping at lastId: {} - closed: {}, failed chunks: {}",
+                        lastId, closedCount, failedChunks);
+                closedCounter.increment(closedCount);
+                return closedCount;
+            }
 
-        } catch (Exception e) {
-            log.error("Failed to process batch closure for expired group buys", e);
-            throw e; // 트랜잭션 롤백을 위해 예외 재발생
+            if (chunkIds.size() < chunkSize) {
+                break;
+            }
         }
+
+        redisTemplate.delete(CHECKPOINT_KEY);
+        closedCounter.increment(closedCount);
+
+        if (closedCount == 0 && failedChunks == 0) {
+            log.info("No expired group buys found at {}", checkpoint.cutoff());
+        } else {
+            log.info("Batch closure finished - closed: {}, failed chunks: {}", closedCount, failedChunks);
+        }
+        return closedCount;
+    }
+
+    /**
+     * 청크 하나를 별도 트랜잭션으로 종료하고 소요 시간 기록
+     * @return 종료한 공동구매 ID
+     */
+    private List<Long> closeChunkInTransaction(Instant cutoff, List<Long> chunkIds) {
+        Timer.Sample sample = Timer.start();
+        try {
+            List<Long> closedIds = transactionTemplate.execute(status -> closeChunk(cutoff, chunkIds));
+            sample.stop(chunkSuccessTimer);
+            return closedIds == null ? List.of() : closedIds;
+        } catch (RuntimeException e) {
+            sample.stop(chunkFailureTimer);
+            throw e;
+        }
+    }
+
+    /**
+     * 청크 하나 종료 처리 (청크별 트랜잭션)
+     * ID 조회와 청크 처리 사이에 즉시 종료된 공동구매는 다시 조회되지 않음
+     */
+    private List<Long> closeChunk(Instant cutoff, List<Long> chunkIds) {
+        // 만료된 공동구매들 조회 (필요한 연관 엔티티 한번에 페치)
+        List<GroupBuy> expiredGroupBuys = groupBuyRepository.findExpiredGroupBuys(cutoff, chunkIds);
+        if (expiredGroupBuys.isEmpty()) {
+            return List.of();
+        }
+
+        // 배치로 통계 계산
+        List<GroupBuyStatistics> statisticsList = statisticsCalculatorService
+                .calculateBatchStatistics(expiredGroupBuys);
+
+        updateGroupBuyStatusesAndPrices(expiredGroupBuys, statisticsList);
+
+        // 통계 일괄 저장
+        groupBuyStatisticsRepository.saveAll(statisticsList);
+
+        // 성공적으로 처리된 공동구매 ID 목록
+        List<Long> closedGroupBuyIds = expiredGroupBuys.stream()
+                .map(GroupBuy::getId)
+                .toList();
+
+        log.info("Successfully closed {} group buys: {}",
+                closedGroupBuyIds.size(), closedGroupBuyIds);
+
+        // 배치 종료 이벤트 기록 (같은 트랜잭션, 커밋 후 릴레이가 전달)
+        outboxEventService.append(new GroupBuysBatchClosedEvent(closedGroupBuyIds));
+        return closedGroupBuyIds;
     }
 
     /**
@@ -91,6 +283,9 @@ public class GroupBuyBatchCloseService {
                 // 상태를 CLOSED로 변경
                 groupBuy.updateStatus(GroupBuyStatus.CLOSED);
 
+                // 누적 판매량을 최종 집계값으로 보정
+                groupBuy.syncSoldQuantity(statistics.getTotalQuantity());
+
                 // 연관된 상품을 INACTIVE로 변경
                 Product product = groupBuy.getProduct();
                 if (product.getStatus() == Status.ACTIVE) {
@@ -119,4 +314,92 @@ public class GroupBuyBatchCloseService {
         // 변경된 GroupBuy들을 일괄 저장
         groupBuyRepository.saveAll(groupBuys);
     }
+
+    /**
+     * 종료 처리 락 획득 (배치, 만료 대기열 공통)
+     * @return 소유자 토큰, 다른 실행이 점유 중이면 null
+     */
+    private String tryAcquireLock() {
+        String ownerToken = UUID.randomUUID().toString();
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, ownerToken, lockTtl))
+                ? ownerToken
+                : null;
+    }
+
+    /**
+     * 소유자 토큰이 일치할 때만 락 해제
+     */
+    private void releaseLock(String ownerToken) {
+        redisTemplate.execute(RELEASE_LOCK, List.of(LOCK_KEY), ownerToken);
+    }
+
+    /**
+     * 소유자 토큰이 일치할 때만 락 만료 시간 연장
+     * @return 락을 잃었으면 false
+     */
+    private boolean extendLock(String ownerToken) {
+        Long extended = redisTemplate.execute(EXTEND_LOCK, List.of(LOCK_KEY),
+                ownerToken, String.valueOf(lockTtl.toMillis()));
+        return extended != null && extended == 1L;
+    }
+
+    /**
+     * 남은 진행 위치가 있으면 이어서, 없으면 현재 시각 기준으로 새로 시작
+     * 기준 시각을 고정해 처리 도중 만료된 공동구매는 다음 실행으로 넘김
+     */
+    private Checkpoint loadOrStartCheckpoint() {
+        Map<Object, Object> saved = redisTemplate.opsForHash().entries(CHECKPOINT_KEY);
+        if (saved.containsKey(CUTOFF_FIELD) && saved.containsKey(LAST_ID_FIELD)) {
+            Checkpoint checkpoint = new Checkpoint(
+                    Instant.ofEpochMilli(Long.parseLong((String) saved.get(CUTOFF_FIELD))),
+                    Long.parseLong((String) saved.get(LAST_ID_FIELD))
+            );
+            log.info("Resuming batch closure from checkpoint - cutoff: {}, lastId: {}",
+                    checkpoint.cutoff(), checkpoint.lastId());
+            return checkpoint;
+        }
+
+        Instant cutoff = Instant.now();
+        saveCheckpoint(cutoff, 0L);
+        return new Checkpoint(cutoff, 0L);
+    }
+
+    /**
+     * 청크 처리 후 진행 위치 기록
+     */
+    private void saveCheckpoint(Instant cutoff, Long lastId) {
+        redisTemplate.opsForHash().putAll(CHECKPOINT_KEY, Map.of(
+                CUTOFF_FIELD, String.valueOf(cutoff.toEpochMilli()),
+                LAST_ID_FIELD, String.valueOf(lastId)
+        ));
+        redisTemplate.expire(CHECKPOINT_KEY, CHECKPOINT_TTL);
+    }
+
+    /**
+     * 배치 진행 위치 (기준 시각, 마지막으로 처리한 ID)
+     */
+    private record Checkpoint(Instant cutoff, Long lastId) {
+    }
+
+    /**
+     * 만료 대기열 종료 결과
+     */
+    public record DueCloseResult(
+            boolean locked, // 다른 종료 처리가 진행 중이라 처리하지 못함
+            List<Long> closedIds, // 종료한 공동구매 ID
+            List<Long> failedIds // 종료에 실패해 OPEN으로 남은 공동구매 ID
+    ) {
+
+        static DueCloseResult lockUnavailable() {
+            return new DueCloseResult(true, List.of(), List.of());
+        }
+
+        static DueCloseResult closed(List<Long> closedIds) {
+            return new DueCloseResult(false, closedIds, List.of());
+        }
+
+        static DueCloseResult failed(List<Long> failedIds) {
+            return new DueCloseResult(false, List.of(), failedIds);
+        }
+    }
 }
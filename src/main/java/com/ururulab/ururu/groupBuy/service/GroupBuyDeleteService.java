@@ -1,6 +1,7 @@
 package com.ururulab.ururu.groupBuy.service;
 
 import com.ururulab.ururu.global.exception.BusinessException;
+import com.ururulab.ururu.global.outbox.OutboxEventService;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
 import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
@@ -11,7 +12,6 @@ import com.ururulab.ururu.product.domain.entity.Product;
 import com.ururulab.ururu.product.domain.entity.enumerated.Status;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,7 +27,8 @@ public class GroupBuyDeleteService {
 
     private final GroupBuyRepository groupBuyRepository;
     private final GroupBuyOptionRepository groupBuyOptionRepository;
-    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxEventService outboxEventService;
+    private final GroupBuyDiscountTierCache discountTierCache;
 
     @Transactional
     public void deleteGroupBuy(Long groupBuyId, Long sellerId) {
@@ -51,7 +52,7 @@ public class GroupBuyDeleteService {
 
         // 1. 썸네일 이미지 삭제 이벤트 발행
         if (groupBuy.getThumbnailUrl() != null) {
-            eventPublisher.publishEvent(new GroupBuyThumbnailDeleteEvent(
+            outboxEventService.append(new GroupBuyThumbnailDeleteEvent(
                     groupBuy.getId(),
                     List.of(groupBuy.getThumbnailUrl())
             ));
@@ -64,7 +65,7 @@ public class GroupBuyDeleteService {
                 .toList();
 
         if (!detailImageUrls.isEmpty()) {
-            eventPublisher.publishEvent(new GroupBuyDetailImageDeleteEvent(
+            outboxEventService.append(new GroupBuyDetailImageDeleteEvent(
                     groupBuy.getId(),
                     detailImageUrls
             ));
@@ -74,5 +75,6 @@ public class GroupBuyDeleteService {
         groupBuyOptionRepository.deleteAllByGroupBuyId(groupBuyId);
 
         groupBuyRepository.delete(groupBuy);
+        discountTierCache.invalidate(groupBuyId);
     }
 }
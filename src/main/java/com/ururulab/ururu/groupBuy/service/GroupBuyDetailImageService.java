@@ -1,6 +1,7 @@
 package com.ururulab.ururu.groupBuy.service;
 
 import com.ururulab.ururu.global.exception.BusinessException;
+import com.ururulab.ururu.global.outbox.OutboxEventService;
 import com.ururulab.ururu.groupBuy.dto.request.GroupBuyImageUploadRequest;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyImage;
@@ -13,11 +14,9 @@ import com.ururulab.ururu.image.service.ImageService;
 import com.ururulab.ururu.image.validation.ImageValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Recover;
 import org.springframework.retry.annotation.Retryable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -44,7 +43,7 @@ public class GroupBuyDetailImageService {
     private final ImageService imageService;
     private final GroupBuyRepository groupBuyRepository;
     private final GroupBuyDetailImageRepository groupBuyDetailImageRepository;
-    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxEventService outboxEventService;
     private final ImageHashService imageHashService;
     private final ImageValidator imageValidator;
 
@@ -71,7 +70,7 @@ public class GroupBuyDetailImageService {
         List<GroupBuyImageUploadRequest> imageRequests = createDetailImageRequests(detailImageFiles);
 
         if (!imageRequests.isEmpty()) {
-            eventPublisher.publishEvent(new GroupBuyDetailImageUploadEvent(groupBuyId, imageRequests));
+            outboxEventService.appendLocal(new GroupBuyDetailImageUploadEvent(groupBuyId, imageRequests));
             log.info("Scheduled {} detail images for upload for groupBuy: {}",
                     imageRequests.size(), groupBuyId);
         }
@@ -118,9 +117,9 @@ public class GroupBuyDetailImageService {
     }
 
     /**
-     * 비동기 상세이미지 업로드 및 DB 업데이트 (스트리밍 방식)
+     * 상세이미지 업로드 및 DB 업데이트 (스트리밍 방식)
+     * 아웃박스 릴레이의 인스턴스 전용 스레드풀에서 호출되며, 업로드가 끝나야 이벤트가 전달 완료로 기록됩니다.
      */
-    @Async("imageUploadExecutor")
     @Transactional
     public void uploadDetailImagesAsync(Long groupBuyId, List<GroupBuyImageUploadRequest> images) {
         if (images == null || images.isEmpty()) {
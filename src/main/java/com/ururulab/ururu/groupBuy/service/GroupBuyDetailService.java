@@ -1,6 +1,7 @@
 package com.ururulab.ururu.groupBuy.service;
 
 import com.ururulab.ururu.global.exception.BusinessException;
+import com.ururulab.ururu.global.util.ETagUtils;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyImage;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyOption;
@@ -94,6 +95,26 @@ public class GroupBuyDetailService {
         return GroupBuyDetailResponse.from(groupBuy, options, images, currentStocks, currentOrderCount);
     }
 
+    /**
+     * 구매자용 상세 조회 ETag (상세 응답을 만들기 전에 조건부 조회 판단용)
+     * 공동구매/옵션 버전과 재고, 이미지 변경 여부로 만들며, 상세 응답에 쓰이는 값이 바뀌면 함께 바뀝니다.
+     *
+     * @param groupBuyId 공동구매 ID
+     * @return 약한 ETag, 공개 공동구매가 아니면 null (상세 조회에서 예외 처리)
+     */
+    public String getPublicGroupBuyDetailETag(Long groupBuyId) {
+        List<Object[]> rows = groupBuyRepository.findPublicDetailVersion(groupBuyId);
+        if (rows.isEmpty()) {
+            return null;
+        }
+
+        Object[] version = rows.get(0);
+        Object[] parts = new Object[version.length + 1];
+        parts[0] = groupBuyId;
+        System.arraycopy(version, 0, parts, 1, version.length);
+        return ETagUtils.weak(parts);
+    }
+
     /**
      * 공동구매 기본 정보만 조회 (연관 데이터 없이)
      * 간단한 정보만 필요한 경우 사용
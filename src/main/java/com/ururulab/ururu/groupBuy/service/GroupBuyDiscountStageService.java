@@ -0,0 +1,128 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionStockShardRepository;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
+import com.ururulab.ururu.groupBuy.event.GroupBuyPriceChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 진행 중인 공동구매의 할인 단계 반영
+ * 결제/환불로 판매량이 할인 단계 경계를 넘으면 옵션 판매가(salePrice)와 표시 가격(displayFinalPrice)을
+ * 벌크 UPDATE로 한 번에 갱신하고 GroupBuyPriceChangedEvent를 발행합니다.
+ * 경계를 넘지 않은 판매량 변화는 현재 할인율 비교만 하고 끝납니다.
+ * 최종 할인율은 기존과 같이 종료 시점 통계로 확정됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GroupBuyDiscountStageService {
+
+    private final GroupBuyRepository groupBuyRepository;
+    private final GroupBuyOptionRepository groupBuyOptionRepository;
+    private final GroupBuyOptionStockShardRepository stockShardRepository;
+    private final GroupBuyDiscountTierCache discountTierCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 공동구매 판매량 기준으로 할인 단계 반영 (커밋 이후 리스너/스케줄러에서 호출)
+     * 옵션 행 -> 공동구매 행 순서로 갱신합니다.
+     *
+     * @param groupBuyId 공동구매 ID
+     * @return 할인 단계가 바뀌었으면 true
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean syncDiscountStage(Long groupBuyId) {
+        List<Object[]> rows = groupBuyRepository.findOpenDiscountStates(groupBuyId);
+        if (rows.isEmpty()) {
+            return false; // 종료되었거나 없는 공동구매
+        }
+
+        DiscountState state = DiscountState.from(rows.get(0));
+        // 판매량 컬럼은 주기적으로 집계되므로 현재 재고에서 직접 계산
+        int soldQuantity = state.isStockSharded()
+                ? stockShardRepository.sumSoldQuantityByGroupBuyId(groupBuyId).intValue()
+                : groupBuyOptionRepository.getTotalSoldQuantityByGroupBuyId(groupBuyId);
+        int discountRate = discountTierCache.get(groupBuyId, state.discountStages()).rateFor(soldQuantity);
+        if (!state.needsUpdate(discountRate)) {
+            return false;
+        }
+
+        Instant now = Instant.now();
+        int updatedOptions = groupBuyOptionRepository.updateSalePrices(groupBuyId, discountRate, now);
+        if (groupBuyRepository.updateCurrentDiscountRate(groupBuyId, state.currentDiscountRate(), discountRate, now) == 0) {
+            // 다른 노드가 먼저 반영했거나 그 사이 종료됨
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return false;
+        }
+
+        eventPublisher.publishEvent(new GroupBuyPriceChangedEvent(groupBuyId, state.currentDiscountRate(), discountRate));
+        log.info("Discount stage changed - groupBuyId: {}, soldQuantity: {}, rate: {}% -> {}%, options: {}",
+                groupBuyId, soldQuantity, state.currentDiscountRate(), discountRate, updatedOptions);
+        return true;
+    }
+
+    /**
+     * 할인 단계 반영이 필요한 진행 중 공동구매 ID 조회 (누락된 이벤트 보정용)
+     * 주기적으로 집계되는 누적 판매량 컬럼 기준으로 판단하며, 재고 분할 공동구매는 컬럼이 더 늦게 보정되므로 항상 포함합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findOutdatedGroupBuyIds() {
+        return groupBuyRepository.findOpenDiscountStates(null).stream()
+                .map(DiscountState::from)
+                .filter(state -> state.isStockSharded() || state.needsUpdate(
+                        discountTierCache.get(state.groupBuyId(), state.discountStages()).rateFor(state.soldQuantity())))
+                .map(DiscountState::groupBuyId)
+                .toList();
+    }
+
+    /**
+     * 할인 단계 판단용 공동구매 값
+     */
+    private record DiscountState(
+            Long groupBuyId,
+            String discountStages,
+            int soldQuantity,
+            int currentDiscountRate,
+            int stockShardCount,
+            Integer minStartPrice,
+            Integer displayFinalPrice
+    ) {
+        static DiscountState from(Object[] row) {
+            return new DiscountState(
+                    (Long) row[0],
+                    (String) row[1],
+                    ((Number) row[2]).intValue(),
+                    ((Number) row[3]).intValue(),
+                    ((Number) row[4]).intValue(),
+                    (Integer) row[5],
+                    (Integer) row[6]
+            );
+        }
+
+        boolean isStockSharded() {
+            return stockShardCount > 0;
+        }
+
+        /**
+         * 할인율이 바뀌었거나 표시 가격이 현재 할인율과 맞지 않으면 갱신 필요
+         */
+        boolean needsUpdate(int discountRate) {
+            if (discountRate != currentDiscountRate) {
+                return true;
+            }
+            return minStartPrice != null
+                    && !Objects.equals(displayFinalPrice, GroupBuyPriceService.discountedPrice(minStartPrice, discountRate));
+        }
+    }
+}
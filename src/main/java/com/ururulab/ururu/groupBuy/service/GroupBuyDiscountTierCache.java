@@ -0,0 +1,76 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
+import com.ururulab.ururu.groupBuy.util.DiscountTierTable;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 공동구매별 컴파일된 할인 단계 표 캐시
+ * 할인율 계산마다 할인 단계 JSON을 파싱하지 않도록 공동구매 ID별로 컴파일 결과를 보관합니다.
+ * 항목은 컴파일한 원본 JSON을 함께 들고 있어, 할인 단계가 바뀐 엔티티로 조회하면 다시 컴파일합니다.
+ */
+@Component
+public class GroupBuyDiscountTierCache {
+
+    private final Cache<Long, Entry> tables;
+
+    public GroupBuyDiscountTierCache(
+            MeterRegistry meterRegistry,
+            @Value("${groupbuy.discount-tier-cache.max-size:10000}") long maxSize
+    ) {
+        this.tables = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofHours(1))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tables, "discountTierTable");
+    }
+
+    /**
+     * 공동구매의 할인 단계 표 조회 (없거나 할인 단계가 바뀌었으면 컴파일 후 저장)
+     */
+    public DiscountTierTable get(GroupBuy groupBuy) {
+        return get(groupBuy.getId(), groupBuy.getDiscountStages());
+    }
+
+    /**
+     * 엔티티 없이 조회한 할인 단계 JSON으로 조회 (프로젝션 쿼리용)
+     */
+    public DiscountTierTable get(Long groupBuyId, String discountStages) {
+        if (groupBuyId == null) {
+            return DiscountTierTable.compile(discountStages);
+        }
+
+        Entry entry = tables.getIfPresent(groupBuyId);
+        if (entry != null && entry.matches(discountStages)) {
+            return entry.table();
+        }
+
+        DiscountTierTable table = DiscountTierTable.compile(discountStages);
+        tables.put(groupBuyId, new Entry(discountStages, table));
+        return table;
+    }
+
+    /**
+     * 할인 단계가 바뀌거나 공동구매가 삭제되었을 때 호출
+     */
+    public void invalidate(Long groupBuyId) {
+        tables.invalidate(groupBuyId);
+    }
+
+    /**
+     * 컴파일 결과와 원본 JSON (원본이 같은 인스턴스면 문자열 비교 없이 일치)
+     */
+    private record Entry(String source, DiscountTierTable table) {
+        boolean matches(String other) {
+            return source == other || (source != null && source.equals(other));
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
+import com.ururulab.ururu.groupBuy.service.GroupBuyBatchCloseService.DueCloseResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 공동구매 종료 시각 대기열 (Redis Sorted Set, score = endsAt epoch millis)
+ * 오픈 시 종료 시각으로 등록하고 스케줄러가 짧은 주기로 종료 시각이 된 공동구매를 꺼내 바로 종료합니다.
+ * 종료에 실패한 공동구매는 잠시 뒤 다시 시도하도록 다시 등록하고,
+ * 종료 시각이 늦춰진 공동구매는 DB의 종료 시각으로 다시 등록합니다.
+ * 대기열은 DB의 진행 중 공동구매 종료 시각으로 기동 직후와 주기적으로 다시 채워지며,
+ * 매시간 배치 종료가 누락분을 처리하는 안전망으로 남아 있습니다.
+ */
+@Slf4j
+@Service
+public class GroupBuyExpiryQueueService {
+
+    private static final String QUEUE_KEY = "groupbuy:expiry";
+
+    private final GroupBuyRepository groupBuyRepository;
+    private final GroupBuyBatchCloseService batchCloseService;
+    private final StringRedisTemplate redisTemplate;
+    private final int batchSize;
+    private final Duration retryBackoff;
+
+    private final Timer closeLagTimer;
+
+    public GroupBuyExpiryQueueService(
+            GroupBuyRepository groupBuyRepository,
+            GroupBuyBatchCloseService batchCloseService,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${groupbuy.expiry.batch-size:100}") int batchSize,
+            @Value("${groupbuy.expiry.retry-backoff-ms:60000}") long retryBackoffMs
+    ) {
+        this.groupBuyRepository = groupBuyRepository;
+        this.batchCloseService = batchCloseService;
+        this.redisTemplate = redisTemplate;
+        this.batchSize = batchSize;
+        this.retryBackoff = Duration.ofMillis(retryBackoffMs);
+
+        this.closeLagTimer = Timer.builder("ururu_groupbuy_expiry_close_lag")
+                .description("Delay between group buy end time and close by the expiry queue")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 오픈된 공동구매를 종료 시각으로 등록 (이미 있으면 종료 시각만 갱신)
+     * 종료 시각이 바뀐 공동구매도 다시 호출해 대기열의 종료 시각을 DB와 맞춤
+     */
+    public void schedule(Long groupBuyId) {
+        List<Object[]> rows = groupBuyRepository.findOpenEndsAt(groupBuyId);
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        Instant endsAt = (Instant) rows.get(0)[1];
+        redisTemplate.opsForZSet().add(QUEUE_KEY, groupBuyId.toString(), endsAt.toEpochMilli());
+        log.debug("Group buy scheduled for expiry - groupBuyId: {}, endsAt: {}", groupBuyId, endsAt);
+    }
+
+    /**
+     * 먼저 종료된 공동구매를 대기열에서 제거 (품절 종료 등)
+     */
+    public void remove(Collection<Long> groupBuyIds) {
+        if (groupBuyIds.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.opsForZSet().remove(QUEUE_KEY, groupBuyIds.stream().map(String::valueOf).toArray());
+    }
+
+    /**
+     * 종료 시각이 된 공동구매 한 배치 종료
+     * 다른 종료 처리(자정/매시간 배치)가 진행 중이면 대기열에 그대로 두고 다음 주기에 다시 시도
+     * 종료에 실패한 공동구매는 retryBackoff 뒤의 시각으로 다시 등록
+     *
+     * @return 대기열에서 꺼낸 공동구매 수 (batchSize 미만이면 더 이상 종료 시각이 된 공동구매 없음)
+     */
+    public int closeDue() {
+        Instant now = Instant.now();
+        Set<TypedTuple<String>> due = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(QUEUE_KEY, 0, now.toEpochMilli(), 0, batchSize);
+        if (due == null || due.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> groupBuyIds = due.stream()
+                .map(tuple -> Long.valueOf(tuple.getValue()))
+                .toList();
+        DueCloseResult result = batchCloseService.closeDueGroupBuys(groupBuyIds);
+        if (result.locked()) {
+            log.debug("Another closure is running, retrying due group buys later: {}", groupBuyIds);
+            return 0;
+        }
+
+        Set<Long> closedIds = new HashSet<>(result.closedIds());
+        Set<Long> failedIds = new HashSet<>(result.failedIds());
+        List<Long> skippedIds = groupBuyIds.stream()
+                .filter(groupBuyId -> !closedIds.contains(groupBuyId) && !failedIds.contains(groupBuyId))
+                .toList();
+
+        remove(result.closedIds());
+        retryLater(result.failedIds(), now);
+        reschedule(skippedIds);
+
+        Instant closedAt = Instant.now();
+        for (TypedTuple<String> tuple : due) {
+            if (!closedIds.contains(Long.valueOf(tuple.getValue()))) {
+                continue;
+            }
+            Duration lag = Duration.between(Instant.ofEpochMilli(tuple.getScore().longValue()), closedAt);
+            closeLagTimer.record(lag.isNegative() ? Duration.ZERO : lag);
+        }
+
+        log.info("Processed group buys at their end time - closed: {}, failed: {}, skipped: {}",
+                closedIds, failedIds, skippedIds);
+        return groupBuyIds.size();
+    }
+
+    /**
+     * 종료에 실패한 공동구매를 retryBackoff 뒤의 시각으로 다시 등록
+     * 매 주기 같은 실패를 반복하지 않으며, 그 사이 매시간 배치가 먼저 종료할 수도 있음
+     */
+    private void retryLater(Collection<Long> groupBuyIds, Instant now) {
+        if (groupBuyIds.isEmpty()) {
+            return;
+        }
+
+        double retryAt = now.plus(retryBackoff).toEpochMilli();
+        Set<TypedTuple<String>> entries = new HashSet<>();
+        for (Long groupBuyId : groupBuyIds) {
+            entries.add(TypedTuple.of(groupBuyId.toString(), retryAt));
+        }
+        redisTemplate.opsForZSet().add(QUEUE_KEY, entries);
+        log.warn("Retrying group buys that failed to close at {}: {}", Instant.ofEpochMilli((long) retryAt), groupBuyIds);
+    }
+
+    /**
+     * 종료 대상이 아니었던 공동구매 (이미 종료되었거나 종료 시각이 늦춰짐) 정리
+     * 대기열에서 뺀 뒤 아직 진행 중이면 DB의 종료 시각으로 다시 등록
+     */
+    private void reschedule(List<Long> groupBuyIds) {
+        remove(groupBuyIds);
+        groupBuyIds.forEach(this::schedule);
+    }
+
+    /**
+     * DB의 진행 중 공동구매 종료 시각으로 대기열 복구 (기동 직후 + 주기적인 보정)
+     * 기존 항목은 지우지 않고 추가/갱신만 하므로 복구 중에도 대기열이 비지 않습니다.
+     * 이미 종료된 항목은 종료 시각이 되면 건너뛴 뒤 제거됩니다.
+     */
+    public void rebuild() {
+        Set<TypedTuple<String>> entries = new HashSet<>();
+        for (Object[] row : groupBuyRepository.findOpenEndsAt(null)) {
+            entries.add(TypedTuple.of(row[0].toString(), (double) ((Instant) row[1]).toEpochMilli()));
+        }
+
+        if (!entries.isEmpty()) {
+            redisTemplate.opsForZSet().add(QUEUE_KEY, entries);
+        }
+        log.info("Group buy expiry queue rebuilt - open group buys: {}", entries.size());
+    }
+}
@@ -0,0 +1,330 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 공동구매 판매량 순위 (Redis Sorted Set 리더보드)
+ * 전체 순위와 카테고리별 순위를 두고, 결제 완료/환불 커밋 시 판매량 증감을 바로 반영합니다.
+ * 옵션 재고 기준 판매량으로 주기적으로 다시 만들어 유실된 증감을 보정합니다.
+ * 재구성은 Redis 락을 잡은 한 노드만 실행하고, 재구성 중 들어온 증감/제거는 기록해 두었다가 교체 직전에 다시 적용합니다.
+ */
+@Slf4j
+@Service
+public class GroupBuyLeaderboardService {
+
+    private static final String GLOBAL_KEY = "leaderboard:groupbuy:sold";
+    private static final String CATEGORY_KEY_PREFIX = "leaderboard:groupbuy:sold:category:";
+    private static final String CATEGORIES_KEY = "leaderboard:groupbuy:categories"; // 순위가 있는 카테고리 ID
+    private static final String BUILT_KEY = "leaderboard:groupbuy:built"; // 재구성 완료 표시
+    private static final String REBUILD_LOCK_KEY = "leaderboard:groupbuy:rebuild:lock"; // 값: 재구성 실행 토큰
+    private static final String REBUILD_DELTAS_KEY = "leaderboard:groupbuy:rebuild:deltas"; // HASH "{순위 키}|{공동구매 ID}" -> 증감
+    private static final String REBUILD_REMOVED_KEY = "leaderboard:groupbuy:rebuild:removed"; // SET 재구성 중 제거된 공동구매 ID
+    private static final String REBUILD_SUFFIX = ":rebuild:";
+
+    // KEYS[1]=재구성 락, KEYS[2]=증감 기록, KEYS[3..]=순위 키 / ARGV[1]=공동구매 ID, ARGV[2]=증감
+    // 순위에 없는 공동구매(종료되어 제거됨, 아직 추가되지 않음)는 건너뜀
+    private static final RedisScript<Long> INCREMENT = new DefaultRedisScript<>("""
+            local recording = redis.call('EXISTS', KEYS[1]) == 1
+            for i = 3, #KEYS do
+                if redis.call('ZSCORE', KEYS[i], ARGV[1]) ~= false then
+                    redis.call('ZINCRBY', KEYS[i], ARGV[2], ARGV[1])
+                    if recording then
+                        redis.call('HINCRBY', KEYS[2], KEYS[i] .. '|' .. ARGV[1], ARGV[2])
+                    end
+                end
+            end
+            return 0
+            """, Long.class);
+
+    // KEYS[1]=재구성 락, KEYS[2]=증감 기록, KEYS[3..]=순위 키 / ARGV[1]=공동구매 ID
+    // 판매량 0으로 추가 (이미 있으면 그대로), 재구성 중이면 교체 시 임시 키에도 추가되도록 증감 0을 기록
+    private static final RedisScript<Long> ADD = new DefaultRedisScript<>("""
+            local recording = redis.call('EXISTS', KEYS[1]) == 1
+            for i = 3, #KEYS do
+                redis.call('ZADD', KEYS[i], 'NX', 0, ARGV[1])
+                if recording then
+                    redis.call('HINCRBY', KEYS[2], KEYS[i] .. '|' .. ARGV[1], 0)
+                end
+            end
+            return 0
+            """, Long.class);
+
+    // KEYS[1]=재구성 락, KEYS[2]=제거 기록, KEYS[3..]=순위 키 / ARGV[1]=공동구매 ID
+    private static final RedisScript<Long> REMOVE = new DefaultRedisScript<>("""
+            for i = 3, #KEYS do
+                redis.call('ZREM', KEYS[i], ARGV[1])
+            end
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('SADD', KEYS[2], ARGV[1])
+            end
+            return 0
+            """, Long.class);
+
+    // KEYS[1]=재구성 락, KEYS[2]=증감 기록, KEYS[3]=제거 기록, KEYS[4..]=교체할 순위 키 / ARGV[1]=실행 토큰, ARGV[2]=임시 키 접미사
+    // 락을 여전히 가지고 있을 때만 기록된 증감/제거를 임시 키에 적용하고 RENAME (임시 키가 비면 기존 키 삭제)
+    private static final RedisScript<Long> SWAP = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            local swapped = {}
+            for i = 4, #KEYS do
+                swapped[KEYS[i]] = true
+            end
+            local deltas = redis.call('HGETALL', KEYS[2])
+            for i = 1, #deltas, 2 do
+                local sep = string.find(deltas[i], '|', 1, true)
+                local key = string.sub(deltas[i], 1, sep - 1)
+                if swapped[key] then
+                    redis.call('ZINCRBY', key .. ARGV[2], deltas[i + 1], string.sub(deltas[i], sep + 1))
+                end
+            end
+            local removed = redis.call('SMEMBERS', KEYS[3])
+            for i = 4, #KEYS do
+                local tempKey = KEYS[i] .. ARGV[2]
+                for _, member in ipairs(removed) do
+                    redis.call('ZREM', tempKey, member)
+                end
+                if redis.call('EXISTS', tempKey) == 1 then
+                    redis.call('RENAME', tempKey, KEYS[i])
+                else
+                    redis.call('DEL', KEYS[i])
+                end
+            end
+            redis.call('DEL', KEYS[1], KEYS[2], KEYS[3])
+            return 1
+            """, Long.class);
+
+    // KEYS[1]=재구성 락, KEYS[2]=증감 기록, KEYS[3]=제거 기록 / ARGV[1]=실행 토큰
+    private static final RedisScript<Long> RELEASE_REBUILD_LOCK = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1], KEYS[2], KEYS[3])
+            end
+            return 0
+            """, Long.class);
+
+    private final GroupBuyRepository groupBuyRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration builtTtl;
+    private final Duration rebuildLockTtl;
+
+    public GroupBuyLeaderboardService(
+            GroupBuyRepository groupBuyRepository,
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${groupbuy.leaderboard.rebuild-interval-ms:600000}") long rebuildIntervalMs,
+            @Value("${groupbuy.leaderboard.rebuild-lock-ttl-ms:120000}") long rebuildLockTtlMs
+    ) {
+        this.groupBuyRepository = groupBuyRepository;
+        this.redisTemplate = redisTemplate;
+        this.builtTtl = Duration.ofMillis(rebuildIntervalMs * 3); // 재구성이 연달아 실패하면 DB 조회로 전환
+        this.rebuildLockTtl = Duration.ofMillis(rebuildLockTtlMs);
+    }
+
+    /**
+     * 판매량 증감 반영 (결제 완료 +, 환불 -)
+     *
+     * @param deltas 공동구매 ID -> 판매량 증감
+     */
+    public void increment(Map<Long, Integer> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        applyIncrements(deltas, findCategoryIds(deltas.keySet()));
+    }
+
+    /**
+     * 오픈된 공동구매를 순위에 추가 (판매량 0, 이미 있으면 그대로)
+     */
+    public void add(Long groupBuyId) {
+        Map<Long, List<Long>> categoryIds = findCategoryIds(List.of(groupBuyId));
+        redisTemplate.execute(ADD, rankingKeys(REBUILD_DELTAS_KEY, categoryIds.get(groupBuyId)), groupBuyId.toString());
+
+        List<Long> groupBuyCategoryIds = categoryIds.getOrDefault(groupBuyId, List.of());
+        if (!groupBuyCategoryIds.isEmpty()) {
+            redisTemplate.opsForSet().add(CATEGORIES_KEY,
+                    groupBuyCategoryIds.stream().map(String::valueOf).toArray(String[]::new));
+        }
+    }
+
+    /**
+     * 종료된 공동구매를 순위에서 제거
+     */
+    public void remove(Collection<Long> groupBuyIds) {
+        if (groupBuyIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<Long>> categoryIds = findCategoryIds(groupBuyIds);
+        for (Long groupBuyId : groupBuyIds) {
+            redisTemplate.execute(REMOVE, rankingKeys(REBUILD_REMOVED_KEY, categoryIds.get(groupBuyId)),
+                    groupBuyId.toString());
+        }
+    }
+
+    /**
+     * 판매량 상위 공동구매 조회
+     *
+     * @param categoryId 카테고리 ID (null이면 전체)
+     * @param limit 최대 개수
+     * @return 공동구매 ID -> 판매량 (판매량 내림차순), 순위가 아직 만들어지지 않았거나 Redis 오류 시 null
+     */
+    public Map<Long, Integer> findTop(Long categoryId, int limit) {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(BUILT_KEY))) {
+                return null;
+            }
+
+            String key = categoryId == null ? GLOBAL_KEY : categoryKey(categoryId);
+            Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet().reverseRangeWithScores(key, 0, limit - 1);
+
+            Map<Long, Integer> ranked = new LinkedHashMap<>();
+            if (tuples != null) {
+                for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                    if (tuple.getValue() != null && tuple.getScore() != null) {
+                        ranked.put(Long.valueOf(tuple.getValue()), tuple.getScore().intValue());
+                    }
+                }
+            }
+            return ranked;
+        } catch (Exception e) {
+            log.warn("Failed to read leaderboard - categoryId: {}", categoryId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 옵션 재고 기준 판매량(SUM(initialStock - stock))으로 전체 순위 재구성 (기동 직후 + 주기적인 보정)
+     * 스케줄러가 늦게 반영하는 groupbuys.sold_quantity 대신 커밋된 재고 차감을 그대로 사용합니다.
+     * 락을 잡은 노드만 실행 토큰이 붙은 임시 키에 만든 뒤, 그동안 기록된 증감/제거를 적용하고 RENAME으로 교체합니다.
+     * 다른 노드가 재구성 중이면 건너뜁니다.
+     * 분할 재고 공동구매의 옵션 재고는 스냅샷이라 동기화 주기만큼 늦을 수 있습니다.
+     */
+    public void rebuild() {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, token, rebuildLockTtl))) {
+            log.debug("Leaderboard rebuild already running on another instance");
+            return;
+        }
+
+        String suffix = REBUILD_SUFFIX + token;
+        List<String> tempKeys = new ArrayList<>();
+        boolean swapped = false;
+        try {
+            swapped = rebuild(token, suffix, tempKeys);
+        } finally {
+            if (!swapped) {
+                tempKeys.add(GLOBAL_KEY + suffix);
+                redisTemplate.delete(tempKeys);
+                redisTemplate.execute(RELEASE_REBUILD_LOCK,
+                        List.of(REBUILD_LOCK_KEY, REBUILD_DELTAS_KEY, REBUILD_REMOVED_KEY), token);
+            }
+        }
+    }
+
+    private boolean rebuild(String token, String suffix, List<String> tempKeys) {
+        Instant startedAt = Instant.now();
+
+        Map<Long, Integer> soldQuantities = new HashMap<>();
+        for (Object[] row : groupBuyRepository.findOpenSoldQuantitiesFromStock()) {
+            soldQuantities.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        Map<Long, List<Long>> groupBuysByCategory = new HashMap<>();
+        for (Object[] row : groupBuyRepository.findOpenCategoryIds()) {
+            if (soldQuantities.containsKey((Long) row[0])) {
+                groupBuysByCategory.computeIfAbsent((Long) row[1], id -> new ArrayList<>()).add((Long) row[0]);
+            }
+        }
+        groupBuysByCategory.keySet().forEach(categoryId -> tempKeys.add(categoryKey(categoryId) + suffix));
+
+        pipelined(zSet -> {
+            soldQuantities.forEach((groupBuyId, soldQuantity) ->
+                    zSet.add(GLOBAL_KEY + suffix, groupBuyId.toString(), soldQuantity));
+            groupBuysByCategory.forEach((categoryId, groupBuyIds) -> {
+                String key = categoryKey(categoryId) + suffix;
+                groupBuyIds.forEach(groupBuyId -> zSet.add(key, groupBuyId.toString(), soldQuantities.get(groupBuyId)));
+            });
+        });
+
+        List<String> swapKeys = new ArrayList<>(List.of(REBUILD_LOCK_KEY, REBUILD_DELTAS_KEY, REBUILD_REMOVED_KEY, GLOBAL_KEY));
+        groupBuysByCategory.keySet().forEach(categoryId -> swapKeys.add(categoryKey(categoryId)));
+        if (!Long.valueOf(1L).equals(redisTemplate.execute(SWAP, swapKeys, token, suffix))) {
+            log.warn("Leaderboard rebuild lock expired before swap, discarding rebuilt keys - elapsed: {}ms",
+                    Duration.between(startedAt, Instant.now()).toMillis());
+            return false;
+        }
+
+        // 진행 중인 공동구매가 없어진 카테고리 순위 삭제
+        Set<String> previousCategoryIds = Optional.ofNullable(redisTemplate.opsForSet().members(CATEGORIES_KEY)).orElse(Set.of());
+        for (String categoryId : previousCategoryIds) {
+            if (!groupBuysByCategory.containsKey(Long.valueOf(categoryId))) {
+                redisTemplate.delete(categoryKey(Long.valueOf(categoryId)));
+                redisTemplate.opsForSet().remove(CATEGORIES_KEY, categoryId);
+            }
+        }
+        if (!groupBuysByCategory.isEmpty()) {
+            redisTemplate.opsForSet().add(CATEGORIES_KEY,
+                    groupBuysByCategory.keySet().stream().map(String::valueOf).toArray(String[]::new));
+        }
+        redisTemplate.opsForValue().set(BUILT_KEY, startedAt.toString(), builtTtl);
+
+        log.info("Group buy leaderboard rebuilt - group buys: {}, categories: {}, elapsed: {}ms",
+                soldQuantities.size(), groupBuysByCategory.size(), Duration.between(startedAt, Instant.now()).toMillis());
+        return true;
+    }
+
+    /**
+     * 전체/카테고리 순위에 증감 반영 (재구성 중이면 교체 시 다시 적용하도록 함께 기록)
+     */
+    private void applyIncrements(Map<Long, Integer> deltas, Map<Long, List<Long>> categoryIds) {
+        deltas.forEach((groupBuyId, delta) -> redisTemplate.execute(INCREMENT,
+                rankingKeys(REBUILD_DELTAS_KEY, categoryIds.get(groupBuyId)), groupBuyId.toString(), delta.toString()));
+    }
+
+    /**
+     * 스크립트 키 목록: 재구성 락, 재구성 중 기록 키, 전체 순위, 카테고리 순위
+     */
+    private List<String> rankingKeys(String recordKey, List<Long> categoryIds) {
+        List<String> keys = new ArrayList<>(List.of(REBUILD_LOCK_KEY, recordKey, GLOBAL_KEY));
+        if (categoryIds != null) {
+            categoryIds.forEach(categoryId -> keys.add(categoryKey(categoryId)));
+        }
+        return keys;
+    }
+
+    private Map<Long, List<Long>> findCategoryIds(Collection<Long> groupBuyIds) {
+        Map<Long, List<Long>> categoryIds = new HashMap<>();
+        for (Object[] row : groupBuyRepository.findCategoryIdsByGroupBuyIds(groupBuyIds)) {
+            categoryIds.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Long) row[1]);
+        }
+        return categoryIds;
+    }
+
+    private void pipelined(Consumer<ZSetOperations<String, String>> commands) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                commands.accept(((RedisOperations<String, String>) operations).opsForZSet());
+                return null;
+            }
+        });
+    }
+
+    private String categoryKey(Long categoryId) {
+        return CATEGORY_KEY_PREFIX + categoryId;
+    }
+}
@@ -9,14 +9,17 @@ import com.ururulab.ururu.groupBuy.dto.common.CursorInfoDto;
 import com.ururulab.ururu.groupBuy.dto.response.GroupBuyListResponse;
 import com.ururulab.ururu.groupBuy.dto.response.GroupBuyPageResponse;
 import com.ururulab.ururu.groupBuy.service.validation.GroupBuyValidator;
+import com.ururulab.ururu.groupBuy.util.SearchTextTokenizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.Base64;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.ururulab.ururu.global.exception.error.ErrorCode.*;
@@ -30,6 +33,11 @@ public class GroupBuyListService {
     private final GroupBuyRepository groupBuyRepository;
     private final ObjectMapper objectMapper;
     private final GroupBuyValidator groupBuyValidator;
+    private final GroupBuySearchIndex searchIndex;
+    private final GroupBuySuggestService suggestService;
+
+    @Value("${groupbuy.search-index.max-candidates:5000}")
+    private int maxSearchCandidates; // 후보가 이보다 많으면 IN 조건 대신 DB 키워드 검색 사용
 
     /**
      * 목록 조회 메인 cursor 적용
@@ -49,19 +57,19 @@ public class GroupBuyListService {
 
         int fetchLimit = limit + 1;
 
-        List<GroupBuyListResponse> items;
-
-        if ("order_count".equals(sortType)) {
-            items = getGroupBuyListOrderByOrderCountWithCursor(categoryId, fetchLimit, cursor, normalizedKeyword);
-        } else {
-            items = getGroupBuyListWithSortAndCursor(categoryId, fetchLimit, sortType, cursor, normalizedKeyword);
-        }
+        List<GroupBuyListResponse> items =
+                getGroupBuyListWithSortAndCursor(categoryId, fetchLimit, sortType, cursor, normalizedKeyword);
 
         boolean hasMore = items.size() > limit;
         List<GroupBuyListResponse> trimmed = hasMore ? items.subList(0, limit) : items;
 
         String nextCursor = hasMore ? encodeCursor(trimmed.get(trimmed.size() - 1)) : null;
 
+        // 결과가 있는 첫 페이지 검색만 인기 검색어로 집계
+        if (normalizedKeyword != null && !normalizedKeyword.isEmpty() && cursor == null && !trimmed.isEmpty()) {
+            suggestService.recordSearchKeyword(keyword);
+        }
+
         return GroupBuyPageResponse.of(trimmed, nextCursor, hasMore);
 
     }
@@ -84,9 +92,7 @@ public class GroupBuyListService {
             log.warn("키워드가 너무 깁니다. 100자로 제한됨: {}", keyword);
         }
 
-        return keyword.replaceAll("[^\\p{L}\\p{N}\\s]", "")
-                .replaceAll("\\s+", "")
-                .toLowerCase();
+        return SearchTextTokenizer.normalize(keyword);
     }
 
     /**
@@ -109,8 +115,11 @@ public class GroupBuyListService {
         GroupBuySortOption sortOption = GroupBuySortOption.from(sortType);
         CursorInfoDto cursorInfoDto = cursor != null ? decodeCursor(cursor) : null;
 
-        List<Tuple> tuples = groupBuyRepository.findGroupBuysSortedWithCursor(
-                categoryId, sortOption, limit + 1, cursorInfoDto, keyword);
+        Set<Long> candidateIds = findSearchCandidates(keyword);
+        List<Tuple> tuples = (candidateIds != null && candidateIds.isEmpty())
+                ? List.of()
+                : groupBuyRepository.findGroupBuysSortedWithCursor(
+                        categoryId, sortOption, limit, cursorInfoDto, keyword, candidateIds);
 
         if (tuples.isEmpty() && cursor == null) {
             String message = categoryId != null
@@ -125,39 +134,21 @@ public class GroupBuyListService {
     }
 
     /**
-     * 판매량 정렬 + 커서 + 키워드 검색
-     * @param categoryId
-     * @param limit
-     * @param cursor
-     * @param keyword
-     * @return
+     * 검색 색인에서 키워드 후보 공동구매 ID 조회
+     * @param keyword 정규화된 키워드
+     * @return 후보 ID (키워드가 없거나, 색인이 준비되지 않았거나, 후보가 너무 많으면 null → DB 검색)
      */
-    private List<GroupBuyListResponse> getGroupBuyListOrderByOrderCountWithCursor(Long categoryId, int limit, String cursor, String keyword) {
-        log.debug("Fetching group buy list by order count with cursor - categoryId: {}, limit: {}, cursor: {}, keyword: {}",
-                categoryId, limit, cursor, keyword);
-
-        GroupBuySortOption sortOption = GroupBuySortOption.ORDER_COUNT;
-        CursorInfoDto cursorInfoDto = cursor != null ? decodeCursor(cursor) : null;
-
-        // keyword까지 포함한 조회
-        List<Tuple> tuples = groupBuyRepository.findGroupBuysSortedWithCursor(
-                categoryId, sortOption, limit, cursorInfoDto, keyword);
-
-        if (tuples.isEmpty() && cursor == null) {
-            String message = categoryId != null
-                    ? "해당 카테고리의 공동구매를 찾을 수 없습니다."
-                    : "공동구매를 찾을 수 없습니다.";
-            throw new BusinessException(GROUPBUY_NOT_FOUND, message);
+    private Set<Long> findSearchCandidates(String keyword) {
+        if (keyword == null || keyword.isEmpty() || !searchIndex.isReady()) {
+            return null;
         }
 
-        // Tuple을 Response로 변환 후 판매량 기준 정렬
-        List<GroupBuyListResponse> responses = tuples.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
-
-        return responses.stream()
-                .limit(limit)
-                .collect(Collectors.toList());
+        Set<Long> candidateIds = searchIndex.search(keyword);
+        if (candidateIds.size() > maxSearchCandidates) {
+            log.debug("검색 색인 후보가 많아 DB 검색으로 대체: '{}' ({}건)", keyword, candidateIds.size());
+            return null;
+        }
+        return candidateIds;
     }
 
     /**
@@ -199,7 +190,7 @@ public class GroupBuyListService {
         Integer displayFinalPrice = row.get(3, Integer.class);
         Integer startPrice = row.get(4, Integer.class);
         Instant endsAt = row.get(5, Instant.class);
-        Integer orderCount = row.get(6, Long.class).intValue();
+        Integer orderCount = row.get(6, Integer.class);
         Instant createdAt = row.get(7, Instant.class);
         Integer maxDiscountRate = row.get(8, Integer.class);
 
@@ -217,6 +208,6 @@ public class GroupBuyListService {
      */
     private boolean isValidSortType(String sortType) {
         return sortType != null &&
-                List.of("deadline", "discount", "latest", "price_low", "price_high").contains(sortType);
+                List.of("deadline", "discount", "latest", "price_low", "price_high", "order_count").contains(sortType);
     }
 }
@@ -0,0 +1,378 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ururulab.ururu.global.exception.BusinessException;
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyOption;
+import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
+import com.ururulab.ururu.groupBuy.dto.response.GroupBuyLiveResponse;
+import com.ururulab.ururu.groupBuy.util.DiscountTierTable;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.ururulab.ururu.global.exception.error.ErrorCode.*;
+
+/**
+ * 공동구매 실시간 현황 스트림 (SSE)
+ * 구독자가 있는 공동구매만 메모리에 현황(옵션별 재고, 판매량)을 올려두고, 결제/환불 판매량 변화 메시지로 갱신합니다. (DB 폴링 없음)
+ * 변화는 바로 보내지 않고 모아 두었다가 flush 주기마다 공동구매당 한 번만 직렬화해 모든 구독자에게 전송합니다.
+ * SseEmitter는 서블릿 비동기 응답이라 연결마다 스레드를 점유하지 않으며, 전송은 liveStreamExecutor에서 구독자 묶음 단위로 처리합니다.
+ * 유실된 메시지나 구독 시점 경합으로 생긴 오차는 주기적인 스냅샷 재조회(resync)로 보정합니다.
+ */
+@Slf4j
+@Service
+public class GroupBuyLiveService {
+
+    private static final String UPDATE_EVENT = "update";
+    private static final String HEARTBEAT_COMMENT = "ping";
+    private static final int BROADCAST_BATCH_SIZE = 500; // 전송 작업 하나가 맡는 구독자 수
+
+    private final GroupBuyRepository groupBuyRepository;
+    private final GroupBuyStockService groupBuyStockService;
+    private final GroupBuyDiscountTierCache discountTierCache;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor liveStreamExecutor;
+    private final long emitterTimeoutMillis;
+    private final long heartbeatIntervalMillis;
+    private final int maxSubscribers;
+
+    private final Map<Long, LiveStream> streams = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private volatile long lastHeartbeatMillis = System.currentTimeMillis();
+
+    public GroupBuyLiveService(
+            GroupBuyRepository groupBuyRepository,
+            GroupBuyStockService groupBuyStockService,
+            GroupBuyDiscountTierCache discountTierCache,
+            ObjectMapper objectMapper,
+            @Qualifier("liveStreamExecutor") TaskExecutor liveStreamExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${groupbuy.live.emitter-timeout-ms:600000}") long emitterTimeoutMillis,
+            @Value("${groupbuy.live.heartbeat-interval-ms:15000}") long heartbeatIntervalMillis,
+            @Value("${groupbuy.live.max-subscribers:20000}") int maxSubscribers
+    ) {
+        this.groupBuyRepository = groupBuyRepository;
+        this.groupBuyStockService = groupBuyStockService;
+        this.discountTierCache = discountTierCache;
+        this.objectMapper = objectMapper;
+        this.liveStreamExecutor = liveStreamExecutor;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        this.maxSubscribers = maxSubscribers;
+
+        Gauge.builder("ururu_groupbuy_live_subscribers", subscriberCount, AtomicInteger::get)
+                .description("실시간 현황 SSE 구독자 수")
+                .register(meterRegistry);
+        Gauge.builder("ururu_groupbuy_live_streams", streams, Map::size)
+                .description("구독자가 있는 공동구매 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 공동구매 실시간 현황 구독
+     * 첫 구독자만 DB에서 현황을 읽고, 이후 구독자는 메모리 현황을 바로 받습니다.
+     * 현황 조회는 스트림 잠금 밖에서 하므로 flush/판매량 반영이 DB 조회를 기다리지 않습니다.
+     * 이미 종료된 공동구매는 현황을 한 번 보내고 스트림을 닫습니다.
+     *
+     * @param groupBuyId 공동구매 ID
+     * @return SSE 스트림
+     * @throws BusinessException 공개되지 않은 공동구매이거나 노드의 구독자 수가 한도를 넘은 경우
+     */
+    public SseEmitter subscribe(Long groupBuyId) {
+        if (subscriberCount.get() >= maxSubscribers) {
+            throw new BusinessException(TOO_MANY_REQUESTS);
+        }
+
+        while (true) {
+            LiveStream stream = streams.computeIfAbsent(groupBuyId, LiveStream::new);
+            if (!stream.loaded && !stream.removed && stream.loadedSnapshot.get() == null) {
+                // DB 조회는 잠금 밖에서 하고, 동시에 읽은 첫 구독자들 중 먼저 끝난 스냅샷만 사용
+                try {
+                    stream.loadedSnapshot.compareAndSet(null, loadSnapshot(groupBuyId));
+                } catch (RuntimeException e) {
+                    synchronized (stream) {
+                        if (!stream.loaded && stream.emitters.isEmpty()) {
+                            removeStream(stream);
+                        }
+                    }
+                    throw e;
+                }
+            }
+
+            SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+            String payload;
+
+            synchronized (stream) {
+                if (stream.removed) {
+                    continue; // 동시에 정리된 스트림이면 새로 만듦
+                }
+                if (!stream.loaded) {
+                    stream.reset(stream.loadedSnapshot.get());
+                }
+
+                payload = serialize(stream.toResponse());
+                if (stream.closed) {
+                    removeStream(stream);
+                } else {
+                    stream.emitters.add(emitter);
+                    subscriberCount.incrementAndGet();
+                    emitter.onCompletion(() -> unsubscribe(stream, emitter));
+                    emitter.onTimeout(() -> unsubscribe(stream, emitter));
+                    emitter.onError(e -> unsubscribe(stream, emitter));
+                }
+            }
+
+            if (!send(emitter, payload) || stream.removed) {
+                emitter.complete();
+            }
+            return emitter;
+        }
+    }
+
+    /**
+     * 결제/환불로 바뀐 옵션 판매량 반영 (구독 중인 공동구매만)
+     *
+     * @param optionDeltas 공동구매 ID -> (옵션 ID -> 판매량 증감)
+     */
+    public void applySoldQuantityChanges(Map<Long, Map<Long, Integer>> optionDeltas) {
+        optionDeltas.forEach((groupBuyId, deltas) -> {
+            LiveStream stream = streams.get(groupBuyId);
+            if (stream == null) {
+                return;
+            }
+            synchronized (stream) {
+                if (!stream.loaded || stream.closed) {
+                    return; // 아직 스냅샷을 읽는 중이면 스냅샷에 반영되어 있거나 resync에서 보정됨
+                }
+                deltas.forEach((optionId, delta) -> {
+                    stream.stocks.computeIfPresent(optionId, (id, stock) -> Math.max(0, stock - delta));
+                    stream.soldQuantity += delta;
+                });
+                stream.dirty = true;
+            }
+        });
+    }
+
+    /**
+     * 공동구매 종료 반영 (다음 flush에서 종료 현황을 보내고 스트림을 닫음)
+     */
+    public void close(Collection<Long> groupBuyIds) {
+        for (Long groupBuyId : groupBuyIds) {
+            LiveStream stream = streams.get(groupBuyId);
+            if (stream == null) {
+                continue;
+            }
+            synchronized (stream) {
+                stream.closed = true;
+                stream.dirty = true;
+            }
+        }
+    }
+
+    /**
+     * 모아 둔 변화 전송
+     * 바뀐 공동구매만 현황을 보내고, heartbeat 주기에는 나머지 스트림에 주석을 보내 끊긴 연결을 정리합니다.
+     */
+    public void flush() {
+        long now = System.currentTimeMillis();
+        boolean heartbeat = now - lastHeartbeatMillis >= heartbeatIntervalMillis;
+        if (heartbeat) {
+            lastHeartbeatMillis = now;
+        }
+
+        for (LiveStream stream : streams.values()) {
+            String payload;
+            boolean closing;
+            synchronized (stream) {
+                if (!stream.loaded || (!stream.dirty && !heartbeat)) {
+                    continue;
+                }
+                payload = stream.dirty ? serialize(stream.toResponse()) : null;
+                stream.dirty = false;
+                closing = stream.closed;
+                if (closing) {
+                    removeStream(stream);
+                }
+            }
+            broadcast(stream, payload, closing);
+        }
+    }
+
+    /**
+     * 구독 중인 공동구매 현황을 DB 기준으로 다시 맞춤
+     * 구독자가 있는 공동구매 수만큼만 조회합니다.
+     */
+    public void resync() {
+        for (LiveStream stream : List.copyOf(streams.values())) {
+            if (!stream.loaded || stream.closed) {
+                continue;
+            }
+
+            Snapshot snapshot;
+            try {
+                snapshot = loadSnapshot(stream.groupBuyId);
+            } catch (BusinessException e) {
+                close(List.of(stream.groupBuyId)); // 삭제 등으로 더 이상 공개되지 않음
+                continue;
+            }
+
+            synchronized (stream) {
+                if (!stream.removed && stream.differsFrom(snapshot)) {
+                    stream.reset(snapshot);
+                    stream.dirty = true;
+                }
+            }
+        }
+    }
+
+    private Snapshot loadSnapshot(Long groupBuyId) {
+        GroupBuy groupBuy = groupBuyRepository.findByIdsWithOptions(List.of(groupBuyId)).stream()
+                .filter(gb -> gb.getStatus() != GroupBuyStatus.DRAFT)
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(GROUPBUY_NOT_FOUND, groupBuyId));
+
+        List<GroupBuyOption> options = groupBuy.getOptions();
+        Map<Long, Integer> stocks = groupBuyStockService.getStocks(options);
+        int soldQuantity = options.stream()
+                .mapToInt(option -> option.getInitialStock() - stocks.getOrDefault(option.getId(), option.getStock()))
+                .sum();
+
+        return new Snapshot(groupBuy.getStatus() == GroupBuyStatus.CLOSED, stocks, soldQuantity,
+                discountTierCache.get(groupBuy));
+    }
+
+    /**
+     * 구독자 묶음 단위로 나눠 전송 (느린 연결 하나가 전체 전송을 막지 않도록)
+     */
+    private void broadcast(LiveStream stream, String payload, boolean closing) {
+        List<SseEmitter> targets = List.copyOf(stream.emitters);
+        for (int from = 0; from < targets.size(); from += BROADCAST_BATCH_SIZE) {
+            List<SseEmitter> batch = targets.subList(from, Math.min(from + BROADCAST_BATCH_SIZE, targets.size()));
+            liveStreamExecutor.execute(() -> {
+                for (SseEmitter emitter : batch) {
+                    boolean sent = payload != null ? send(emitter, payload) : sendHeartbeat(emitter);
+                    if (!sent || closing) {
+                        emitter.complete();
+                    }
+                }
+            });
+        }
+    }
+
+    private boolean send(SseEmitter emitter, String payload) {
+        try {
+            emitter.send(SseEmitter.event().name(UPDATE_EVENT).data(payload, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Failed to send live update, closing emitter", e);
+            return false;
+        }
+    }
+
+    private boolean sendHeartbeat(SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event().comment(HEARTBEAT_COMMENT));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            return false;
+        }
+    }
+
+    private String serialize(GroupBuyLiveResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize live update - groupBuyId: " + response.groupBuyId(), e);
+        }
+    }
+
+    private void unsubscribe(LiveStream stream, SseEmitter emitter) {
+        if (!stream.emitters.remove(emitter)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+
+        synchronized (stream) {
+            if (stream.emitters.isEmpty()) {
+                removeStream(stream);
+            }
+        }
+    }
+
+    private void removeStream(LiveStream stream) {
+        stream.removed = true;
+        streams.remove(stream.groupBuyId, stream);
+    }
+
+    /**
+     * DB에서 읽은 공동구매 현황
+     */
+    private record Snapshot(
+            boolean closed,
+            Map<Long, Integer> stocks,
+            int soldQuantity,
+            DiscountTierTable discountTiers
+    ) {
+    }
+
+    /**
+     * 공동구매 하나의 현황과 구독자 (상태 변경은 객체 잠금 안에서)
+     */
+    private static class LiveStream {
+
+        private final Long groupBuyId;
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private final AtomicReference<Snapshot> loadedSnapshot = new AtomicReference<>(); // 첫 구독 시 읽은 현황
+
+        private volatile boolean loaded;
+        private volatile boolean closed;
+        private volatile boolean removed;
+        private boolean dirty;
+        private long sequence;
+
+        private Map<Long, Integer> stocks = new HashMap<>();
+        private int soldQuantity;
+        private DiscountTierTable discountTiers = DiscountTierTable.EMPTY;
+
+        LiveStream(Long groupBuyId) {
+            this.groupBuyId = groupBuyId;
+        }
+
+        void reset(Snapshot snapshot) {
+            this.stocks = new HashMap<>(snapshot.stocks());
+            this.soldQuantity = snapshot.soldQuantity();
+            this.discountTiers = snapshot.discountTiers();
+            this.closed = this.closed || snapshot.closed();
+            this.loaded = true;
+        }
+
+        boolean differsFrom(Snapshot snapshot) {
+            return soldQuantity != snapshot.soldQuantity()
+                    || closed != snapshot.closed()
+                    || !stocks.equals(snapshot.stocks())
+                    || !discountTiers.equals(snapshot.discountTiers());
+        }
+
+        GroupBuyLiveResponse toResponse() {
+            return new GroupBuyLiveResponse(groupBuyId, ++sequence, closed, soldQuantity,
+                    discountTiers.stageFor(soldQuantity), discountTiers.rateFor(soldQuantity),
+                    discountTiers.nextStageQuantity(soldQuantity), new TreeMap<>(stocks));
+        }
+    }
+}
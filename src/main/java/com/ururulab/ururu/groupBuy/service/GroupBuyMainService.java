@@ -5,11 +5,13 @@ import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
 import com.ururulab.ururu.groupBuy.dto.response.GroupBuyListResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Slf4j
@@ -17,19 +19,28 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class GroupBuyMainService {
 
+    private static final int RANK_FETCH_SLACK = 10; // 순위에서 아직 빠지지 않은 종료 공동구매를 감안해 더 조회
+
     private final GroupBuyRepository groupBuyRepository;
     private final GroupBuyRankingService groupBuyRankingService;
+    private final GroupBuyLeaderboardService groupBuyLeaderboardService;
 
     /**
      * 메인 화면 - 실시간 베스트 공동구매 조회 (판매량 기준 상위 3개)
-     * 기존 GroupBuyListService 로직 재사용하여 일관성 유지
+     * 판매량 리더보드에서 상위 ID를 조회하고, 리더보드가 없으면 DB에서 계산
+     * 요청 몰림을 흡수하도록 L1/L2 캐시에 수 초간 보관 (RedisConfig.CACHE_SPECS)
      * @return 판매량 많은 순으로 정렬된 상위 3개 공동구매 목록
      */
-    @Cacheable(value = "realtimeBest", key = "'top3'")
+    @Cacheable(value = "realtimeBest", key = "'top3'", sync = true)
     public List<GroupBuyListResponse> getRealtimeBestGroupBuys() {
         log.debug("Fetching realtime best 3 group buys for main page");
 
-        // 전체 공개된 공동구매 조회 (기존 로직 재사용)
+        Map<Long, Integer> ranked = groupBuyLeaderboardService.findTop(null, 3 + RANK_FETCH_SLACK);
+        if (ranked != null) {
+            return groupBuyRankingService.hydrateRanked(ranked, 3);
+        }
+
+        // 리더보드 재구성 전: 전체 공개된 공동구매 조회 후 판매량 정렬
         List<GroupBuy> groupBuys = groupBuyRepository.findAllPublicWithOptions();
         if (groupBuys.isEmpty()) {
             log.warn("No public group buys found for realtime best");
@@ -44,14 +55,20 @@ public class GroupBuyMainService {
 
     /**
      * 메인 화면 - 카테고리별 인기 공동구매 조회 (판매량 기준 상위 6개)
-     * 기존 GroupBuyListService 로직 재사용하여 일관성 유지
+     * 카테고리 리더보드에서 상위 ID를 조회하고, 리더보드가 없으면 DB에서 계산
+     * 실시간 베스트와 같이 L1/L2 캐시에 수 초간 보관 (RedisConfig.CACHE_SPECS)
      * @param categoryId 카테고리 ID
      * @return 해당 카테고리의 판매량 많은 순으로 정렬된 상위 6개 공동구매 목록
      */
-    @Cacheable(value = "categoryPopular", key = "#categoryId")
+    @Cacheable(value = "categoryPopular", key = "#categoryId", sync = true)
     public List<GroupBuyListResponse> getCategoryPopularGroupBuys(Long categoryId) {
         log.debug("Fetching popular group buys for category: {}", categoryId);
 
+        Map<Long, Integer> ranked = groupBuyLeaderboardService.findTop(categoryId, 6 + RANK_FETCH_SLACK);
+        if (ranked != null) {
+            return groupBuyRankingService.hydrateRanked(ranked, 6);
+        }
+
         List<GroupBuy> groupBuys = groupBuyRepository.findByProductCategoryIdWithOptions(categoryId);
         if (groupBuys.isEmpty()) {
             log.warn("No group buys found for category: {}", categoryId);
@@ -63,4 +80,13 @@ public class GroupBuyMainService {
         log.debug("Retrieved {} popular group buys for category: {}", popularList.size(), categoryId);
         return popularList;
     }
+
+    /**
+     * 메인 화면 캐시 전체 삭제 (할인 단계 변경으로 표시 가격이 바뀌었을 때)
+     * 다른 노드의 L1은 LayeredCache 무효화 메시지로 함께 비워짐
+     */
+    @CacheEvict(value = {"realtimeBest", "categoryPopular"}, allEntries = true)
+    public void evictMainPageCaches() {
+        log.debug("Evicted main page caches");
+    }
 }
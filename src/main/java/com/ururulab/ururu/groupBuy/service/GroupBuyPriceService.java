@@ -5,8 +5,6 @@ import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyOption;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
-import com.ururulab.ururu.groupBuy.dto.common.DiscountStageDto;
-import com.ururulab.ururu.groupBuy.util.DiscountStageParser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -23,10 +21,12 @@ public class GroupBuyPriceService {
 
     private final GroupBuyRepository groupBuyRepository;
     private final GroupBuyOptionRepository groupBuyOptionRepository;
+    private final GroupBuyDiscountTierCache discountTierCache;
 
     /**
-     * 공동 구매의 displayFinalPrice 계산
-     * 공동 구매 가격 = 첫번째 옵션의 공구 시작가 - 리워드의 최대 할인률
+     * 공동 구매의 displayFinalPrice, minStartPrice 계산
+     * 공동 구매 가격 = 최저 공구 시작가 - 현재 판매량으로 달성한 할인 단계의 할인율
+     * 이후 할인 단계가 바뀌면 GroupBuyDiscountStageService가 갱신
      * @param groupBuyId
      */
     @Transactional
@@ -44,27 +44,16 @@ public class GroupBuyPriceService {
                 .min(Integer::compareTo)
                 .orElseThrow(() -> new BusinessException(GROUPBUY_NO_OPTIONS));
 
-        Integer maxDiscountRate = getMaxDiscountRate(groupBuy.getDiscountStages());
-        Integer finalPrice = originalPrice * (100 - maxDiscountRate) / 100;
+        int discountRate = discountTierCache.get(groupBuy).rateFor(groupBuy.getSoldQuantity());
+        Integer finalPrice = discountedPrice(originalPrice, discountRate);
 
         groupBuy.updateDisplayFinalPrice(finalPrice);
+        groupBuy.updateMinStartPrice(originalPrice);
+        groupBuy.updateCurrentDiscountRate(discountRate);
 
         log.debug("Display final price calculated: {} -> {}", originalPrice, finalPrice);
     }
 
-    /**
-     * 리워드의 최대 할인률 추출
-     * @param discountStagesJson
-     * @return
-     */
-    private Integer getMaxDiscountRate(String discountStagesJson) {
-        List<DiscountStageDto> stages = DiscountStageParser.parseDiscountStages(discountStagesJson);
-        return stages.stream()
-                .mapToInt(DiscountStageDto::discountRate)
-                .max()
-                .orElse(0);
-    }
-
     /**
      * 최종 할인율로 모든 옵션의 판매가 업데이트
      * 공동구매 종료 시 최종 할인율 적용
@@ -86,12 +75,7 @@ public class GroupBuyPriceService {
 
         // 각 옵션별 최종 판매가 계산 및 업데이트
         for (GroupBuyOption option : options) {
-            // 반올림을 위해 double 계산 후 변환
-            int discountAmount = (int) Math.round(option.getPriceOverride() * finalDiscountRate / 100.0);
-            int finalPrice = option.getPriceOverride() - discountAmount;
-
-            // 최종 가격이 음수가 되지 않도록 보장
-            finalPrice = Math.max(finalPrice, 0);
+            int finalPrice = discountedPrice(option.getPriceOverride(), finalDiscountRate);
 
             option.updateSalePrice(finalPrice);
 
@@ -105,4 +89,13 @@ public class GroupBuyPriceService {
         log.info("Updated final sale prices for {} options with {}% discount",
                 options.size(), finalDiscountRate);
     }
+
+    /**
+     * 할인율 적용 가격 (할인 금액은 반올림, 음수가 되지 않도록 보장)
+     * 할인 단계 벌크 UPDATE의 ROUND 계산과 같은 결과이며, 판매가를 계산하는 모든 곳에서 이 규칙을 사용
+     */
+    static int discountedPrice(int price, int discountRate) {
+        int discountAmount = (int) Math.round(price * discountRate / 100.0);
+        return Math.max(price - discountAmount, 0);
+    }
 }
@@ -1,14 +1,19 @@
 package com.ururulab.ururu.groupBuy.service;
 
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
+import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
 import com.ururulab.ururu.groupBuy.dto.response.GroupBuyListResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -17,6 +22,7 @@ import java.util.stream.Collectors;
 public class GroupBuyRankingService {
 
     private final GroupBuyOptionRepository groupBuyOptionRepository;
+    private final GroupBuyRepository groupBuyRepository;
 
     /**
      * 여러 공동구매의 판매량 조회
@@ -95,4 +101,35 @@ public class GroupBuyRankingService {
         // 3. 정렬 및 변환
         return sortByOrderCount(groupBuys, orderCountMap, limit);
     }
+
+    /**
+     * 리더보드에서 조회한 상위 공동구매 ID를 GroupBuyListResponse로 변환
+     * 순위 반영 전에 종료된 공동구매는 제외하고, 판매량이 같으면 최신순(ID 역순)으로 정렬합니다.
+     *
+     * @param rankedOrderCounts 공동구매 ID -> 판매량 (리더보드 상위 항목)
+     * @param limit 반환할 최대 개수
+     * @return 판매량 기준으로 정렬된 GroupBuyListResponse 목록
+     */
+    public List<GroupBuyListResponse> hydrateRanked(Map<Long, Integer> rankedOrderCounts, int limit) {
+        if (rankedOrderCounts.isEmpty()) {
+            return List.of();
+        }
+
+        Instant now = Instant.now();
+        Map<Long, GroupBuy> groupBuys = groupBuyRepository.findByIdsWithOptions(List.copyOf(rankedOrderCounts.keySet()))
+                .stream()
+                .filter(groupBuy -> groupBuy.getStatus() == GroupBuyStatus.OPEN && groupBuy.getEndsAt().isAfter(now))
+                .collect(Collectors.toMap(GroupBuy::getId, Function.identity(), (a, b) -> a));
+
+        return rankedOrderCounts.entrySet().stream()
+                .filter(entry -> groupBuys.containsKey(entry.getKey()))
+                .sorted(Map.Entry.<Long, Integer>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                .limit(limit)
+                .map(entry -> {
+                    GroupBuy groupBuy = groupBuys.get(entry.getKey());
+                    return GroupBuyListResponse.from(groupBuy, groupBuy.getOptions(), entry.getValue());
+                })
+                .collect(Collectors.toList()); // 캐시 역직렬화 가능한 타입 유지
+    }
 }
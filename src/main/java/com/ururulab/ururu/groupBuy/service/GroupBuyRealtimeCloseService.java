@@ -7,10 +7,12 @@ import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyStatisticsRepository;
+import com.ururulab.ururu.groupBuy.event.GroupBuySoldOutEvent;
 import com.ururulab.ururu.product.domain.entity.Product;
 import com.ururulab.ururu.product.domain.entity.enumerated.Status;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +28,7 @@ public class GroupBuyRealtimeCloseService {
     private final GroupBuyStatisticsCalculatorService statisticsCalculatorService;
     private final GroupBuyPriceService groupBuyPriceService;
     private final GroupBuyOptionRepository groupBuyOptionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * initialStock 기반 재고 소진 체크
@@ -62,7 +65,8 @@ public class GroupBuyRealtimeCloseService {
         try {
             closeGroupBuyImmediately(groupBuy);
 
-            // 재고 소진으로 종료 완료 (이벤트 발행 제거)
+            // 커밋 후 입장 대기열 종료
+            eventPublisher.publishEvent(new GroupBuySoldOutEvent(groupBuyId));
             log.info("재고 소진으로 공동구매 즉시 종료 완료 - groupBuyId: {}", groupBuyId);
 
         } catch (Exception e) {
@@ -84,6 +88,9 @@ public class GroupBuyRealtimeCloseService {
         // 상태를 CLOSED로 변경
         groupBuy.updateStatus(GroupBuyStatus.CLOSED);
 
+        // 누적 판매량을 최종 집계값으로 보정
+        groupBuy.syncSoldQuantity(statistics.getTotalQuantity());
+
         // 연관된 상품을 INACTIVE로 변경
         Product product = groupBuy.getProduct();
         if (product.getStatus() == Status.ACTIVE) {
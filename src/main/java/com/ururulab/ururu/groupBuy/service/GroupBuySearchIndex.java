@@ -0,0 +1,220 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.ururulab.ururu.groupBuy.util.SearchTextTokenizer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.ururulab.ururu.groupBuy.util.SearchTextTokenizer.GRAM_SIZE;
+
+/**
+ * 공동구매 키워드 검색용 인메모리 n-gram 역색인 (인스턴스별)
+ * 진행 중인 공동구매의 제목, 판매자명, 옵션 전성분을 바이그램으로 색인하고
+ * 키워드를 포함하는 공동구매 ID 후보를 돌려줍니다.
+ *
+ * 원문 필드는 DB 검색과 같이 스페이스 제거 + 소문자로만 정규화하고(SearchTextTokenizer.normalizeField),
+ * 바이그램 교집합으로 후보를 좁힌 뒤 필드에 키워드가 실제로 포함되는지 다시 확인하므로
+ * 결과는 기존 LOWER(REPLACE(col, ' ', '')) LIKE '%keyword%' 검색과 같습니다.
+ */
+@Slf4j
+@Component
+public class GroupBuySearchIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, List<String>> documents = new HashMap<>(); // 공동구매 ID -> 정규화된 필드
+    private Map<String, Set<Long>> postings = new HashMap<>(); // 바이그램 -> 공동구매 ID
+
+    private volatile boolean ready = false;
+    private volatile int documentCount = 0;
+    private volatile int gramCount = 0;
+    private volatile long postingCount = 0;
+
+    private final Timer queryTimer;
+
+    public GroupBuySearchIndex(MeterRegistry meterRegistry) {
+        Gauge.builder("ururu_groupbuy_search_index_documents", this, index -> index.documentCount)
+                .description("검색 색인에 등록된 공동구매 수")
+                .register(meterRegistry);
+        Gauge.builder("ururu_groupbuy_search_index_grams", this, index -> index.gramCount)
+                .description("검색 색인의 서로 다른 n-gram 수")
+                .register(meterRegistry);
+        Gauge.builder("ururu_groupbuy_search_index_postings", this, index -> index.postingCount)
+                .description("검색 색인의 전체 포스팅 수")
+                .register(meterRegistry);
+        this.queryTimer = Timer.builder("ururu_groupbuy_search_index_query")
+                .description("검색 색인 후보 조회 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 최초 색인이 끝났는지 여부 (끝나기 전에는 DB 검색으로 대체)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 전체 재색인
+     * 새 색인을 만든 뒤 한 번에 교체하므로 재색인 중에도 기존 색인으로 조회할 수 있습니다.
+     *
+     * @param fieldsById 공동구매 ID별 원문 필드 (제목, 판매자명, 옵션 전성분 등)
+     */
+    public void rebuild(Map<Long, List<String>> fieldsById) {
+        Map<Long, List<String>> newDocuments = new HashMap<>();
+        Map<String, Set<Long>> newPostings = new HashMap<>();
+        long newPostingCount = 0;
+        for (Map.Entry<Long, List<String>> entry : fieldsById.entrySet()) {
+            newPostingCount += addDocument(newDocuments, newPostings, entry.getKey(), entry.getValue());
+        }
+
+        lock.writeLock().lock();
+        try {
+            documents = newDocuments;
+            postings = newPostings;
+            postingCount = newPostingCount;
+            ready = true;
+            updateStats();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 공동구매 색인 추가/갱신
+     */
+    public void upsert(Long groupBuyId, List<String> fields) {
+        lock.writeLock().lock();
+        try {
+            postingCount -= removeDocument(groupBuyId);
+            postingCount += addDocument(documents, postings, groupBuyId, fields);
+            updateStats();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 공동구매 색인 제거 (종료/삭제)
+     */
+    public void remove(Collection<Long> groupBuyIds) {
+        lock.writeLock().lock();
+        try {
+            for (Long groupBuyId : groupBuyIds) {
+                postingCount -= removeDocument(groupBuyId);
+            }
+            updateStats();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드를 포함하는 공동구매 ID 후보 조회
+     *
+     * @param normalizedKeyword SearchTextTokenizer.normalize 로 정규화된 키워드
+     * @return 키워드가 제목/판매자명/전성분 중 하나에 포함된 공동구매 ID
+     */
+    public Set<Long> search(String normalizedKeyword) {
+        return queryTimer.record(() -> {
+            lock.readLock().lock();
+            try {
+                return findMatches(normalizedKeyword);
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+
+    private Set<Long> findMatches(String keyword) {
+        // 바이그램보다 짧은 키워드는 색인으로 좁힐 수 없어 전체 문서를 확인
+        Collection<Long> candidates = keyword.length() < GRAM_SIZE
+                ? documents.keySet()
+                : intersectPostings(SearchTextTokenizer.ngrams(keyword, GRAM_SIZE));
+
+        Set<Long> matches = new HashSet<>();
+        for (Long id : candidates) {
+            List<String> fields = documents.get(id);
+            if (fields != null && fields.stream().anyMatch(field -> field.contains(keyword))) {
+                matches.add(id);
+            }
+        }
+        return matches;
+    }
+
+    private Collection<Long> intersectPostings(Set<String> grams) {
+        List<Set<Long>> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return List.of();
+            }
+            lists.add(ids);
+        }
+
+        // 가장 짧은 포스팅부터 교집합
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * @return 새로 추가된 포스팅 수
+     */
+    private static int addDocument(Map<Long, List<String>> documents, Map<String, Set<Long>> postings,
+                                   Long id, List<String> rawFields) {
+        List<String> fields = rawFields.stream()
+                .map(SearchTextTokenizer::normalizeField)
+                .filter(field -> !field.isEmpty())
+                .distinct()
+                .toList();
+        documents.put(id, fields);
+
+        int added = 0;
+        for (String field : fields) {
+            for (String gram : SearchTextTokenizer.ngrams(field, GRAM_SIZE)) {
+                if (postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id)) {
+                    added++;
+                }
+            }
+        }
+        return added;
+    }
+
+    /**
+     * @return 제거된 포스팅 수
+     */
+    private int removeDocument(Long id) {
+        List<String> fields = documents.remove(id);
+        if (fields == null) {
+            return 0;
+        }
+
+        int removed = 0;
+        for (String field : fields) {
+            for (String gram : SearchTextTokenizer.ngrams(field, GRAM_SIZE)) {
+                Set<Long> ids = postings.get(gram);
+                if (ids != null && ids.remove(id)) {
+                    removed++;
+                    if (ids.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+        }
+        return removed;
+    }
+
+    private void updateStats() {
+        documentCount = documents.size();
+        gramCount = postings.size();
+    }
+}
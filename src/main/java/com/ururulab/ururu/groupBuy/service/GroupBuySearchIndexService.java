@@ -0,0 +1,142 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyOption;
+import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 공동구매 검색 색인/자동완성 색인 적재/동기화
+ * 기동 시 전체 색인을 만들고, 이후에는 Redis Pub/Sub으로 모든 노드에 전파되는 오픈/종료 알림과
+ * 주기적인 변경분 조회로 갱신합니다. (알림을 놓친 인스턴스는 변경분 조회로 반영)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GroupBuySearchIndexService {
+
+    private final GroupBuyRepository groupBuyRepository;
+    private final GroupBuySearchIndex searchIndex;
+    private final GroupBuySuggestIndex suggestIndex;
+    private final GroupBuySuggestService suggestService;
+
+    @Value("${groupbuy.search-index.sync-overlap-ms:10000}")
+    private long syncOverlapMs; // 커밋 지연을 고려해 이전 동기화 시각보다 앞당겨 조회
+
+    private volatile Instant lastSyncedAt;
+
+    /**
+     * 전체 재색인 (기동 시 + 주기적인 보정)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        Instant startedAt = Instant.now();
+
+        Map<Long, List<String>> fieldsById = new HashMap<>();
+        List<GroupBuySuggestIndex.GroupBuyTerm> terms = new ArrayList<>();
+        for (GroupBuy groupBuy : groupBuyRepository.findAllOpenForSearchIndex()) {
+            fieldsById.put(groupBuy.getId(), extractFields(groupBuy));
+            terms.add(toSuggestTerm(groupBuy));
+        }
+        searchIndex.rebuild(fieldsById);
+        suggestIndex.rebuild(terms, suggestService.findPopularKeywords());
+        lastSyncedAt = startedAt;
+
+        log.info("Group buy search index rebuilt - documents: {}, elapsed: {}ms",
+                fieldsById.size(), Duration.between(startedAt, Instant.now()).toMillis());
+    }
+
+    /**
+     * 마지막 동기화 이후 변경된 공동구매를 색인에 반영
+     *
+     * @return 확인한 공동구매 수
+     */
+    @Transactional(readOnly = true)
+    public int syncChanges() {
+        if (lastSyncedAt == null) {
+            return 0; // 최초 색인 전
+        }
+
+        Instant startedAt = Instant.now();
+        List<Long> changedIds = groupBuyRepository.findIdsUpdatedSince(lastSyncedAt.minusMillis(syncOverlapMs));
+        applyChanges(changedIds);
+        lastSyncedAt = startedAt;
+        return changedIds.size();
+    }
+
+    /**
+     * 지정한 공동구매를 현재 상태대로 색인에 반영 (Pub/Sub 알림 수신 시 호출)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void refresh(Collection<Long> groupBuyIds) {
+        applyChanges(groupBuyIds);
+    }
+
+    /**
+     * 색인에서 제거 (종료 이벤트)
+     */
+    public void remove(Collection<Long> groupBuyIds) {
+        searchIndex.remove(groupBuyIds);
+        suggestIndex.removeGroupBuys(groupBuyIds);
+    }
+
+    /**
+     * 자동완성 점수(판매량, 인기 검색어) 갱신
+     */
+    @Transactional(readOnly = true)
+    public void refreshSuggestScores() {
+        Map<Long, Integer> soldQuantities = new HashMap<>();
+        for (Object[] row : groupBuyRepository.findOpenSoldQuantities()) {
+            soldQuantities.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        suggestIndex.updateSoldQuantities(soldQuantities);
+        suggestIndex.replaceKeywords(suggestService.findPopularKeywords());
+    }
+
+    private void applyChanges(Collection<Long> groupBuyIds) {
+        if (groupBuyIds.isEmpty()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        Set<Long> removed = new HashSet<>(groupBuyIds);
+        for (GroupBuy groupBuy : groupBuyRepository.findAllForSearchIndexByIds(groupBuyIds)) {
+            if (groupBuy.getStatus() == GroupBuyStatus.OPEN && groupBuy.getEndsAt().isAfter(now)) {
+                searchIndex.upsert(groupBuy.getId(), extractFields(groupBuy));
+                suggestIndex.upsertGroupBuy(toSuggestTerm(groupBuy));
+                removed.remove(groupBuy.getId());
+            }
+        }
+
+        // 종료/삭제된 공동구매
+        remove(removed);
+    }
+
+    private GroupBuySuggestIndex.GroupBuyTerm toSuggestTerm(GroupBuy groupBuy) {
+        return new GroupBuySuggestIndex.GroupBuyTerm(
+                groupBuy.getId(), groupBuy.getTitle(), groupBuy.getSeller().getName(), groupBuy.getSoldQuantity());
+    }
+
+    private List<String> extractFields(GroupBuy groupBuy) {
+        List<String> fields = new ArrayList<>();
+        fields.add(groupBuy.getTitle());
+        fields.add(groupBuy.getSeller().getName());
+        for (GroupBuyOption option : groupBuy.getOptions()) {
+            fields.add(option.getProductOption().getFullIngredients());
+        }
+        return fields;
+    }
+}
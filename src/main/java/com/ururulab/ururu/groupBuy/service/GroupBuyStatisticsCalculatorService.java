@@ -4,8 +4,6 @@ import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyStatistics;
 import com.ururulab.ururu.groupBuy.domain.entity.enumerated.FinalStatus;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
-import com.ururulab.ururu.groupBuy.dto.common.DiscountStageDto;
-import com.ururulab.ururu.groupBuy.util.DiscountStageParser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,6 +20,7 @@ import java.util.stream.Collectors;
 public class GroupBuyStatisticsCalculatorService {
 
     private final GroupBuyOptionRepository groupBuyOptionRepository;
+    private final GroupBuyDiscountTierCache discountTierCache;
 
     /**
      * initialStock 기반 배치 통계 계산
@@ -65,7 +64,7 @@ public class GroupBuyStatisticsCalculatorService {
      * @return
      */
     private GroupBuyStatistics calculateStatistics(GroupBuy groupBuy, int totalSoldQuantity) {
-        int discountRate = calculateFinalDiscountRate(groupBuy.getDiscountStages(), totalSoldQuantity);
+        int discountRate = calculateFinalDiscountRate(groupBuy, totalSoldQuantity);
         FinalStatus status = (discountRate > 0) ? FinalStatus.SUCCESS : FinalStatus.FAIL;
 
         log.debug("Calculated statistics for group buy: {} - soldQuantity: {}, discountRate: {}, status: {}",
@@ -83,20 +82,15 @@ public class GroupBuyStatisticsCalculatorService {
 
     /**
      * 최종 할인율 계산
-     * @param discountStagesJson
+     * @param groupBuy
      * @param totalSoldQuantity 총 판매량
      * @return
      */
-    public int calculateFinalDiscountRate(String discountStagesJson, int totalSoldQuantity) {
+    public int calculateFinalDiscountRate(GroupBuy groupBuy, int totalSoldQuantity) {
         if (totalSoldQuantity <= 0) return 0;
 
         try {
-            List<DiscountStageDto> stages = DiscountStageParser.parseDiscountStages(discountStagesJson);
-            return stages.stream()
-                    .filter(stage -> totalSoldQuantity >= stage.minQuantity())
-                    .mapToInt(DiscountStageDto::discountRate)
-                    .max()
-                    .orElse(0);
+            return discountTierCache.get(groupBuy).rateFor(totalSoldQuantity);
         } catch (Exception e) {
             log.warn("할인율 계산 실패 - totalSoldQuantity: {}", totalSoldQuantity, e);
             return 0;
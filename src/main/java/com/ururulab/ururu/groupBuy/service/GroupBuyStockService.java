@@ -0,0 +1,343 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyOption;
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyOptionStockShard;
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuySoldQuantityDelta;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionStockShardRepository;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuySoldQuantityDeltaRepository;
+import com.ururulab.ururu.groupBuy.dto.common.StockCheckDto;
+import com.ururulab.ururu.groupBuy.event.GroupBuySoldQuantityChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 공구 옵션 재고 차감/복구/조회
+ * 공동구매의 재고 분할 설정에 따라 옵션 행 재고 또는 분할 재고 버킷을 사용합니다.
+ * 누적 판매량(groupbuys.sold_quantity)은 주문마다 공동구매 행을 갱신하지 않고 증감 기록을 남겨 스케줄러가 주기적으로 반영합니다.
+ * 재고 분할 공동구매는 옵션 재고 스냅샷 동기화 때 보정합니다.
+ * 판매량 변화는 분할 여부와 관계없이 GroupBuySoldQuantityChangedEvent로 알립니다. (판매량 순위, 실시간 재고 스트림 반영)
+ * 호출 측 트랜잭션 안에서 실행됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GroupBuyStockService {
+
+    private static final int MAX_SHARD_PROBES = 2; // 재고가 부족했던 버킷 수 (초과 시 버킷 잠금 후 나눠서 차감)
+    public static final int SOLD_QUANTITY_DELTA_BATCH_SIZE = 5_000; // 한 번에 반영할 판매량 증감 기록 수
+
+    private final GroupBuyOptionRepository groupBuyOptionRepository;
+    private final GroupBuyOptionStockShardRepository stockShardRepository;
+    private final GroupBuyRepository groupBuyRepository;
+    private final GroupBuySoldQuantityDeltaRepository soldQuantityDeltaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 버킷이 비어 재분배가 필요한 옵션 (스케줄러가 주기적으로 처리)
+    private final Set<Long> rebalanceCandidates = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 여러 옵션 재고 일괄 차감
+     * 분할되지 않은 옵션은 단일 UPDATE로, 분할된 옵션은 버킷 단위로 차감합니다.
+     *
+     * @param quantitiesByOptionId 옵션 ID별 차감 수량
+     * @return 재고 부족으로 차감되지 않은 옵션 ID 목록 (모두 성공 시 빈 목록)
+     */
+    public List<Long> decreaseStocks(Map<Long, Integer> quantitiesByOptionId) {
+        Map<Long, StockRoute> routes = findStockRoutes(quantitiesByOptionId.keySet());
+
+        Map<Long, Integer> rowQuantities = new LinkedHashMap<>();
+        List<Long> failedOptionIds = new ArrayList<>();
+
+        // 교착 방지를 위해 옵션 ID 순서로 처리
+        new TreeMap<>(quantitiesByOptionId).forEach((optionId, quantity) -> {
+            StockRoute route = routes.get(optionId);
+            if (route == null || !route.isSharded()) {
+                rowQuantities.put(optionId, quantity);
+            } else if (!decreaseShardedStock(optionId, route.shardCount(), quantity)) {
+                failedOptionIds.add(optionId);
+            }
+        });
+
+        List<Long> failedRowOptionIds = groupBuyOptionRepository.decreaseStocks(rowQuantities);
+        failedOptionIds.addAll(failedRowOptionIds);
+
+        failedRowOptionIds.forEach(rowQuantities::remove);
+        recordSoldQuantityDeltas(routes, rowQuantities, 1);
+
+        Map<Long, Integer> soldQuantities = new HashMap<>(quantitiesByOptionId);
+        failedOptionIds.forEach(soldQuantities::remove);
+        publishSoldQuantityChanged(routes, soldQuantities, 1);
+        return failedOptionIds;
+    }
+
+    /**
+     * 옵션 재고 복구
+     *
+     * @param optionId 공구 옵션 ID
+     * @param quantity 복구 수량
+     * @return 갱신된 행 수
+     */
+    public int increaseStock(Long optionId, Integer quantity) {
+        Map<Long, StockRoute> routes = findStockRoutes(List.of(optionId));
+        StockRoute route = routes.get(optionId);
+        if (route == null || !route.isSharded()) {
+            int updatedRows = groupBuyOptionRepository.increaseStock(optionId, quantity);
+            if (updatedRows > 0) {
+                recordSoldQuantityDeltas(routes, Map.of(optionId, quantity), -1);
+                publishSoldQuantityChanged(routes, Map.of(optionId, quantity), -1);
+            }
+            return updatedRows;
+        }
+
+        int shardNo = ThreadLocalRandom.current().nextInt(route.shardCount());
+        int updatedRows = stockShardRepository.increaseStock(optionId, shardNo, quantity);
+        if (updatedRows > 0) {
+            publishSoldQuantityChanged(routes, Map.of(optionId, quantity), -1);
+        }
+        return updatedRows;
+    }
+
+    /**
+     * 옵션별 현재 재고 조회
+     * 분할된 옵션은 버킷 합계로, 나머지는 옵션 행 재고로 계산합니다.
+     *
+     * @param options 공구 옵션 목록 (공동구매 포함 조회된 엔티티)
+     * @return 옵션 ID별 재고
+     */
+    public Map<Long, Integer> getStocks(Collection<GroupBuyOption> options) {
+        Map<Long, Integer> stocks = new HashMap<>();
+        List<Long> shardedOptionIds = new ArrayList<>();
+
+        for (GroupBuyOption option : options) {
+            if (option.getGroupBuy().isStockSharded()) {
+                shardedOptionIds.add(option.getId());
+            } else {
+                stocks.put(option.getId(), option.getStock());
+            }
+        }
+
+        if (!shardedOptionIds.isEmpty()) {
+            stocks.putAll(sumShardStocks(shardedOptionIds));
+        }
+        return stocks;
+    }
+
+    /**
+     * 재고 소진 확인용 재고/공동구매 ID 조회
+     * 분할된 옵션은 버킷 합계 재고로 대체합니다.
+     *
+     * @param optionIds 공구 옵션 ID 목록
+     * @return 옵션별 재고와 공동구매 ID
+     */
+    public List<StockCheckDto> getStockChecks(List<Long> optionIds) {
+        List<StockCheckDto> results = groupBuyOptionRepository.getStockAndGroupBuyIdsByOptionIds(optionIds);
+        Map<Long, Integer> shardStocks = sumShardStocks(optionIds);
+        if (shardStocks.isEmpty()) {
+            return results;
+        }
+
+        return results.stream()
+                .map(dto -> shardStocks.containsKey(dto.optionId())
+                        ? new StockCheckDto(dto.optionId(), shardStocks.get(dto.optionId()), dto.groupBuyId())
+                        : dto)
+                .toList();
+    }
+
+    /**
+     * 재분배 대상 옵션 ID를 꺼내고 비웁니다.
+     */
+    public Set<Long> drainRebalanceCandidates() {
+        Set<Long> drained = new HashSet<>(rebalanceCandidates);
+        rebalanceCandidates.removeAll(drained);
+        return drained;
+    }
+
+    /**
+     * 분할 재고 차감
+     * 다른 트랜잭션이 잠근 버킷은 기다리지 않고(SKIP LOCKED) shardNo 순서로 건너뛰며 재고가 충분한 버킷 하나에서 차감합니다.
+     * 그런 버킷이 없으면 여러 버킷에 나눠서 차감합니다.
+     * - 프로브가 잠근 버킷이 없으면 처음부터 모든 버킷을 shardNo 순서로 잠급니다.
+     * - 프로브가 잠근 버킷이 있으면 그보다 번호가 큰 버킷만 순서대로 기다리고, 번호가 작은 버킷은 건너뛴 것만 다시 시도합니다.
+     * 행 잠금은 세이브포인트로 되돌려도 풀리지 않으므로(InnoDB), 잠금을 쥔 채로 더 작은 번호의 버킷을 기다리지 않는 것으로 교착을 막습니다.
+     */
+    private boolean decreaseShardedStock(Long optionId, int shardCount, Integer quantity) {
+        List<GroupBuyOptionStockShard> probedShards = new ArrayList<>(); // 잠갔지만 재고가 부족했던 버킷
+        List<Integer> skippedShardNos = new ArrayList<>();
+        for (int shardNo = 0; shardNo < shardCount && probedShards.size() < MAX_SHARD_PROBES; shardNo++) {
+            Optional<GroupBuyOptionStockShard> locked = stockShardRepository.findByOptionIdAndShardNoSkipLocked(optionId, shardNo);
+            if (locked.isEmpty()) {
+                skippedShardNos.add(shardNo);
+                continue;
+            }
+
+            GroupBuyOptionStockShard shard = locked.get();
+            if (shard.getStock() >= quantity) {
+                shard.updateStock(shard.getStock() - quantity);
+                if (!probedShards.isEmpty()) {
+                    rebalanceCandidates.add(optionId);
+                }
+                return true;
+            }
+            probedShards.add(shard);
+        }
+
+        rebalanceCandidates.add(optionId);
+        if (probedShards.isEmpty()) {
+            return decreaseAcrossShards(optionId, stockShardRepository.findAllByOptionIdForUpdate(optionId), quantity);
+        }
+        return decreaseAcrossShards(optionId, lockRemainingShards(optionId, probedShards, skippedShardNos), quantity);
+    }
+
+    /**
+     * 프로브 잠금을 쥔 채로 나머지 버킷 잠금
+     * 마지막으로 잠근 버킷보다 번호가 작은 버킷은 기다리지 않고, 큰 버킷만 shardNo 순서로 기다립니다.
+     */
+    private List<GroupBuyOptionStockShard> lockRemainingShards(
+            Long optionId, List<GroupBuyOptionStockShard> probedShards, List<Integer> skippedShardNos) {
+        int lastProbedShardNo = probedShards.get(probedShards.size() - 1).getShardNo();
+        List<GroupBuyOptionStockShard> shards = new ArrayList<>(probedShards);
+        for (Integer shardNo : skippedShardNos) {
+            if (shardNo < lastProbedShardNo) {
+                stockShardRepository.findByOptionIdAndShardNoSkipLocked(optionId, shardNo).ifPresent(shards::add);
+            }
+        }
+        shards.addAll(stockShardRepository.findAllByOptionIdAndShardNoGreaterThanForUpdate(optionId, lastProbedShardNo));
+        return shards;
+    }
+
+    private boolean decreaseAcrossShards(Long optionId, List<GroupBuyOptionStockShard> shards, Integer quantity) {
+        int total = shards.stream().mapToInt(GroupBuyOptionStockShard::getStock).sum();
+        if (total < quantity) {
+            log.debug("분할 재고 부족 - 옵션ID: {}, 요청: {}, 재고: {}", optionId, quantity, total);
+            return false;
+        }
+
+        int remaining = quantity;
+        for (GroupBuyOptionStockShard shard : shards) {
+            if (remaining == 0) {
+                break;
+            }
+            int taken = Math.min(shard.getStock(), remaining);
+            shard.updateStock(shard.getStock() - taken);
+            remaining -= taken;
+        }
+        return true;
+    }
+
+    /**
+     * 판매량 증감 기록을 공동구매 누적 판매량에 반영 (스케줄러에서 호출)
+     * 기록을 공동구매별로 합산해 값이 바뀐 진행 중 공동구매 행만 공동구매 ID 순서로 갱신하고, 반영한 기록은 삭제합니다.
+     * 재고 분할 공동구매는 스냅샷 동기화(GroupBuyStockShardService) 때 함께 보정됩니다.
+     *
+     * @return 반영한 증감 기록 수 (SOLD_QUANTITY_DELTA_BATCH_SIZE와 같으면 남은 기록이 있을 수 있음)
+     */
+    @Transactional
+    public int applySoldQuantityDeltas() {
+        List<GroupBuySoldQuantityDelta> deltas = soldQuantityDeltaRepository.findBatchForUpdate(
+                PageRequest.of(0, SOLD_QUANTITY_DELTA_BATCH_SIZE));
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Integer> deltasByGroupBuyId = new TreeMap<>();
+        deltas.forEach(delta -> deltasByGroupBuyId.merge(delta.getGroupBuyId(), delta.getDelta(), Integer::sum));
+        deltasByGroupBuyId.forEach((groupBuyId, delta) -> {
+            if (delta != 0) {
+                groupBuyRepository.addSoldQuantity(groupBuyId, delta);
+            }
+        });
+
+        soldQuantityDeltaRepository.deleteAllByIds(deltas.stream().map(GroupBuySoldQuantityDelta::getId).toList());
+        return deltas.size();
+    }
+
+    /**
+     * 옵션 행에서 차감/복구된 수량을 판매량 증감 기록으로 남김 (재고 분할 공동구매 제외)
+     * 공동구매 행을 잠그지 않고 행을 추가만 하므로 같은 공동구매의 동시 결제가 서로 기다리지 않습니다.
+     *
+     * @param rowQuantities 옵션 행에서 처리된 옵션 ID별 수량
+     * @param sign 차감이면 1, 복구면 -1
+     */
+    private void recordSoldQuantityDeltas(Map<Long, StockRoute> routes, Map<Long, Integer> rowQuantities, int sign) {
+        List<GroupBuySoldQuantityDelta> deltas = toGroupBuyDeltas(routes, rowQuantities, sign).entrySet().stream()
+                .map(entry -> GroupBuySoldQuantityDelta.of(entry.getKey(), entry.getValue()))
+                .toList();
+        if (!deltas.isEmpty()) {
+            soldQuantityDeltaRepository.saveAll(deltas);
+        }
+    }
+
+    /**
+     * 공동구매별 판매량 변화 이벤트 발행 (분할 재고 포함, 커밋 이후 처리)
+     */
+    private void publishSoldQuantityChanged(Map<Long, StockRoute> routes, Map<Long, Integer> quantitiesByOptionId, int sign) {
+        Map<Long, Integer> deltas = toGroupBuyDeltas(routes, quantitiesByOptionId, sign);
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Map<Long, Integer>> optionDeltas = new TreeMap<>();
+        quantitiesByOptionId.forEach((optionId, quantity) -> {
+            StockRoute route = routes.get(optionId);
+            if (route != null) {
+                optionDeltas.computeIfAbsent(route.groupBuyId(), id -> new TreeMap<>())
+                        .merge(optionId, quantity * sign, Integer::sum);
+            }
+        });
+        eventPublisher.publishEvent(new GroupBuySoldQuantityChangedEvent(deltas, optionDeltas));
+    }
+
+    private Map<Long, Integer> toGroupBuyDeltas(Map<Long, StockRoute> routes, Map<Long, Integer> quantitiesByOptionId, int sign) {
+        Map<Long, Integer> deltas = new TreeMap<>();
+        quantitiesByOptionId.forEach((optionId, quantity) -> {
+            StockRoute route = routes.get(optionId);
+            if (route != null) {
+                deltas.merge(route.groupBuyId(), quantity * sign, Integer::sum);
+            }
+        });
+        return deltas;
+    }
+
+    private Map<Long, StockRoute> findStockRoutes(Collection<Long> optionIds) {
+        if (optionIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, StockRoute> routes = new HashMap<>();
+        for (Object[] row : groupBuyOptionRepository.findStockRoutesByOptionIds(optionIds)) {
+            routes.put((Long) row[0], new StockRoute((Long) row[1], ((Number) row[2]).intValue()));
+        }
+        return routes;
+    }
+
+    private Map<Long, Integer> sumShardStocks(Collection<Long> optionIds) {
+        if (optionIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Integer> stocks = new HashMap<>();
+        for (Object[] row : stockShardRepository.sumStockByOptionIds(optionIds)) {
+            stocks.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        return stocks;
+    }
+
+    /**
+     * 옵션의 재고 차감 경로 (소속 공동구매, 재고 분할 개수)
+     */
+    private record StockRoute(Long groupBuyId, int shardCount) {
+        boolean isSharded() {
+            return shardCount > 0;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.ururulab.ururu.global.exception.BusinessException;
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyOption;
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyOptionStockShard;
+import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionStockShardRepository;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuySoldQuantityDeltaRepository;
+import com.ururulab.ururu.groupBuy.service.validation.GroupBuyValidator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.ururulab.ururu.global.exception.error.ErrorCode.*;
+
+/**
+ * 재고 분할 카운터 관리
+ * 공동구매별 분할 설정 변경, 버킷 재분배, 옵션 재고 스냅샷 동기화를 담당합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GroupBuyStockShardService {
+
+    private final GroupBuyRepository groupBuyRepository;
+    private final GroupBuyOptionRepository groupBuyOptionRepository;
+    private final GroupBuyOptionStockShardRepository stockShardRepository;
+    private final GroupBuySoldQuantityDeltaRepository soldQuantityDeltaRepository;
+    private final GroupBuyValidator groupBuyValidator;
+
+    /**
+     * 판매자용 재고 분할 설정 변경
+     *
+     * @param sellerId 판매자 ID
+     * @param groupBuyId 공동구매 ID
+     * @param shardCount 분할 개수 (0이면 분할 해제)
+     * @throws BusinessException 권한이 없거나 종료된 공동구매인 경우
+     */
+    @Transactional
+    public void updateStockSharding(Long sellerId, Long groupBuyId, int shardCount) {
+        GroupBuy groupBuy = groupBuyRepository.findById(groupBuyId)
+                .orElseThrow(() -> new BusinessException(GROUPBUY_NOT_FOUND, groupBuyId));
+
+        groupBuyValidator.validateSellerAccess(sellerId, groupBuy);
+
+        if (groupBuy.getStatus() == GroupBuyStatus.CLOSED) {
+            throw new BusinessException(GROUPBUY_STOCK_SHARDING_NOT_ALLOWED);
+        }
+
+        applyStockSharding(groupBuy, shardCount);
+    }
+
+    /**
+     * 옵션의 재고 버킷 재분배
+     * 전체 재고를 유지한 채 모든 버킷에 고르게 나눕니다.
+     *
+     * @param optionId 공구 옵션 ID
+     */
+    @Transactional
+    public void rebalance(Long optionId) {
+        List<GroupBuyOptionStockShard> shards = stockShardRepository.findAllByOptionIdForUpdate(optionId);
+        if (shards.isEmpty()) {
+            return;
+        }
+
+        int total = shards.stream().mapToInt(GroupBuyOptionStockShard::getStock).sum();
+        distribute(total, shards);
+
+        log.debug("재고 버킷 재분배 - 옵션ID: {}, 버킷: {}개, 재고: {}", optionId, shards.size(), total);
+    }
+
+    /**
+     * 분할 재고 옵션의 재고 스냅샷 동기화
+     * 분할 재고 공동구매의 누적 판매량도 갱신된 스냅샷 기준으로 함께 보정합니다.
+     *
+     * @return 동기화된 옵션 수
+     */
+    @Transactional
+    public int syncStockSnapshots() {
+        int synced = groupBuyOptionRepository.syncShardedStockSnapshots();
+        groupBuyRepository.syncShardedSoldQuantities();
+        return synced;
+    }
+
+    /**
+     * 종료된 공동구매의 분할 재고를 옵션 행으로 회수
+     *
+     * @return 분할 해제된 공동구매 수
+     */
+    @Transactional
+    public int releaseClosedGroupBuys() {
+        List<GroupBuy> groupBuys = groupBuyRepository.findClosedWithStockSharding();
+        groupBuys.forEach(groupBuy -> applyStockSharding(groupBuy, 0));
+        return groupBuys.size();
+    }
+
+    /**
+     * 비어 있는 버킷이 있는 옵션 ID 조회 (재분배 누락 보정용)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findRebalanceTargets() {
+        return stockShardRepository.findOptionIdsWithEmptyShard();
+    }
+
+    /**
+     * 분할 설정 적용
+     * 옵션 행을 잠근 상태에서 기존 버킷을 옵션 재고로 합친 뒤, 새 개수로 다시 나눕니다.
+     */
+    private void applyStockSharding(GroupBuy groupBuy, int shardCount) {
+        if (groupBuy.getStockShardCount() == shardCount) {
+            return;
+        }
+
+        List<GroupBuyOption> options = groupBuyOptionRepository.findAllByGroupBuyIdForUpdate(groupBuy.getId());
+        List<Long> optionIds = options.stream().map(GroupBuyOption::getId).toList();
+
+        if (groupBuy.isStockSharded() && !optionIds.isEmpty()) {
+            Map<Long, Integer> shardStocks = stockShardRepository.sumStockByOptionIds(optionIds).stream()
+                    .collect(Collectors.toMap(row -> (Long) row[0], row -> ((Number) row[1]).intValue()));
+            options.forEach(option -> option.syncStock(shardStocks.getOrDefault(option.getId(), option.getStock())));
+            stockShardRepository.deleteAllByOptionIds(optionIds);
+        }
+
+        if (shardCount > 0) {
+            List<GroupBuyOptionStockShard> shards = new ArrayList<>();
+            for (GroupBuyOption option : options) {
+                List<GroupBuyOptionStockShard> optionShards = new ArrayList<>(shardCount);
+                for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+                    optionShards.add(GroupBuyOptionStockShard.of(option, shardNo, 0));
+                }
+                distribute(option.getStock(), optionShards);
+                shards.addAll(optionShards);
+            }
+            stockShardRepository.saveAll(shards);
+        }
+
+        // 옵션 행을 잠근 상태이므로 옵션 재고 기준 판매량으로 맞춰 두고 전환 (반영 전 증감 기록은 이미 포함되어 있어 삭제)
+        soldQuantityDeltaRepository.deleteAllByGroupBuyId(groupBuy.getId());
+        groupBuy.syncSoldQuantity(options.stream().mapToInt(GroupBuyOption::getSoldQuantity).sum());
+        groupBuy.updateStockShardCount(shardCount);
+
+        log.info("재고 분할 설정 변경 - 공동구매ID: {}, 분할 개수: {}, 옵션: {}개",
+                groupBuy.getId(), shardCount, options.size());
+    }
+
+    private void distribute(int total, List<GroupBuyOptionStockShard> shards) {
+        int base = total / shards.size();
+        int remainder = total % shards.size();
+        for (int i = 0; i < shards.size(); i++) {
+            shards.get(i).updateStock(base + (i < remainder ? 1 : 0));
+        }
+    }
+}
@@ -0,0 +1,392 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.ururulab.ururu.groupBuy.dto.response.GroupBuySuggestResponse;
+import com.ururulab.ururu.groupBuy.util.SearchTextTokenizer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 검색어 자동완성용 인메모리 트라이 (인스턴스별)
+ * 진행 중인 공동구매 제목, 판매자(브랜드)명, 인기 검색어를 접두어로 색인합니다.
+ *
+ * - 제목은 단어 시작 위치마다 키를 만들어 중간 단어로도 찾을 수 있습니다. ("진정" -> "수분 진정 크림")
+ * - 같은 키를 초성으로 바꾼 트라이를 함께 두어 "ㅅㅂ", "수ㅂ" 같은 초성 입력도 처리합니다.
+ * - 각 노드는 하위 항목 집합을 갖고 있어, 조회는 접두어 길이만큼 내려간 뒤 판매량 상위 N개만 고릅니다.
+ */
+@Component
+public class GroupBuySuggestIndex {
+
+    private static final int MAX_KEY_DEPTH = 20; // 트라이 깊이 제한 (더 긴 검색어는 접두어 비교로 거름)
+    private static final int MAX_KEYS_PER_TITLE = 8; // 제목 하나당 단어 시작 키 수 제한
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root = new Node();
+    private Node chosungRoot = new Node();
+    private Map<String, Entry> entries = new HashMap<>(); // 항목 식별자 -> 항목
+    private Map<String, Set<Long>> sellerGroupBuys = new HashMap<>(); // 판매자 항목 식별자 -> 공동구매 ID
+
+    private volatile int entryCount = 0;
+    private final Timer queryTimer;
+
+    public GroupBuySuggestIndex(MeterRegistry meterRegistry) {
+        Gauge.builder("ururu_groupbuy_suggest_index_entries", this, index -> index.entryCount)
+                .description("자동완성 색인 항목 수")
+                .register(meterRegistry);
+        this.queryTimer = Timer.builder("ururu_groupbuy_suggest_query")
+                .description("자동완성 조회 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 자동완성 대상 공동구매
+     */
+    public record GroupBuyTerm(Long groupBuyId, String title, String sellerName, int soldQuantity) {
+    }
+
+    /**
+     * 전체 재색인 (새 트라이를 만든 뒤 교체)
+     *
+     * @param groupBuys 진행 중인 공동구매
+     * @param popularKeywords 인기 검색어와 검색 횟수
+     */
+    public void rebuild(Collection<GroupBuyTerm> groupBuys, Map<String, Long> popularKeywords) {
+        State state = new State();
+        groupBuys.forEach(state::upsertGroupBuy);
+        state.replaceKeywords(popularKeywords);
+
+        lock.writeLock().lock();
+        try {
+            root = state.root;
+            chosungRoot = state.chosungRoot;
+            entries = state.entries;
+            sellerGroupBuys = state.sellerGroupBuys;
+            entryCount = entries.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 공동구매 항목 추가/갱신 (오픈 시)
+     */
+    public void upsertGroupBuy(GroupBuyTerm term) {
+        mutate(state -> state.upsertGroupBuy(term));
+    }
+
+    /**
+     * 공동구매 항목 제거 (종료 시)
+     */
+    public void removeGroupBuys(Collection<Long> groupBuyIds) {
+        mutate(state -> groupBuyIds.forEach(state::removeGroupBuy));
+    }
+
+    /**
+     * 판매량 점수 갱신 (트라이 구조는 그대로 두고 점수만 교체)
+     */
+    public void updateSoldQuantities(Map<Long, Integer> soldQuantities) {
+        mutate(state -> state.updateSoldQuantities(soldQuantities));
+    }
+
+    /**
+     * 인기 검색어 교체
+     */
+    public void replaceKeywords(Map<String, Long> popularKeywords) {
+        mutate(state -> state.replaceKeywords(popularKeywords));
+    }
+
+    /**
+     * 접두어 자동완성
+     *
+     * @param query 사용자 입력 (초성 포함 가능)
+     * @param limit 최대 개수
+     * @return 점수(판매량/검색 횟수) 내림차순 항목
+     */
+    public List<GroupBuySuggestResponse> suggest(String query, int limit) {
+        String normalized = SearchTextTokenizer.normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        return queryTimer.record(() -> {
+            lock.readLock().lock();
+            try {
+                return findTop(normalized, limit);
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+
+    private List<GroupBuySuggestResponse> findTop(String query, int limit) {
+        boolean chosungQuery = SearchTextTokenizer.containsChosung(query);
+        Node node = chosungQuery
+                ? chosungRoot.find(SearchTextTokenizer.toChosung(query))
+                : root.find(query);
+        if (node == null) {
+            return List.of();
+        }
+
+        // 점수 낮은 항목부터 꺼내는 크기 N의 힙으로 상위 N개 선택
+        PriorityQueue<Entry> top = new PriorityQueue<>(Comparator.comparingLong(Entry::score));
+        for (Entry entry : node.entries) {
+            if (!entry.matches(query, chosungQuery)) {
+                continue;
+            }
+            top.offer(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<Entry> result = new ArrayList<>(top);
+        result.sort(Comparator.comparingLong(Entry::score).reversed());
+        return result.stream()
+                .map(entry -> new GroupBuySuggestResponse(entry.type, entry.text, entry.groupBuyId, entry.score()))
+                .toList();
+    }
+
+    private void mutate(Consumer<State> mutation) {
+        lock.writeLock().lock();
+        try {
+            State state = new State(root, chosungRoot, entries, sellerGroupBuys);
+            mutation.accept(state);
+            entryCount = entries.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 트라이와 항목 맵 묶음 (재색인 시 새로 만들고, 증분 갱신 시 현재 것을 감쌈)
+     */
+    private static final class State {
+        private final Node root;
+        private final Node chosungRoot;
+        private final Map<String, Entry> entries;
+        private final Map<String, Set<Long>> sellerGroupBuys;
+
+        private State() {
+            this(new Node(), new Node(), new HashMap<>(), new HashMap<>());
+        }
+
+        private State(Node root, Node chosungRoot, Map<String, Entry> entries, Map<String, Set<Long>> sellerGroupBuys) {
+            this.root = root;
+            this.chosungRoot = chosungRoot;
+            this.entries = entries;
+            this.sellerGroupBuys = sellerGroupBuys;
+        }
+
+        private void upsertGroupBuy(GroupBuyTerm term) {
+            removeGroupBuy(term.groupBuyId());
+
+            Entry entry = new Entry(GroupBuySuggestResponse.Type.GROUPBUY, term.title(), term.groupBuyId(),
+                    titleKeys(term.title()));
+            entry.soldQuantity = term.soldQuantity();
+            add(groupBuyKey(term.groupBuyId()), entry);
+
+            String sellerKey = sellerKey(term.sellerName());
+            if (sellerKey == null) {
+                return;
+            }
+            Entry seller = entries.get(sellerKey);
+            if (seller == null) {
+                seller = new Entry(GroupBuySuggestResponse.Type.SELLER, term.sellerName(), null,
+                        List.of(SearchTextTokenizer.normalize(term.sellerName())));
+                add(sellerKey, seller);
+            }
+            entry.sellerKey = sellerKey;
+            sellerGroupBuys.computeIfAbsent(sellerKey, key -> new HashSet<>()).add(term.groupBuyId());
+            refreshSellerScore(sellerKey);
+        }
+
+        private void removeGroupBuy(Long groupBuyId) {
+            Entry entry = remove(groupBuyKey(groupBuyId));
+            if (entry == null || entry.sellerKey == null) {
+                return;
+            }
+
+            Set<Long> ids = sellerGroupBuys.get(entry.sellerKey);
+            if (ids != null) {
+                ids.remove(groupBuyId);
+                if (ids.isEmpty()) {
+                    sellerGroupBuys.remove(entry.sellerKey);
+                    remove(entry.sellerKey);
+                    return;
+                }
+            }
+            refreshSellerScore(entry.sellerKey);
+        }
+
+        private void updateSoldQuantities(Map<Long, Integer> soldQuantities) {
+            soldQuantities.forEach((groupBuyId, soldQuantity) -> {
+                Entry entry = entries.get(groupBuyKey(groupBuyId));
+                if (entry != null) {
+                    entry.soldQuantity = soldQuantity;
+                }
+            });
+            sellerGroupBuys.keySet().forEach(this::refreshSellerScore);
+        }
+
+        private void replaceKeywords(Map<String, Long> popularKeywords) {
+            entries.keySet().stream()
+                    .filter(key -> key.startsWith(KEYWORD_PREFIX))
+                    .toList()
+                    .forEach(this::remove);
+
+            popularKeywords.forEach((keyword, count) -> {
+                String normalized = SearchTextTokenizer.normalize(keyword);
+                if (normalized.isEmpty()) {
+                    return;
+                }
+                Entry entry = new Entry(GroupBuySuggestResponse.Type.KEYWORD, keyword, null, List.of(normalized));
+                entry.soldQuantity = count;
+                add(KEYWORD_PREFIX + normalized, entry);
+            });
+        }
+
+        private void refreshSellerScore(String sellerKey) {
+            Entry seller = entries.get(sellerKey);
+            if (seller == null) {
+                return;
+            }
+            seller.soldQuantity = sellerGroupBuys.getOrDefault(sellerKey, Set.of()).stream()
+                    .map(id -> entries.get(groupBuyKey(id)))
+                    .filter(Objects::nonNull)
+                    .mapToLong(Entry::score)
+                    .sum();
+        }
+
+        private void add(String id, Entry entry) {
+            remove(id);
+            entries.put(id, entry);
+            for (String key : entry.keys) {
+                root.insert(key, entry);
+                chosungRoot.insert(SearchTextTokenizer.toChosung(key), entry);
+            }
+        }
+
+        private Entry remove(String id) {
+            Entry entry = entries.remove(id);
+            if (entry != null) {
+                for (String key : entry.keys) {
+                    root.delete(key, entry);
+                    chosungRoot.delete(SearchTextTokenizer.toChosung(key), entry);
+                }
+            }
+            return entry;
+        }
+    }
+
+    private static final String GROUPBUY_PREFIX = "g:";
+    private static final String SELLER_PREFIX = "s:";
+    private static final String KEYWORD_PREFIX = "k:";
+
+    private static String groupBuyKey(Long groupBuyId) {
+        return GROUPBUY_PREFIX + groupBuyId;
+    }
+
+    private static String sellerKey(String sellerName) {
+        String normalized = SearchTextTokenizer.normalize(sellerName);
+        return normalized.isEmpty() ? null : SELLER_PREFIX + normalized;
+    }
+
+    /**
+     * 제목의 단어 시작 위치마다 키 생성
+     * "수분 진정 크림" -> ["수분진정크림", "진정크림", "크림"]
+     */
+    private static List<String> titleKeys(String title) {
+        String[] words = title == null ? new String[0] : title.trim().split("\\s+");
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < words.length && keys.size() < MAX_KEYS_PER_TITLE; i++) {
+            String key = SearchTextTokenizer.normalize(String.join("", Arrays.asList(words).subList(i, words.length)));
+            if (!key.isEmpty() && !keys.contains(key)) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 자동완성 항목
+     */
+    private static final class Entry {
+        private final GroupBuySuggestResponse.Type type;
+        private final String text;
+        private final Long groupBuyId;
+        private final List<String> keys; // 정규화된 접두어 키
+        private volatile long soldQuantity; // 공동구매/판매자는 판매량, 검색어는 검색 횟수
+        private String sellerKey; // 공동구매 항목이 속한 판매자 항목 식별자
+
+        private Entry(GroupBuySuggestResponse.Type type, String text, Long groupBuyId, List<String> keys) {
+            this.type = type;
+            this.text = text;
+            this.groupBuyId = groupBuyId;
+            this.keys = keys;
+        }
+
+        private long score() {
+            return soldQuantity;
+        }
+
+        private boolean matches(String query, boolean chosungQuery) {
+            for (String key : keys) {
+                if (chosungQuery ? SearchTextTokenizer.matchesPrefix(key, query) : key.startsWith(query)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 트라이 노드 (하위에 키가 있는 항목 집합 보관)
+     */
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final Set<Entry> entries = new HashSet<>();
+
+        private Node find(String prefix) {
+            Node node = this;
+            int depth = Math.min(prefix.length(), MAX_KEY_DEPTH);
+            for (int i = 0; i < depth && node != null; i++) {
+                node = node.children.get(prefix.charAt(i));
+            }
+            return node;
+        }
+
+        private void insert(String key, Entry entry) {
+            Node node = this;
+            int depth = Math.min(key.length(), MAX_KEY_DEPTH);
+            for (int i = 0; i < depth; i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                node.entries.add(entry);
+            }
+        }
+
+        private void delete(String key, Entry entry) {
+            deleteFrom(key, 0, Math.min(key.length(), MAX_KEY_DEPTH), entry);
+        }
+
+        private void deleteFrom(String key, int index, int depth, Entry entry) {
+            if (index == depth) {
+                return;
+            }
+            Node child = children.get(key.charAt(index));
+            if (child == null) {
+                return;
+            }
+            child.deleteFrom(key, index + 1, depth, entry);
+            child.entries.remove(entry);
+            if (child.entries.isEmpty()) {
+                children.remove(key.charAt(index));
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.ururulab.ururu.global.exception.BusinessException;
+import com.ururulab.ururu.groupBuy.dto.response.GroupBuySuggestResponse;
+import com.ururulab.ururu.groupBuy.service.validation.GroupBuyValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+import static com.ururulab.ururu.global.exception.error.ErrorCode.INVALID_SEARCH_KEYWORD;
+
+/**
+ * 검색어 자동완성
+ * 인메모리 트라이(GroupBuySuggestIndex)로 조회하고, 인기 검색어는 Redis에 일자별로 집계합니다.
+ */
+@Slf4j
+@Service
+public class GroupBuySuggestService {
+
+    private static final String KEYWORD_KEY_PREFIX = "search:keywords:";
+    private static final DateTimeFormatter KEY_DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final int MAX_KEYWORD_LENGTH = 30;
+    private static final int MAX_LIMIT = 20;
+
+    private final GroupBuySuggestIndex suggestIndex;
+    private final GroupBuyValidator groupBuyValidator;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int popularWindowDays;
+    private final int popularKeywordLimit;
+
+    public GroupBuySuggestService(
+            GroupBuySuggestIndex suggestIndex,
+            GroupBuyValidator groupBuyValidator,
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${groupbuy.suggest.popular-window-days:7}") int popularWindowDays,
+            @Value("${groupbuy.suggest.popular-keyword-limit:200}") int popularKeywordLimit
+    ) {
+        this.suggestIndex = suggestIndex;
+        this.groupBuyValidator = groupBuyValidator;
+        this.redisTemplate = redisTemplate;
+        this.popularWindowDays = popularWindowDays;
+        this.popularKeywordLimit = popularKeywordLimit;
+    }
+
+    /**
+     * 입력 중인 검색어 자동완성
+     *
+     * @param query 사용자 입력 (초성 포함 가능)
+     * @param limit 최대 개수
+     * @return 판매량/검색 횟수 상위 항목
+     */
+    public List<GroupBuySuggestResponse> suggest(String query, int limit) {
+        if (!groupBuyValidator.isValidKeyword(query)) {
+            throw new BusinessException(INVALID_SEARCH_KEYWORD);
+        }
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+
+        String trimmed = query.length() > MAX_KEYWORD_LENGTH ? query.substring(0, MAX_KEYWORD_LENGTH) : query;
+        return suggestIndex.suggest(trimmed, Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+
+    /**
+     * 검색어 집계 (결과가 있는 검색만)
+     * 집계 실패는 검색 응답에 영향을 주지 않도록 로그만 남깁니다.
+     */
+    public void recordSearchKeyword(String keyword) {
+        String display = toDisplayKeyword(keyword);
+        if (display.isEmpty()) {
+            return;
+        }
+
+        try {
+            String key = keywordKey(LocalDate.now(ZONE));
+            redisTemplate.opsForZSet().incrementScore(key, display, 1);
+            redisTemplate.expire(key, Duration.ofDays(popularWindowDays + 1L));
+        } catch (Exception e) {
+            log.debug("Failed to record search keyword: {}", display, e);
+        }
+    }
+
+    /**
+     * 최근 N일 인기 검색어 (일자별 집계 합산)
+     *
+     * @return 검색어와 검색 횟수 (검색 횟수 내림차순)
+     */
+    public Map<String, Long> findPopularKeywords() {
+        Map<String, Long> counts = new HashMap<>();
+        LocalDate today = LocalDate.now(ZONE);
+        try {
+            for (int i = 0; i < popularWindowDays; i++) {
+                Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                        .reverseRangeWithScores(keywordKey(today.minusDays(i)), 0, popularKeywordLimit - 1);
+                if (tuples == null) {
+                    continue;
+                }
+                for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                    if (tuple.getValue() != null && tuple.getScore() != null) {
+                        counts.merge(tuple.getValue(), tuple.getScore().longValue(), Long::sum);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to load popular search keywords", e);
+        }
+
+        Map<String, Long> popular = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(popularKeywordLimit)
+                .forEach(entry -> popular.put(entry.getKey(), entry.getValue()));
+        return popular;
+    }
+
+    /**
+     * 표시용 검색어 (앞뒤 공백 제거, 연속 공백 축소, 소문자, 길이 제한)
+     */
+    private String toDisplayKeyword(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        String display = keyword.trim().replaceAll("\\s+", " ").toLowerCase();
+        return display.length() > MAX_KEYWORD_LENGTH ? display.substring(0, MAX_KEYWORD_LENGTH) : display;
+    }
+
+    private String keywordKey(LocalDate date) {
+        return KEYWORD_KEY_PREFIX + date.format(KEY_DATE_FORMAT);
+    }
+}
@@ -1,6 +1,7 @@
 package com.ururulab.ururu.groupBuy.service;
 
 import com.ururulab.ururu.global.exception.BusinessException;
+import com.ururulab.ururu.global.outbox.OutboxEventService;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
 import com.ururulab.ururu.groupBuy.event.GroupBuyThumbnailUploadEvent;
@@ -9,11 +10,9 @@ import com.ururulab.ururu.image.service.ImageService;
 import com.ururulab.ururu.image.validation.ImageValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Recover;
 import org.springframework.retry.annotation.Retryable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -36,7 +35,7 @@ public class GroupBuyThumbnailService {
     private final ImageService imageService;
     private final GroupBuyRepository groupBuyRepository;
     private final ImageHashService imageHashService;
-    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxEventService outboxEventService;
     private final ImageValidator imageValidator;
 
     /**
@@ -62,7 +61,7 @@ public class GroupBuyThumbnailService {
                     groupBuyId, thumbnailFile.getOriginalFilename(), imageHash, tempFile.length());
 
             // 이벤트 발행 (임시 파일 경로 전달)
-            eventPublisher.publishEvent(new GroupBuyThumbnailUploadEvent(
+            outboxEventService.appendLocal(new GroupBuyThumbnailUploadEvent(
                     groupBuyId,
                     thumbnailFile.getOriginalFilename(),
                     tempFile.getAbsolutePath(),
@@ -81,9 +80,9 @@ public class GroupBuyThumbnailService {
     }
 
     /**
-     * 비동기 썸네일 업로드 및 DB 업데이트 (스트리밍 방식)
+     * 썸네일 업로드 및 DB 업데이트 (스트리밍 방식)
+     * 아웃박스 릴레이의 인스턴스 전용 스레드풀에서 호출되며, 업로드가 끝나야 이벤트가 전달 완료로 기록됩니다.
      */
-    @Async("imageUploadExecutor")
     @Transactional
     public void uploadThumbnailAsync(Long groupBuyId, String originalFilename, String tempFilePath, String imageHash) {
         log.info("Processing thumbnail upload for groupBuy: {}", groupBuyId);
@@ -6,9 +6,11 @@ import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
 import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
 import com.ururulab.ururu.groupBuy.dto.request.GroupBuyStatusUpdateRequest;
+import com.ururulab.ururu.groupBuy.event.GroupBuyOpenedEvent;
 import com.ururulab.ururu.groupBuy.service.validation.GroupBuyValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +24,7 @@ public class UpdateGroupBuyStatusService {
     private final GroupBuyRepository groupBuyRepository;
     private final GroupBuyOptionService groupBuyOptionService;
     private final GroupBuyValidator groupBuyValidator;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 판매자용 공동구매 상태 업데이트 (DRAFT → OPEN)
@@ -61,6 +64,11 @@ public class UpdateGroupBuyStatusService {
 
         groupBuyRepository.save(groupBuy);
 
+        // 7. 검색 색인 등록 (커밋 이후)
+        if (request.status() == GroupBuyStatus.OPEN) {
+            eventPublisher.publishEvent(new GroupBuyOpenedEvent(groupBuyId));
+        }
+
         log.info("Group buy status updated successfully - groupBuyId: {}, oldStatus: {}, newStatus: {}",
                 groupBuyId, groupBuy.getStatus(), request.status());
     }
@@ -0,0 +1,117 @@
+package com.ururulab.ururu.groupBuy.util;
+
+import com.ururulab.ururu.groupBuy.dto.common.DiscountStageDto;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 컴파일된 할인 단계 표 (불변)
+ * 할인 단계 JSON을 한 번만 파싱해 달성 수량 오름차순 배열로 보관하고, 판매량에 맞는 단계는 이진 탐색으로 찾습니다.
+ * 각 단계의 할인율은 그 단계까지의 최대 할인율로 저장해, 단계 순서와 할인율 순서가 어긋난 데이터도
+ * "달성한 단계 중 최대 할인율" 기준으로 계산합니다.
+ */
+public final class DiscountTierTable {
+
+    public static final DiscountTierTable EMPTY = new DiscountTierTable(new int[0], new int[0]);
+
+    private final int[] minQuantities; // 단계별 달성 수량 (오름차순)
+    private final int[] rates; // 단계별 적용 할인율 (해당 단계까지의 최대값)
+
+    private DiscountTierTable(int[] minQuantities, int[] rates) {
+        this.minQuantities = minQuantities;
+        this.rates = rates;
+    }
+
+    /**
+     * 할인 단계 JSON 컴파일
+     *
+     * @param discountStagesJson GroupBuy.discountStages
+     * @return 할인 단계 표 (단계가 없으면 EMPTY)
+     */
+    public static DiscountTierTable compile(String discountStagesJson) {
+        return of(DiscountStageParser.parseDiscountStages(discountStagesJson));
+    }
+
+    public static DiscountTierTable of(List<DiscountStageDto> stages) {
+        List<DiscountStageDto> sorted = stages.stream()
+                .filter(stage -> stage.minQuantity() != null && stage.discountRate() != null)
+                .sorted(Comparator.comparing(DiscountStageDto::minQuantity))
+                .toList();
+        if (sorted.isEmpty()) {
+            return EMPTY;
+        }
+
+        int[] minQuantities = new int[sorted.size()];
+        int[] rates = new int[sorted.size()];
+        int maxRate = 0;
+        for (int i = 0; i < sorted.size(); i++) {
+            maxRate = Math.max(maxRate, sorted.get(i).discountRate());
+            minQuantities[i] = sorted.get(i).minQuantity();
+            rates[i] = maxRate;
+        }
+        return new DiscountTierTable(minQuantities, rates);
+    }
+
+    /**
+     * 판매량으로 달성한 단계 수 (미달성이면 0, 모두 달성하면 단계 개수)
+     */
+    public int stageFor(int soldQuantity) {
+        int low = 0;
+        int high = minQuantities.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (minQuantities[mid] <= soldQuantity) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 판매량에 적용할 할인율 (%)
+     */
+    public int rateFor(int soldQuantity) {
+        int stage = stageFor(soldQuantity);
+        return stage == 0 ? 0 : rates[stage - 1];
+    }
+
+    /**
+     * 다음 단계 달성 수량 (모든 단계를 달성했으면 null)
+     */
+    public Integer nextStageQuantity(int soldQuantity) {
+        int stage = stageFor(soldQuantity);
+        return stage < minQuantities.length ? minQuantities[stage] : null;
+    }
+
+    /**
+     * 최대 할인율 (%)
+     */
+    public int maxRate() {
+        return rates.length == 0 ? 0 : rates[rates.length - 1];
+    }
+
+    public int size() {
+        return minQuantities.length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DiscountTierTable that)) {
+            return false;
+        }
+        return Arrays.equals(minQuantities, that.minQuantities) && Arrays.equals(rates, that.rates);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(Arrays.hashCode(minQuantities), Arrays.hashCode(rates));
+    }
+}
@@ -0,0 +1,121 @@
+package com.ururulab.ururu.groupBuy.util;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 공동구매 검색용 텍스트 정규화/토큰화
+ * 한글은 형태소 분석 대신 음절 바이그램으로 색인합니다.
+ * (조사·어미가 붙은 단어도 부분 문자열로 검색되도록 기존 LIKE 검색과 같은 의미를 유지)
+ */
+public final class SearchTextTokenizer {
+
+    public static final int GRAM_SIZE = 2;
+
+    private static final char HANGUL_SYLLABLE_BEGIN = '\uAC00'; // 가
+    private static final char HANGUL_SYLLABLE_END = '\uD7A3'; // 힣
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28; // 중성 21개 x 종성 28개
+    private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private SearchTextTokenizer() {
+    }
+
+    /**
+     * 검색어 정규화 (색인 검색과 DB 검색에 같은 값을 사용)
+     * 1. NFC 정규화 (자모가 분리 입력된 한글을 완성형 음절로 결합)
+     * 2. 문자/숫자 외 특수문자 제거
+     * 3. 모든 공백 제거
+     * 4. 소문자 변환
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .replaceAll("[^\\p{L}\\p{N}\\s]", "")
+                .replaceAll("\\s+", "")
+                .toLowerCase();
+    }
+
+    /**
+     * 검색 색인에 저장할 원문 필드 정규화
+     * DB 검색(LOWER(REPLACE(col, ' ', '')) LIKE)이 컬럼에 적용하는 것과 같이 스페이스만 제거하고 소문자로 변환합니다.
+     * 특수문자를 남겨 두므로 색인 검색과 DB 검색이 같은 결과를 돌려줍니다.
+     */
+    public static String normalizeField(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        return text.replace(" ", "").toLowerCase();
+    }
+
+    /**
+     * 정규화된 텍스트의 n-gram 목록 (중복 제거, 등장 순서 유지)
+     * 텍스트가 n보다 짧으면 비어 있는 집합을 반환합니다.
+     */
+    public static Set<String> ngrams(String normalized, int n) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + n <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + n));
+        }
+        return grams;
+    }
+
+    /**
+     * 한글 음절을 초성으로 변환 (한글 음절이 아닌 문자는 그대로)
+     * 예) "수분크림" -> "ㅅㅂㅋㄹ"
+     */
+    public static String toChosung(String normalized) {
+        StringBuilder builder = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            builder.append(chosungOf(normalized.charAt(i)));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 초성 자음(ㄱ~ㅎ)이 하나라도 포함되어 있는지 여부 (초성 검색 대상 판별)
+     */
+    public static boolean containsChosung(String normalized) {
+        for (int i = 0; i < normalized.length(); i++) {
+            if (isChosung(normalized.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 초성이 섞인 검색어가 텍스트의 접두어와 일치하는지 확인
+     * 검색어의 초성 자음은 텍스트 음절의 초성과, 나머지 문자는 텍스트 문자와 그대로 비교합니다.
+     * 예) "수ㅂ", "ㅅㅂ" 모두 "수분크림"과 일치
+     */
+    public static boolean matchesPrefix(String normalized, String query) {
+        if (query.length() > normalized.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < query.length(); i++) {
+            char expected = query.charAt(i);
+            char actual = normalized.charAt(i);
+            if (expected != actual && !(isChosung(expected) && chosungOf(actual) == expected)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char chosungOf(char c) {
+        if (c < HANGUL_SYLLABLE_BEGIN || c > HANGUL_SYLLABLE_END) {
+            return c;
+        }
+        return CHOSUNG.charAt((c - HANGUL_SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSUNG);
+    }
+
+    private static boolean isChosung(char c) {
+        return CHOSUNG.indexOf(c) >= 0;
+    }
+}
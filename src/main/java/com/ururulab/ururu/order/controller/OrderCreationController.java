@@ -1,6 +1,8 @@
 package com.ururulab.ururu.order.controller;
 
 import com.ururulab.ururu.global.domain.dto.ApiResponseFormat;
+import com.ururulab.ururu.global.idempotency.IdempotencyService;
+import com.ururulab.ururu.groupBuy.service.GroupBuyAdmissionService;
 import com.ururulab.ururu.order.dto.request.CartOrderCreateRequest;
 import com.ururulab.ururu.order.dto.request.GroupBuyOrderCreateRequest;
 import com.ururulab.ururu.order.dto.response.OrderCreateResponse;
@@ -17,6 +19,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequestMapping("/api")
@@ -25,6 +29,8 @@ import org.springframework.web.bind.annotation.*;
 public class OrderCreationController {
 
     private final OrderCreationService orderCreationService;
+    private final GroupBuyAdmissionService groupBuyAdmissionService;
+    private final IdempotencyService idempotencyService;
 
     @Operation(summary = "공구 주문서 생성", description = "특정 공구의 옵션들로 주문서를 생성합니다. 주문서 생성 후 30분 내 결제가 필요합니다.")
     @ApiResponses({
@@ -32,18 +38,31 @@ public class OrderCreationController {
             @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
             @ApiResponse(responseCode = "401", description = "인증 실패"),
             @ApiResponse(responseCode = "404", description = "존재하지 않는 공구 또는 옵션"),
-            @ApiResponse(responseCode = "409", description = "재고 부족 또는 개인 구매 제한 초과"),
-            @ApiResponse(responseCode = "423", description = "종료된 공구 또는 이미 진행 중인 주문")
+            @ApiResponse(responseCode = "409", description = "재고 부족, 개인 구매 제한 초과, 종료/품절된 공구 또는 같은 Idempotency-Key로 처리 중인 요청"),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key가 다른 요청 내용으로 재사용됨"),
+            @ApiResponse(responseCode = "423", description = "종료된 공구 또는 이미 진행 중인 주문"),
+            @ApiResponse(responseCode = "429", description = "주문 폭주로 대기열 입장 필요")
     })
     @PostMapping("/groupbuys/{groupbuyId}/orders")
     public ResponseEntity<ApiResponseFormat<OrderCreateResponse>> createGroupBuyOrder(
             @AuthenticationPrincipal Long memberId,
             @PathVariable Long groupbuyId,
+            @RequestHeader(value = IdempotencyService.HEADER_NAME, required = false) String idempotencyKey,
             @Valid @RequestBody GroupBuyOrderCreateRequest request
     ) {
         log.debug("공구 주문서 생성 요청 - 회원ID: {}, 공구ID: {}, 요청: {}", memberId, groupbuyId, request);
 
-        OrderCreateResponse response = orderCreationService.createGroupBuyOrder(memberId, groupbuyId, request);
+        // 같은 키로 재시도하면 저장된 주문서 응답을 그대로 반환 (입장 확인/DB 접근 없음)
+        OrderCreateResponse response = idempotencyService.execute(
+                "order:groupbuy:" + memberId + ":" + groupbuyId, idempotencyKey, request, OrderCreateResponse.class,
+                () -> {
+                    // 트랜잭션 시작 전 Redis에서 입장 여부 확인 (품절/대기열 요청은 DB 접근 없이 거절)
+                    groupBuyAdmissionService.verifyAdmission(groupbuyId, memberId);
+                    OrderCreateResponse created = orderCreationService.createGroupBuyOrder(memberId, groupbuyId, request);
+                    // 주문서가 커밋된 뒤 입장권 소진 (실패한 요청은 같은 입장권으로 다시 시도 가능)
+                    groupBuyAdmissionService.consumeAdmission(List.of(groupbuyId), memberId);
+                    return created;
+                });
 
         return ResponseEntity
                 .status(HttpStatus.CREATED)
@@ -56,17 +75,29 @@ public class OrderCreationController {
             @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
             @ApiResponse(responseCode = "401", description = "인증 실패"),
             @ApiResponse(responseCode = "404", description = "존재하지 않는 장바구니 아이템"),
-            @ApiResponse(responseCode = "409", description = "재고 부족 또는 개인 구매 제한 초과"),
-            @ApiResponse(responseCode = "423", description = "종료된 공구 또는 이미 진행 중인 주문")
+            @ApiResponse(responseCode = "409", description = "재고 부족, 개인 구매 제한 초과, 종료/품절된 공구 또는 같은 Idempotency-Key로 처리 중인 요청"),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key가 다른 요청 내용으로 재사용됨"),
+            @ApiResponse(responseCode = "423", description = "종료된 공구 또는 이미 진행 중인 주문"),
+            @ApiResponse(responseCode = "429", description = "주문 폭주로 대기열 입장 필요")
     })
     @PostMapping("/cart/orders")
     public ResponseEntity<ApiResponseFormat<OrderCreateResponse>> createCartOrder(
             @AuthenticationPrincipal Long memberId,
+            @RequestHeader(value = IdempotencyService.HEADER_NAME, required = false) String idempotencyKey,
             @Valid @RequestBody CartOrderCreateRequest request
     ) {
         log.debug("장바구니 주문서 생성 요청 - 회원ID: {}, 요청: {}", memberId, request);
 
-        OrderCreateResponse response = orderCreationService.createCartOrder(memberId, request);
+        OrderCreateResponse response = idempotencyService.execute(
+                "order:cart:" + memberId, idempotencyKey, request, OrderCreateResponse.class,
+                () -> {
+                    // 트랜잭션 시작 전 장바구니의 모든 공동구매 입장 확인 (기존 주문서의 예약을 해제하기 전에 거절)
+                    List<Long> groupBuyIds = orderCreationService.findCartGroupBuyIds(memberId, request);
+                    groupBuyAdmissionService.verifyAdmission(groupBuyIds, memberId);
+                    OrderCreateResponse created = orderCreationService.createCartOrder(memberId, request);
+                    groupBuyAdmissionService.consumeAdmission(groupBuyIds, memberId);
+                    return created;
+                });
 
         return ResponseEntity
                 .status(HttpStatus.CREATED)
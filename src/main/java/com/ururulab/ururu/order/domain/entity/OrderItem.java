@@ -29,6 +29,9 @@ public class OrderItem extends BaseEntity {
     @Column(nullable = false)
     private int quantity;
 
+    @Column(name = "unit_price")
+    private Integer unitPrice; // 주문 시점 판매가 (이후 할인 단계가 바뀌어도 결제/환불/주문 내역은 이 가격 기준)
+
     public static OrderItem create(GroupBuyOption groupBuyOption, int quantity) {
         if (groupBuyOption == null) {
             throw new IllegalArgumentException(OrderItemPolicy.GROUPBUY_OPTION_REQUIRED);
@@ -40,9 +43,24 @@ public class OrderItem extends BaseEntity {
         OrderItem orderItem = new OrderItem();
         orderItem.groupBuyOption = groupBuyOption;
         orderItem.quantity = quantity;
+        orderItem.unitPrice = groupBuyOption.getSalePrice();
         return orderItem;
     }
 
+    /**
+     * 주문 시점 단가 (단가 컬럼 추가 이전 주문은 현재 판매가)
+     */
+    public int getUnitPrice() {
+        return unitPrice != null ? unitPrice : groupBuyOption.getSalePrice();
+    }
+
+    /**
+     * 주문 시점 단가 x 수량
+     */
+    public int getTotalPrice() {
+        return getUnitPrice() * quantity;
+    }
+
     public void assignOrder(Order order) {
         this.order = order;
     }
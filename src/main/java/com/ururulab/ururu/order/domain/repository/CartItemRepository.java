@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CartItemRepository extends JpaRepository<CartItem, Long> {
@@ -27,6 +29,18 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
             @Param("memberId") Long memberId
     );
 
+    /**
+     * 회원 장바구니 아이템이 속한 공동구매 ID 조회
+     * 장바구니 주문서 생성 전 입장 확인용 (트랜잭션 시작 전 호출)
+     */
+    @Query("SELECT DISTINCT gbo.groupBuy.id FROM CartItem ci " +
+            "JOIN ci.groupBuyOption gbo " +
+            "WHERE ci.id IN :cartItemIds AND ci.cart.member.id = :memberId")
+    List<Long> findGroupBuyIdsByIdsAndMemberId(
+            @Param("cartItemIds") Collection<Long> cartItemIds,
+            @Param("memberId") Long memberId
+    );
+
     @Query("SELECT COUNT(ci) FROM CartItem ci WHERE ci.cart.member.id = :memberId")
     int countByCartMemberId(@Param("memberId") Long memberId);
 }
\ No newline at end of file
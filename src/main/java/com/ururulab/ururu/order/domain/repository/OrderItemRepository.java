@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
@@ -23,6 +24,22 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
             @Param("groupBuyOptionId") Long groupBuyOptionId
     );
 
+    /**
+     * 특정 회원의 여러 공구 옵션별 주문 수량 일괄 조회 (개인 구매 제한 검증용)
+     * 주문서 생성 시 사용 - 옵션 수와 무관하게 쿼리 1회
+     * @return [groupBuyOptionId, totalOrderedQuantity] 형태의 결과 리스트 (주문 이력이 없는 옵션은 제외)
+     */
+    @Query("SELECT oi.groupBuyOption.id, SUM(oi.quantity) FROM OrderItem oi " +
+            "JOIN oi.order o " +
+            "WHERE o.member.id = :memberId " +
+            "AND oi.groupBuyOption.id IN :groupBuyOptionIds " +
+            "AND o.status = 'ORDERED' " +
+            "GROUP BY oi.groupBuyOption.id")
+    List<Object[]> getTotalOrderedQuantitiesByMemberAndOptions(
+            @Param("memberId") Long memberId,
+            @Param("groupBuyOptionIds") Collection<Long> groupBuyOptionIds
+    );
+
     /**
      * 특정 공동구매의 유효 주문 수량 조회
      * - 공동구매 종료(CLOSED) 시, 최종 할인율 적용을 위한 기준 수량 계산에 사용
@@ -2,12 +2,17 @@ package com.ururulab.ururu.order.domain.repository;
 
 import com.ururulab.ururu.order.domain.entity.Order;
 import com.ururulab.ururu.order.domain.entity.enumerated.OrderStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderRepository extends JpaRepository<Order, String>, OrderRepositoryCustom {
@@ -19,6 +24,70 @@ public interface OrderRepository extends JpaRepository<Order, String>, OrderRepo
     @Query("SELECT o FROM Order o WHERE o.member.id = :memberId AND o.status = :status")
     List<Order> findByMemberIdAndStatus(@Param("memberId") Long memberId, @Param("status") OrderStatus status);
 
+    /**
+     * 재고 예약이 만료된 회원들의 오래된 PENDING 주문 ID 조회
+     * 예약 만료 스위퍼에서 사용 - 결제가 막 요청되었거나 승인 중인 주문(토스 결제 진행 중)은 제외
+     */
+    @Query("""
+        SELECT o.id FROM Order o
+        WHERE o.member.id IN :memberIds
+          AND o.status = 'PENDING'
+          AND o.createdAt <= :createdBefore
+          AND NOT EXISTS (
+              SELECT 1 FROM Payment p
+              WHERE p.order = o
+                AND (p.status = 'CONFIRMING'
+                     OR (p.status = 'PENDING' AND p.requestAt > :paymentRequestedAfter))
+          )
+        """)
+    List<String> findStalePendingOrderIds(
+            @Param("memberIds") Collection<Long> memberIds,
+            @Param("createdBefore") Instant createdBefore,
+            @Param("paymentRequestedAfter") Instant paymentRequestedAfter
+    );
+
+    /**
+     * 현재 상태가 status인 주문 ID 조회 (행 잠금)
+     * 일괄 상태 변경 전에 잠가 두어 그 사이 결제 완료 등으로 상태가 바뀐 주문에 이력이 남지 않도록 합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.id IN :orderIds AND o.status = :status")
+    List<Order> findByIdInAndStatusForUpdate(
+            @Param("orderIds") Collection<String> orderIds,
+            @Param("status") OrderStatus status
+    );
+
+    /**
+     * 주문 상태 일괄 변경 (단일 UPDATE)
+     * 현재 상태가 expectedStatus인 주문만 변경되며, 변경된 행 수를 반환
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :status, o.updatedAt = :updatedAt " +
+            "WHERE o.id IN :orderIds AND o.status = :expectedStatus")
+    int bulkUpdateStatus(
+            @Param("orderIds") Collection<String> orderIds,
+            @Param("expectedStatus") OrderStatus expectedStatus,
+            @Param("status") OrderStatus status,
+            @Param("updatedAt") Instant updatedAt
+    );
+
+    /**
+     * 주문 이력 일괄 추가 (단일 INSERT ... SELECT)
+     * bulkUpdateStatus 이후에 호출하며, 현재 상태가 status인 주문에만 이력을 남김
+     */
+    @Modifying
+    @Query("""
+        INSERT INTO OrderHistory (order, status, comment, createdAt, updatedAt)
+        SELECT o, :status, :comment, :createdAt, :createdAt FROM Order o
+        WHERE o.id IN :orderIds AND o.status = :status
+        """)
+    int bulkInsertHistories(
+            @Param("orderIds") Collection<String> orderIds,
+            @Param("status") OrderStatus status,
+            @Param("comment") String comment,
+            @Param("createdAt") Instant createdAt
+    );
+
     @Query("SELECT COUNT(o) FROM Order o WHERE o.member.id = :memberId AND o.status IN ('PENDING', 'ORDERED')")
     int countActiveOrdersByMemberId(@Param("memberId") Long memberId);
 
@@ -0,0 +1,15 @@
+package com.ururulab.ururu.order.dto.common;
+
+import java.time.Instant;
+
+/**
+ * 만료 스위퍼가 회수한 예약 정보
+ * quantity가 0이면 조회 시점 정리 등으로 이미 합계에서 차감된 예약입니다.
+ */
+public record ExpiredReservationDto(
+        Long optionId,
+        Long memberId,
+        Integer quantity,
+        Instant expiredAt
+) {
+}
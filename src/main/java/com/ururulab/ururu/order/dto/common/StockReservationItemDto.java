@@ -0,0 +1,12 @@
+package com.ururulab.ururu.order.dto.common;
+
+/**
+ * 원자적 재고 예약 요청 단위
+ * stock은 예약 시점에 조회한 DB 재고로, Redis 재고 미러가 없을 때 초기값으로 사용됩니다.
+ */
+public record StockReservationItemDto(
+        Long optionId,
+        Integer quantity,
+        Integer stock
+) {
+}
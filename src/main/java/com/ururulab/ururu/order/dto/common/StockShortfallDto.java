@@ -0,0 +1,14 @@
+package com.ururulab.ururu.order.dto.common;
+
+/**
+ * 재고 예약 실패 시 옵션별 부족 내역
+ */
+public record StockShortfallDto(
+        Long optionId,
+        Integer requestedQuantity,
+        Integer availableQuantity
+) {
+    public int shortage() {
+        return requestedQuantity - availableQuantity;
+    }
+}
@@ -0,0 +1,42 @@
+package com.ururulab.ururu.order.scheduler;
+
+import com.ururulab.ururu.order.service.StockReservationSweepService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockReservationSweepScheduler {
+
+    private final StockReservationSweepService sweepService;
+
+    @Value("${reservation.sweep.batch-size:200}")
+    private int batchSize;
+
+    @Value("${reservation.sweep.max-batches:50}")
+    private int maxBatches;
+
+    /**
+     * 만료된 재고 예약 회수
+     * 만료 예약이 남아 있는 동안 배치 단위로 반복 (실행당 최대 maxBatches회)
+     */
+    @Scheduled(fixedDelayString = "${reservation.sweep.interval-ms:5000}")
+    public void sweepExpiredReservations() {
+        try {
+            int batches = 0;
+            int swept;
+            do {
+                swept = sweepService.sweepBatch(batchSize);
+                batches++;
+            } while (swept >= batchSize && batches < maxBatches);
+
+        } catch (Exception e) {
+            log.error("Failed to sweep expired stock reservations", e);
+            // 다음 주기에 남은 만료 예약을 다시 회수
+        }
+    }
+}
@@ -205,7 +205,7 @@ public class MyOrderService {
         // 환불된 금액 계산
         Integer refundedAmount = order.getOrderItems().stream()
                 .filter(this::isRefundProcessed)
-                .mapToInt(item -> item.getGroupBuyOption().getSalePrice() * item.getQuantity())
+                .mapToInt(OrderItem::getTotalPrice)
                 .sum();
 
         return totalAmount - refundedAmount;
@@ -253,7 +253,7 @@ public class MyOrderService {
                 groupBuy.getProduct().getName(),
                 productOption.getName(),
                 orderItem.getQuantity(),
-                groupBuyOption.getSalePrice()
+                orderItem.getUnitPrice()
         );
     }
 
@@ -5,8 +5,11 @@ import com.ururulab.ururu.global.exception.error.ErrorCode;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyOption;
 import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
+import com.ururulab.ururu.groupBuy.service.GroupBuyStockService;
 import com.ururulab.ururu.member.domain.entity.Member;
 import com.ururulab.ururu.member.domain.repository.MemberRepository;
+import com.ururulab.ururu.order.dto.common.StockReservationItemDto;
+import com.ururulab.ururu.order.dto.common.StockShortfallDto;
 import com.ururulab.ururu.order.dto.request.CartOrderCreateRequest;
 import com.ururulab.ururu.order.dto.request.GroupBuyOrderCreateRequest;
 import com.ururulab.ururu.order.dto.request.OrderItemRequest;
@@ -26,7 +29,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -39,6 +48,7 @@ public class OrderCreationService {
     private final GroupBuyOptionRepository groupBuyOptionRepository;
     private final MemberRepository memberRepository;
     private final StockReservationService stockReservationService;
+    private final GroupBuyStockService groupBuyStockService;
 
     /**
      * 공구 주문서 생성
@@ -53,7 +63,7 @@ public class OrderCreationService {
     public OrderCreateResponse createGroupBuyOrder(Long memberId, Long groupbuyId, GroupBuyOrderCreateRequest request) {
         log.debug("공구 주문서 생성 - 회원ID: {}, 공구ID: {}, 요청: {}", memberId, groupbuyId, request);
 
-        acquireProcessingLock(memberId);
+        String lockToken = acquireProcessingLock(memberId);
 
         try {
             cancelPendingOrders(memberId);
@@ -65,7 +75,7 @@ public class OrderCreationService {
             return createAndSaveOrder(context);
 
         } finally {
-            releaseProcessingLockSafely(memberId);
+            releaseProcessingLockSafely(memberId, lockToken);
         }
     }
 
@@ -81,7 +91,7 @@ public class OrderCreationService {
     public OrderCreateResponse createCartOrder(Long memberId, CartOrderCreateRequest request) {
         log.debug("장바구니 주문서 생성 - 회원ID: {}, 요청: {}", memberId, request);
 
-        acquireProcessingLock(memberId);
+        String lockToken = acquireProcessingLock(memberId);
 
         try {
             cancelPendingOrders(memberId);
@@ -93,20 +103,33 @@ public class OrderCreationService {
             return createAndSaveOrder(context);
 
         } finally {
-            releaseProcessingLockSafely(memberId);
+            releaseProcessingLockSafely(memberId, lockToken);
         }
     }
 
+    /**
+     * 장바구니 주문 대상 공동구매 ID 조회
+     * 장바구니 주문으로 입장 대기열을 우회하지 못하도록 주문서 생성 트랜잭션 전에 입장을 확인할 때 사용합니다.
+     *
+     * @param memberId 회원 ID
+     * @param request 장바구니 주문 요청 정보
+     * @return 장바구니 아이템이 속한 공동구매 ID 목록
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findCartGroupBuyIds(Long memberId, CartOrderCreateRequest request) {
+        return cartItemRepository.findGroupBuyIdsByIdsAndMemberId(request.cartItemIds(), memberId);
+    }
+
     /**
      * 처리 락 획득
      *
      * @param memberId 회원 ID
+     * @return 락 소유자 토큰 (해제 시 사용)
      * @throws BusinessException 이미 진행 중인 주문이 있거나 시스템 장애 시
      */
-    private void acquireProcessingLock(Long memberId) {
-        if (!stockReservationService.tryAcquireProcessingLock(memberId)) {
-            throw new BusinessException(ErrorCode.ORDER_PROCESSING_IN_PROGRESS);
-        }
+    private String acquireProcessingLock(Long memberId) {
+        return stockReservationService.tryAcquireProcessingLock(memberId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_PROCESSING_IN_PROGRESS));
     }
 
     /**
@@ -114,10 +137,11 @@ public class OrderCreationService {
      * Redis 연결 장애가 있어도 예외를 발생시키지 않습니다.
      *
      * @param memberId 회원 ID
+     * @param lockToken 락 소유자 토큰
      */
-    private void releaseProcessingLockSafely(Long memberId) {
+    private void releaseProcessingLockSafely(Long memberId, String lockToken) {
         try {
-            stockReservationService.releaseProcessingLock(memberId);
+            stockReservationService.releaseProcessingLock(memberId, lockToken);
         } catch (Exception e) {
             log.warn("락 해제 중 오류 발생 (무시됨): memberId={}", memberId, e);
             // Redis 장애 등으로 락 해제 실패해도 TTL에 의해 자동 해제되므로 무시
@@ -153,11 +177,15 @@ public class OrderCreationService {
     private OrderCreationContext prepareGroupBuyOrderContext(Long memberId, Long groupbuyId, GroupBuyOrderCreateRequest request) {
         Member member = findMemberById(memberId);
 
+        Map<Long, GroupBuyOption> optionsById = findGroupBuyOptionsByIds(request.orderItems().stream()
+                .map(OrderItemRequest::groupbuyOptionId)
+                .toList());
+
         List<GroupBuyOption> groupBuyOptions = new ArrayList<>();
         GroupBuy groupBuy = null;
 
         for (OrderItemRequest orderItem : request.orderItems()) {
-            GroupBuyOption option = findGroupBuyOptionById(orderItem.groupbuyOptionId());
+            GroupBuyOption option = getGroupBuyOption(optionsById, orderItem.groupbuyOptionId());
 
             if (!option.getGroupBuy().getId().equals(groupbuyId)) {
                 throw new BusinessException(ErrorCode.GROUPBUY_OPTION_MISMATCH, orderItem.groupbuyOptionId());
@@ -195,13 +223,19 @@ public class OrderCreationService {
             throw new BusinessException(ErrorCode.CART_ITEMS_EMPTY);
         }
 
-        // 여러 공구 허용 - MULTIPLE_GROUPBUY_NOT_ALLOWED 제약 제거됨
-        // 첫 번째 아이템의 공구를 대표 공구로 사용 (Order 엔티티 호환성을 위한 임시 방편)
-        GroupBuy groupBuy = cartItems.get(0).getGroupBuyOption().getGroupBuy();
+        // 장바구니 아이템의 옵션을 연관 엔티티와 함께 한 번에 조회
+        Map<Long, GroupBuyOption> optionsById = findGroupBuyOptionsByIds(cartItems.stream()
+                .map(item -> item.getGroupBuyOption().getId())
+                .toList());
+
         List<GroupBuyOption> groupBuyOptions = cartItems.stream()
-                .map(CartItem::getGroupBuyOption)
+                .map(item -> getGroupBuyOption(optionsById, item.getGroupBuyOption().getId()))
                 .toList();
 
+        // 여러 공구 허용 - MULTIPLE_GROUPBUY_NOT_ALLOWED 제약 제거됨
+        // 첫 번째 아이템의 공구를 대표 공구로 사용 (Order 엔티티 호환성을 위한 임시 방편)
+        GroupBuy groupBuy = groupBuyOptions.get(0).getGroupBuy();
+
         List<OrderItemRequest> orderItems = cartItems.stream()
                 .map(item -> new OrderItemRequest(item.getGroupBuyOption().getId(), item.getQuantity()))
                 .toList();
@@ -211,36 +245,85 @@ public class OrderCreationService {
 
     /**
      * 주문 생성 검증
-     * 공구 상태, 재고, 개인 구매 제한을 확인합니다.
+     * 공구 상태와 개인 구매 제한을 확인합니다.
+     * 재고는 예약 단계에서 Redis 스크립트로 원자적으로 확인합니다.
      *
      * @param context 주문 생성 컨텍스트
-     * @throws BusinessException 공구 종료, 재고 부족, 개인 제한 초과 시
+     * @throws BusinessException 공구 종료, 개인 제한 초과 시
      */
     private void validateOrderCreation(OrderCreationContext context) {
         validateGroupBuyStatus(context.getGroupBuy());
 
+        Map<Long, Integer> orderedQuantities = findOrderedQuantities(context);
+
         for (int i = 0; i < context.getOrderItems().size(); i++) {
             OrderItemRequest orderItem = context.getOrderItems().get(i);
             GroupBuyOption option = context.getGroupBuyOptions().get(i);
 
-            validateStock(option, orderItem.quantity());
-            validatePersonalLimit(context.getMember().getId(), option, orderItem.quantity());
+            validatePersonalLimit(option, orderedQuantities.getOrDefault(option.getId(), 0), orderItem.quantity());
         }
     }
 
     /**
-     * 재고 예약
-     * Redis에 30분간 임시 재고를 예약합니다.
+     * 회원의 옵션별 기존 주문 수량 일괄 조회
+     * 개인 구매 제한이 있는 옵션만 대상으로 하며, 옵션 수와 무관하게 쿼리 1회
      *
      * @param context 주문 생성 컨텍스트
+     * @return 옵션 ID별 기존 주문 수량 (주문 이력이 없는 옵션은 제외)
+     */
+    private Map<Long, Integer> findOrderedQuantities(OrderCreationContext context) {
+        Set<Long> limitedOptionIds = context.getGroupBuyOptions().stream()
+                .filter(option -> hasPersonalLimit(option.getGroupBuy()))
+                .map(GroupBuyOption::getId)
+                .collect(Collectors.toSet());
+
+        if (limitedOptionIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Integer> orderedQuantities = new HashMap<>();
+        for (Object[] row : orderItemRepository.getTotalOrderedQuantitiesByMemberAndOptions(
+                context.getMember().getId(), limitedOptionIds)) {
+            orderedQuantities.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        return orderedQuantities;
+    }
+
+    /**
+     * 재고 확인 + 예약
+     * 주문의 모든 옵션을 Redis에 30분간 한 번에 예약합니다.
+     * 가용 재고 확인과 예약이 하나의 스크립트로 실행되므로 동시 주문 시에도 초과 판매되지 않습니다.
+     *
+     * @param context 주문 생성 컨텍스트
+     * @throws BusinessException 재고가 부족한 옵션이 있는 경우
      */
     private void reserveStock(OrderCreationContext context) {
+        Map<Long, Integer> stocks = groupBuyStockService.getStocks(context.getGroupBuyOptions());
+
+        List<StockReservationItemDto> items = new ArrayList<>();
         for (int i = 0; i < context.getOrderItems().size(); i++) {
             OrderItemRequest orderItem = context.getOrderItems().get(i);
             GroupBuyOption option = context.getGroupBuyOptions().get(i);
 
-            stockReservationService.reserveStock(option.getId(), context.getMember().getId(), orderItem.quantity());
+            items.add(new StockReservationItemDto(option.getId(), orderItem.quantity(), stocks.get(option.getId())));
         }
+
+        List<StockShortfallDto> shortfalls = stockReservationService.reserveAll(context.getMember().getId(), items);
+        if (shortfalls.isEmpty()) {
+            return;
+        }
+
+        if (shortfalls.size() == 1) {
+            StockShortfallDto shortfall = shortfalls.get(0);
+            throw new BusinessException(ErrorCode.STOCK_INSUFFICIENT,
+                    shortfall.requestedQuantity(), shortfall.availableQuantity());
+        }
+
+        String detail = shortfalls.stream()
+                .map(shortfall -> String.format("(옵션ID: %d, 요청: %d개, 사용가능: %d개)",
+                        shortfall.optionId(), shortfall.requestedQuantity(), shortfall.availableQuantity()))
+                .collect(Collectors.joining(", "));
+        throw new BusinessException(ErrorCode.STOCK_SHORTFALL, detail);
     }
 
     /**
@@ -276,15 +359,30 @@ public class OrderCreationService {
     }
 
     /**
-     * 공구 옵션 조회
+     * 공구 옵션 일괄 조회
      *
+     * @param optionIds 공구 옵션 ID 목록
+     * @return 옵션 ID별 공구 옵션 엔티티 (연관 엔티티 포함)
+     */
+    private Map<Long, GroupBuyOption> findGroupBuyOptionsByIds(List<Long> optionIds) {
+        return groupBuyOptionRepository.findAllByIdWithDetails(new HashSet<>(optionIds)).stream()
+                .collect(Collectors.toMap(GroupBuyOption::getId, Function.identity()));
+    }
+
+    /**
+     * 일괄 조회한 공구 옵션에서 단건 조회
+     *
+     * @param optionsById 옵션 ID별 공구 옵션
      * @param optionId 공구 옵션 ID
      * @return 공구 옵션 엔티티 (연관 엔티티 포함)
      * @throws BusinessException 공구 옵션이 존재하지 않을 시
      */
-    private GroupBuyOption findGroupBuyOptionById(Long optionId) {
-        return groupBuyOptionRepository.findByIdWithDetails(optionId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.GROUPBUY_OPTION_NOT_FOUND, optionId));
+    private GroupBuyOption getGroupBuyOption(Map<Long, GroupBuyOption> optionsById, Long optionId) {
+        GroupBuyOption option = optionsById.get(optionId);
+        if (option == null) {
+            throw new BusinessException(ErrorCode.GROUPBUY_OPTION_NOT_FOUND, optionId);
+        }
+        return option;
     }
 
     /**
@@ -303,42 +401,22 @@ public class OrderCreationService {
         }
     }
 
-    /**
-     * 재고 검증
-     * 전체 재고에서 예약된 수량을 제외한 실제 구매 가능 수량을 확인합니다.
-     *
-     * @param groupBuyOption 공구 옵션
-     * @param requestQuantity 요청 수량
-     * @throws BusinessException 재고가 부족한 경우
-     */
-    private void validateStock(GroupBuyOption groupBuyOption, Integer requestQuantity) {
-        Integer totalStock = groupBuyOption.getStock();
-        Integer reservedQuantity = stockReservationService.getTotalReservedQuantity(groupBuyOption.getId());
-        Integer availableStock = totalStock - reservedQuantity;
-
-        if (availableStock < requestQuantity) {
-            throw new BusinessException(ErrorCode.STOCK_INSUFFICIENT, requestQuantity, availableStock);
-        }
-    }
-
     /**
      * 개인 구매 제한 검증
      * 기존 주문과 새 요청을 합쳐서 개인 제한 초과 여부 확인
      * 현재 예약은 아직 이루어지지 않은 상태이므로 제외
      *
-     * @param memberId 회원 ID
      * @param groupBuyOption 공구 옵션
+     * @param orderedQuantity 기존 주문 수량
      * @param requestQuantity 요청 수량
      * @throws BusinessException 개인 구매 제한을 초과한 경우
      */
-    private void validatePersonalLimit(Long memberId, GroupBuyOption groupBuyOption, Integer requestQuantity) {
-        Integer limitQuantityPerMember = groupBuyOption.getGroupBuy().getLimitQuantityPerMember();
-        if (limitQuantityPerMember == null || limitQuantityPerMember <= 0) {
+    private void validatePersonalLimit(GroupBuyOption groupBuyOption, int orderedQuantity, Integer requestQuantity) {
+        if (!hasPersonalLimit(groupBuyOption.getGroupBuy())) {
             return;
         }
 
-        Integer orderedQuantity = orderItemRepository
-                .getTotalOrderedQuantityByMemberAndOption(memberId, groupBuyOption.getId());
+        Integer limitQuantityPerMember = groupBuyOption.getGroupBuy().getLimitQuantityPerMember();
 
         // 현재 예약은 검증 후에 이루어지므로 제외
         int totalQuantity = orderedQuantity + requestQuantity;
@@ -348,6 +426,11 @@ public class OrderCreationService {
         }
     }
 
+    private boolean hasPersonalLimit(GroupBuy groupBuy) {
+        Integer limitQuantityPerMember = groupBuy.getLimitQuantityPerMember();
+        return limitQuantityPerMember != null && limitQuantityPerMember > 0;
+    }
+
     /**
      * 주문 응답 DTO 생성
      *
@@ -387,7 +470,7 @@ public class OrderCreationService {
                 option.getGroupBuy().getProduct().getName(),
                 option.getProductOption().getName(),
                 option.getProductOption().getImageUrl(),
-                option.getSalePrice()
+                orderItem.getUnitPrice()
         );
     }
 
@@ -399,7 +482,7 @@ public class OrderCreationService {
      */
     private Integer calculateTotalAmount(List<OrderItem> orderItems) {
         return orderItems.stream()
-                .mapToInt(item -> item.getGroupBuyOption().getSalePrice() * item.getQuantity())
+                .mapToInt(OrderItem::getTotalPrice)
                 .sum();
     }
 
@@ -0,0 +1,320 @@
+package com.ururulab.ururu.order.service;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * 재고 예약 원장(ledger) 조작용 Lua 스크립트 모음
+ *
+ * 키 구조 (optionId / memberId 기준)
+ * - reservation:option:{optionId}        HASH  memberId → 예약 수량
+ * - reservation:option:{optionId}:total  STRING 옵션 전체 예약 수량 (running total)
+ * - reservation:option:{optionId}:expiry ZSET  memberId → 만료 시각(epoch millis)
+ * - reservation:option:{optionId}:stock  STRING DB 재고 미러 (예약 가능 여부 판단용)
+ * - reservation:member:{memberId}        SET   회원이 예약 중인 optionId 목록
+ * - reservation:expiry                   ZSET  "optionId:memberId" → 만료 시각 (만료 스위퍼용 전역 인덱스)
+ *
+ * 스크립트가 건드리는 키는 모두 KEYS로 전달합니다 (ARGV로 키 이름을 조립하지 않음).
+ * 여러 옵션/회원 키를 한 스크립트에서 다루므로 Redis Cluster에서는 키가 같은 슬롯에 있어야 하며,
+ * 현재는 단일 노드(또는 Sentinel) Redis를 전제로 합니다.
+ */
+final class StockReservationScripts {
+
+    private StockReservationScripts() {
+    }
+
+    /**
+     * 예약 생성/갱신
+     * KEYS: [holds, total, expiry, memberIndex, globalExpiry]
+     * ARGV: [memberId, quantity, expireAtMillis, optionId, ttlMillis]
+     */
+    static final RedisScript<Long> RESERVE = new DefaultRedisScript<>("""
+            local prev = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')
+            local qty = tonumber(ARGV[2])
+            redis.call('HSET', KEYS[1], ARGV[1], qty)
+            local total = redis.call('INCRBY', KEYS[2], qty - prev)
+            redis.call('ZADD', KEYS[3], ARGV[3], ARGV[1])
+            redis.call('SADD', KEYS[4], ARGV[4])
+            redis.call('ZADD', KEYS[5], ARGV[3], ARGV[4] .. ':' .. ARGV[1])
+            for i = 1, 4 do
+                redis.call('PEXPIRE', KEYS[i], ARGV[5])
+            end
+            return total
+            """, Long.class);
+
+    /**
+     * 예약 해제
+     * KEYS: [holds, total, expiry, memberIndex, globalExpiry]
+     * ARGV: [memberId, optionId]
+     * 반환: 해제된 수량 (예약이 없었으면 0)
+     */
+    static final RedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            local qty = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')
+            if qty > 0 then
+                redis.call('HDEL', KEYS[1], ARGV[1])
+                if redis.call('DECRBY', KEYS[2], qty) <= 0 then
+                    redis.call('DEL', KEYS[2])
+                end
+            end
+            redis.call('ZREM', KEYS[3], ARGV[1])
+            redis.call('SREM', KEYS[4], ARGV[2])
+            redis.call('ZREM', KEYS[5], ARGV[2] .. ':' .. ARGV[1])
+            return qty
+            """, Long.class);
+
+    /**
+     * 회원의 모든 예약 해제 (회원 인덱스에서 읽은 옵션 목록 기준, 패턴 스캔 없음)
+     * 전달받은 옵션만 회원 인덱스에서 빼므로, 목록을 읽은 뒤 추가된 예약은 그대로 남습니다.
+     *
+     * KEYS: 옵션마다 [holds, total, expiry] 3개씩, 마지막에 [memberIndex, globalExpiry]
+     * ARGV: [memberId, itemCount, 이후 옵션마다 optionId]
+     * 반환: 해제된 예약 건수
+     */
+    static final RedisScript<Long> RELEASE_ALL = new DefaultRedisScript<>("""
+            local memberId = ARGV[1]
+            local count = tonumber(ARGV[2])
+            local memberIndex = KEYS[count * 3 + 1]
+            local globalExpiry = KEYS[count * 3 + 2]
+            local released = 0
+
+            for i = 1, count do
+                local k = (i - 1) * 3
+                local optionId = ARGV[2 + i]
+                local qty = tonumber(redis.call('HGET', KEYS[k + 1], memberId) or '0')
+                if qty > 0 then
+                    redis.call('HDEL', KEYS[k + 1], memberId)
+                    if redis.call('DECRBY', KEYS[k + 2], qty) <= 0 then
+                        redis.call('DEL', KEYS[k + 2])
+                    end
+                    released = released + 1
+                end
+                redis.call('ZREM', KEYS[k + 3], memberId)
+                redis.call('SREM', memberIndex, optionId)
+                redis.call('ZREM', globalExpiry, optionId .. ':' .. memberId)
+            end
+            return released
+            """, Long.class);
+
+    /**
+     * 만료된 예약을 합계에서 차감하는 공통 Lua 함수
+     * 정상적으로는 만료 스위퍼가 정리하며, 스위퍼가 지연될 때를 위한 보정 용도입니다.
+     */
+    private static final String PURGE_EXPIRED_FUNCTION = """
+            local function purgeExpired(holds, total, expiry, now, limit)
+                local expired = redis.call('ZRANGEBYSCORE', expiry, '-inf', now, 'LIMIT', 0, limit)
+                for _, member in ipairs(expired) do
+                    local qty = tonumber(redis.call('HGET', holds, member) or '0')
+                    if qty > 0 then
+                        redis.call('HDEL', holds, member)
+                        redis.call('DECRBY', total, qty)
+                    end
+                    redis.call('ZREM', expiry, member)
+                end
+                local current = tonumber(redis.call('GET', total) or '0')
+                if current < 0 then
+                    redis.call('DEL', total)
+                    return 0
+                end
+                return current
+            end
+            """;
+
+    /**
+     * 옵션 전체 예약 수량 조회 (스위퍼가 놓친 만료 예약은 조회 시점에 정리)
+     * KEYS: [holds, total, expiry]
+     * ARGV: [purgeBeforeMillis, purgeLimit]
+     */
+    static final RedisScript<Long> TOTAL = new DefaultRedisScript<>(PURGE_EXPIRED_FUNCTION + """
+            return purgeExpired(KEYS[1], KEYS[2], KEYS[3], ARGV[1], tonumber(ARGV[2]))
+            """, Long.class);
+
+    /**
+     * 주문 단위 재고 확인 + 예약 (단일 왕복, 원자적)
+     * 모든 옵션의 가용 재고(미러링된 DB 재고 - 타인 예약)를 먼저 확인하고,
+     * 하나라도 부족하면 아무것도 예약하지 않고 부족 내역을 반환합니다.
+     *
+     * KEYS: 옵션마다 [holds, total, expiry, stock] 4개씩, 마지막에 [memberIndex, globalExpiry]
+     * ARGV: [memberId, expireAtMillis, ttlMillis, purgeBeforeMillis, stockTtlMillis, purgeLimit, itemCount,
+     *        이후 옵션마다 optionId, quantity, dbStock]
+     * 반환: 성공 시 빈 배열, 실패 시 옵션마다 [optionId, 요청 수량, 가용 수량] 평탄화 배열
+     */
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> RESERVE_ALL = new DefaultRedisScript<>(PURGE_EXPIRED_FUNCTION + """
+            local memberId = ARGV[1]
+            local count = tonumber(ARGV[7])
+            local memberIndex = KEYS[count * 4 + 1]
+            local globalExpiry = KEYS[count * 4 + 2]
+            local shortfalls = {}
+
+            for i = 1, count do
+                local k = (i - 1) * 4
+                local a = 7 + (i - 1) * 3
+                local qty = tonumber(ARGV[a + 2])
+                redis.call('SET', KEYS[k + 4], ARGV[a + 3], 'PX', ARGV[5], 'NX')
+                local reserved = purgeExpired(KEYS[k + 1], KEYS[k + 2], KEYS[k + 3], ARGV[4], tonumber(ARGV[6]))
+                local own = tonumber(redis.call('HGET', KEYS[k + 1], memberId) or '0')
+                local available = tonumber(redis.call('GET', KEYS[k + 4])) - reserved + own
+                if available < qty then
+                    table.insert(shortfalls, tonumber(ARGV[a + 1]))
+                    table.insert(shortfalls, qty)
+                    table.insert(shortfalls, math.max(available, 0))
+                end
+            end
+
+            if #shortfalls > 0 then
+                return shortfalls
+            end
+
+            for i = 1, count do
+                local k = (i - 1) * 4
+                local a = 7 + (i - 1) * 3
+                local qty = tonumber(ARGV[a + 2])
+                local prev = tonumber(redis.call('HGET', KEYS[k + 1], memberId) or '0')
+                redis.call('HSET', KEYS[k + 1], memberId, qty)
+                redis.call('INCRBY', KEYS[k + 2], qty - prev)
+                redis.call('ZADD', KEYS[k + 3], ARGV[2], memberId)
+                redis.call('SADD', memberIndex, ARGV[a + 1])
+                redis.call('ZADD', globalExpiry, ARGV[2], ARGV[a + 1] .. ':' .. memberId)
+                for j = 1, 3 do
+                    redis.call('PEXPIRE', KEYS[k + j], ARGV[3])
+                end
+            end
+            redis.call('PEXPIRE', memberIndex, ARGV[3])
+            return {}
+            """, List.class);
+
+    /**
+     * 결제 완료 시 예약 확정 (예약 해제 + 미러 재고 차감)
+     * KEYS: [holds, total, expiry, memberIndex, globalExpiry, stock]
+     * ARGV: [memberId, optionId, quantity]
+     */
+    static final RedisScript<Long> CONFIRM = new DefaultRedisScript<>("""
+            local qty = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')
+            if qty > 0 then
+                redis.call('HDEL', KEYS[1], ARGV[1])
+                if redis.call('DECRBY', KEYS[2], qty) <= 0 then
+                    redis.call('DEL', KEYS[2])
+                end
+            end
+            redis.call('ZREM', KEYS[3], ARGV[1])
+            redis.call('SREM', KEYS[4], ARGV[2])
+            redis.call('ZREM', KEYS[5], ARGV[2] .. ':' .. ARGV[1])
+            if redis.call('EXISTS', KEYS[6]) == 1 then
+                redis.call('DECRBY', KEYS[6], ARGV[3])
+            end
+            return qty
+            """, Long.class);
+
+    /**
+     * 결제 완료 시 주문 단위 예약 확정 (단일 왕복)
+     * CONFIRM을 주문의 모든 옵션에 대해 한 번에 수행합니다.
+     *
+     * KEYS: 옵션마다 [holds, total, expiry, stock] 4개씩, 마지막에 [memberIndex, globalExpiry]
+     * ARGV: [memberId, itemCount, 이후 옵션마다 optionId, quantity]
+     * 반환: 해제된 예약 수량 합계
+     */
+    static final RedisScript<Long> CONFIRM_ALL = new DefaultRedisScript<>("""
+            local memberId = ARGV[1]
+            local count = tonumber(ARGV[2])
+            local memberIndex = KEYS[count * 4 + 1]
+            local globalExpiry = KEYS[count * 4 + 2]
+            local released = 0
+
+            for i = 1, count do
+                local k = (i - 1) * 4
+                local a = 2 + (i - 1) * 2
+                local optionId = ARGV[a + 1]
+                local qty = tonumber(redis.call('HGET', KEYS[k + 1], memberId) or '0')
+                if qty > 0 then
+                    redis.call('HDEL', KEYS[k + 1], memberId)
+                    if redis.call('DECRBY', KEYS[k + 2], qty) <= 0 then
+                        redis.call('DEL', KEYS[k + 2])
+                    end
+                    released = released + qty
+                end
+                redis.call('ZREM', KEYS[k + 3], memberId)
+                redis.call('SREM', memberIndex, optionId)
+                redis.call('ZREM', globalExpiry, optionId .. ':' .. memberId)
+                if redis.call('EXISTS', KEYS[k + 4]) == 1 then
+                    redis.call('DECRBY', KEYS[k + 4], ARGV[a + 2])
+                end
+            end
+            return released
+            """, Long.class);
+
+    /**
+     * 환불 등으로 DB 재고가 늘어난 경우 미러 재고 복구 (미러가 있을 때만)
+     * KEYS: [stock]
+     * ARGV: [quantity]
+     */
+    static final RedisScript<Long> RESTORE_STOCK = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return redis.call('INCRBY', KEYS[1], ARGV[1])
+            end
+            return -1
+            """, Long.class);
+
+    /**
+     * 만료된 예약 일괄 회수 (스위퍼용)
+     * 전역 만료 인덱스에서 미리 읽은 만료 항목들을 원장에서 해제합니다.
+     * 스크립트 안에서 전역 만료 인덱스의 만료 시각을 다시 확인하므로, 여러 인스턴스가 같은 항목을 읽어도
+     * 한 번만 회수되고 그 사이 다시 예약되어 만료 시각이 늦춰진 항목은 건너뜁니다.
+     *
+     * KEYS: 항목마다 [holds, total, expiry, memberIndex] 4개씩, 마지막에 [globalExpiry]
+     * ARGV: [nowMillis, itemCount, 이후 항목마다 optionId, memberId]
+     * 반환: 회수한 항목마다 [optionId, memberId, 회수 수량, 만료 시각] 평탄화 배열
+     */
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> SWEEP = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local count = tonumber(ARGV[2])
+            local globalExpiry = KEYS[count * 4 + 1]
+            local result = {}
+
+            for i = 1, count do
+                local k = (i - 1) * 4
+                local a = 2 + (i - 1) * 2
+                local optionId = ARGV[a + 1]
+                local memberId = ARGV[a + 2]
+                local entry = optionId .. ':' .. memberId
+                local expiredAt = redis.call('ZSCORE', globalExpiry, entry)
+                if expiredAt and tonumber(expiredAt) <= now then
+                    local qty = 0
+                    local holdExpireAt = tonumber(redis.call('ZSCORE', KEYS[k + 3], memberId) or '0')
+                    if holdExpireAt <= now then
+                        qty = tonumber(redis.call('HGET', KEYS[k + 1], memberId) or '0')
+                        if qty > 0 then
+                            redis.call('HDEL', KEYS[k + 1], memberId)
+                            if redis.call('DECRBY', KEYS[k + 2], qty) <= 0 then
+                                redis.call('DEL', KEYS[k + 2])
+                            end
+                        end
+                        redis.call('ZREM', KEYS[k + 3], memberId)
+                        redis.call('SREM', KEYS[k + 4], optionId)
+                    end
+                    redis.call('ZREM', globalExpiry, entry)
+                    table.insert(result, tonumber(optionId))
+                    table.insert(result, tonumber(memberId))
+                    table.insert(result, qty)
+                    table.insert(result, math.floor(tonumber(expiredAt)))
+                end
+            end
+            return result
+            """, List.class);
+
+    /**
+     * 처리 락 해제 (소유자 토큰 비교 후 삭제)
+     * 락을 잡은 요청만 해제할 수 있도록, TTL 만료 후 다른 요청이 다시 잡은 락은 지우지 않습니다.
+     * KEYS: [processingLock]
+     * ARGV: [ownerToken]
+     * 반환: 1 (해제) / 0 (소유자 불일치 또는 이미 만료)
+     */
+    static final RedisScript<Long> RELEASE_PROCESSING_LOCK = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+}
@@ -1,16 +1,28 @@
 package com.ururulab.ururu.order.service;
 
+import com.ururulab.ururu.order.dto.common.ExpiredReservationDto;
+import com.ururulab.ururu.order.dto.common.StockReservationItemDto;
+import com.ururulab.ururu.order.dto.common.StockShortfallDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 
 /**
  * Redis 기반 재고 예약 서비스
  * 주문서 생성 시 임시 재고 차감 및 TTL 관리
+ * 옵션별 예약 원장으로 관리하여 KEYS 패턴 스캔 없이 합계를 조회합니다.
  */
 @Slf4j
 @Service
@@ -19,113 +31,397 @@ public class StockReservationService {
 
     private final RedisTemplate<String, String> redisTemplate;
 
-    private static final String RESERVATION_KEY_PREFIX = "pending_order:";
+    private static final String RESERVATION_KEY_PREFIX = "reservation:option:";
+    private static final String MEMBER_INDEX_KEY_PREFIX = "reservation:member:";
+    private static final String GLOBAL_EXPIRY_KEY = "reservation:expiry";
+    private static final String TOTAL_KEY_SUFFIX = ":total";
+    private static final String EXPIRY_KEY_SUFFIX = ":expiry";
+    private static final String STOCK_KEY_SUFFIX = ":stock";
     private static final String PROCESSING_KEY_PREFIX = "processing:";
     private static final Duration RESERVATION_TTL = Duration.ofMinutes(30);
     private static final Duration PROCESSING_TTL = Duration.ofMinutes(5);
+    private static final Duration STOCK_MIRROR_TTL = Duration.ofMinutes(10); // 미러 재고는 주기적으로 DB 값으로 재동기화
+    private static final int EXPIRED_PURGE_LIMIT = 100; // 총량 조회 1회당 정리할 만료 예약 최대 개수
+    private static final Duration LAZY_PURGE_GRACE = Duration.ofMinutes(1); // 스위퍼 지연 시에만 조회 시점 정리
 
     /**
      * 재고 예약 생성
+     * 옵션별 원장(hash)과 누적 합계, 만료 인덱스, 회원 인덱스를 원자적으로 갱신합니다.
+     * 같은 회원이 같은 옵션을 다시 예약하면 수량을 덮어씁니다.
      * @param optionId 공구 옵션 ID
      * @param memberId 회원 ID
      * @param quantity 예약 수량
      */
     public void reserveStock(Long optionId, Long memberId, Integer quantity) {
-        String key = buildReservationKey(optionId, memberId);
-        redisTemplate.opsForValue().set(key, quantity.toString(), RESERVATION_TTL);
+        long expireAt = Instant.now().plus(RESERVATION_TTL).toEpochMilli();
+
+        redisTemplate.execute(
+                StockReservationScripts.RESERVE,
+                List.of(holdsKey(optionId), totalKey(optionId), expiryKey(optionId),
+                        memberIndexKey(memberId), GLOBAL_EXPIRY_KEY),
+                memberId.toString(),
+                quantity.toString(),
+                String.valueOf(expireAt),
+                optionId.toString(),
+                String.valueOf(RESERVATION_TTL.toMillis())
+        );
 
         log.debug("재고 예약 생성 - 옵션ID: {}, 회원ID: {}, 수량: {}", optionId, memberId, quantity);
     }
 
+    /**
+     * 주문 단위 재고 확인 + 예약 (원자적, Redis 1회 왕복)
+     * 미러링된 DB 재고에서 다른 회원의 예약을 뺀 가용 수량을 서버 측 스크립트에서 확인하고,
+     * 모든 옵션이 충분할 때만 한 번에 예약합니다.
+     * @param memberId 회원 ID
+     * @param items 예약할 옵션 목록 (DB 재고 포함)
+     * @return 부족한 옵션 목록 (성공 시 빈 리스트)
+     */
+    public List<StockShortfallDto> reserveAll(Long memberId, List<StockReservationItemDto> items) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+
+        Instant now = Instant.now();
+        List<String> keys = new ArrayList<>(items.size() * 4 + 2);
+        List<String> args = new ArrayList<>(7 + items.size() * 3);
+        args.add(memberId.toString());
+        args.add(String.valueOf(now.plus(RESERVATION_TTL).toEpochMilli()));
+        args.add(String.valueOf(RESERVATION_TTL.toMillis()));
+        args.add(String.valueOf(now.minus(LAZY_PURGE_GRACE).toEpochMilli()));
+        args.add(String.valueOf(STOCK_MIRROR_TTL.toMillis()));
+        args.add(String.valueOf(EXPIRED_PURGE_LIMIT));
+        args.add(String.valueOf(items.size()));
+
+        for (StockReservationItemDto item : items) {
+            keys.add(holdsKey(item.optionId()));
+            keys.add(totalKey(item.optionId()));
+            keys.add(expiryKey(item.optionId()));
+            keys.add(stockKey(item.optionId()));
+            args.add(item.optionId().toString());
+            args.add(item.quantity().toString());
+            args.add(item.stock().toString());
+        }
+        keys.add(memberIndexKey(memberId));
+        keys.add(GLOBAL_EXPIRY_KEY);
+
+        List<?> result = redisTemplate.execute(StockReservationScripts.RESERVE_ALL, keys, args.toArray());
+
+        List<StockShortfallDto> shortfalls = new ArrayList<>();
+        if (result != null) {
+            for (int i = 0; i + 2 < result.size(); i += 3) {
+                shortfalls.add(new StockShortfallDto(
+                        toLong(result.get(i)),
+                        toLong(result.get(i + 1)).intValue(),
+                        toLong(result.get(i + 2)).intValue()
+                ));
+            }
+        }
+
+        if (shortfalls.isEmpty()) {
+            log.debug("주문 재고 예약 완료 - 회원ID: {}, 옵션 수: {}", memberId, items.size());
+        } else {
+            log.debug("주문 재고 예약 실패 - 회원ID: {}, 부족 내역: {}", memberId, shortfalls);
+        }
+        return shortfalls;
+    }
+
+    /**
+     * 결제 완료 시 예약 확정
+     * 예약을 해제하고 Redis 재고 미러를 DB 차감량만큼 함께 줄입니다.
+     * @param optionId 공구 옵션 ID
+     * @param memberId 회원 ID
+     * @param quantity 확정 수량
+     */
+    public void confirmReservation(Long optionId, Long memberId, Integer quantity) {
+        redisTemplate.execute(
+                StockReservationScripts.CONFIRM,
+                List.of(holdsKey(optionId), totalKey(optionId), expiryKey(optionId),
+                        memberIndexKey(memberId), GLOBAL_EXPIRY_KEY, stockKey(optionId)),
+                memberId.toString(),
+                optionId.toString(),
+                quantity.toString()
+        );
+
+        log.debug("재고 예약 확정 - 옵션ID: {}, 회원ID: {}, 수량: {}", optionId, memberId, quantity);
+    }
+
+    /**
+     * 결제 완료 시 주문 단위 예약 확정 (Redis 1회 왕복)
+     * 주문의 모든 옵션 예약을 해제하고 Redis 재고 미러를 DB 차감량만큼 함께 줄입니다.
+     * @param memberId 회원 ID
+     * @param quantitiesByOptionId 옵션 ID별 확정 수량
+     */
+    public void confirmReservations(Long memberId, Map<Long, Integer> quantitiesByOptionId) {
+        if (quantitiesByOptionId.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(quantitiesByOptionId.size() * 4 + 2);
+        List<String> args = new ArrayList<>(2 + quantitiesByOptionId.size() * 2);
+        args.add(memberId.toString());
+        args.add(String.valueOf(quantitiesByOptionId.size()));
+
+        quantitiesByOptionId.forEach((optionId, quantity) -> {
+            keys.add(holdsKey(optionId));
+            keys.add(totalKey(optionId));
+            keys.add(expiryKey(optionId));
+            keys.add(stockKey(optionId));
+            args.add(optionId.toString());
+            args.add(quantity.toString());
+        });
+        keys.add(memberIndexKey(memberId));
+        keys.add(GLOBAL_EXPIRY_KEY);
+
+        redisTemplate.execute(StockReservationScripts.CONFIRM_ALL, keys, args.toArray());
+
+        log.debug("주문 재고 예약 확정 - 회원ID: {}, 옵션: {}", memberId, quantitiesByOptionId);
+    }
+
+    /**
+     * 환불 등으로 DB 재고가 복구되었을 때 Redis 재고 미러 복구
+     * 미러가 없으면 다음 예약 시 DB 재고로 초기화되므로 아무것도 하지 않습니다.
+     * @param optionId 공구 옵션 ID
+     * @param quantity 복구 수량
+     */
+    public void restoreStock(Long optionId, Integer quantity) {
+        redisTemplate.execute(
+                StockReservationScripts.RESTORE_STOCK,
+                List.of(stockKey(optionId)),
+                quantity.toString()
+        );
+    }
+
     /**
      * 재고 예약 해제
      * @param optionId 공구 옵션 ID
      * @param memberId 회원 ID
      */
     public void releaseReservation(Long optionId, Long memberId) {
-        String key = buildReservationKey(optionId, memberId);
-        redisTemplate.delete(key);
+        redisTemplate.execute(
+                StockReservationScripts.RELEASE,
+                List.of(holdsKey(optionId), totalKey(optionId), expiryKey(optionId),
+                        memberIndexKey(memberId), GLOBAL_EXPIRY_KEY),
+                memberId.toString(),
+                optionId.toString()
+        );
 
         log.debug("재고 예약 해제 - 옵션ID: {}, 회원ID: {}", optionId, memberId);
     }
 
     /**
      * 특정 옵션의 총 예약 수량 조회
+     * 누적 합계 키를 읽으므로 예약자 수와 무관하게 O(1)이며,
+     * 만료 스위퍼가 놓친 오래된 만료 예약이 있으면 조회 시점에 합계에서 차감합니다.
      * @param optionId 공구 옵션 ID
      * @return 총 예약 수량
      */
     public Integer getTotalReservedQuantity(Long optionId) {
-        String pattern = RESERVATION_KEY_PREFIX + optionId + ":*";
-        Set<String> keys = redisTemplate.keys(pattern);
-
-        if (keys == null || keys.isEmpty()) {
-            return 0;
-        }
-
-        return keys.stream()
-                .mapToInt(key -> {
-                    String value = redisTemplate.opsForValue().get(key);
-                    return value != null ? Integer.parseInt(value) : 0;
-                })
-                .sum();
+        Long total = redisTemplate.execute(
+                StockReservationScripts.TOTAL,
+                List.of(holdsKey(optionId), totalKey(optionId), expiryKey(optionId)),
+                String.valueOf(Instant.now().minus(LAZY_PURGE_GRACE).toEpochMilli()),
+                String.valueOf(EXPIRED_PURGE_LIMIT)
+        );
+        return total != null ? total.intValue() : 0;
     }
 
     /**
      * 특정 회원의 특정 옵션 예약 수량 조회
      * @param optionId 공구 옵션 ID
      * @param memberId 회원 ID
-     * @return 예약 수량 (없으면 0)
+     * @return 예약 수량 (없거나 만료되었으면 0)
      */
     public Integer getReservedQuantity(Long optionId, Long memberId) {
-        String key = buildReservationKey(optionId, memberId);
-        String value = redisTemplate.opsForValue().get(key);
-        return value != null ? Integer.parseInt(value) : 0;
+        String member = memberId.toString();
+        Double expireAt = redisTemplate.opsForZSet().score(expiryKey(optionId), member);
+        if (expireAt == null || expireAt <= Instant.now().toEpochMilli()) {
+            return 0;
+        }
+
+        Object value = redisTemplate.opsForHash().get(holdsKey(optionId), member);
+        return value != null ? Integer.parseInt(value.toString()) : 0;
+    }
+
+    /**
+     * 만료된 예약 일괄 회수
+     * 전역 만료 인덱스에서 만료 시각 순으로 최대 limit건을 읽고, 해당 원장 키를 모두 KEYS로 넘겨 해제합니다.
+     * @param limit 한 번에 회수할 최대 건수
+     * @return 회수된 예약 목록 (만료 시각 오름차순)
+     */
+    public List<ExpiredReservationDto> sweepExpiredReservations(int limit) {
+        long now = Instant.now().toEpochMilli();
+        Set<String> due = redisTemplate.opsForZSet()
+                .rangeByScore(GLOBAL_EXPIRY_KEY, Double.NEGATIVE_INFINITY, now, 0, limit);
+        if (due == null || due.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> keys = new ArrayList<>(due.size() * 4 + 1);
+        List<String> args = new ArrayList<>(2 + due.size() * 2);
+        args.add(String.valueOf(now));
+        args.add(String.valueOf(due.size()));
+
+        for (String entry : due) {
+            int separator = entry.indexOf(':');
+            Long optionId = Long.valueOf(entry.substring(0, separator));
+            Long memberId = Long.valueOf(entry.substring(separator + 1));
+            keys.add(holdsKey(optionId));
+            keys.add(totalKey(optionId));
+            keys.add(expiryKey(optionId));
+            keys.add(memberIndexKey(memberId));
+            args.add(optionId.toString());
+            args.add(memberId.toString());
+        }
+        keys.add(GLOBAL_EXPIRY_KEY);
+
+        List<?> result = redisTemplate.execute(StockReservationScripts.SWEEP, keys, args.toArray());
+
+        if (result == null || result.isEmpty()) {
+            return List.of();
+        }
+
+        List<ExpiredReservationDto> expired = new ArrayList<>(result.size() / 4);
+        for (int i = 0; i + 3 < result.size(); i += 4) {
+            expired.add(new ExpiredReservationDto(
+                    toLong(result.get(i)),
+                    toLong(result.get(i + 1)),
+                    toLong(result.get(i + 2)).intValue(),
+                    Instant.ofEpochMilli(toLong(result.get(i + 3)))
+            ));
+        }
+
+        log.debug("만료 예약 회수 - 건수: {}", expired.size());
+        return expired;
+    }
+
+    /**
+     * 회수 후처리(주문 취소)에 실패한 만료 예약을 전역 만료 인덱스에 다시 등록
+     * 원장에서는 이미 해제되었으므로 다음 회수 때 수량 0으로 다시 꺼내져 주문 취소만 재시도됩니다.
+     * 그 사이 같은 회원이 같은 옵션을 다시 예약했으면 새 만료 시각을 유지합니다 (ZADD NX).
+     * @param expired 다시 등록할 만료 예약
+     */
+    public void requeueExpiredReservations(List<ExpiredReservationDto> expired) {
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        Set<ZSetOperations.TypedTuple<String>> entries = new HashSet<>();
+        for (ExpiredReservationDto reservation : expired) {
+            entries.add(ZSetOperations.TypedTuple.of(
+                    reservation.optionId() + ":" + reservation.memberId(),
+                    (double) reservation.expiredAt().toEpochMilli()
+            ));
+        }
+        redisTemplate.opsForZSet().addIfAbsent(GLOBAL_EXPIRY_KEY, entries);
+
+        log.debug("만료 예약 재등록 - 건수: {}", entries.size());
+    }
+
+    /**
+     * 예약 유지 시간 (주문서 결제 유효 시간)
+     * @return 예약 TTL
+     */
+    public Duration getReservationTtl() {
+        return RESERVATION_TTL;
     }
 
     /**
      * 사용자별 중복 요청 방지 락
+     * 락 값으로 요청마다 고유한 소유자 토큰을 저장하며, 해제 시 이 토큰이 필요합니다.
      * @param memberId 회원 ID
-     * @return 락 획득 성공 여부
+     * @return 락 획득 시 소유자 토큰, 이미 다른 요청이 점유 중이면 빈 값
      */
-    public boolean tryAcquireProcessingLock(Long memberId) {
+    public Optional<String> tryAcquireProcessingLock(Long memberId) {
         String key = PROCESSING_KEY_PREFIX + memberId;
-        Boolean success = redisTemplate.opsForValue().setIfAbsent(key, "processing", PROCESSING_TTL);
+        String ownerToken = UUID.randomUUID().toString();
+        Boolean success = redisTemplate.opsForValue().setIfAbsent(key, ownerToken, PROCESSING_TTL);
 
         if (Boolean.TRUE.equals(success)) {
             log.debug("처리 락 획득 성공 - 회원ID: {}", memberId);
-            return true;
+            return Optional.of(ownerToken);
         } else {
             log.debug("처리 락 획득 실패 (중복 요청) - 회원ID: {}", memberId);
-            return false;
+            return Optional.empty();
         }
     }
 
     /**
      * 사용자별 중복 요청 방지 락 해제
+     * 소유자 토큰이 일치할 때만 삭제하므로, TTL 만료 후 다른 요청이 획득한 락은 건드리지 않습니다.
      * @param memberId 회원 ID
+     * @param ownerToken 락 획득 시 발급된 소유자 토큰
+     * @return 해제 여부
      */
-    public void releaseProcessingLock(Long memberId) {
-        String key = PROCESSING_KEY_PREFIX + memberId;
-        redisTemplate.delete(key);
+    public boolean releaseProcessingLock(Long memberId, String ownerToken) {
+        Long released = redisTemplate.execute(
+                StockReservationScripts.RELEASE_PROCESSING_LOCK,
+                List.of(PROCESSING_KEY_PREFIX + memberId),
+                ownerToken
+        );
+
+        if (released == null || released == 0L) {
+            log.warn("처리 락 소유자 불일치 또는 만료 - 회원ID: {}", memberId);
+            return false;
+        }
 
         log.debug("처리 락 해제 - 회원ID: {}", memberId);
+        return true;
     }
 
     /**
      * 회원의 기존 예약들 모두 해제 (재주문 시 사용)
+     * 회원 인덱스에서 예약 중인 옵션을 읽은 뒤, 해당 원장 키를 모두 KEYS로 넘겨 해제합니다.
      * @param memberId 회원 ID
      */
     public void releaseAllUserReservations(Long memberId) {
-        String pattern = RESERVATION_KEY_PREFIX + "*:" + memberId;
-        Set<String> keys = redisTemplate.keys(pattern);
+        Set<String> optionIds = redisTemplate.opsForSet().members(memberIndexKey(memberId));
+        if (optionIds == null || optionIds.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(optionIds.size() * 3 + 2);
+        List<String> args = new ArrayList<>(2 + optionIds.size());
+        args.add(memberId.toString());
+        args.add(String.valueOf(optionIds.size()));
+
+        for (String optionId : optionIds) {
+            keys.add(holdsKey(Long.valueOf(optionId)));
+            keys.add(totalKey(Long.valueOf(optionId)));
+            keys.add(expiryKey(Long.valueOf(optionId)));
+            args.add(optionId);
+        }
+        keys.add(memberIndexKey(memberId));
+        keys.add(GLOBAL_EXPIRY_KEY);
 
-        if (keys != null && !keys.isEmpty()) {
-            redisTemplate.delete(keys);
-            log.debug("사용자 모든 예약 해제 - 회원ID: {}, 해제된 예약 수: {}", memberId, keys.size());
+        Long released = redisTemplate.execute(StockReservationScripts.RELEASE_ALL, keys, args.toArray());
+
+        if (released != null && released > 0) {
+            log.debug("사용자 모든 예약 해제 - 회원ID: {}, 해제된 예약 수: {}", memberId, released);
         }
     }
 
-    private String buildReservationKey(Long optionId, Long memberId) {
-        return RESERVATION_KEY_PREFIX + optionId + ":" + memberId;
+    private String holdsKey(Long optionId) {
+        return RESERVATION_KEY_PREFIX + optionId;
+    }
+
+    private String totalKey(Long optionId) {
+        return RESERVATION_KEY_PREFIX + optionId + TOTAL_KEY_SUFFIX;
+    }
+
+    private String expiryKey(Long optionId) {
+        return RESERVATION_KEY_PREFIX + optionId + EXPIRY_KEY_SUFFIX;
+    }
+
+    private String stockKey(Long optionId) {
+        return RESERVATION_KEY_PREFIX + optionId + STOCK_KEY_SUFFIX;
+    }
+
+    private String memberIndexKey(Long memberId) {
+        return MEMBER_INDEX_KEY_PREFIX + memberId;
+    }
+
+    private Long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(value.toString());
     }
 }
\ No newline at end of file
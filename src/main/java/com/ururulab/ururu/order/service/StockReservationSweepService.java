@@ -0,0 +1,162 @@
+package com.ururulab.ururu.order.service;
+
+import com.ururulab.ururu.groupBuy.event.StockAvailableEvent;
+import com.ururulab.ururu.order.domain.entity.Order;
+import com.ururulab.ururu.order.domain.entity.enumerated.OrderStatus;
+import com.ururulab.ururu.order.domain.repository.OrderRepository;
+import com.ururulab.ururu.order.dto.common.ExpiredReservationDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 만료된 재고 예약 회수 서비스
+ * 전역 만료 인덱스에서 만료된 예약을 꺼내 재고를 반환하고,
+ * 결제되지 않은 채 남은 PENDING 주문을 일괄 취소합니다.
+ * 주문 취소 트랜잭션이 실패하면 꺼낸 예약을 만료 인덱스에 다시 등록해 다음 회수 때 재시도합니다.
+ * 회수한 재고는 트랜잭션 커밋 후 StockAvailableEvent로 알려 목록 캐시를 갱신합니다.
+ */
+@Slf4j
+@Service
+public class StockReservationSweepService {
+
+    private static final String EXPIRED_CANCEL_COMMENT = "결제 시간 초과로 인한 자동 취소";
+    // 결제 요청 후 토스 승인 대기 중인 주문은 취소하지 않음
+    private static final Duration PAYMENT_IN_PROGRESS_GRACE = Duration.ofMinutes(5);
+
+    private final StockReservationService stockReservationService;
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Timer sweepLagTimer;
+    private final Counter reclaimedUnitsCounter;
+    private final Counter cancelledOrdersCounter;
+
+    public StockReservationSweepService(
+            StockReservationService stockReservationService,
+            OrderRepository orderRepository,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry
+    ) {
+        this.stockReservationService = stockReservationService;
+        this.orderRepository = orderRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+
+        this.sweepLagTimer = Timer.builder("ururu_reservation_sweep_lag")
+                .description("Delay between reservation expiry and reclaim")
+                .register(meterRegistry);
+
+        this.reclaimedUnitsCounter = Counter.builder("ururu_reservation_reclaimed_units")
+                .description("Stock units reclaimed from expired reservations")
+                .register(meterRegistry);
+
+        this.cancelledOrdersCounter = Counter.builder("ururu_reservation_expired_orders")
+                .description("PENDING orders cancelled after reservation expiry")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 만료 예약 한 배치 회수
+     * @param batchSize 한 번에 회수할 최대 예약 건수
+     * @return 회수한 예약 건수 (batchSize 미만이면 더 이상 만료 예약 없음)
+     */
+    public int sweepBatch(int batchSize) {
+        List<ExpiredReservationDto> expired = stockReservationService.sweepExpiredReservations(batchSize);
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        Instant now = Instant.now();
+        int reclaimedQuantity = recordMetrics(expired, now);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                cancelStalePendingOrders(expired, now);
+                publishStockAvailable(expired, reclaimedQuantity);
+            });
+        } catch (RuntimeException e) {
+            // 원장에서는 이미 해제되었으므로 주문 취소만 다음 회수 때 다시 시도
+            stockReservationService.requeueExpiredReservations(expired);
+            throw e;
+        }
+
+        log.info("만료 예약 회수 완료 - 예약: {}건, 재고: {}개", expired.size(), reclaimedQuantity);
+        return expired.size();
+    }
+
+    /**
+     * 실제로 회수된 예약(수량 > 0)만 지연 시간과 회수 수량을 기록 (재등록된 예약은 수량 0)
+     */
+    private int recordMetrics(List<ExpiredReservationDto> expired, Instant now) {
+        int reclaimedQuantity = 0;
+        for (ExpiredReservationDto reservation : expired) {
+            if (reservation.quantity() <= 0) {
+                continue;
+            }
+            Duration lag = Duration.between(reservation.expiredAt(), now);
+            sweepLagTimer.record(lag.isNegative() ? Duration.ZERO : lag);
+            reclaimedQuantity += reservation.quantity();
+        }
+        reclaimedUnitsCounter.increment(reclaimedQuantity);
+        return reclaimedQuantity;
+    }
+
+    /**
+     * 회수된 재고가 있으면 커밋 후 처리할 재고 반환 이벤트 발행 (재등록된 예약은 수량 0이라 제외)
+     */
+    private void publishStockAvailable(List<ExpiredReservationDto> expired, int reclaimedQuantity) {
+        Set<Long> optionIds = expired.stream()
+                .filter(reservation -> reservation.quantity() > 0)
+                .map(ExpiredReservationDto::optionId)
+                .collect(Collectors.toSet());
+
+        if (!optionIds.isEmpty()) {
+            eventPublisher.publishEvent(new StockAvailableEvent(optionIds, reclaimedQuantity));
+        }
+    }
+
+    /**
+     * 오래된 PENDING 주문 일괄 취소
+     * 대상 주문을 먼저 잠가 그 사이 결제가 완료된 주문은 제외하고, 상태 변경 후 실제로 취소된 주문에만 이력을 남깁니다.
+     */
+    private void cancelStalePendingOrders(List<ExpiredReservationDto> expired, Instant now) {
+        Set<Long> memberIds = expired.stream()
+                .map(ExpiredReservationDto::memberId)
+                .collect(Collectors.toSet());
+
+        List<String> candidateIds = orderRepository.findStalePendingOrderIds(
+                memberIds,
+                now.minus(stockReservationService.getReservationTtl()),
+                now.minus(PAYMENT_IN_PROGRESS_GRACE)
+        );
+        if (candidateIds.isEmpty()) {
+            return;
+        }
+
+        List<String> orderIds = orderRepository.findByIdInAndStatusForUpdate(candidateIds, OrderStatus.PENDING).stream()
+                .map(Order::getId)
+                .toList();
+        if (orderIds.isEmpty()) {
+            return;
+        }
+
+        int cancelled = orderRepository.bulkUpdateStatus(orderIds, OrderStatus.PENDING, OrderStatus.CANCELLED, now);
+        orderRepository.bulkInsertHistories(orderIds, OrderStatus.CANCELLED, EXPIRED_CANCEL_COMMENT, now);
+        cancelledOrdersCounter.increment(cancelled);
+
+        log.info("만료 PENDING 주문 일괄 취소 - 대상: {}건, 취소: {}건", orderIds.size(), cancelled);
+    }
+}
@@ -1,6 +1,7 @@
 package com.ururulab.ururu.payment.controller;
 
 import com.ururulab.ururu.global.domain.dto.ApiResponseFormat;
+import com.ururulab.ururu.global.idempotency.IdempotencyService;
 import com.ururulab.ururu.payment.dto.request.PaymentConfirmRequestDto;
 import com.ururulab.ururu.payment.dto.request.PaymentRequestDto;
 import com.ururulab.ururu.payment.dto.response.PaymentConfirmResponseDto;
@@ -28,6 +29,7 @@ import org.springframework.web.bind.annotation.*;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final IdempotencyService idempotencyService;
 
     @Operation(summary = "결제 요청 생성", description = "공동구매 주문서에 대한 결제 요청을 생성하고 토스페이먼츠 SDK 실행용 정보를 반환합니다. 포인트 사용 시 즉시 차감됩니다.")
     @ApiResponses({
@@ -98,24 +100,29 @@ public class PaymentController {
             @ApiResponse(responseCode = "200", description = "결제 승인 성공"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터 또는 결제 승인 실패"),
             @ApiResponse(responseCode = "404", description = "존재하지 않는 결제"),
-            @ApiResponse(responseCode = "409", description = "결제 가능 상태가 아님"),
+            @ApiResponse(responseCode = "409", description = "결제 가능 상태가 아니거나 같은 Idempotency-Key로 처리 중인 요청"),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key가 다른 요청 내용으로 재사용됨"),
             @ApiResponse(responseCode = "500", description = "토스 API 호출 실패 또는 서버 오류")
     })
     @PostMapping("/{paymentId}/confirm")
     public ResponseEntity<ApiResponseFormat<PaymentConfirmResponseDto>> confirmPayment(
             @PathVariable Long paymentId,
+            @RequestHeader(value = IdempotencyService.HEADER_NAME, required = false) String idempotencyKey,
             @Valid @RequestBody PaymentConfirmRequestDto request
     ) {
         log.debug("결제 승인 요청 - paymentId: {}, paymentKey: {}", paymentId, request.paymentKey());
 
-        PaymentConfirmResponseDto response = paymentService.confirmPayment(paymentId, request);
+        // 타임아웃 후 재시도 시 토스 재호출 없이 최초 승인 결과를 반환
+        PaymentConfirmResponseDto response = idempotencyService.execute(
+                "payment:confirm:" + paymentId, idempotencyKey, request, PaymentConfirmResponseDto.class,
+                () -> paymentService.confirmPayment(paymentId, request));
 
         return ResponseEntity.ok(
                 ApiResponseFormat.success("결제 승인이 완료되었습니다", response)
         );
     }
 
-    @Operation(summary = "토스 웹훅 수신", description = "토스페이먼츠에서 결제 상태 변경을 비동기로 알려주는 웹훅을 처리합니다. 결제 상태 동기화 및 누락된 처리를 보정합니다.")
+    @Operation(summary = "토스 웹훅 수신", description = "토스페이먼츠에서 결제 상태 변경을 비동기로 알려주는 웹훅을 수신합니다. 서명 검증 후 수신함에 저장하고 즉시 응답하며, 결제 상태 동기화는 백그라운드 워커가 처리합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "웹훅 처리 성공"),
             @ApiResponse(responseCode = "400", description = "잘못된 웹훅 데이터")
@@ -54,6 +54,9 @@ public class Payment extends BaseEntity {
     @Column
     private Instant requestAt;
 
+    @Column
+    private Instant confirmRequestedAt;
+
     @Column
     private Instant paidAt;
 
@@ -144,6 +147,35 @@ public class Payment extends BaseEntity {
         this.payMethod = payMethod;
     }
 
+    /**
+     * PG 승인 호출 전 승인 중 상태로 전환합니다.
+     * 결제 키를 먼저 기록해 두어 프로세스가 중단되어도 PG 조회로 복구할 수 있습니다.
+     */
+    public void markAsConfirming(String paymentKey) {
+        if (this.status != PaymentStatus.PENDING) {
+            throw new IllegalStateException(PaymentPolicy.CANNOT_CONFIRM_NOT_PENDING);
+        }
+        if (paymentKey == null || paymentKey.trim().isEmpty()) {
+            throw new IllegalArgumentException(PaymentPolicy.PAYMENT_KEY_REQUIRED);
+        }
+
+        this.status = PaymentStatus.CONFIRMING;
+        this.paymentKey = paymentKey;
+        this.confirmRequestedAt = Instant.now();
+    }
+
+    /**
+     * PG가 승인을 거절한 경우 다시 결제 대기 상태로 되돌립니다.
+     */
+    public void revertToPending() {
+        if (this.status != PaymentStatus.CONFIRMING) {
+            throw new IllegalStateException(PaymentPolicy.CANNOT_REVERT_NOT_CONFIRMING);
+        }
+
+        this.status = PaymentStatus.PENDING;
+        this.confirmRequestedAt = null;
+    }
+
     public void markAsPaid(Instant approvedAt) {
         if (approvedAt == null) {
             throw new IllegalArgumentException(PaymentPolicy.APPROVED_AT_REQUIRED);
@@ -166,6 +198,21 @@ public class Payment extends BaseEntity {
         if (this.status == PaymentStatus.PAID) {
             throw new IllegalStateException(PaymentPolicy.CANNOT_FAIL_PAID);
         }
+        if (this.status == PaymentStatus.CONFIRMING) {
+            throw new IllegalStateException(PaymentPolicy.CANNOT_FAIL_CONFIRMING);
+        }
+
+        this.status = PaymentStatus.FAILED;
+        this.cancelledAt = Instant.now();
+    }
+
+    /**
+     * PG 승인 후 주문을 완료할 수 없어(재고 부족, 금액 불일치) 승인을 취소한 결제를 실패로 종료합니다.
+     */
+    public void markAsApprovalCancelled() {
+        if (this.status != PaymentStatus.PENDING && this.status != PaymentStatus.CONFIRMING) {
+            throw new IllegalStateException(PaymentPolicy.CANNOT_CANCEL_APPROVAL_INVALID_STATUS);
+        }
 
         this.status = PaymentStatus.FAILED;
         this.cancelledAt = Instant.now();
@@ -192,6 +239,10 @@ public class Payment extends BaseEntity {
 
     public boolean isPending() {return this.status == PaymentStatus.PENDING;}
 
+    public boolean isConfirming() {
+        return this.status == PaymentStatus.CONFIRMING;
+    }
+
     public boolean isPaid() {
         return this.status == PaymentStatus.PAID;
     }
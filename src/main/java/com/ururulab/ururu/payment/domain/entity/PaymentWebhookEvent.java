@@ -0,0 +1,124 @@
+package com.ururulab.ururu.payment.domain.entity;
+
+import com.ururulab.ururu.global.domain.entity.BaseEntity;
+import com.ururulab.ururu.payment.domain.entity.enumerated.WebhookEventStatus;
+import com.ururulab.ururu.payment.domain.policy.PaymentPolicy;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 토스 웹훅 수신함 (inbox)
+ * 서명 검증을 마친 원본 이벤트를 저장해 두고 즉시 응답한 뒤, 백그라운드 워커가 순서대로 처리합니다.
+ * eventId(원본 본문 해시)로 같은 이벤트의 재전송을 걸러냅니다.
+ */
+@Entity
+@Getter
+@Table(
+        name = "payment_webhook_inbox",
+        uniqueConstraints = @UniqueConstraint(columnNames = "event_id"),
+        indexes = {
+                @Index(name = "idx_webhook_inbox_status_next_attempt", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_webhook_inbox_payment_key", columnList = "payment_key")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentWebhookEvent extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false, length = 64)
+    private String eventId;
+
+    @Column(nullable = false, length = 50)
+    private String eventType;
+
+    @Column(name = "payment_key", length = PaymentPolicy.PAYMENT_KEY_MAX_LENGTH)
+    private String paymentKey;
+
+    @Column(length = 30)
+    private String paymentStatus;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private WebhookEventStatus status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column
+    private Instant processedAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    public static PaymentWebhookEvent receive(
+            String eventId,
+            String eventType,
+            String paymentKey,
+            String paymentStatus,
+            String payload
+    ) {
+        PaymentWebhookEvent event = new PaymentWebhookEvent();
+        event.eventId = eventId;
+        event.eventType = eventType;
+        event.paymentKey = paymentKey;
+        event.paymentStatus = paymentStatus;
+        event.payload = payload;
+        event.status = WebhookEventStatus.RECEIVED;
+        event.attempts = 0;
+        event.nextAttemptAt = Instant.now();
+        return event;
+    }
+
+    public boolean isReceived() {
+        return this.status == WebhookEventStatus.RECEIVED;
+    }
+
+    public void markAsProcessed() {
+        this.status = WebhookEventStatus.PROCESSED;
+        this.processedAt = Instant.now();
+        this.lastError = null;
+    }
+
+    public void markAsDuplicate() {
+        this.status = WebhookEventStatus.DUPLICATE;
+        this.processedAt = Instant.now();
+    }
+
+    /**
+     * 처리 실패 기록 - 재시도 한도를 넘으면 FAILED로 전환되어 재처리(replay) 전까지 대기합니다.
+     */
+    public void recordFailure(String error, int maxAttempts, Duration backoff) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+
+        if (this.attempts >= maxAttempts) {
+            this.status = WebhookEventStatus.FAILED;
+        } else {
+            this.nextAttemptAt = Instant.now().plus(backoff.multipliedBy(1L << Math.min(this.attempts - 1, 10)));
+        }
+    }
+
+    /**
+     * 재처리 - 다시 수신 상태로 되돌려 워커가 처리하도록 합니다.
+     */
+    public void replay() {
+        this.status = WebhookEventStatus.RECEIVED;
+        this.attempts = 0;
+        this.nextAttemptAt = Instant.now();
+        this.processedAt = null;
+    }
+}
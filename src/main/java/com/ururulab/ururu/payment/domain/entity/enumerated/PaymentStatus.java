@@ -4,6 +4,7 @@ import com.ururulab.ururu.global.domain.entity.enumerated.EnumParser;
 
 public enum PaymentStatus {
     PENDING,    // 결제 대기
+    CONFIRMING, // 결제 승인 중 (PG 승인 API 호출 중)
     PAID,       // 결제 완료
     FAILED,     // 결제 실패
     PARTIAL_REFUNDED, // 부분 환불 완료
@@ -0,0 +1,14 @@
+package com.ururulab.ururu.payment.domain.entity.enumerated;
+
+import com.ururulab.ururu.global.domain.entity.enumerated.EnumParser;
+
+public enum WebhookEventStatus {
+    RECEIVED,   // 수신 (처리 대기)
+    PROCESSED,  // 처리 완료
+    DUPLICATE,  // 같은 결제/상태의 이벤트가 이미 처리되어 건너뜀
+    FAILED;     // 재시도 한도 초과 (재처리 필요)
+
+    public static WebhookEventStatus from(String value) {
+        return EnumParser.fromString(WebhookEventStatus.class, value, "WebhookEventStatus");
+    }
+}
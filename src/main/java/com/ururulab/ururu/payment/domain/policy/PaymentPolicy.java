@@ -37,4 +37,8 @@ public class PaymentPolicy {
     public static final String CANNOT_UPDATE_REFUNDED = "환불된 결제는 정보를 변경할 수 없습니다.";
     public static final String CANNOT_PARTIAL_REFUND_INVALID_STATUS = "결제 완료 또는 부분환불 상태에서만 부분환불 처리할 수 있습니다.";
     public static final String ALREADY_PARTIAL_REFUNDED = "이미 부분환불 상태입니다.";
+    public static final String CANNOT_CONFIRM_NOT_PENDING = "결제 대기 상태에서만 승인을 시작할 수 있습니다.";
+    public static final String CANNOT_REVERT_NOT_CONFIRMING = "승인 중인 결제만 대기 상태로 되돌릴 수 있습니다.";
+    public static final String CANNOT_FAIL_CONFIRMING = "승인 중인 결제는 실패 처리할 수 없습니다.";
+    public static final String CANNOT_CANCEL_APPROVAL_INVALID_STATUS = "결제 대기 또는 승인 중인 결제만 승인 취소할 수 있습니다.";
 }
\ No newline at end of file
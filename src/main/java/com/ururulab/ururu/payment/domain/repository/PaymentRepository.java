@@ -1,10 +1,13 @@
 package com.ururulab.ururu.payment.domain.repository;
 
 import com.ururulab.ururu.payment.domain.entity.Payment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
@@ -35,4 +38,16 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     @Query("SELECT CASE WHEN COUNT(p) > 0 THEN true ELSE false END FROM Payment p WHERE p.member.id = :memberId AND p.status = 'PENDING'")
     boolean existsPendingPaymentsByMemberId(@Param("memberId") Long memberId);
-}
\ No newline at end of file
+
+    /**
+     * 승인 중 상태로 오래 머문 결제 ID 조회
+     * 승인 도중 프로세스가 중단된 결제를 PG 조회로 복구할 때 사용
+     */
+    @Query("SELECT p.id FROM Payment p " +
+            "WHERE p.status = 'CONFIRMING' AND p.confirmRequestedAt <= :confirmRequestedBefore " +
+            "ORDER BY p.confirmRequestedAt")
+    List<Long> findStaleConfirmingPaymentIds(
+            @Param("confirmRequestedBefore") Instant confirmRequestedBefore,
+            Pageable pageable
+    );
+}
@@ -0,0 +1,56 @@
+package com.ururulab.ururu.payment.domain.repository;
+
+import com.ururulab.ururu.payment.domain.entity.PaymentWebhookEvent;
+import com.ururulab.ururu.payment.domain.entity.enumerated.WebhookEventStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PaymentWebhookEventRepository extends JpaRepository<PaymentWebhookEvent, Long> {
+
+    boolean existsByEventId(String eventId);
+
+    /**
+     * 처리할 차례가 된 수신 이벤트 조회 (수신 순서)
+     */
+    @Query("SELECT e FROM PaymentWebhookEvent e " +
+            "WHERE e.status = 'RECEIVED' AND e.nextAttemptAt <= :now " +
+            "ORDER BY e.id")
+    List<PaymentWebhookEvent> findDueEvents(@Param("now") Instant now, Pageable pageable);
+
+    /**
+     * 처리 직전 이벤트 잠금 조회 (여러 인스턴스의 워커가 같은 이벤트를 중복 처리하지 않도록)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM PaymentWebhookEvent e WHERE e.id = :id")
+    Optional<PaymentWebhookEvent> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 같은 결제 키/결제 상태의 이벤트가 이미 처리되었는지 확인
+     */
+    @Query("SELECT CASE WHEN COUNT(e) > 0 THEN true ELSE false END FROM PaymentWebhookEvent e " +
+            "WHERE e.paymentKey = :paymentKey AND e.paymentStatus = :paymentStatus " +
+            "AND e.status = 'PROCESSED' AND e.id <> :excludeId")
+    boolean existsProcessedEvent(
+            @Param("paymentKey") String paymentKey,
+            @Param("paymentStatus") String paymentStatus,
+            @Param("excludeId") Long excludeId
+    );
+
+    long countByStatus(WebhookEventStatus status);
+
+    List<PaymentWebhookEvent> findAllByIdIn(Collection<Long> ids);
+
+    @Query("SELECT e FROM PaymentWebhookEvent e " +
+            "WHERE e.status = 'FAILED' AND e.createdAt >= :from AND e.createdAt < :to " +
+            "ORDER BY e.id")
+    List<PaymentWebhookEvent> findFailedEvents(@Param("from") Instant from, @Param("to") Instant to);
+}
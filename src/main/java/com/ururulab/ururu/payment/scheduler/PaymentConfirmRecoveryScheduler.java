@@ -0,0 +1,49 @@
+package com.ururulab.ururu.payment.scheduler;
+
+import com.ururulab.ururu.payment.service.PaymentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentConfirmRecoveryScheduler {
+
+    private final PaymentService paymentService;
+
+    @Value("${payment.confirm-recovery.stale-seconds:60}")
+    private long staleSeconds;
+
+    @Value("${payment.confirm-recovery.batch-size:50}")
+    private int batchSize;
+
+    /**
+     * 승인 중(CONFIRMING) 상태로 남은 결제 복구
+     * 토스 승인 호출 전후로 프로세스가 중단된 결제를 토스 조회 결과로 완료하거나 결제 대기로 되돌림
+     * (승인 API 타임아웃보다 충분히 오래된 결제만 대상)
+     */
+    @Scheduled(fixedDelayString = "${payment.confirm-recovery.interval-ms:30000}")
+    public void recoverConfirmingPayments() {
+        try {
+            List<Long> paymentIds = paymentService.findStaleConfirmingPaymentIds(
+                    Instant.now().minusSeconds(staleSeconds), batchSize);
+
+            for (Long paymentId : paymentIds) {
+                try {
+                    paymentService.recoverConfirmingPayment(paymentId);
+                } catch (Exception e) {
+                    log.error("Failed to recover confirming payment: {}", paymentId, e);
+                }
+            }
+
+        } catch (Exception e) {
+            log.error("Failed to recover confirming payments", e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.ururulab.ururu.payment.scheduler;
+
+import com.ururulab.ururu.payment.domain.entity.PaymentWebhookEvent;
+import com.ururulab.ururu.payment.service.PaymentService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@Slf4j
+public class PaymentWebhookInboxScheduler {
+
+    private final PaymentService paymentService;
+    private final TaskExecutor webhookInboxExecutor;
+    private final AtomicLong backlog = new AtomicLong();
+
+    @Value("${payment.webhook-inbox.batch-size:100}")
+    private int batchSize;
+
+    public PaymentWebhookInboxScheduler(
+            PaymentService paymentService,
+            @Qualifier("webhookInboxExecutor") TaskExecutor webhookInboxExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        this.paymentService = paymentService;
+        this.webhookInboxExecutor = webhookInboxExecutor;
+        Gauge.builder("ururu_payment_webhook_inbox_backlog", backlog, AtomicLong::get)
+                .description("처리 대기 중인 결제 웹훅 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 웹훅 수신함 처리
+     * 결제 키별로 묶어 워커 풀에서 병렬 처리하되, 같은 결제의 이벤트는 수신 순서대로 처리
+     */
+    @Scheduled(fixedDelayString = "${payment.webhook-inbox.interval-ms:1000}")
+    public void drainInbox() {
+        try {
+            List<PaymentWebhookEvent> events = paymentService.findDueWebhookEvents(batchSize);
+
+            Map<String, List<Long>> eventIdsByPaymentKey = new LinkedHashMap<>();
+            for (PaymentWebhookEvent event : events) {
+                eventIdsByPaymentKey
+                        .computeIfAbsent(Objects.requireNonNullElse(event.getPaymentKey(), ""), key -> new ArrayList<>())
+                        .add(event.getId());
+            }
+
+            CompletableFuture.allOf(eventIdsByPaymentKey.values().stream()
+                    .map(eventIds -> CompletableFuture.runAsync(() -> processInOrder(eventIds), webhookInboxExecutor))
+                    .toArray(CompletableFuture[]::new)
+            ).join();
+
+            backlog.set(paymentService.countWebhookBacklog());
+
+        } catch (Exception e) {
+            log.error("Failed to drain payment webhook inbox", e);
+            // 처리되지 않은 이벤트는 수신 상태로 남아 다음 주기에 재시도
+        }
+    }
+
+    private void processInOrder(List<Long> eventIds) {
+        for (Long eventId : eventIds) {
+            try {
+                paymentService.processWebhookEvent(eventId);
+            } catch (Exception e) {
+                log.warn("Failed to process payment webhook event: {}", eventId, e);
+                paymentService.recordWebhookFailure(eventId, e.getMessage());
+                // 같은 결제의 뒤 이벤트는 순서 보장을 위해 다음 주기로 미룸
+                return;
+            }
+        }
+    }
+}
@@ -109,7 +109,7 @@ public class MyRefundService {
                 product.getName(),
                 productOption.getName(),
                 orderItem.getQuantity(),
-                groupBuyOption.getSalePrice()
+                orderItem.getUnitPrice()
         );
     }
 }
\ No newline at end of file
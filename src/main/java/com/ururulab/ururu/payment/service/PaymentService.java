@@ -1,46 +1,61 @@
     package com.ururulab.ururu.payment.service;
 
+    import com.fasterxml.jackson.core.JsonProcessingException;
     import com.fasterxml.jackson.databind.ObjectMapper;
     import com.ururulab.ururu.global.exception.BusinessException;
     import com.ururulab.ururu.global.exception.error.ErrorCode;
-    import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
+    import com.ururulab.ururu.global.outbox.OutboxEventService;
+    import com.ururulab.ururu.global.util.TransactionUtils;
+    import com.ururulab.ururu.groupBuy.service.GroupBuyStockService;
     import com.ururulab.ururu.groupBuy.dto.common.StockCheckDto;
     import com.ururulab.ururu.groupBuy.event.StockDepletedEvent;
     import com.ururulab.ururu.member.domain.entity.Member;
     import com.ururulab.ururu.member.domain.repository.MemberRepository;
     import com.ururulab.ururu.order.domain.entity.Cart;
     import com.ururulab.ururu.order.domain.entity.Order;
+    import com.ururulab.ururu.order.domain.entity.OrderItem;
     import com.ururulab.ururu.order.domain.entity.enumerated.OrderStatus;
     import com.ururulab.ururu.order.domain.repository.CartRepository;
     import com.ururulab.ururu.order.domain.repository.OrderRepository;
     import com.ururulab.ururu.order.service.StockReservationService;
     import com.ururulab.ururu.payment.dto.request.PaymentConfirmRequestDto;
     import com.ururulab.ururu.payment.dto.request.PaymentRequestDto;
+    import com.ururulab.ururu.payment.dto.request.TossWebhookDataDto;
     import com.ururulab.ururu.payment.dto.request.TossWebhookDto;
     import com.ururulab.ururu.payment.dto.response.PaymentConfirmResponseDto;
     import com.ururulab.ururu.payment.dto.response.PaymentFailResponseDto;
     import com.ururulab.ururu.payment.dto.response.PaymentResponseDto;
     import com.ururulab.ururu.payment.dto.response.TossPaymentResponseDto;
     import com.ururulab.ururu.payment.domain.entity.Payment;
+    import com.ururulab.ururu.payment.domain.entity.PaymentWebhookEvent;
     import com.ururulab.ururu.payment.domain.entity.PointTransaction;
     import com.ururulab.ururu.payment.domain.entity.enumerated.PayMethod;
     import com.ururulab.ururu.payment.domain.entity.enumerated.PaymentStatus;
     import com.ururulab.ururu.payment.domain.entity.enumerated.PointSource;
+    import com.ururulab.ururu.payment.domain.entity.enumerated.WebhookEventStatus;
     import com.ururulab.ururu.payment.domain.repository.PaymentRepository;
+    import com.ururulab.ururu.payment.domain.repository.PaymentWebhookEventRepository;
     import com.ururulab.ururu.payment.domain.repository.PointTransactionRepository;
     import jakarta.servlet.http.HttpServletRequest;
     import lombok.RequiredArgsConstructor;
     import lombok.extern.slf4j.Slf4j;
     import org.apache.commons.io.IOUtils;
     import org.springframework.beans.factory.annotation.Value;
-    import org.springframework.context.ApplicationEventPublisher;
+    import org.springframework.dao.OptimisticLockingFailureException;
+    import org.springframework.data.domain.PageRequest;
     import org.springframework.stereotype.Service;
+    import org.springframework.transaction.annotation.Propagation;
     import org.springframework.transaction.annotation.Transactional;
+    import org.springframework.transaction.support.TransactionTemplate;
+    import org.springframework.web.client.HttpClientErrorException;
     import org.springframework.web.client.RestClient;
 
     import javax.crypto.Mac;
     import javax.crypto.spec.SecretKeySpec;
     import java.nio.charset.StandardCharsets;
+    import java.security.MessageDigest;
+    import java.security.NoSuchAlgorithmException;
+    import java.time.Duration;
     import java.time.Instant;
     import java.time.ZonedDateTime;
     import java.util.*;
@@ -55,17 +70,24 @@
         private static final Integer SHIPPING_FEE = 0; // 배송비 고정
         private static final String TOSS_PAYMENT_STATUS_CHANGED = "PAYMENT_STATUS_CHANGED"; // 토스 웹훅 이벤트 타입
         private static final String DONE = "DONE"; // Toss 결제 상태가 완료인 경우
+        private static final String WAITING_FOR_DEPOSIT = "WAITING_FOR_DEPOSIT"; // Toss 가상계좌 입금 대기 (결과 미확정)
+        private static final String TOSS_ALREADY_PROCESSED_PAYMENT = "ALREADY_PROCESSED_PAYMENT"; // 이미 승인된 결제에 대한 Toss 에러 코드
+        private static final String TOSS_ALREADY_CANCELED_PAYMENT = "ALREADY_CANCELED_PAYMENT"; // 이미 취소된 결제에 대한 Toss 에러 코드
+        private static final String STOCK_SHORTFALL_CANCEL_REASON = "재고 부족으로 인한 결제 취소";
+        private static final String AMOUNT_MISMATCH_CANCEL_REASON = "결제 금액 불일치로 인한 결제 취소";
 
         private final PaymentRepository paymentRepository;
         private final PointTransactionRepository pointTransactionRepository;
         private final OrderRepository orderRepository;
         private final MemberRepository memberRepository;
         private final StockReservationService stockReservationService;
-        private final GroupBuyOptionRepository groupBuyOptionRepository;
+        private final GroupBuyStockService groupBuyStockService;
         private final CartRepository cartRepository;
         private final RestClient restClient;
         private final ObjectMapper objectMapper;
-        private final ApplicationEventPublisher eventPublisher;
+        private final OutboxEventService outboxEventService;
+        private final TransactionTemplate transactionTemplate;
+        private final PaymentWebhookEventRepository paymentWebhookEventRepository;
 
         @Value("${toss.payments.secret-key}")
         private String tossSecretKey;
@@ -73,6 +95,12 @@
         @Value("${toss.payments.base-url}")
         private String tossBaseUrl;
 
+        @Value("${payment.webhook-inbox.max-attempts:5}")
+        private int webhookMaxAttempts;
+
+        @Value("${payment.webhook-inbox.backoff-ms:2000}")
+        private long webhookBackoffMillis;
+
         /**
          * 결제 요청 생성
          *
@@ -147,46 +175,107 @@
 
         /**
          * 토스 결제 승인
-         * 1. 포인트 차감
-         * 2. 재고 확정
-         * 3. 예약 해제
+         * PG 왕복 동안 DB 커넥션과 행 락을 잡지 않도록 단계별로 나누어 처리합니다.
+         * 1. 승인 중(CONFIRMING) 전환 + 결제 키 기록 (짧은 트랜잭션)
+         * 2. 토스 승인 API 호출 (트랜잭션 없음)
+         * 3. 결제 완료 처리 - 포인트 차감, 재고 확정, 예약 해제 (짧은 트랜잭션)
+         *
+         * 2단계 이후 프로세스가 중단되면 승인 중 상태로 남고, 복구 스케줄러가 토스 조회 결과로 마무리합니다.
+         * 3단계에서 재고가 부족하면 토스 결제를 취소하고 결제/주문을 종료합니다.
          *
          * @param paymentId 결제 ID
          * @param request 결제 승인 요청
          * @return 승인 결과
          */
-        @Transactional
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
         public PaymentConfirmResponseDto confirmPayment(Long paymentId, PaymentConfirmRequestDto request) {
-            Payment payment = findPaymentById(paymentId);
+            String orderId = startConfirmation(paymentId, request.paymentKey(), request.amount());
 
-            if (!payment.isPending()) {
-                throw new BusinessException(ErrorCode.PAYMENT_NOT_PENDING);
+            TossPaymentResponseDto tossResponse;
+            try {
+                tossResponse = callTossPaymentConfirmApi(request.paymentKey(), orderId, request.amount());
+            } catch (HttpClientErrorException e) {
+                log.warn("토스 결제 승인 거절 - paymentId: {}, status: {}", paymentId, e.getStatusCode());
+                if (isAlreadyProcessed(e)) {
+                    // 이전 승인 요청이 이미 처리됨 → 승인 중 상태로 두고 복구 스케줄러가 조회 후 완료
+                    throw new BusinessException(ErrorCode.TOSS_API_CALL_FAILED);
+                }
+                revertConfirmation(paymentId);
+                throw new BusinessException(ErrorCode.PAYMENT_APPROVAL_FAILED);
+            } catch (Exception e) {
+                // 타임아웃 등 승인 여부를 알 수 없는 경우 → 승인 중 상태 유지
+                log.error("토스 API 호출 실패 - paymentKey: {}, orderId: {}", request.paymentKey(), orderId, e);
+                throw new BusinessException(ErrorCode.TOSS_API_CALL_FAILED);
             }
 
-            TossPaymentResponseDto tossResponse = callTossPaymentConfirmApi(
-                    request.paymentKey(),
-                    payment.getOrder().getId(),
-                    request.amount()
-            );
+            return completeConfirmation(paymentId, request.paymentKey(), request.amount(), tossResponse);
+        }
 
-            PayMethod payMethod = PayMethod.from(tossResponse.method(), tossResponse.easyPayProvider());
-            Instant approvedAt = ZonedDateTime.parse(tossResponse.approvedAt()).toInstant();
+        /**
+         * 승인 중 상태로 오래 머문 결제 ID 조회 (복구 스케줄러용)
+         *
+         * @param confirmRequestedBefore 이 시각 이전에 승인을 시작한 결제만 조회
+         * @param limit 최대 조회 건수
+         * @return 결제 ID 목록
+         */
+        public List<Long> findStaleConfirmingPaymentIds(Instant confirmRequestedBefore, int limit) {
+            return paymentRepository.findStaleConfirmingPaymentIds(confirmRequestedBefore, PageRequest.of(0, limit));
+        }
 
-            payment.updatePaymentInfo(request.paymentKey(), payMethod, request.amount());
-            payment.markAsPaid(approvedAt);
-            payment.getOrder().changeStatus(OrderStatus.ORDERED, "결제 승인 완료");
+        /**
+         * 승인 중 상태로 남은 결제 복구
+         * 토스 결제 조회 결과가 DONE이면 승인 금액을 확인한 뒤 완료 처리하고, 승인되지 않았으면 결제 대기 상태로 되돌립니다.
+         * 승인 금액이 결제 금액과 다르면 토스 결제를 취소하고 결제/주문을 종료합니다.
+         *
+         * @param paymentId 결제 ID
+         * @return 복구(완료 또는 되돌림) 여부
+         */
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        public boolean recoverConfirmingPayment(Long paymentId) {
+            Payment payment = transactionTemplate.execute(status -> findPaymentById(paymentId));
+            if (payment == null || !payment.isConfirming()) {
+                return false;
+            }
 
-            completePaymentProcessing(payment);
+            TossPaymentResponseDto tossResponse;
+            try {
+                tossResponse = callTossPaymentQueryApi(payment.getPaymentKey());
+            } catch (HttpClientErrorException.NotFound e) {
+                revertConfirmation(paymentId);
+                return true;
+            } catch (Exception e) {
+                log.warn("토스 결제 조회 실패 (다음 주기에 재시도) - paymentId: {}", paymentId, e);
+                return false;
+            }
+
+            if (DONE.equals(tossResponse.status())) {
+                if (!payment.getAmount().equals(tossResponse.totalAmount())) {
+                    log.error("토스 승인 금액 불일치 - paymentId: {}, 결제 금액: {}, 승인 금액: {}",
+                            paymentId, payment.getAmount(), tossResponse.totalAmount());
+                    return cancelApprovedPayment(paymentId, payment.getPaymentKey(), AMOUNT_MISMATCH_CANCEL_REASON);
+                }
+                completeConfirmation(paymentId, payment.getPaymentKey(), payment.getAmount(), tossResponse);
+                log.info("승인 중 결제 복구 완료 - paymentId: {}", paymentId);
+                return true;
+            }
 
-            return new PaymentConfirmResponseDto(paymentId, PaymentStatus.PAID, approvedAt);
+            if (WAITING_FOR_DEPOSIT.equals(tossResponse.status())) {
+                return false;
+            }
+
+            revertConfirmation(paymentId);
+            log.info("승인되지 않은 결제 대기 상태 복구 - paymentId: {}, tossStatus: {}", paymentId, tossResponse.status());
+            return true;
         }
 
         /**
-         * 토스 웹훅 검증 및 처리 (컨트롤러에서 호출)
+         * 토스 웹훅 검증 및 수신함 저장 (컨트롤러에서 호출)
+         * 서명 검증 후 원본 이벤트만 저장하고 바로 응답합니다. 결제 처리는 수신함 워커가 비동기로 수행합니다.
          *
          * @param request HTTP 요청 (Raw body 읽기용)
          * @param signature Toss-Signature 헤더값
          */
+        @Transactional
         public void handleTossWebhookWithValidation(HttpServletRequest request, String signature) {
             try {
                 String rawBody = IOUtils.toString(request.getInputStream(), StandardCharsets.UTF_8);
@@ -212,7 +301,7 @@
 
                 TossWebhookDto webhook = objectMapper.readValue(rawBody, TossWebhookDto.class);
 
-                handleTossWebhook(webhook);
+                enqueueWebhookEvent(rawBody, webhook);
 
             } catch (BusinessException e) {
                 throw e;
@@ -221,6 +310,122 @@
             }
         }
 
+        /**
+         * 처리할 차례가 된 웹훅 수신 이벤트 조회 (수신함 워커용)
+         *
+         * @param limit 최대 조회 건수
+         * @return 수신 순서대로 정렬된 이벤트 목록
+         */
+        public List<PaymentWebhookEvent> findDueWebhookEvents(int limit) {
+            return paymentWebhookEventRepository.findDueEvents(Instant.now(), PageRequest.of(0, limit));
+        }
+
+        /**
+         * 처리 대기 중인 웹훅 이벤트 수 (수신함 적체 지표용)
+         */
+        public long countWebhookBacklog() {
+            return paymentWebhookEventRepository.countByStatus(WebhookEventStatus.RECEIVED);
+        }
+
+        /**
+         * 웹훅 수신 이벤트 처리
+         * 이벤트 행을 잠근 뒤 처리하므로 여러 워커가 같은 이벤트를 동시에 처리하지 않으며,
+         * 같은 결제 키/상태의 이벤트가 이미 처리되었으면 중복으로 표시하고 건너뜁니다.
+         * 승인 완료 처리 중 재고가 부족하면 처리 트랜잭션을 롤백한 뒤 토스 결제를 취소합니다.
+         *
+         * @param eventId 수신함 이벤트 ID
+         */
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        public void processWebhookEvent(Long eventId) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> applyWebhookEvent(eventId));
+            } catch (BusinessException e) {
+                if (e.getErrorCode() == ErrorCode.STOCK_SHORTFALL) {
+                    cancelWebhookPayment(eventId);
+                }
+                throw e;
+            }
+        }
+
+        private void applyWebhookEvent(Long eventId) {
+            PaymentWebhookEvent event = paymentWebhookEventRepository.findByIdForUpdate(eventId).orElse(null);
+            if (event == null || !event.isReceived()) {
+                return;
+            }
+
+            if (event.getPaymentKey() != null
+                    && paymentWebhookEventRepository.existsProcessedEvent(
+                            event.getPaymentKey(), event.getPaymentStatus(), event.getId())) {
+                event.markAsDuplicate();
+                log.debug("중복 웹훅 이벤트 건너뜀 - eventId: {}, paymentKey: {}", eventId, event.getPaymentKey());
+                return;
+            }
+
+            try {
+                handleTossWebhook(objectMapper.readValue(event.getPayload(), TossWebhookDto.class));
+            } catch (JsonProcessingException e) {
+                throw new BusinessException(ErrorCode.INVALID_JSON);
+            }
+
+            event.markAsProcessed();
+        }
+
+        /**
+         * 웹훅으로 승인 완료를 처리하지 못한 결제 취소 (재고 부족)
+         * 취소 후 이벤트는 재시도 때 종료된 결제로 확인되어 처리 완료됩니다.
+         */
+        private void cancelWebhookPayment(Long eventId) {
+            Payment payment = transactionTemplate.execute(status -> paymentWebhookEventRepository.findById(eventId)
+                    .map(PaymentWebhookEvent::getPaymentKey)
+                    .flatMap(paymentRepository::findByPaymentKeyWithDetails)
+                    .orElse(null));
+            if (payment != null) {
+                cancelApprovedPayment(payment.getId(), payment.getPaymentKey(), STOCK_SHORTFALL_CANCEL_REASON);
+            }
+        }
+
+        /**
+         * 웹훅 이벤트 처리 실패 기록 (처리 트랜잭션 롤백 후 별도 트랜잭션)
+         *
+         * @param eventId 수신함 이벤트 ID
+         * @param error 실패 사유
+         */
+        @Transactional
+        public void recordWebhookFailure(Long eventId, String error) {
+            paymentWebhookEventRepository.findById(eventId).ifPresent(event ->
+                    event.recordFailure(error, webhookMaxAttempts, Duration.ofMillis(webhookBackoffMillis)));
+        }
+
+        /**
+         * 웹훅 이벤트 재처리
+         * 지정한 이벤트를 다시 수신 상태로 돌려 워커가 처리하도록 합니다. (처리 로직은 멱등)
+         *
+         * @param eventIds 수신함 이벤트 ID 목록
+         * @return 재처리 대상으로 전환된 이벤트 수
+         */
+        @Transactional
+        public int replayWebhookEvents(Collection<Long> eventIds) {
+            List<PaymentWebhookEvent> events = paymentWebhookEventRepository.findAllByIdIn(eventIds);
+            events.forEach(PaymentWebhookEvent::replay);
+            log.info("웹훅 이벤트 재처리 요청 - {}건", events.size());
+            return events.size();
+        }
+
+        /**
+         * 기간 내 재시도 한도를 넘긴 웹훅 이벤트 재처리
+         *
+         * @param from 수신 시각 시작 (포함)
+         * @param to 수신 시각 끝 (미포함)
+         * @return 재처리 대상으로 전환된 이벤트 수
+         */
+        @Transactional
+        public int replayFailedWebhookEvents(Instant from, Instant to) {
+            List<PaymentWebhookEvent> events = paymentWebhookEventRepository.findFailedEvents(from, to);
+            events.forEach(PaymentWebhookEvent::replay);
+            log.info("실패 웹훅 이벤트 재처리 요청 - 기간: {} ~ {}, {}건", from, to, events.size());
+            return events.size();
+        }
+
         /**
          * 토스 웹훅 처리
          *
@@ -235,7 +440,8 @@
             Payment payment = paymentRepository.findByPaymentKeyWithDetails(webhook.data().paymentKey())
                     .orElse(null);
 
-            if (payment == null || payment.isPaid()) {
+            // 이미 완료되었거나 승인 취소/환불로 종료된 결제는 건너뜀
+            if (payment == null || !(payment.isPending() || payment.isConfirming())) {
                 return;
             }
 
@@ -280,20 +486,25 @@
          * @param payment 결제 정보
          */
         private void completePaymentProcessing(Payment payment) {
-            // 재고 차감 + 예약 해제
-            payment.getOrder().getOrderItems().forEach(item -> {
-                Long optionId = item.getGroupBuyOption().getId();
-                Integer quantity = item.getQuantity();
-
-                // 실재고 차감
-                int updatedRows = groupBuyOptionRepository.decreaseStock(optionId, quantity);
-                if (updatedRows == 0) {
-                    throw new BusinessException(ErrorCode.STOCK_INSUFFICIENT);
-                }
+            Map<Long, Integer> quantitiesByOptionId = payment.getOrder().getOrderItems().stream()
+                    .collect(Collectors.toMap(
+                            item -> item.getGroupBuyOption().getId(),
+                            OrderItem::getQuantity,
+                            Integer::sum,
+                            LinkedHashMap::new
+                    ));
+
+            // 실재고 일괄 차감 (단일 UPDATE, 재고 분할 옵션은 버킷 단위)
+            List<Long> failedOptionIds = groupBuyStockService.decreaseStocks(quantitiesByOptionId);
+            if (!failedOptionIds.isEmpty()) {
+                log.warn("결제 완료 재고 차감 실패 - paymentId: {}, 옵션ID: {}", payment.getId(), failedOptionIds);
+                throw new BusinessException(ErrorCode.STOCK_SHORTFALL, "(옵션ID: " + failedOptionIds + ")");
+            }
 
-                // 예약 해제
-                stockReservationService.releaseReservation(optionId, payment.getMember().getId());
-            });
+            // 예약 일괄 확정 (예약 해제 + Redis 재고 미러 차감, 1회 왕복)
+            // Redis는 DB 롤백에 되돌아가지 않으므로 결제 완료가 커밋된 뒤에 반영
+            Long memberId = payment.getMember().getId();
+            TransactionUtils.afterCommit(() -> confirmReservationsAfterCommit(memberId, quantitiesByOptionId));
 
             // 포인트 차감
             processPointUsage(payment.getMember(), payment.getPoint());
@@ -307,6 +518,18 @@
                     payment.getId(), payment.getPoint(), payment.getOrder().getOrderItems().size());
         }
 
+        /**
+         * 커밋된 결제 완료를 재고 예약에 반영
+         * 실패해도 예약은 만료 스위퍼가 회수하고, 미러 재고는 TTL이 지나면 DB 재고로 다시 초기화됩니다.
+         */
+        private void confirmReservationsAfterCommit(Long memberId, Map<Long, Integer> quantitiesByOptionId) {
+            try {
+                stockReservationService.confirmReservations(memberId, quantitiesByOptionId);
+            } catch (Exception e) {
+                log.warn("재고 예약 확정 실패 - 회원ID: {}, 옵션: {}", memberId, quantitiesByOptionId, e);
+            }
+        }
+
         /**
          * 재고 소진 체크 및 이벤트 발행 처리
          *
@@ -320,7 +543,7 @@
 
             // 재고 상태와 groupBuyId를 한 번에 조회
             List<StockCheckDto> stockResults =
-                    groupBuyOptionRepository.getStockAndGroupBuyIdsByOptionIds(optionIds);
+                    groupBuyStockService.getStockChecks(optionIds);
 
             // 재고가 0이 된 공동구매 ID 수집
             Set<Long> groupBuyIdsToCheck = stockResults.stream()
@@ -330,14 +553,174 @@
 
             // 재고가 0이 된 공동구매가 있을 때만 이벤트 발행
             if (!groupBuyIdsToCheck.isEmpty()) {
-                StockDepletedEvent event = new StockDepletedEvent(groupBuyIdsToCheck);
-                eventPublisher.publishEvent(event);
-                log.info("재고 소진 이벤트 발행 - paymentId: {}, 대상 공동구매: {}",
+                // 공동구매 단위로 나눠 기록해야 같은 공동구매에 대한 중복 이벤트를 dedupKey로 걸러낼 수 있음
+                groupBuyIdsToCheck.forEach(groupBuyId -> outboxEventService.append(
+                        new StockDepletedEvent(Set.of(groupBuyId)), "stock-depleted:" + groupBuyId));
+                log.info("재고 소진 이벤트 기록 - paymentId: {}, 대상 공동구매: {}",
                         payment.getId(), groupBuyIdsToCheck);
             }
         }
 
 
+        /**
+         * 1단계: 승인 중 상태 전환
+         * 동시에 들어온 승인 요청은 낙관적 락(@Version)으로 하나만 통과하며, 결제 금액이 다르면 승인하지 않습니다.
+         *
+         * @return 토스 승인 요청에 사용할 주문 ID
+         */
+        private String startConfirmation(Long paymentId, String paymentKey, Integer amount) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    Payment payment = findPaymentById(paymentId);
+
+                    if (!payment.isPending()) {
+                        throw new BusinessException(ErrorCode.PAYMENT_NOT_PENDING);
+                    }
+                    // 토스 승인 후에는 금액 불일치로 완료할 수 없으므로 승인 요청 전에 거절
+                    if (!payment.getAmount().equals(amount)) {
+                        throw new BusinessException(ErrorCode.PAYMENT_AMOUNT_MISMATCH);
+                    }
+
+                    payment.markAsConfirming(paymentKey);
+                    return payment.getOrder().getId();
+                });
+            } catch (OptimisticLockingFailureException e) {
+                throw new BusinessException(ErrorCode.PAYMENT_NOT_PENDING);
+            }
+        }
+
+        /**
+         * 3단계: 결제 완료 처리
+         * 웹훅이나 복구 스케줄러가 먼저 완료했다면 그 결과를 그대로 반환합니다.
+         * 재고가 부족하면 완료 트랜잭션을 롤백한 뒤 토스 결제를 취소합니다.
+         */
+        private PaymentConfirmResponseDto completeConfirmation(
+                Long paymentId, String paymentKey, Integer paidAmount, TossPaymentResponseDto tossResponse) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    Payment payment = findPaymentById(paymentId);
+
+                    if (payment.isPaid()) {
+                        return new PaymentConfirmResponseDto(paymentId, PaymentStatus.PAID, payment.getPaidAt());
+                    }
+                    if (!payment.isConfirming()) {
+                        throw new BusinessException(ErrorCode.PAYMENT_NOT_PENDING);
+                    }
+
+                    PayMethod payMethod = PayMethod.from(tossResponse.method(), tossResponse.easyPayProvider());
+                    Instant approvedAt = ZonedDateTime.parse(tossResponse.approvedAt()).toInstant();
+
+                    payment.updatePaymentInfo(paymentKey, payMethod, paidAmount);
+                    payment.markAsPaid(approvedAt);
+                    payment.getOrder().changeStatus(OrderStatus.ORDERED, "결제 승인 완료");
+
+                    completePaymentProcessing(payment);
+
+                    return new PaymentConfirmResponseDto(paymentId, PaymentStatus.PAID, approvedAt);
+                });
+            } catch (OptimisticLockingFailureException e) {
+                // 웹훅이 동시에 완료 처리한 경우
+                Payment payment = transactionTemplate.execute(status -> findPaymentById(paymentId));
+                if (payment != null && payment.isPaid()) {
+                    return new PaymentConfirmResponseDto(paymentId, PaymentStatus.PAID, payment.getPaidAt());
+                }
+                throw e;
+            } catch (BusinessException e) {
+                if (e.getErrorCode() == ErrorCode.STOCK_SHORTFALL) {
+                    cancelApprovedPayment(paymentId, paymentKey, STOCK_SHORTFALL_CANCEL_REASON);
+                }
+                throw e;
+            }
+        }
+
+        /**
+         * 토스 승인 후 완료할 수 없는 결제 취소 (재고 부족, 금액 불일치)
+         * 토스 결제를 취소한 뒤 결제는 실패, 주문은 취소로 종료하고 재고 예약을 해제합니다.
+         * 토스 취소에 실패하면 승인 중 상태로 남겨 두고 복구 스케줄러가 다시 시도합니다.
+         *
+         * @return 결제/주문 종료 여부
+         */
+        private boolean cancelApprovedPayment(Long paymentId, String paymentKey, String reason) {
+            try {
+                callTossPaymentCancelApi(paymentKey, reason);
+            } catch (HttpClientErrorException e) {
+                if (!e.getResponseBodyAsString().contains(TOSS_ALREADY_CANCELED_PAYMENT)) {
+                    log.error("토스 결제 취소 거절 (복구 시 재시도) - paymentId: {}, status: {}", paymentId, e.getStatusCode(), e);
+                    return false;
+                }
+            } catch (Exception e) {
+                log.error("토스 결제 취소 실패 (복구 시 재시도) - paymentId: {}", paymentId, e);
+                return false;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                Payment payment = findPaymentById(paymentId);
+                if (!payment.isPending() && !payment.isConfirming()) {
+                    return;
+                }
+
+                payment.markAsApprovalCancelled();
+                Order order = payment.getOrder();
+                order.changeStatus(OrderStatus.CANCELLED, reason);
+                order.getOrderItems().forEach(item -> stockReservationService.releaseReservation(
+                        item.getGroupBuyOption().getId(), order.getMember().getId()));
+            });
+
+            log.warn("토스 승인 결제 취소 완료 - paymentId: {}, 사유: {}", paymentId, reason);
+            return true;
+        }
+
+        /**
+         * 토스가 승인을 거절한 결제를 다시 결제 대기 상태로 되돌립니다.
+         */
+        private void revertConfirmation(Long paymentId) {
+            transactionTemplate.execute(status -> {
+                Payment payment = findPaymentById(paymentId);
+                if (payment.isConfirming()) {
+                    payment.revertToPending();
+                }
+                return null;
+            });
+        }
+
+        private boolean isAlreadyProcessed(HttpClientErrorException e) {
+            return e.getResponseBodyAsString().contains(TOSS_ALREADY_PROCESSED_PAYMENT);
+        }
+
+        /**
+         * 검증된 웹훅 원본을 수신함에 저장
+         * 원본 본문 해시를 이벤트 ID로 사용하므로 토스의 재전송은 한 번만 저장됩니다.
+         */
+        private void enqueueWebhookEvent(String rawBody, TossWebhookDto webhook) {
+            if (!TOSS_PAYMENT_STATUS_CHANGED.equals(webhook.eventType())) {
+                return;
+            }
+
+            String eventId = sha256Hex(rawBody);
+            if (paymentWebhookEventRepository.existsByEventId(eventId)) {
+                log.debug("이미 수신한 웹훅 이벤트 - eventId: {}", eventId);
+                return;
+            }
+
+            TossWebhookDataDto data = webhook.data();
+            paymentWebhookEventRepository.save(PaymentWebhookEvent.receive(
+                    eventId,
+                    webhook.eventType(),
+                    data != null ? data.paymentKey() : null,
+                    data != null ? data.status() : null,
+                    rawBody
+            ));
+        }
+
+        private String sha256Hex(String value) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+                return HexFormat.of().formatHex(digest);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
         private void validateDuplicatePayment(String orderId) {
             if (paymentRepository.findByOrderId(orderId).isPresent()) {
                 throw new BusinessException(ErrorCode.PAYMENT_ALREADY_EXISTS);
@@ -345,27 +728,42 @@
         }
 
         private TossPaymentResponseDto callTossPaymentConfirmApi(String paymentKey, String orderId, Integer amount) {
-            try {
-                String auth = Base64.getEncoder().encodeToString((tossSecretKey + ":").getBytes());
+            Map<String, Object> requestBody = Map.of(
+                    "paymentKey", paymentKey,
+                    "orderId", orderId,
+                    "amount", amount
+            );
 
-                Map<String, Object> requestBody = Map.of(
-                        "paymentKey", paymentKey,
-                        "orderId", orderId,
-                        "amount", amount
-                );
+            return restClient.post()
+                    .uri(tossBaseUrl + "/v1/payments/confirm")
+                    .header("Authorization", "Basic " + tossAuthorization())
+                    .header("Content-Type", "application/json")
+                    .body(requestBody)
+                    .retrieve()
+                    .body(TossPaymentResponseDto.class);
+        }
+
+        private void callTossPaymentCancelApi(String paymentKey, String cancelReason) {
+            restClient.post()
+                    .uri(tossBaseUrl + "/v1/payments/" + paymentKey + "/cancel")
+                    .header("Authorization", "Basic " + tossAuthorization())
+                    .header("Content-Type", "application/json")
+                    .header("Idempotency-Key", "cancel-" + paymentKey) // 재시도 시 중복 취소 방지
+                    .body(Map.of("cancelReason", cancelReason))
+                    .retrieve()
+                    .toBodilessEntity();
+        }
 
-                return restClient.post()
-                        .uri(tossBaseUrl + "/v1/payments/confirm")
-                        .header("Authorization", "Basic " + auth)
-                        .header("Content-Type", "application/json")
-                        .body(requestBody)
-                        .retrieve()
-                        .body(TossPaymentResponseDto.class);
+        private TossPaymentResponseDto callTossPaymentQueryApi(String paymentKey) {
+            return restClient.get()
+                    .uri(tossBaseUrl + "/v1/payments/" + paymentKey)
+                    .header("Authorization", "Basic " + tossAuthorization())
+                    .retrieve()
+                    .body(TossPaymentResponseDto.class);
+        }
 
-            } catch (Exception e) {
-                log.error("토스 API 호출 실패 - paymentKey: {}, orderId: {}", paymentKey, orderId, e);
-                throw new BusinessException(ErrorCode.TOSS_API_CALL_FAILED);
-            }
+        private String tossAuthorization() {
+            return Base64.getEncoder().encodeToString((tossSecretKey + ":").getBytes());
         }
 
         private Order findOrderById(String orderId) {
@@ -405,7 +803,7 @@
 
         private Integer calculateTotalAmount(Order order) {
             return order.getOrderItems().stream()
-                    .mapToInt(item -> item.getGroupBuyOption().getSalePrice() * item.getQuantity())
+                    .mapToInt(OrderItem::getTotalPrice)
                     .sum() + SHIPPING_FEE; // 배송비 고정
         }
 
@@ -2,7 +2,8 @@ package com.ururulab.ururu.payment.service;
 
 import com.ururulab.ururu.global.exception.BusinessException;
 import com.ururulab.ururu.global.exception.error.ErrorCode;
-import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
+import com.ururulab.ururu.global.util.TransactionUtils;
+import com.ururulab.ururu.groupBuy.service.GroupBuyStockService;
 import com.ururulab.ururu.member.domain.entity.Member;
 import com.ururulab.ururu.member.domain.repository.MemberRepository;
 import com.ururulab.ururu.order.domain.entity.Order;
@@ -10,6 +11,7 @@ import com.ururulab.ururu.order.domain.entity.OrderItem;
 import com.ururulab.ururu.order.domain.entity.enumerated.OrderStatus;
 import com.ururulab.ururu.order.domain.repository.OrderItemRepository;
 import com.ururulab.ururu.order.domain.repository.OrderRepository;
+import com.ururulab.ururu.order.service.StockReservationService;
 import com.ururulab.ururu.payment.domain.entity.Payment;
 import com.ururulab.ururu.payment.domain.entity.PointTransaction;
 import com.ururulab.ururu.payment.domain.entity.Refund;
@@ -44,8 +46,9 @@ public class RefundService {
     private final OrderItemRepository orderItemRepository;
     private final PaymentRepository paymentRepository;
     private final MemberRepository memberRepository;
-    private final GroupBuyOptionRepository groupBuyOptionRepository;
+    private final GroupBuyStockService groupBuyStockService;
     private final PointTransactionRepository pointTransactionRepository;
+    private final StockReservationService stockReservationService;
 
     /**
      * 수동 환불 요청을 생성합니다.
@@ -210,6 +213,7 @@ public class RefundService {
     /**
      * 환불된 상품의 재고를 복구합니다.
      * 각 환불 아이템의 수량만큼 해당 공동구매 옵션의 재고를 증가시킵니다.
+     * Redis 재고 미러는 DB 롤백에 되돌아가지 않으므로 환불 트랜잭션이 커밋된 뒤에 복구합니다.
      *
      * @param refund 재고 복구 대상 환불 엔티티
      */
@@ -218,15 +222,28 @@ public class RefundService {
             Long optionId = refundItem.getOrderItem().getGroupBuyOption().getId();
             Integer quantity = refundItem.getOrderItem().getQuantity();
 
-            int updatedRows = groupBuyOptionRepository.increaseStock(optionId, quantity);
+            int updatedRows = groupBuyStockService.increaseStock(optionId, quantity);
             if (updatedRows == 0) {
                 log.warn("재고 복구 실패 - 옵션ID: {}, 수량: {}", optionId, quantity);
             } else {
+                TransactionUtils.afterCommit(() -> restoreStockMirror(optionId, quantity));
                 log.debug("재고 복구 완료 - 옵션ID: {}, 복구 수량: {}개", optionId, quantity);
             }
         });
     }
 
+    /**
+     * 커밋된 재고 복구를 Redis 재고 미러에 반영합니다.
+     * 실패해도 미러는 TTL이 지나면 DB 재고로 다시 초기화됩니다.
+     */
+    private void restoreStockMirror(Long optionId, Integer quantity) {
+        try {
+            stockReservationService.restoreStock(optionId, quantity);
+        } catch (Exception e) {
+            log.warn("재고 미러 복구 실패 - 옵션ID: {}, 수량: {}", optionId, quantity, e);
+        }
+    }
+
     /**
      * 수동 환불에 따른 주문 및 결제 상태를 업데이트합니다.
      * 수동 환불은 항상 Order 단위 전체 환불이므로 상태를 REFUNDED로 변경합니다.
@@ -293,7 +310,7 @@ public class RefundService {
      */
     private Integer calculateItemAmount(List<OrderItem> refundableItems) {
         return refundableItems.stream()
-                .mapToInt(item -> item.getGroupBuyOption().getSalePrice() * item.getQuantity())
+                .mapToInt(OrderItem::getTotalPrice)
                 .sum();
     }
 
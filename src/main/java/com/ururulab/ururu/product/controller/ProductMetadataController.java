@@ -7,10 +7,12 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -25,15 +27,23 @@ public class ProductMetadataController {
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "상품 메타데이터 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match와 ETag 일치)"),
             @ApiResponse(responseCode = "404", description = "카테고리 또는 태그 데이터가 없습니다."),
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
     @GetMapping
-    public ResponseEntity<ApiResponseFormat<ProductMetadataResponse>> getMetadata() {
+    public ResponseEntity<ApiResponseFormat<ProductMetadataResponse>> getMetadata(WebRequest webRequest) {
+        // 카테고리/태그 변경이 없으면 304 응답
+        String eTag = productMetadataService.getMetadataETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         ProductMetadataResponse metadata = productMetadataService.getMetadata();
 
-        return ResponseEntity.ok(
-                ApiResponseFormat.success("상품 메타데이터 조회가 성공했습니다.", metadata)
-        );
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(eTag)
+                .body(ApiResponseFormat.success("상품 메타데이터 조회가 성공했습니다.", metadata));
     }
 }
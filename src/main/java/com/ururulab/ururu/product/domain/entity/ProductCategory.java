@@ -9,7 +9,9 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "product_categories")
+@Table(name = "product_categories", indexes = {
+        @Index(name = "idx_product_category_category_product", columnList = "category_id, product_id") // 공동구매 목록 카테고리 EXISTS 조건
+})
 public class ProductCategory extends BaseEntity {
 
     @Id
@@ -1,5 +1,7 @@
 package com.ururulab.ururu.product.event;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.ururulab.ururu.product.dto.request.ProductImageUploadRequest;
 
 import java.util.List;
@@ -9,7 +11,11 @@ public class ProductImageUploadEvent {
     private final Long productId;
     private final List<ProductImageUploadRequest> uploadRequests; // images → uploadRequests로 명확화
 
-    public ProductImageUploadEvent(Long productId, List<ProductImageUploadRequest> uploadRequests) {
+    @JsonCreator // 아웃박스 페이로드 복원용
+    public ProductImageUploadEvent(
+            @JsonProperty("productId") Long productId,
+            @JsonProperty("uploadRequests") List<ProductImageUploadRequest> uploadRequests
+    ) {
         this.productId = productId;
         this.uploadRequests = uploadRequests;
     }
@@ -1,24 +1,26 @@
 package com.ururulab.ururu.product.listener;
 
+import com.ururulab.ururu.global.outbox.OutboxEventHandler;
 import com.ururulab.ururu.image.service.ImageService;
 import com.ururulab.ururu.product.event.ProductImageDeleteEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 @Slf4j
 @RequiredArgsConstructor
-public class ProductImageDeleteListener {
+public class ProductImageDeleteListener implements OutboxEventHandler<ProductImageDeleteEvent> {
 
     private final ImageService imageService;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Async("imageDeleteExecutor")
-    public void handleProductImageDelete(ProductImageDeleteEvent event) {
+    @Override
+    public Class<ProductImageDeleteEvent> eventType() {
+        return ProductImageDeleteEvent.class;
+    }
+
+    @Override
+    public void handle(ProductImageDeleteEvent event) {
         log.info("Starting async image deletion for product: {}, {} images",
                 event.productId(), event.imageUrls().size());
 
@@ -3,6 +3,7 @@ package com.ururulab.ururu.product.service;
 import com.ururulab.ururu.global.domain.entity.TagCategory;
 import com.ururulab.ururu.global.domain.repository.TagCategoryRepository;
 import com.ururulab.ururu.global.exception.BusinessException;
+import com.ururulab.ururu.global.util.ETagUtils;
 import com.ururulab.ururu.product.domain.entity.Category;
 import com.ururulab.ururu.product.domain.repository.CategoryRepository;
 import com.ururulab.ururu.product.dto.common.CategoryTreeDto;
@@ -25,6 +26,17 @@ public class ProductMetadataService {
     private final CategoryRepository categoryRepository;
     private final TagCategoryRepository tagCategoryRepository;
 
+    /**
+     * 메타데이터 ETag (카테고리/태그 개수와 변경 시각으로 생성, 트리 구성 전에 조건부 조회 판단용)
+     */
+    public String getMetadataETag() {
+        Object[] categoryVersion = categoryRepository.findVersion().get(0);
+        Object[] tagVersion = tagCategoryRepository.findVersion().get(0);
+        return ETagUtils.weak("metadata",
+                categoryVersion[0], categoryVersion[1],
+                tagVersion[0], tagVersion[1], tagVersion[2]);
+    }
+
     public ProductMetadataResponse getMetadata() {
         List<Category> categories = categoryRepository.findAll();
         List<TagCategory> tags = tagCategoryRepository.findAllByIsActiveTrueOrderByDisplayOrder();
@@ -1,6 +1,7 @@
 package com.ururulab.ururu.product.service;
 
 import com.ururulab.ururu.global.exception.BusinessException;
+import com.ururulab.ururu.global.outbox.OutboxEventService;
 import com.ururulab.ururu.image.service.ImageHashService;
 import com.ururulab.ururu.image.service.ImageService;
 import com.ururulab.ururu.image.validation.ImageValidator;
@@ -11,7 +12,6 @@ import com.ururulab.ururu.product.event.ProductImageDeleteEvent;
 import com.ururulab.ururu.product.event.ProductImageUploadEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Recover;
 import org.springframework.retry.annotation.Retryable;
@@ -42,7 +42,7 @@ public class ProductOptionImageService {
     private final ImageService imageService;
     private final ProductOptionRepository productOptionRepository;
     private final ImageValidator imageValidator;
-    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxEventService outboxEventService;
 
     /**
      * 검증 후 임시 파일 방식으로 이미지 업로드 요청 생성
@@ -211,12 +211,12 @@ public class ProductOptionImageService {
     public void publishImageEvents(Long productId, List<ProductImageUploadRequest> imageUploadRequests,
                                    List<String> imagesToDelete) {
         if (!imageUploadRequests.isEmpty()) {
-            eventPublisher.publishEvent(new ProductImageUploadEvent(productId, imageUploadRequests));
+            outboxEventService.appendLocal(new ProductImageUploadEvent(productId, imageUploadRequests));
             log.info("Scheduled {} images for upload", imageUploadRequests.size());
         }
 
         if (!imagesToDelete.isEmpty()) {
-            eventPublisher.publishEvent(new ProductImageDeleteEvent(productId, imagesToDelete));
+            outboxEventService.append(new ProductImageDeleteEvent(productId, imagesToDelete));
             log.info("Scheduled {} images for deletion", imagesToDelete.size());
         }
     }
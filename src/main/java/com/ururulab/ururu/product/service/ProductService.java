@@ -2,6 +2,7 @@ package com.ururulab.ururu.product.service;
 
 import com.ururulab.ururu.global.domain.entity.TagCategory;
 import com.ururulab.ururu.global.exception.BusinessException;
+import com.ururulab.ururu.global.outbox.OutboxEventService;
 import com.ururulab.ururu.product.domain.entity.*;
 import com.ururulab.ururu.product.domain.entity.enumerated.Status;
 import com.ururulab.ururu.product.domain.repository.*;
@@ -15,7 +16,6 @@ import com.ururulab.ururu.seller.domain.entity.Seller;
 import com.ururulab.ururu.seller.domain.repository.SellerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -42,7 +42,7 @@ public class ProductService {
     private final ProductOptionRepository productOptionRepository;
     private final ProductTagRepository productTagRepository;
     private final ProductValidator productValidator;
-    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxEventService outboxEventService;
     private final SellerRepository sellerRepository;
     private final ProductCategoryService productCategoryService;
     private final ProductTagService productTagService;
@@ -66,7 +66,7 @@ public class ProductService {
         // 2. 핵심 데이터 저장 (트랜잭션 내부)
         ProductCreationResult result = createProductCore(productRequest, sellerId);
 
-        // 3. 비동기 이미지 업로드 이벤트 발행 (트랜잭션 외부)
+        // 3. 비동기 이미지 업로드 이벤트를 아웃박스에 기록 (커밋 후 릴레이가 전달)
         publishImageUploadEventIfNeeded(result.savedProduct(), result.savedOptions(), optionImages);
 
         // 4. 응답 생성
@@ -425,7 +425,7 @@ public class ProductService {
             List<ProductImageUploadRequest> uploadRequests =
                     productOptionImageService.createImageUploadRequests(savedOptions, optionImages);
 
-            eventPublisher.publishEvent(new ProductImageUploadEvent(savedProduct.getId(), uploadRequests));
+            outboxEventService.appendLocal(new ProductImageUploadEvent(savedProduct.getId(), uploadRequests));
             log.info("Image upload event published for product: {}", savedProduct.getId());
         }
     }
@@ -0,0 +1,68 @@
+package com.ururulab.ururu.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ururulab.ururu.global.config.RedisConfig;
+import com.ururulab.ururu.groupBuy.dto.response.GroupBuyListResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("L2 캐시 값 직렬화")
+class CachedValueRedisSerializerTest {
+
+    private final ObjectMapper objectMapper = new RedisConfig().redisObjectMapper();
+
+    @Test
+    @DisplayName("캐시에 지정한 값 타입으로 복원해 DTO 목록이 LinkedHashMap으로 바뀌지 않는다")
+    void roundTrip_restoresValueType() {
+        // given
+        CachedValueRedisSerializer serializer = new CachedValueRedisSerializer(objectMapper,
+                objectMapper.getTypeFactory().constructCollectionType(List.class, GroupBuyListResponse.class));
+        GroupBuyListResponse response = new GroupBuyListResponse(1L, "groupbuy", "/thumb", 9_000, 10_000, 10,
+                Instant.parse("2026-10-24T00:00:00Z"), 5, Instant.parse("2026-10-17T00:00:00Z"));
+        CachedValue cached = new CachedValue(List.of(response), 1_000L, 20L);
+
+        // when
+        CachedValue restored = serializer.deserialize(serializer.serialize(cached));
+
+        // then
+        assertThat(restored.value()).isEqualTo(List.of(response));
+        assertThat(restored.createdAtMillis()).isEqualTo(1_000L);
+        assertThat(restored.computeMillis()).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("비어 있는 캐시 값(null)도 그대로 복원한다")
+    void roundTrip_nullValue() {
+        // given
+        CachedValueRedisSerializer serializer = new CachedValueRedisSerializer(objectMapper,
+                objectMapper.constructType(Object.class));
+
+        // when
+        CachedValue restored = serializer.deserialize(serializer.serialize(new CachedValue(null, 1_000L, 0L)));
+
+        // then
+        assertThat(restored.value()).isNull();
+        assertThat(restored.createdAtMillis()).isEqualTo(1_000L);
+    }
+
+    @Test
+    @DisplayName("값 타입을 지정하지 않은 캐시는 JSON 기본 타입으로 복원한다")
+    void roundTrip_untypedValue() {
+        // given
+        CachedValueRedisSerializer serializer = new CachedValueRedisSerializer(objectMapper,
+                objectMapper.constructType(Object.class));
+
+        // when
+        CachedValue restored = serializer.deserialize(serializer.serialize(
+                new CachedValue(Map.of("count", 3), 1_000L, 0L)));
+
+        // then
+        assertThat(restored.value()).isEqualTo(Map.of("count", 3));
+    }
+}
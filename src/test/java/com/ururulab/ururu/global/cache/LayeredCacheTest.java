@@ -0,0 +1,206 @@
+package com.ururulab.ururu.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("2단계 캐시")
+class LayeredCacheTest {
+
+    private static final CacheSpec SPEC = CacheSpec.of(10, Duration.ofMinutes(1), Duration.ofSeconds(10))
+            .withStaleWhileRevalidate(Duration.ofMinutes(1), 0);
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrentMapCache redis;
+    private CacheInvalidationPublisher publisher;
+    private RecordingTransactionOperations refreshTransaction;
+    private LayeredCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        redis = new ConcurrentMapCache("realtimeBest");
+        publisher = mock(CacheInvalidationPublisher.class);
+        refreshTransaction = new RecordingTransactionOperations();
+        cache = createCache(Runnable::run);
+    }
+
+    @Test
+    @DisplayName("L2에서 찾은 값은 L1에 채워 다음 조회부터 L1에서 반환한다")
+    void lookup_fillsLocalFromRedis() {
+        redis.put("top3", new CachedValue("ranked", System.currentTimeMillis(), 0));
+
+        assertThat(cache.get("top3").get()).isEqualTo("ranked");
+        redis.evict("top3"); // L2가 비어도 L1에서 반환
+        assertThat(cache.get("top3").get()).isEqualTo("ranked");
+
+        assertThat(count("ururu_cache_requests", "l1", "hit")).isEqualTo(1);
+        assertThat(count("ururu_cache_requests", "l1", "miss")).isEqualTo(1);
+        assertThat(count("ururu_cache_requests", "l2", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("값을 저장하면 L1/L2에 반영하고 다른 노드에 무효화를 알린다")
+    void put_publishesInvalidation() {
+        cache.put(1L, "popular");
+
+        assertThat(((CachedValue) redis.get(1L).get()).value()).isEqualTo("popular");
+        assertThat(cache.get(1L).get()).isEqualTo("popular");
+        verify(publisher).publishEvict("realtimeBest", "1");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 알림은 L1만 비운다")
+    void evictLocal_keepsRedis() {
+        cache.put("top3", "ranked");
+
+        cache.evictLocal("top3");
+
+        assertThat(cache.get("top3").get()).isEqualTo("ranked"); // L2에서 다시 채움
+        assertThat(count("ururu_cache_requests", "l2", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("원본 조회 결과가 null이어도 캐싱한다")
+    void get_cachesNullFromLoader() {
+        assertThat(cache.get("empty", () -> null)).isNull();
+
+        assertThat(cache.get("empty")).isNotNull();
+        assertThat(cache.get("empty").get()).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 키를 동시에 조회하면 원본 계산은 한 번만 실행된다")
+    void get_coalescesConcurrentLoads() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(8);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    return cache.get("top3", () -> {
+                        calls.incrementAndGet();
+                        loading.countDown();
+                        release.await(5, TimeUnit.SECONDS);
+                        return "ranked";
+                    });
+                }));
+            }
+            // 모든 요청이 시작되고 한 요청이 계산 중일 때 계산을 끝냄
+            assertThat(ready.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            release.countDown();
+
+            for (Future<String> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("ranked");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최신 시간이 지난 값은 기다리지 않고 반환한 뒤 백그라운드에서 갱신한다")
+    void get_servesStaleAndRefreshes() {
+        List<Runnable> refreshes = new ArrayList<>();
+        cache = createCache(refreshes::add);
+        long expiredAt = System.currentTimeMillis() - Duration.ofSeconds(30).toMillis();
+        redis.put("top3", new CachedValue("old", expiredAt, 5));
+
+        assertThat(cache.get("top3", () -> "new")).isEqualTo("old");
+        assertThat(cache.get("top3", () -> "new")).isEqualTo("old"); // 이미 갱신 중이면 다시 예약하지 않음
+        assertThat(refreshes).hasSize(1);
+
+        refreshes.get(0).run();
+        assertThat(cache.get("top3", () -> "newer")).isEqualTo("new");
+        assertThat(count("ururu_cache_loads", null, "stale_served")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("백그라운드 재계산은 읽기 전용 트랜잭션 안에서 실행한다")
+    void get_refreshesInsideTransaction() {
+        List<Runnable> refreshes = new ArrayList<>();
+        cache = createCache(refreshes::add);
+        long expiredAt = System.currentTimeMillis() - Duration.ofSeconds(30).toMillis();
+        redis.put("top3", new CachedValue("old", expiredAt, 5));
+        AtomicBoolean loadedInTransaction = new AtomicBoolean();
+
+        cache.get("top3", () -> {
+            loadedInTransaction.set(refreshTransaction.active);
+            return "new";
+        });
+        refreshes.get(0).run();
+
+        assertThat(loadedInTransaction).isTrue();
+        assertThat(refreshTransaction.active).isFalse();
+        assertThat(((CachedValue) redis.get("top3").get()).value()).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("이전 값 제공 시간도 지나면 원본을 계산해 반환한다")
+    void get_loadsWhenTooStale() {
+        long expiredAt = System.currentTimeMillis() - Duration.ofMinutes(5).toMillis();
+        redis.put("top3", new CachedValue("old", expiredAt, 5));
+
+        assertThat(cache.get("top3", () -> "new")).isEqualTo("new");
+    }
+
+    private LayeredCache createCache(java.util.concurrent.Executor refreshExecutor) {
+        return new LayeredCache("realtimeBest",
+                Caffeine.newBuilder().maximumSize(10).expireAfterWrite(Duration.ofMinutes(1)).<String, CachedValue>build(),
+                redis, SPEC, publisher, refreshExecutor, refreshTransaction, meterRegistry);
+    }
+
+    private double count(String meterName, String layer, String result) {
+        var search = meterRegistry.get(meterName).tag("result", result);
+        if (layer != null) {
+            search = search.tag("layer", layer);
+        }
+        return search.counter().count();
+    }
+
+    /**
+     * 트랜잭션 안에서 실행 중인지 기록하는 TransactionOperations
+     */
+    private static class RecordingTransactionOperations implements TransactionOperations {
+
+        private boolean active;
+
+        @Override
+        public <T> T execute(TransactionCallback<T> action) {
+            active = true;
+            try {
+                return action.doInTransaction(mock(TransactionStatus.class));
+            } finally {
+                active = false;
+            }
+        }
+    }
+}
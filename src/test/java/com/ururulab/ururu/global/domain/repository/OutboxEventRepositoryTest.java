@@ -0,0 +1,187 @@
+package com.ururulab.ururu.global.domain.repository;
+
+import com.ururulab.ururu.global.config.JpaAuditingConfig;
+import com.ururulab.ururu.global.config.QueryDSLConfig;
+import com.ururulab.ururu.global.domain.entity.OutboxEvent;
+import com.ururulab.ururu.global.domain.entity.OutboxRelayInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({QueryDSLConfig.class, JpaAuditingConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("아웃박스 이벤트 선점 조회")
+class OutboxEventRepositoryTest {
+
+    private static final String INSTANCE_ID = "node-1";
+    private static final long TAKEOVER_AFTER_SECONDS = 300;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxRelayInstanceRepository relayInstanceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAllInBatch();
+        relayInstanceRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("임대 시간이 지난 PROCESSING 이벤트는 다시 가져오고, 임대 중인 이벤트는 건너뛴다")
+    void findDueEvents_reclaimsExpiredLease() {
+        // given
+        OutboxEvent expired = save(null, Instant.now().minusSeconds(1));
+        save(null, Instant.now().plusSeconds(60));
+
+        // when
+        List<Long> dueIds = findDueIds(INSTANCE_ID, 10);
+
+        // then
+        assertThat(dueIds).containsExactly(expired.getId());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스 전용 이벤트는 가져오지 않는다")
+    void findDueEvents_skipsOtherInstanceEvents() {
+        // given
+        OutboxEvent shared = save(null, null);
+        OutboxEvent local = save(INSTANCE_ID, null);
+        save("node-2", null);
+
+        // when
+        List<Long> dueIds = findDueIds(INSTANCE_ID, 10);
+
+        // then
+        assertThat(dueIds).containsExactly(shared.getId(), local.getId());
+    }
+
+    @Test
+    @DisplayName("생존 기록이 끊긴 인스턴스의 전용 이벤트는 넘겨받기 기준 시각이 지나면 다른 릴레이가 가져간다")
+    void findDueEvents_takesOverDeadInstanceEvents() {
+        // given
+        OutboxEvent orphaned = save("node-2", null);
+        relayInstanceRepository.save(OutboxRelayInstance.of("node-2", Instant.now().minusSeconds(TAKEOVER_AFTER_SECONDS * 2)));
+        Instant takeoverBefore = Instant.now().plusSeconds(1); // 이벤트가 기준 시각보다 먼저 기록된 상태
+
+        // when
+        List<Long> dueIds = findDueIds(INSTANCE_ID, takeoverBefore, 10);
+
+        // then
+        assertThat(dueIds).containsExactly(orphaned.getId());
+    }
+
+    @Test
+    @DisplayName("생존을 기록 중인 인스턴스의 전용 이벤트는 오래되어도 가져가지 않는다")
+    void findDueEvents_keepsLiveInstanceEvents() {
+        // given
+        save("node-2", null);
+        relayInstanceRepository.save(OutboxRelayInstance.of("node-2", Instant.now().plusSeconds(60)));
+        Instant takeoverBefore = Instant.now().plusSeconds(1);
+
+        // when
+        List<Long> dueIds = findDueIds(INSTANCE_ID, takeoverBefore, 10);
+
+        // then
+        assertThat(dueIds).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 릴레이가 잠근 이벤트는 기다리지 않고 건너뛰어 서로 겹치지 않게 가져간다")
+    void findDueEvents_skipsLockedRows() throws Exception {
+        // given
+        for (int i = 0; i < 4; i++) {
+            save(null, null);
+        }
+        CountDownLatch firstClaimed = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+
+        // when
+        CompletableFuture<List<Long>> first = CompletableFuture.supplyAsync(() ->
+                transactionTemplate.execute(status -> {
+                    List<Long> ids = ids(outboxEventRepository.findDueEventsForUpdate(
+                            Instant.now(), INSTANCE_ID, defaultTakeoverBefore(), PageRequest.of(0, 2)));
+                    firstClaimed.countDown();
+                    await(releaseFirst);
+                    return ids;
+                }));
+        assertThat(firstClaimed.await(5, TimeUnit.SECONDS)).isTrue();
+
+        List<Long> second;
+        try {
+            second = findDueIds(INSTANCE_ID, 10);
+        } finally {
+            releaseFirst.countDown();
+        }
+
+        // then
+        List<Long> firstIds = first.get(5, TimeUnit.SECONDS);
+        assertThat(firstIds).hasSize(2);
+        assertThat(second).hasSize(2).doesNotContainAnyElementsOf(firstIds);
+    }
+
+    private OutboxEvent save(String instanceId, Instant claimedUntil) {
+        OutboxEvent event = OutboxEvent.of("com.ururulab.ururu.TestEvent", "{}", null, instanceId);
+        if (claimedUntil != null) {
+            event.claim(claimedUntil);
+        }
+        return outboxEventRepository.save(event);
+    }
+
+    private List<Long> findDueIds(String instanceId, int limit) {
+        return findDueIds(instanceId, defaultTakeoverBefore(), limit);
+    }
+
+    private List<Long> findDueIds(String instanceId, Instant takeoverBefore, int limit) {
+        return transactionTemplate.execute(status -> ids(outboxEventRepository.findDueEventsForUpdate(
+                Instant.now(), instanceId, takeoverBefore, PageRequest.of(0, limit))));
+    }
+
+    private Instant defaultTakeoverBefore() {
+        return Instant.now().minusSeconds(TAKEOVER_AFTER_SECONDS);
+    }
+
+    private List<Long> ids(List<OutboxEvent> events) {
+        return events.stream().map(OutboxEvent::getId).toList();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
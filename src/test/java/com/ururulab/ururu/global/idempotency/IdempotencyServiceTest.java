@@ -0,0 +1,157 @@
+package com.ururulab.ururu.global.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ururulab.ururu.global.exception.BusinessException;
+import com.ururulab.ururu.global.exception.error.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Idempotency-Key 중복 요청 처리")
+class IdempotencyServiceTest {
+
+    private static final String SCOPE = "order:groupbuy:1";
+    private static final String KEY = "idempotency:" + SCOPE + ":key-1";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        idempotencyService = new IdempotencyService(redisTemplate, objectMapper, meterRegistry, 60, 24);
+    }
+
+    @Test
+    @DisplayName("처음 보는 키는 작업을 실행하고 응답 스냅샷을 저장한다")
+    void execute_firstRequest() throws Exception {
+        // given
+        givenBegin(List.of("ACQUIRED"));
+        given(redisTemplate.execute(eq(IdempotencyScripts.COMPLETE), eq(List.of(KEY)), any(Object[].class)))
+                .willReturn(1L);
+
+        // when
+        TestResponse response = idempotencyService.execute(SCOPE, "key-1", new TestRequest(1), TestResponse.class,
+                () -> new TestResponse("order-1"));
+
+        // then
+        assertThat(response.orderId()).isEqualTo("order-1");
+        then(redisTemplate).should().execute(eq(IdempotencyScripts.COMPLETE), eq(List.of(KEY)),
+                anyString(), eq(objectMapper.writeValueAsString(response)), anyString());
+    }
+
+    @Test
+    @DisplayName("완료된 키로 같은 요청을 재시도하면 작업 없이 저장된 응답을 돌려준다")
+    void execute_replaysCompletedResponse() throws Exception {
+        // given
+        TestRequest request = new TestRequest(1);
+        givenBegin(List.of("COMPLETED", fingerprint(request), "{\"orderId\":\"order-1\"}"));
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        TestResponse response = idempotencyService.execute(SCOPE, "key-1", request, TestResponse.class,
+                () -> new TestResponse("order-" + calls.incrementAndGet()));
+
+        // then
+        assertThat(response.orderId()).isEqualTo("order-1");
+        assertThat(calls).hasValue(0);
+        assertThat(meterRegistry.get("ururu_idempotency_replays").counter().count()).isEqualTo(1);
+        then(redisTemplate).should(never()).execute(eq(IdempotencyScripts.COMPLETE), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("같은 키의 요청이 처리 중이면 작업을 실행하지 않고 거절한다")
+    void execute_rejectsInProgress() throws Exception {
+        // given
+        TestRequest request = new TestRequest(1);
+        givenBegin(List.of("PROCESSING", fingerprint(request), ""));
+        AtomicInteger calls = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyService.execute(SCOPE, "key-1", request, TestResponse.class,
+                () -> new TestResponse("order-" + calls.incrementAndGet())))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        assertThat(calls).hasValue(0);
+        assertThat(meterRegistry.get("ururu_idempotency_conflicts").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 요청 내용으로 재사용하면 거절한다")
+    void execute_rejectsReusedKey() throws Exception {
+        // given
+        givenBegin(List.of("COMPLETED", fingerprint(new TestRequest(1)), "{\"orderId\":\"order-1\"}"));
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyService.execute(SCOPE, "key-1", new TestRequest(2), TestResponse.class,
+                () -> new TestResponse("order-2")))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+
+    @Test
+    @DisplayName("작업이 실패하면 선점을 풀어 같은 키로 재시도할 수 있게 한다")
+    void execute_abandonsOnFailure() {
+        // given
+        givenBegin(List.of("ACQUIRED"));
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyService.execute(SCOPE, "key-1", new TestRequest(1), TestResponse.class,
+                () -> {
+                    throw new IllegalStateException("order failed");
+                }))
+                .isInstanceOf(IllegalStateException.class);
+        then(redisTemplate).should().execute(eq(IdempotencyScripts.ABANDON), eq(List.of(KEY)), any(Object[].class));
+        then(redisTemplate).should(never()).execute(eq(IdempotencyScripts.COMPLETE), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("키가 없으면 Redis 없이 작업만 실행한다")
+    void execute_withoutKey() {
+        // when
+        TestResponse response = idempotencyService.execute(SCOPE, null, new TestRequest(1), TestResponse.class,
+                () -> new TestResponse("order-1"));
+
+        // then
+        assertThat(response.orderId()).isEqualTo("order-1");
+        then(redisTemplate).shouldHaveNoInteractions();
+    }
+
+    private void givenBegin(List<String> state) {
+        given(redisTemplate.execute(eq(IdempotencyScripts.BEGIN), eq(List.of(KEY)), any(Object[].class)))
+                .willReturn(state);
+    }
+
+    private String fingerprint(Object request) throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+        return HexFormat.of().formatHex(digest);
+    }
+
+    record TestRequest(int quantity) {
+    }
+
+    record TestResponse(String orderId) {
+    }
+}
@@ -0,0 +1,146 @@
+package com.ururulab.ururu.global.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ururulab.ururu.global.domain.entity.OutboxEvent;
+import com.ururulab.ururu.global.domain.entity.OutboxRelayInstance;
+import com.ururulab.ururu.global.domain.entity.enumerated.OutboxEventStatus;
+import com.ururulab.ururu.global.domain.repository.OutboxEventRepository;
+import com.ururulab.ururu.global.domain.repository.OutboxRelayInstanceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("아웃박스 이벤트 임대와 재시도")
+class OutboxEventServiceTest {
+
+    private static final String INSTANCE_ID = "node-1";
+    private static final long CLAIM_LEASE_SECONDS = 60;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long BACKOFF_MILLIS = 1000;
+    private static final long TAKEOVER_AFTER_SECONDS = 300;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxRelayInstanceRepository relayInstanceRepository;
+
+    private OutboxEventService outboxEventService;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventService = new OutboxEventService(outboxEventRepository, relayInstanceRepository, new ObjectMapper(),
+                INSTANCE_ID, CLAIM_LEASE_SECONDS, MAX_ATTEMPTS, BACKOFF_MILLIS, TAKEOVER_AFTER_SECONDS);
+    }
+
+    @Test
+    @DisplayName("이벤트를 가져오면 현재 인스턴스 기준으로 조회하고 임대 시간까지 PROCESSING으로 선점한다")
+    void claimBatch_leasesEvents() {
+        // given
+        OutboxEvent shared = event(null);
+        OutboxEvent local = event(INSTANCE_ID);
+        given(outboxEventRepository.findDueEventsForUpdate(any(), eq(INSTANCE_ID), any(), eq(PageRequest.of(0, 10))))
+                .willReturn(List.of(shared, local));
+
+        // when
+        Instant before = Instant.now();
+        List<OutboxEvent> claimed = outboxEventService.claimBatch(10);
+
+        // then
+        assertThat(claimed).containsExactly(shared, local);
+        then(outboxEventRepository).should().findDueEventsForUpdate(any(), eq(INSTANCE_ID),
+                argThat(takeoverBefore -> takeoverBefore.isBefore(before.minusSeconds(TAKEOVER_AFTER_SECONDS - 5))),
+                eq(PageRequest.of(0, 10)));
+        assertThat(claimed).allSatisfy(event -> {
+            assertThat(event.getStatus()).isEqualTo(OutboxEventStatus.PROCESSING);
+            assertThat(event.getClaimedUntil())
+                    .isCloseTo(before.plusSeconds(CLAIM_LEASE_SECONDS), within(5, ChronoUnit.SECONDS));
+        });
+    }
+
+    @Test
+    @DisplayName("전달에 실패하면 임대를 풀고 시도 횟수에 따라 지수 백오프 후 다시 대기시킨다")
+    void recordFailure_backsOffExponentially() {
+        // given
+        OutboxEvent event = event(null);
+        event.claim(Instant.now().plusSeconds(CLAIM_LEASE_SECONDS));
+        given(outboxEventRepository.findById(1L)).willReturn(Optional.of(event));
+
+        // when
+        Instant first = Instant.now();
+        outboxEventService.recordFailure(1L, "s3 timeout");
+        Instant firstRetryAt = event.getNextAttemptAt();
+        Instant second = Instant.now();
+        outboxEventService.recordFailure(1L, "s3 timeout");
+
+        // then
+        assertThat(firstRetryAt).isCloseTo(first.plusMillis(BACKOFF_MILLIS), within(500, ChronoUnit.MILLIS));
+        assertThat(event.getNextAttemptAt()).isCloseTo(second.plusMillis(BACKOFF_MILLIS * 2), within(500, ChronoUnit.MILLIS));
+        assertThat(event.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+        assertThat(event.getAttempts()).isEqualTo(2);
+        assertThat(event.getClaimedUntil()).isNull();
+        assertThat(event.getLastError()).isEqualTo("s3 timeout");
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달하면 더 이상 재시도하지 않고 FAILED로 전환한다")
+    void recordFailure_failsAfterMaxAttempts() {
+        // given
+        OutboxEvent event = event(null);
+        given(outboxEventRepository.findById(1L)).willReturn(Optional.of(event));
+
+        // when
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            outboxEventService.recordFailure(1L, "handler error");
+        }
+
+        // then
+        assertThat(event.getStatus()).isEqualTo(OutboxEventStatus.FAILED);
+        assertThat(event.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+    }
+
+    @Test
+    @DisplayName("처음 생존을 기록하는 인스턴스는 기록 행을 만든다")
+    void heartbeat_createsInstanceRow() {
+        // given
+        given(relayInstanceRepository.updateHeartbeat(eq(INSTANCE_ID), any())).willReturn(0);
+
+        // when
+        outboxEventService.heartbeat();
+
+        // then
+        then(relayInstanceRepository).should().save(argThat(instance -> INSTANCE_ID.equals(instance.getInstanceId())));
+    }
+
+    @Test
+    @DisplayName("이미 기록된 인스턴스는 생존 시각만 갱신한다")
+    void heartbeat_updatesExistingRow() {
+        // given
+        given(relayInstanceRepository.updateHeartbeat(eq(INSTANCE_ID), any())).willReturn(1);
+
+        // when
+        outboxEventService.heartbeat();
+
+        // then
+        then(relayInstanceRepository).should(never()).save(any(OutboxRelayInstance.class));
+    }
+
+    private OutboxEvent event(String instanceId) {
+        return OutboxEvent.of("com.ururulab.ururu.TestEvent", "{}", null, instanceId);
+    }
+}
@@ -0,0 +1,153 @@
+package com.ururulab.ururu.groupBuy.domain.repository;
+
+import com.querydsl.core.Tuple;
+import com.ururulab.ururu.global.config.JpaAuditingConfig;
+import com.ururulab.ururu.global.config.QueryDSLConfig;
+import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuySortOption;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공동구매 목록 2단계 조회 벤치마크 (기본 테스트에서 제외, ./gradlew benchmark 로 실행)
+ * 공동구매 10만 건(옵션 5개, 카테고리 3단계)에서 최상위 카테고리 + 판매량순 첫 페이지를 실제 GroupBuyQueryRepositoryImpl로 조회합니다.
+ * 조인 + DISTINCT와 2단계 조회의 평균 처리 시간을 출력하고, 같은 페이지를
+ * 카테고리/옵션 수와 무관하게 쿼리 두 번(ID 조회, 하이드레이션)으로 가져오는지 확인합니다.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({QueryDSLConfig.class, JpaAuditingConfig.class})
+@DisplayName("공동구매 목록 2단계 조회 벤치마크")
+class GroupBuyListQueryBenchmarkTest {
+
+    private static final int GROUPBUYS = 100_000;
+    private static final int OPTIONS_PER_GROUPBUY = 5;
+    private static final long ROOT_CATEGORY_ID = 1L; // 모든 상품이 속한 최상위 카테고리 (행 증폭이 가장 큰 경우)
+    private static final int PAGE_SIZE = 21; // limit + 1
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 10;
+
+    // 2단계 조회 도입 전 쿼리 (정답 비교용)
+    private static final String JOIN_DISTINCT_SQL =
+            "SELECT DISTINCT gb.id, gb.sold_quantity " +
+                    "FROM groupbuys gb " +
+                    "JOIN product_categories pc ON pc.product_id = gb.product_id " +
+                    "JOIN groupbuy_options gbo ON gbo.groupbuy_id = gb.id " +
+                    "WHERE gb.status = 'OPEN' AND gb.ends_at > CURRENT_TIMESTAMP AND pc.category_id = ? " +
+                    "ORDER BY gb.sold_quantity DESC, gb.id DESC LIMIT ?";
+
+    @Autowired
+    private GroupBuyRepository groupBuyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // 목록 조회에 필요한 행만 적재
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        jdbcTemplate.update("INSERT INTO product_categories (id, product_id, category_id, created_at, updated_at) " +
+                "SELECT X * 3 - 2, X, " + ROOT_CATEGORY_ID + ", CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+                "FROM SYSTEM_RANGE(1, " + GROUPBUYS + ")");
+        jdbcTemplate.update("INSERT INTO product_categories (id, product_id, category_id, created_at, updated_at) " +
+                "SELECT X * 3 - 1, X, 10 + MOD(X, 5), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+                "FROM SYSTEM_RANGE(1, " + GROUPBUYS + ")");
+        jdbcTemplate.update("INSERT INTO product_categories (id, product_id, category_id, created_at, updated_at) " +
+                "SELECT X * 3, X, 100 + MOD(X, 50), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+                "FROM SYSTEM_RANGE(1, " + GROUPBUYS + ")");
+        jdbcTemplate.update("INSERT INTO groupbuys (id, product_id, seller_id, title, thumbnail_url, discount_stages, " +
+                "max_discount_rate, limit_quantity_per_member, status, display_final_price, current_discount_rate, " +
+                "min_start_price, sold_quantity, stock_shard_count, ends_at, created_at, updated_at) " +
+                "SELECT X, X, MOD(X, 1000) + 1, 'groupbuy ' || X, '/thumb/' || X, '[]', MOD(X, 40), 10, 'OPEN', " +
+                "10000 + MOD(X, 50) * 100, 0, 12000, MOD(X * 7919, 10007), 0, DATEADD('DAY', 7, CURRENT_TIMESTAMP), " +
+                "DATEADD('SECOND', X, TIMESTAMP '2025-01-01 00:00:00'), CURRENT_TIMESTAMP " +
+                "FROM SYSTEM_RANGE(1, " + GROUPBUYS + ")");
+        jdbcTemplate.update("INSERT INTO groupbuy_options (id, groupbuy_id, product_option_id, initial_stock, stock, " +
+                "price_override, sale_price, version, created_at, updated_at) " +
+                "SELECT X, (X - 1) / " + OPTIONS_PER_GROUPBUY + " + 1, X, 100, 100, 12000, 12000, 0, " +
+                "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, " + GROUPBUYS * OPTIONS_PER_GROUPBUY + ")");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+    }
+
+    @Test
+    @DisplayName("ID 조회 후 하이드레이션은 조인 + DISTINCT와 같은 페이지를 쿼리 두 번으로 반환한다")
+    void twoPhaseListQuery() {
+        // given
+        List<Long> expectedIds = jdbcTemplate.query(JOIN_DISTINCT_SQL,
+                (rs, rowNum) -> rs.getLong("id"), ROOT_CATEGORY_ID, PAGE_SIZE);
+        statistics.clear();
+
+        // when
+        List<Tuple> page = groupBuyRepository.findGroupBuysSortedWithCursor(
+                ROOT_CATEGORY_ID, GroupBuySortOption.ORDER_COUNT, PAGE_SIZE, null, null, null);
+
+        // then
+        assertThat(page).extracting(row -> row.get(0, Long.class))
+                .hasSize(PAGE_SIZE)
+                .containsExactlyElementsOf(expectedIds);
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("조인 + DISTINCT와 2단계 조회의 첫 페이지 처리 시간을 비교한다")
+    void listQueryLatency() {
+        // given
+        Supplier<List<Long>> joinDistinct = () -> jdbcTemplate.query(JOIN_DISTINCT_SQL,
+                (rs, rowNum) -> rs.getLong("id"), ROOT_CATEGORY_ID, PAGE_SIZE);
+        Supplier<List<Long>> twoPhase = () -> groupBuyRepository.findGroupBuysSortedWithCursor(
+                        ROOT_CATEGORY_ID, GroupBuySortOption.ORDER_COUNT, PAGE_SIZE, null, null, null).stream()
+                .map(row -> row.get(0, Long.class))
+                .toList();
+
+        // when
+        double joinDistinctMs = averageMillis("join + distinct", joinDistinct);
+        double twoPhaseMs = averageMillis("two-phase", twoPhase);
+
+        // then
+        assertThat(joinDistinctMs).isPositive();
+        assertThat(twoPhaseMs).isPositive();
+    }
+
+    private double averageMillis(String label, Supplier<List<Long>> query) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            assertThat(query.get()).hasSize(PAGE_SIZE);
+        }
+
+        long startedAt = System.nanoTime();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            assertThat(query.get()).hasSize(PAGE_SIZE);
+        }
+        double averageMs = (System.nanoTime() - startedAt) / 1_000_000.0 / MEASURED_ROUNDS;
+        System.out.printf("[list-benchmark] %s: %d groupbuys x %d options, %.2f ms/query%n",
+                label, GROUPBUYS, OPTIONS_PER_GROUPBUY, averageMs);
+        return averageMs;
+    }
+}
@@ -0,0 +1,217 @@
+package com.ururulab.ururu.groupBuy.domain.repository;
+
+import com.ururulab.ururu.global.config.JpaAuditingConfig;
+import com.ururulab.ururu.global.config.QueryDSLConfig;
+import com.ururulab.ururu.global.util.ETagUtils;
+import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuySortOption;
+import com.ururulab.ururu.groupBuy.dto.common.CursorInfoDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 공동구매 목록 비정규화 컬럼 집계, 판매량순 키셋 페이징, 상세 조회 ETag
+ * 판매자/상품 옵션 행 없이 필요한 행만 적재해 쿼리를 확인합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({QueryDSLConfig.class, JpaAuditingConfig.class})
+@DisplayName("공동구매 저장소")
+class GroupBuyRepositoryTest {
+
+    @Autowired
+    private GroupBuyRepository groupBuyRepository;
+
+    @Autowired
+    private GroupBuyOptionRepository groupBuyOptionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+    }
+
+    @Test
+    @DisplayName("판매량 증감은 진행 중인 공동구매에만 반영하고 종료된 공동구매는 최종 집계값을 유지한다")
+    void addSoldQuantity_updatesOnlyOpenGroupBuy() {
+        // given
+        insertGroupBuy(1L, 5, 0, 10_000);
+        insertGroupBuy(2L, 7, 0, 10_000);
+        jdbcTemplate.update("UPDATE groupbuys SET status = 'CLOSED' WHERE id = 2");
+
+        // when
+        int openUpdated = groupBuyRepository.addSoldQuantity(1L, 3);
+        int closedUpdated = groupBuyRepository.addSoldQuantity(2L, 3);
+
+        // then
+        assertThat(openUpdated).isEqualTo(1);
+        assertThat(closedUpdated).isZero();
+        assertThat(soldQuantity(1L)).isEqualTo(8);
+        assertThat(soldQuantity(2L)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("순위 재구성용 판매량은 sold_quantity 컬럼이 아닌 옵션 재고 차감을 합산하고 종료된 공동구매는 제외한다")
+    void findOpenSoldQuantitiesFromStock_sumsOptionStock() {
+        // given
+        insertGroupBuy(1L, 0, 0, 10_000);   // 증감 기록 반영 전
+        insertOption(11L, 1L, 100, 97);
+        insertOption(12L, 1L, 50, 48);
+        insertGroupBuy(2L, 0, 0, 10_000);   // 옵션 없음
+        insertGroupBuy(3L, 4, 0, 10_000);
+        insertOption(31L, 3L, 10, 6);
+        jdbcTemplate.update("UPDATE groupbuys SET status = 'CLOSED' WHERE id = 3");
+
+        // when
+        List<Object[]> rows = groupBuyRepository.findOpenSoldQuantitiesFromStock();
+
+        // then
+        assertThat(rows).extracting(row -> (Long) row[0], row -> ((Number) row[1]).intValue())
+                .containsExactlyInAnyOrder(tuple(1L, 5), tuple(2L, 0));
+    }
+
+    @Test
+    @DisplayName("최저 시작가가 비어 있는 공동구매만 최저 시작가와 판매량을 채운다")
+    void backfillListSummaries_fillsMissingColumns() {
+        // given
+        insertGroupBuy(1L, 0, 0, null);
+        insertOption(11L, 1L, 100, 90);
+        insertOption(12L, 1L, 100, 95, 8_000);
+        insertGroupBuy(2L, 0, 0, 12_000);
+        insertOption(21L, 2L, 100, 50);
+
+        // when
+        int updated = groupBuyRepository.backfillListSummaries();
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(soldQuantity(1L)).isEqualTo(15);
+        assertThat(minStartPrice(1L)).isEqualTo(8_000);
+        assertThat(soldQuantity(2L)).isZero();
+        assertThat(minStartPrice(2L)).isEqualTo(12_000);
+    }
+
+    @Test
+    @DisplayName("판매량순 페이지는 판매량이 같으면 id 내림차순으로 이어져 경계에서 중복/누락이 없다")
+    void orderCountKeyset_breaksTiesById() {
+        // given - 판매량 10이 세 건이라 첫 페이지 경계가 동점 구간 한가운데에 걸림
+        insertGroupBuy(1L, 10, 0, 10_000);
+        insertGroupBuy(2L, 10, 0, 10_000);
+        insertGroupBuy(3L, 10, 0, 10_000);
+        insertGroupBuy(4L, 5, 0, 10_000);
+        insertGroupBuy(5L, 5, 0, 10_000);
+
+        // when
+        List<Long> visited = new ArrayList<>();
+        List<List<Long>> pages = new ArrayList<>();
+        CursorInfoDto cursor = null;
+        while (true) {
+            List<Long> page = orderCountPage(cursor, 2);
+            if (page.isEmpty()) {
+                break;
+            }
+            pages.add(page);
+            visited.addAll(page);
+            Long lastId = page.get(page.size() - 1);
+            cursor = new CursorInfoDto(lastId, null, null, null, null, soldQuantity(lastId));
+        }
+
+        // then
+        assertThat(pages).containsExactly(List.of(3L, 2L), List.of(1L, 5L), List.of(4L));
+        assertThat(visited).doesNotHaveDuplicates().hasSize(5);
+    }
+
+    @Test
+    @DisplayName("상세 조회 ETag는 벌크 UPDATE로 바뀐 재고와 집계된 판매량을 반영하고, 변화가 없으면 그대로다")
+    void publicDetailETag_changesWithAggregatedFields() {
+        // given
+        insertProduct(1L);
+        insertGroupBuy(1L, 0, 0, 10_000);
+        insertOption(11L, 1L, 100, 100);
+        String initial = detailETag(1L);
+
+        // when - 버전/updatedAt을 올리지 않는 재고 차감과 판매량 집계
+        String unchanged = detailETag(1L);
+        groupBuyOptionRepository.decreaseStock(11L, 2);
+        String afterStockDecrease = detailETag(1L);
+        groupBuyRepository.addSoldQuantity(1L, 2);
+        String afterSoldQuantitySync = detailETag(1L);
+
+        // then
+        assertThat(unchanged).isEqualTo(initial);
+        assertThat(afterStockDecrease).isNotEqualTo(initial);
+        assertThat(afterSoldQuantitySync).isNotEqualTo(afterStockDecrease);
+    }
+
+    private void insertGroupBuy(Long id, int soldQuantity, int stockShardCount, Integer minStartPrice) {
+        jdbcTemplate.update("INSERT INTO groupbuys (id, product_id, seller_id, title, discount_stages, max_discount_rate, " +
+                        "limit_quantity_per_member, status, current_discount_rate, min_start_price, sold_quantity, " +
+                        "stock_shard_count, ends_at, created_at, updated_at) " +
+                        "VALUES (?, ?, 1, ?, '[]', 0, 10, 'OPEN', 0, ?, ?, ?, " +
+                        "DATEADD('DAY', 7, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                id, id, "groupbuy " + id, minStartPrice, soldQuantity, stockShardCount);
+    }
+
+    private void insertProduct(Long id) {
+        jdbcTemplate.update("INSERT INTO products (id, seller_id, name, description, status, created_at, updated_at) " +
+                "VALUES (?, 1, ?, 'description', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", id, "product " + id);
+    }
+
+    private void insertOption(Long id, Long groupBuyId, int initialStock, int stock) {
+        insertOption(id, groupBuyId, initialStock, stock, 10_000);
+    }
+
+    private void insertOption(Long id, Long groupBuyId, int initialStock, int stock, int priceOverride) {
+        jdbcTemplate.update("INSERT INTO groupbuy_options (id, groupbuy_id, product_option_id, initial_stock, stock, " +
+                        "price_override, sale_price, version, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                id, groupBuyId, id, initialStock, stock, priceOverride, priceOverride);
+    }
+
+    private List<Long> orderCountPage(CursorInfoDto cursor, int limit) {
+        return groupBuyRepository.findGroupBuysSortedWithCursor(
+                        null, GroupBuySortOption.ORDER_COUNT, limit, cursor, null, null).stream()
+                .map(row -> row.get(0, Long.class))
+                .toList();
+    }
+
+    /**
+     * GroupBuyDetailService.getPublicGroupBuyDetailETag와 같은 방식으로 ETag 생성
+     */
+    private String detailETag(Long groupBuyId) {
+        List<Object[]> rows = groupBuyRepository.findPublicDetailVersion(groupBuyId);
+        assertThat(rows).hasSize(1);
+        Object[] version = rows.get(0);
+        Object[] parts = new Object[version.length + 1];
+        parts[0] = groupBuyId;
+        System.arraycopy(version, 0, parts, 1, version.length);
+        return ETagUtils.weak(parts);
+    }
+
+    private Integer soldQuantity(Long groupBuyId) {
+        return jdbcTemplate.queryForObject("SELECT sold_quantity FROM groupbuys WHERE id = ?", Integer.class, groupBuyId);
+    }
+
+    private Integer minStartPrice(Long groupBuyId) {
+        return jdbcTemplate.queryForObject("SELECT min_start_price FROM groupbuys WHERE id = ?", Integer.class, groupBuyId);
+    }
+}
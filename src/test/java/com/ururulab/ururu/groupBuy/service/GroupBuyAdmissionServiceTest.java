@@ -0,0 +1,135 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.ururulab.ururu.global.exception.BusinessException;
+import com.ururulab.ururu.global.exception.error.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("공동구매 입장 대기열")
+class GroupBuyAdmissionServiceTest {
+
+    private static final Long MEMBER_ID = 10L;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private GroupBuyAdmissionService admissionService;
+
+    @BeforeEach
+    void setUp() {
+        admissionService = new GroupBuyAdmissionService(redisTemplate, 200, 300);
+    }
+
+    @Test
+    @DisplayName("입장 확인을 통과하면 예외 없이 주문서 생성으로 넘어간다")
+    void verifyAdmission_passes() {
+        // given
+        givenVerifyResult(0L);
+
+        // when & then
+        assertThatCode(() -> admissionService.verifyAdmission(1L, MEMBER_ID)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("종료/품절 표시된 공동구매는 GROUPBUY_ENDED로 거절한다")
+    void verifyAdmission_closed() {
+        // given
+        givenVerifyResult(-1L);
+
+        // when & then
+        assertThatThrownBy(() -> admissionService.verifyAdmission(1L, MEMBER_ID))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.GROUPBUY_ENDED);
+    }
+
+    @Test
+    @DisplayName("입장권이 소진되었거나 대기열이 있으면 대기열 입장을 요구한다")
+    void verifyAdmission_requiresQueue() {
+        // given
+        givenVerifyResult(1L);
+
+        // when & then
+        assertThatThrownBy(() -> admissionService.verifyAdmission(1L, MEMBER_ID))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.GROUPBUY_ADMISSION_REQUIRED);
+    }
+
+    @Test
+    @DisplayName("장바구니 주문은 모든 공동구매의 입장권을 한 번의 스크립트로 확인한다")
+    void verifyAdmission_cartChecksAllAtOnce() {
+        // given
+        givenVerifyResult(0L);
+
+        // when
+        admissionService.verifyAdmission(List.of(1L, 2L), MEMBER_ID);
+
+        // then
+        then(redisTemplate).should(times(1)).execute(eq(GroupBuyAdmissionScripts.VERIFY),
+                eq(List.of(
+                        "admission:queue:1", "admission:pass:1", "admission:window:1", "admission:closed:1",
+                        "admission:queue:2", "admission:pass:2", "admission:window:2", "admission:closed:2",
+                        "admission:active")),
+                eq(MEMBER_ID.toString()), anyString(), eq("200"), eq("1"), eq("2"));
+    }
+
+    @Test
+    @DisplayName("주문서가 커밋된 뒤 주문한 공동구매의 입장권을 한 번의 스크립트로 소진한다")
+    void consumeAdmission_removesPasses() {
+        // when
+        admissionService.consumeAdmission(List.of(1L, 2L), MEMBER_ID);
+
+        // then
+        then(redisTemplate).should().execute(eq(GroupBuyAdmissionScripts.CONSUME),
+                eq(List.of("admission:pass:1", "admission:pass:2")), eq(MEMBER_ID.toString()));
+    }
+
+    @Test
+    @DisplayName("입장권 소진에 실패해도 이미 생성된 주문서에는 영향을 주지 않는다")
+    void consumeAdmission_ignoresRedisFailure() {
+        // given
+        given(redisTemplate.execute(eq(GroupBuyAdmissionScripts.CONSUME), anyList(), any(Object[].class)))
+                .willThrow(new IllegalStateException("redis down"));
+
+        // when & then
+        assertThatCode(() -> admissionService.consumeAdmission(List.of(1L), MEMBER_ID)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("종료 표시는 공동구매마다 하나의 스크립트로 표시와 대기열 정리를 함께 처리한다")
+    void markClosed_usesSingleScript() {
+        // when
+        admissionService.markClosed(List.of(1L, 2L));
+
+        // then
+        then(redisTemplate).should().execute(eq(GroupBuyAdmissionScripts.MARK_CLOSED),
+                eq(List.of("admission:closed:1", "admission:queue:1", "admission:seq:1",
+                        "admission:pass:1", "admission:active")),
+                any(Object[].class));
+        then(redisTemplate).should().execute(eq(GroupBuyAdmissionScripts.MARK_CLOSED),
+                eq(List.of("admission:closed:2", "admission:queue:2", "admission:seq:2",
+                        "admission:pass:2", "admission:active")),
+                any(Object[].class));
+        then(redisTemplate).should(never()).delete(anyCollection());
+        then(redisTemplate).should(never()).opsForValue();
+    }
+
+    private void givenVerifyResult(Long result) {
+        given(redisTemplate.execute(eq(GroupBuyAdmissionScripts.VERIFY), anyList(), any(Object[].class)))
+                .willReturn(result);
+    }
+}
@@ -0,0 +1,262 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.ururulab.ururu.global.outbox.OutboxEventService;
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyStatistics;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyStatisticsRepository;
+import com.ururulab.ururu.groupBuy.event.GroupBuysBatchClosedEvent;
+import com.ururulab.ururu.product.domain.entity.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("공동구매 배치 종료")
+class GroupBuyBatchCloseServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final long LOCK_TTL_MS = 300_000;
+    private static final String LOCK_KEY = "groupbuy:batch-close:lock";
+    private static final String CHECKPOINT_KEY = "groupbuy:batch-close:checkpoint";
+
+    @Mock
+    private GroupBuyRepository groupBuyRepository;
+
+    @Mock
+    private GroupBuyStatisticsRepository groupBuyStatisticsRepository;
+
+    @Mock
+    private GroupBuyStatisticsCalculatorService statisticsCalculatorService;
+
+    @Mock
+    private GroupBuyPriceService groupBuyPriceService;
+
+    @Mock
+    private OutboxEventService outboxEventService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GroupBuyBatchCloseService batchCloseService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        batchCloseService = new GroupBuyBatchCloseService(groupBuyRepository, groupBuyStatisticsRepository,
+                statisticsCalculatorService, groupBuyPriceService, outboxEventService, transactionTemplate,
+                redisTemplate, meterRegistry, CHUNK_SIZE, LOCK_TTL_MS);
+    }
+
+    @Test
+    @DisplayName("만료 공동구매를 청크 단위로 나눠 청크마다 따로 종료하고 진행 위치를 기록한다")
+    void close_inChunks() {
+        // given
+        givenLockAcquired(true);
+        givenLockExtended(1L);
+        givenCheckpoint(Map.of());
+        givenChunkTransactions();
+        givenStatistics();
+        givenExpiredIds(0L, List.of(1L, 2L));
+        givenExpiredIds(2L, List.of(3L));
+
+        // when
+        int closed = batchCloseService.closeExpiredGroupBuys();
+
+        // then
+        assertThat(closed).isEqualTo(3);
+        then(outboxEventService).should().append(new GroupBuysBatchClosedEvent(List.of(1L, 2L)));
+        then(outboxEventService).should().append(new GroupBuysBatchClosedEvent(List.of(3L)));
+        then(hashOperations).should().putAll(eq(CHECKPOINT_KEY),
+                argThat(checkpoint -> "2".equals(checkpoint.get("lastId"))));
+        then(redisTemplate).should().delete(CHECKPOINT_KEY);
+        assertThat(meterRegistry.get("ururu_groupbuy_batch_close_chunk").tag("outcome", "success").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("청크를 처리할 때마다 소유자 토큰이 일치하는 경우에만 락을 연장한다")
+    void close_extendsLockWithOwnerToken() {
+        // given
+        givenLockAcquired(true);
+        givenLockExtended(1L);
+        givenCheckpoint(Map.of());
+        givenChunkTransactions();
+        givenStatistics();
+        givenExpiredIds(0L, List.of(1L, 2L));
+        givenExpiredIds(2L, List.of(3L));
+
+        // when
+        batchCloseService.closeExpiredGroupBuys();
+
+        // then
+        then(redisTemplate).should(times(2)).execute(ArgumentMatchers.<RedisScript<Long>>any(),
+                eq(List.of(LOCK_KEY)), anyString(), eq(String.valueOf(LOCK_TTL_MS)));
+        then(redisTemplate).should(never()).expire(eq(LOCK_KEY), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("락을 잃으면 진행 위치를 남긴 채 다음 청크를 처리하지 않는다")
+    void close_stopsWhenLockLost() {
+        // given
+        givenLockAcquired(true);
+        givenLockExtended(0L);
+        givenCheckpoint(Map.of());
+        givenChunkTransactions();
+        givenStatistics();
+        givenExpiredIds(0L, List.of(1L, 2L));
+
+        // when
+        int closed = batchCloseService.closeExpiredGroupBuys();
+
+        // then
+        assertThat(closed).isEqualTo(2);
+        then(groupBuyRepository).should(never()).findExpiredGroupBuyIds(any(), eq(2L), any(Pageable.class));
+        then(redisTemplate).should(never()).delete(CHECKPOINT_KEY);
+    }
+
+    @Test
+    @DisplayName("실패한 청크는 건너뛰고 다음 청크를 계속 처리한다")
+    void close_failedChunkDoesNotStopBatch() {
+        // given
+        givenLockAcquired(true);
+        givenLockExtended(1L);
+        givenCheckpoint(Map.of());
+        givenChunkTransactions();
+        given(statisticsCalculatorService.calculateBatchStatistics(anyList()))
+                .willThrow(new IllegalStateException("statistics failure"))
+                .willAnswer(invocation -> statisticsFor(invocation.getArgument(0)));
+        given(groupBuyRepository.findExpiredGroupBuyIds(any(), eq(0L), any(Pageable.class)))
+                .willReturn(List.of(1L, 2L));
+        given(groupBuyRepository.findExpiredGroupBuys(any(), eq(List.of(1L, 2L))))
+                .willReturn(List.of(mock(GroupBuy.class), mock(GroupBuy.class)));
+        givenExpiredIds(2L, List.of(3L));
+
+        // when
+        int closed = batchCloseService.closeExpiredGroupBuys();
+
+        // then
+        assertThat(closed).isEqualTo(1);
+        then(outboxEventService).should().append(new GroupBuysBatchClosedEvent(List.of(3L)));
+        assertThat(meterRegistry.get("ururu_groupbuy_batch_close_chunk").tag("outcome", "failure").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("남은 진행 위치가 있으면 기록된 기준 시각과 마지막 ID부터 이어서 처리한다")
+    void close_resumesFromCheckpoint() {
+        // given
+        Instant cutoff = Instant.parse("2026-10-17T15:00:00Z");
+        givenLockAcquired(true);
+        givenLockExtended(1L);
+        givenCheckpoint(Map.of("cutoff", String.valueOf(cutoff.toEpochMilli()), "lastId", "2"));
+        givenChunkTransactions();
+        givenStatistics();
+        given(groupBuyRepository.findExpiredGroupBuyIds(eq(cutoff), eq(2L), any(Pageable.class)))
+                .willReturn(List.of(3L));
+        given(groupBuyRepository.findExpiredGroupBuys(eq(cutoff), eq(List.of(3L))))
+                .willReturn(List.of(groupBuy(3L)));
+
+        // when
+        int closed = batchCloseService.closeExpiredGroupBuys();
+
+        // then
+        assertThat(closed).isEqualTo(1);
+        then(groupBuyRepository).should(never()).findExpiredGroupBuyIds(any(), eq(0L), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("다른 실행이 진행 중이면 처리하지 않는다")
+    void close_skipsWhenLocked() {
+        // given
+        givenLockAcquired(false);
+
+        // when
+        int closed = batchCloseService.closeExpiredGroupBuys();
+
+        // then
+        assertThat(closed).isZero();
+        then(groupBuyRepository).shouldHaveNoInteractions();
+    }
+
+    private void givenLockAcquired(boolean acquired) {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).willReturn(acquired);
+        if (acquired) {
+            // 락 해제 (소유자 토큰)
+            given(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of(LOCK_KEY)),
+                    anyString())).willReturn(1L);
+        }
+    }
+
+    private void givenLockExtended(long result) {
+        // 락 연장 (소유자 토큰, 만료 시간)
+        given(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of(LOCK_KEY)),
+                anyString(), anyString())).willReturn(result);
+    }
+
+    private void givenCheckpoint(Map<Object, Object> checkpoint) {
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries(CHECKPOINT_KEY)).willReturn(checkpoint);
+    }
+
+    private void givenChunkTransactions() {
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private void givenStatistics() {
+        given(statisticsCalculatorService.calculateBatchStatistics(anyList()))
+                .willAnswer(invocation -> statisticsFor(invocation.getArgument(0)));
+    }
+
+    private void givenExpiredIds(Long lastId, List<Long> ids) {
+        given(groupBuyRepository.findExpiredGroupBuyIds(any(), eq(lastId), any(Pageable.class))).willReturn(ids);
+        List<GroupBuy> groupBuys = ids.stream().map(this::groupBuy).toList();
+        given(groupBuyRepository.findExpiredGroupBuys(any(), eq(ids))).willReturn(groupBuys);
+    }
+
+    private List<GroupBuyStatistics> statisticsFor(List<GroupBuy> groupBuys) {
+        return groupBuys.stream()
+                .map(groupBuy -> mock(GroupBuyStatistics.class))
+                .toList();
+    }
+
+    private GroupBuy groupBuy(Long id) {
+        GroupBuy groupBuy = mock(GroupBuy.class);
+        given(groupBuy.getId()).willReturn(id);
+        given(groupBuy.getProduct()).willReturn(mock(Product.class));
+        return groupBuy;
+    }
+}
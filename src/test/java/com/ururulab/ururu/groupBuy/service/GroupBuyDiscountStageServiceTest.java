@@ -0,0 +1,124 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionStockShardRepository;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
+import com.ururulab.ururu.groupBuy.event.GroupBuyPriceChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("할인 단계 반영")
+class GroupBuyDiscountStageServiceTest {
+
+    private static final Long GROUP_BUY_ID = 1L;
+    private static final String STAGES = "[{\"count\":10,\"rate\":5},{\"count\":30,\"rate\":10}]";
+
+    @Mock
+    private GroupBuyRepository groupBuyRepository;
+
+    @Mock
+    private GroupBuyOptionRepository groupBuyOptionRepository;
+
+    @Mock
+    private GroupBuyOptionStockShardRepository stockShardRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private GroupBuyDiscountStageService discountStageService;
+
+    @BeforeEach
+    void setUp() {
+        discountStageService = new GroupBuyDiscountStageService(groupBuyRepository, groupBuyOptionRepository,
+                stockShardRepository, new GroupBuyDiscountTierCache(new SimpleMeterRegistry(), 100), eventPublisher);
+    }
+
+    @Test
+    @DisplayName("판매량이 다음 단계 달성 수량을 넘으면 옵션 판매가와 표시 가격을 갱신하고 이벤트를 발행한다")
+    void sync_crossesThreshold() {
+        // given - 판매량 12개, 현재 할인율 0%
+        givenState(12, 0, 0, 10_000, 10_000);
+        given(groupBuyOptionRepository.updateSalePrices(eq(GROUP_BUY_ID), eq(5), any())).willReturn(3);
+        given(groupBuyRepository.updateCurrentDiscountRate(eq(GROUP_BUY_ID), eq(0), eq(5), any())).willReturn(1);
+
+        // when
+        boolean changed = discountStageService.syncDiscountStage(GROUP_BUY_ID);
+
+        // then
+        assertThat(changed).isTrue();
+        then(groupBuyOptionRepository).should().updateSalePrices(eq(GROUP_BUY_ID), eq(5), any());
+        then(eventPublisher).should().publishEvent(new GroupBuyPriceChangedEvent(GROUP_BUY_ID, 0, 5));
+    }
+
+    @Test
+    @DisplayName("같은 단계 안의 판매량 변화는 갱신하지 않는다")
+    void sync_sameStage() {
+        // given
+        givenState(25, 5, 0, 10_000, 9_500);
+
+        // when
+        boolean changed = discountStageService.syncDiscountStage(GROUP_BUY_ID);
+
+        // then
+        assertThat(changed).isFalse();
+        then(groupBuyOptionRepository).should(never()).updateSalePrices(anyLong(), anyInt(), any());
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("재고 분할 공동구매는 버킷 재고 합계로 판매량을 계산한다")
+    void sync_shardedUsesBucketSum() {
+        // given - 판매량 컬럼과 옵션 스냅샷은 아직 보정 전
+        givenState(0, 0, 4, 10_000, 10_000);
+        given(stockShardRepository.sumSoldQuantityByGroupBuyId(GROUP_BUY_ID)).willReturn(31L);
+        given(groupBuyRepository.updateCurrentDiscountRate(eq(GROUP_BUY_ID), eq(0), eq(10), any())).willReturn(1);
+
+        // when
+        boolean changed = discountStageService.syncDiscountStage(GROUP_BUY_ID);
+
+        // then
+        assertThat(changed).isTrue();
+        then(groupBuyOptionRepository).should().updateSalePrices(eq(GROUP_BUY_ID), eq(10), any());
+        then(groupBuyOptionRepository).should(never()).getTotalSoldQuantityByGroupBuyId(anyLong());
+    }
+
+    @Test
+    @DisplayName("할인율이나 표시 가격이 맞지 않는 공동구매만 점검 대상으로 고른다")
+    void findOutdated() {
+        // given
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, STAGES, 12, 0, 0, 10_000, 10_000}); // 단계 진입 누락
+        rows.add(new Object[]{2L, STAGES, 12, 5, 0, 10_000, 9_500}); // 최신
+        rows.add(new Object[]{3L, STAGES, 0, 0, 0, 10_000, 7_000}); // 기존 최대 할인 표시 가격
+        given(groupBuyRepository.findOpenDiscountStates(null)).willReturn(rows);
+
+        // when
+        List<Long> outdated = discountStageService.findOutdatedGroupBuyIds();
+
+        // then
+        assertThat(outdated).containsExactly(1L, 3L);
+    }
+
+    private void givenState(int soldQuantity, int currentRate, int shardCount, int minStartPrice, int displayFinalPrice) {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{GROUP_BUY_ID, STAGES, soldQuantity, currentRate, shardCount, minStartPrice, displayFinalPrice});
+        given(groupBuyRepository.findOpenDiscountStates(GROUP_BUY_ID)).willReturn(rows);
+        if (shardCount == 0) {
+            given(groupBuyOptionRepository.getTotalSoldQuantityByGroupBuyId(GROUP_BUY_ID)).willReturn(soldQuantity);
+        }
+    }
+}
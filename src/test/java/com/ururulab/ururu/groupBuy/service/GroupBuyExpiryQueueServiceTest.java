@@ -0,0 +1,156 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
+import com.ururulab.ururu.groupBuy.service.GroupBuyBatchCloseService.DueCloseResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("공동구매 종료 시각 대기열")
+class GroupBuyExpiryQueueServiceTest {
+
+    private static final String QUEUE_KEY = "groupbuy:expiry";
+    private static final long RETRY_BACKOFF_MS = 60_000;
+
+    @Mock
+    private GroupBuyRepository groupBuyRepository;
+
+    @Mock
+    private GroupBuyBatchCloseService batchCloseService;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Captor
+    private ArgumentCaptor<Set<TypedTuple<String>>> entriesCaptor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GroupBuyExpiryQueueService expiryQueueService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+
+        expiryQueueService = new GroupBuyExpiryQueueService(groupBuyRepository, batchCloseService,
+                redisTemplate, meterRegistry, 100, RETRY_BACKOFF_MS);
+    }
+
+    @Test
+    @DisplayName("종료 시각이 된 공동구매를 종료하고 대기열에서 제거한다")
+    void closeDue_closesAndRemoves() {
+        // given
+        givenDue(1L, 2L);
+        given(batchCloseService.closeDueGroupBuys(List.of(1L, 2L)))
+                .willReturn(DueCloseResult.closed(List.of(1L, 2L)));
+
+        // when
+        int processed = expiryQueueService.closeDue();
+
+        // then
+        assertThat(processed).isEqualTo(2);
+        then(zSetOperations).should().remove(QUEUE_KEY, "1", "2");
+        assertThat(meterRegistry.get("ururu_groupbuy_expiry_close_lag").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 종료 처리가 진행 중이면 대기열에 남겨 다음 주기에 다시 시도한다")
+    void closeDue_keepsWhenLocked() {
+        // given
+        givenDue(1L);
+        given(batchCloseService.closeDueGroupBuys(anyList())).willReturn(DueCloseResult.lockUnavailable());
+
+        // when
+        int processed = expiryQueueService.closeDue();
+
+        // then
+        assertThat(processed).isZero();
+        then(zSetOperations).should(never()).remove(anyString(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("종료에 실패한 공동구매는 대기열에 남겨 잠시 뒤 다시 시도하고 종료 지연 시간은 기록하지 않는다")
+    void closeDue_retriesFailedLater() {
+        // given
+        givenDue(1L);
+        given(batchCloseService.closeDueGroupBuys(List.of(1L))).willReturn(DueCloseResult.failed(List.of(1L)));
+        long before = Instant.now().toEpochMilli();
+
+        // when
+        expiryQueueService.closeDue();
+
+        // then
+        then(zSetOperations).should(never()).remove(anyString(), any(Object[].class));
+        then(zSetOperations).should().add(eq(QUEUE_KEY), entriesCaptor.capture());
+        assertThat(entriesCaptor.getValue()).singleElement()
+                .satisfies(entry -> {
+                    assertThat(entry.getValue()).isEqualTo("1");
+                    assertThat(entry.getScore()).isGreaterThanOrEqualTo(before + RETRY_BACKOFF_MS);
+                });
+        assertThat(meterRegistry.get("ururu_groupbuy_expiry_close_lag").timer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 시각이 늦춰져 종료되지 않은 공동구매는 DB의 종료 시각으로 다시 등록한다")
+    void closeDue_reschedulesExtendedGroupBuys() {
+        // given
+        Instant extendedEndsAt = Instant.now().plusSeconds(3_600);
+        givenDue(1L, 2L);
+        given(batchCloseService.closeDueGroupBuys(List.of(1L, 2L))).willReturn(DueCloseResult.closed(List.of(1L)));
+        given(groupBuyRepository.findOpenEndsAt(2L)).willReturn(List.<Object[]>of(new Object[]{2L, extendedEndsAt}));
+
+        // when
+        expiryQueueService.closeDue();
+
+        // then
+        then(zSetOperations).should().remove(QUEUE_KEY, "1");
+        then(zSetOperations).should().remove(QUEUE_KEY, "2");
+        then(zSetOperations).should().add(QUEUE_KEY, "2", extendedEndsAt.toEpochMilli());
+        assertThat(meterRegistry.get("ururu_groupbuy_expiry_close_lag").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("진행 중인 공동구매의 종료 시각으로 대기열을 복구한다")
+    void rebuild_fromOpenGroupBuys() {
+        // given
+        Instant endsAt = Instant.parse("2026-10-17T01:05:00Z");
+        given(groupBuyRepository.findOpenEndsAt(null)).willReturn(List.<Object[]>of(new Object[]{7L, endsAt}));
+
+        // when
+        expiryQueueService.rebuild();
+
+        // then
+        then(zSetOperations).should().add(QUEUE_KEY, Set.of(TypedTuple.of("7", (double) endsAt.toEpochMilli())));
+    }
+
+    private void givenDue(Long... groupBuyIds) {
+        Set<TypedTuple<String>> due = new LinkedHashSet<>();
+        for (Long groupBuyId : groupBuyIds) {
+            due.add(TypedTuple.of(groupBuyId.toString(), (double) Instant.now().minusSeconds(1).toEpochMilli()));
+        }
+        given(zSetOperations.rangeByScoreWithScores(eq(QUEUE_KEY), anyDouble(), anyDouble(), anyLong(), anyLong()))
+                .willReturn(due);
+    }
+}
@@ -0,0 +1,195 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ururulab.ururu.global.exception.BusinessException;
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyOption;
+import com.ururulab.ururu.groupBuy.domain.entity.enumerated.GroupBuyStatus;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
+import com.ururulab.ururu.groupBuy.dto.response.GroupBuyLiveResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("공동구매 실시간 현황 스트림")
+class GroupBuyLiveServiceTest {
+
+    private static final Long GROUP_BUY_ID = 1L;
+    private static final String STAGES = "[{\"count\":10,\"rate\":5},{\"count\":30,\"rate\":10}]";
+
+    private final List<GroupBuyLiveResponse> serialized = new ArrayList<>();
+
+    @Mock
+    private GroupBuyRepository groupBuyRepository;
+
+    @Mock
+    private GroupBuyStockService groupBuyStockService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GroupBuyLiveService liveService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        // 공동구매당 한 번만 직렬화하는지 확인하기 위해 직렬화된 현황을 기록
+        ObjectMapper objectMapper = new ObjectMapper() {
+            @Override
+            public String writeValueAsString(Object value) throws JsonProcessingException {
+                if (value instanceof GroupBuyLiveResponse response) {
+                    serialized.add(response);
+                }
+                return super.writeValueAsString(value);
+            }
+        };
+
+        liveService = new GroupBuyLiveService(groupBuyRepository, groupBuyStockService,
+                new GroupBuyDiscountTierCache(meterRegistry, 100), objectMapper,
+                Runnable::run, meterRegistry, 60_000, 15_000, 100);
+    }
+
+    @Test
+    @DisplayName("첫 구독자만 DB에서 현황을 읽고 이후 구독자는 메모리 현황을 받는다")
+    void subscribe_loadsSnapshotOnce() {
+        // given
+        givenOpenGroupBuy();
+
+        // when
+        liveService.subscribe(GROUP_BUY_ID);
+        liveService.subscribe(GROUP_BUY_ID);
+
+        // then
+        then(groupBuyRepository).should(times(1)).findByIdsWithOptions(anyList());
+        assertThat(serialized).hasSize(2)
+                .allSatisfy(response -> {
+                    assertThat(response.soldQuantity()).isEqualTo(7);
+                    assertThat(response.currentStage()).isZero();
+                    assertThat(response.nextStageQuantity()).isEqualTo(10);
+                    assertThat(response.stocks()).containsEntry(11L, 45).containsEntry(12L, 48);
+                });
+        assertThat(meterRegistry.get("ururu_groupbuy_live_subscribers").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("첫 구독자의 현황 조회 중에도 다른 스레드의 flush와 판매량 반영은 기다리지 않는다")
+    void subscribe_loadsSnapshotOutsideStreamLock() {
+        // given
+        GroupBuy groupBuy = openGroupBuy();
+        given(groupBuyRepository.findByIdsWithOptions(anyList())).willAnswer(invocation -> {
+            CompletableFuture.runAsync(() -> {
+                liveService.applySoldQuantityChanges(Map.of(GROUP_BUY_ID, Map.of(11L, 1)));
+                liveService.flush();
+            }).get(1, TimeUnit.SECONDS);
+            return List.of(groupBuy);
+        });
+
+        // when
+        liveService.subscribe(GROUP_BUY_ID);
+
+        // then
+        assertThat(serialized).singleElement()
+                .extracting(GroupBuyLiveResponse::soldQuantity)
+                .isEqualTo(7); // 스냅샷 전 변화는 버리고 resync에서 보정
+    }
+
+    @Test
+    @DisplayName("여러 번의 판매량 변화를 모아 flush 때 공동구매당 한 번만 직렬화해 보낸다")
+    void flush_coalescesChanges() {
+        // given
+        givenOpenGroupBuy();
+        liveService.subscribe(GROUP_BUY_ID);
+        liveService.subscribe(GROUP_BUY_ID);
+        serialized.clear();
+
+        // when
+        liveService.applySoldQuantityChanges(Map.of(GROUP_BUY_ID, Map.of(11L, 2)));
+        liveService.applySoldQuantityChanges(Map.of(GROUP_BUY_ID, Map.of(11L, 1, 12L, 3)));
+        liveService.applySoldQuantityChanges(Map.of(99L, Map.of(99L, 1))); // 구독자 없는 공동구매는 무시
+        liveService.flush();
+        liveService.flush(); // 변화가 없으면 보내지 않음
+
+        // then
+        assertThat(serialized).singleElement()
+                .satisfies(response -> {
+                    assertThat(response.soldQuantity()).isEqualTo(13);
+                    assertThat(response.currentStage()).isEqualTo(1);
+                    assertThat(response.discountRate()).isEqualTo(5);
+                    assertThat(response.nextStageQuantity()).isEqualTo(30);
+                    assertThat(response.stocks()).containsEntry(11L, 42).containsEntry(12L, 45);
+                });
+    }
+
+    @Test
+    @DisplayName("종료되면 종료 현황을 보낸 뒤 스트림을 정리하고 다음 구독 때 다시 읽는다")
+    void close_sendsFinalUpdateAndRemovesStream() {
+        // given
+        givenOpenGroupBuy();
+        liveService.subscribe(GROUP_BUY_ID);
+        serialized.clear();
+
+        // when
+        liveService.close(List.of(GROUP_BUY_ID));
+        liveService.flush();
+
+        // then
+        assertThat(serialized).singleElement().extracting(GroupBuyLiveResponse::closed).isEqualTo(true);
+        assertThat(meterRegistry.get("ururu_groupbuy_live_streams").gauge().value()).isZero();
+
+        liveService.subscribe(GROUP_BUY_ID);
+        then(groupBuyRepository).should(times(2)).findByIdsWithOptions(anyList());
+    }
+
+    @Test
+    @DisplayName("공개되지 않은 공동구매는 구독할 수 없다")
+    void subscribe_notFound() {
+        // given
+        given(groupBuyRepository.findByIdsWithOptions(anyList())).willReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> liveService.subscribe(GROUP_BUY_ID))
+                .isInstanceOf(BusinessException.class);
+        assertThat(meterRegistry.get("ururu_groupbuy_live_streams").gauge().value()).isZero();
+    }
+
+    private void givenOpenGroupBuy() {
+        GroupBuy groupBuy = openGroupBuy();
+        given(groupBuyRepository.findByIdsWithOptions(anyList())).willReturn(List.of(groupBuy));
+    }
+
+    private GroupBuy openGroupBuy() {
+        GroupBuyOption first = option(11L, 50, 45);
+        GroupBuyOption second = option(12L, 50, 48);
+        GroupBuy groupBuy = mock(GroupBuy.class);
+        given(groupBuy.getId()).willReturn(GROUP_BUY_ID);
+        given(groupBuy.getStatus()).willReturn(GroupBuyStatus.OPEN);
+        given(groupBuy.getDiscountStages()).willReturn(STAGES);
+        given(groupBuy.getOptions()).willReturn(List.of(first, second));
+        given(groupBuyStockService.getStocks(anyCollection())).willReturn(Map.of(11L, 45, 12L, 48));
+        return groupBuy;
+    }
+
+    private GroupBuyOption option(Long id, int initialStock, int stock) {
+        GroupBuyOption option = mock(GroupBuyOption.class);
+        given(option.getId()).willReturn(id);
+        given(option.getInitialStock()).willReturn(initialStock);
+        given(option.getStock()).willReturn(stock);
+        return option;
+    }
+}
@@ -0,0 +1,74 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.ururulab.ururu.groupBuy.util.SearchTextTokenizer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("공동구매 검색 색인")
+class GroupBuySearchIndexTest {
+
+    private GroupBuySearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new GroupBuySearchIndex(new SimpleMeterRegistry());
+        searchIndex.rebuild(Map.of(
+                1L, List.of("수분 진정 크림 대용량", "라운드랩", "정제수, 글리세린, 병풀추출물"),
+                2L, List.of("Vita Glow Serum", "uruLab", "Water, Niacinamide"),
+                3L, List.of("진정 토너 1+1", "토리든", "정제수, 판테놀")
+        ));
+    }
+
+    @Test
+    @DisplayName("한글 키워드는 공백/대소문자와 무관하게 부분 문자열로 검색된다")
+    void search_koreanSubstring() {
+        assertThat(searchIndex.search(SearchTextTokenizer.normalize("진정크림"))).containsExactly(1L);
+        assertThat(searchIndex.search(SearchTextTokenizer.normalize("진정"))).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(searchIndex.search(SearchTextTokenizer.normalize("정제수"))).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("바이그램이 모두 있어도 원문에 키워드가 없으면 제외된다")
+    void search_verifiesSubstring() {
+        searchIndex.upsert(4L, List.of("앰플 세트", "세트 앰플"));
+
+        // '플세', '세트', '트앰'은 모두 4번에 있지만 '플세트앰'은 어느 한 필드에도 포함되지 않음
+        assertThat(searchIndex.search(SearchTextTokenizer.normalize("앰플세트"))).containsExactly(4L);
+        assertThat(searchIndex.search(SearchTextTokenizer.normalize("플세트앰"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 글자 키워드와 영문 판매자명도 검색된다")
+    void search_shortKeywordAndSeller() {
+        assertThat(searchIndex.search(SearchTextTokenizer.normalize("풀"))).containsExactly(1L);
+        assertThat(searchIndex.search(SearchTextTokenizer.normalize("URU lab"))).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("원문 필드는 DB 검색처럼 스페이스만 지우므로 특수문자를 사이에 둔 검색어는 일치하지 않는다")
+    void search_matchesDatabaseNormalization() {
+        assertThat(SearchTextTokenizer.normalizeField("진정 토너 1+1")).isEqualTo("진정토너1+1");
+        assertThat(searchIndex.search(SearchTextTokenizer.normalize("토너 1"))).containsExactly(3L);
+        assertThat(searchIndex.search(SearchTextTokenizer.normalize("1+1"))).isEmpty(); // DB: '진정토너1+1' LIKE '%11%'
+        assertThat(searchIndex.search(SearchTextTokenizer.normalize("글리세린"))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("갱신과 제거가 색인에 반영된다")
+    void upsertAndRemove() {
+        searchIndex.upsert(2L, List.of("진정 앰플", "uruLab", "Water"));
+        searchIndex.remove(List.of(3L));
+
+        Set<Long> result = searchIndex.search(SearchTextTokenizer.normalize("진정"));
+        assertThat(result).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(searchIndex.search(SearchTextTokenizer.normalize("niacinamide"))).isEmpty();
+    }
+}
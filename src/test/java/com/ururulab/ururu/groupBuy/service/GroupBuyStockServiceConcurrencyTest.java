@@ -0,0 +1,181 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.ururulab.ururu.global.config.JpaAuditingConfig;
+import com.ururulab.ururu.global.config.QueryDSLConfig;
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyOptionStockShard;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionStockShardRepository;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuySoldQuantityDeltaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * 분할 재고 동시 차감 교착 재현
+ * 두 구매가 서로 다른 버킷을 프로브로 잠근 채 나눠서 차감으로 넘어가는 순서를 래치로 고정합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({QueryDSLConfig.class, JpaAuditingConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("분할 재고 동시 차감")
+class GroupBuyStockServiceConcurrencyTest {
+
+    private static final long GROUPBUY_ID = 1L;
+    private static final long OPTION_ID = 1L;
+    private static final int SHARD_COUNT = 2;
+    private static final String BUYER_A = "buyer-a";
+    private static final String BUYER_B = "buyer-b";
+    private static final long AWAIT_SECONDS = 5;
+
+    @Autowired
+    private GroupBuyOptionRepository groupBuyOptionRepository;
+
+    @Autowired
+    private GroupBuyOptionStockShardRepository stockShardRepository;
+
+    @Autowired
+    private GroupBuyRepository groupBuyRepository;
+
+    @Autowired
+    private GroupBuySoldQuantityDeltaRepository soldQuantityDeltaRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // 차감 경로 조회에 필요한 공동구매/옵션 행만 적재
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        jdbcTemplate.update("INSERT INTO groupbuys (id, product_id, seller_id, title, thumbnail_url, discount_stages, " +
+                "max_discount_rate, limit_quantity_per_member, status, display_final_price, current_discount_rate, " +
+                "min_start_price, sold_quantity, stock_shard_count, ends_at, created_at, updated_at) " +
+                "VALUES (?, 1, 1, 'groupbuy', '/thumb', '[]', 0, 10, 'OPEN', 10000, 0, 10000, 0, ?, " +
+                "DATEADD('DAY', 7, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                GROUPBUY_ID, SHARD_COUNT);
+        jdbcTemplate.update("INSERT INTO groupbuy_options (id, groupbuy_id, product_option_id, initial_stock, stock, " +
+                "price_override, sale_price, version, created_at, updated_at) " +
+                "VALUES (?, ?, 1, ?, ?, 10000, 10000, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                OPTION_ID, GROUPBUY_ID, SHARD_COUNT, SHARD_COUNT);
+        for (int shardNo = 0; shardNo < SHARD_COUNT; shardNo++) {
+            jdbcTemplate.update("INSERT INTO groupbuy_option_stock_shards " +
+                            "(groupbuy_option_id, shard_no, stock, created_at, updated_at) " +
+                            "VALUES (?, ?, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                    OPTION_ID, shardNo);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM groupbuy_option_stock_shards");
+        jdbcTemplate.update("DELETE FROM groupbuy_sold_quantity_deltas");
+        jdbcTemplate.update("DELETE FROM groupbuy_options");
+        jdbcTemplate.update("DELETE FROM groupbuys");
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+    }
+
+    @Test
+    @DisplayName("서로 다른 버킷을 프로브로 잠근 두 구매가 나눠서 차감해도 교착 없이 하나만 성공한다")
+    void crossedProbes_doNotDeadlock() throws Exception {
+        // given
+        // A가 0번 버킷을 잠근 뒤 B가 0번을 건너뛰고 1번을 잠그고, 그 뒤 A가 1번을 건너뜀 (버킷마다 재고 1, 주문 수량 2)
+        CountDownLatch buyerAProbedFirstShard = new CountDownLatch(1);
+        CountDownLatch buyerBProbedSecondShard = new CountDownLatch(1);
+        GroupBuyStockService stockService = stockServiceWithProbeOrder(buyerAProbedFirstShard, buyerBProbedSecondShard);
+
+        // when
+        ExecutorService buyerA = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, BUYER_A));
+        ExecutorService buyerB = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, BUYER_B));
+        try {
+            Future<Boolean> orderA = buyerA.submit(() -> decrease(stockService, 2));
+            Future<Boolean> orderB = buyerB.submit(() -> decrease(stockService, 2));
+
+            // then
+            List<Boolean> results = List.of(orderA.get(AWAIT_SECONDS, TimeUnit.SECONDS),
+                    orderB.get(AWAIT_SECONDS, TimeUnit.SECONDS));
+            assertThat(results).containsExactlyInAnyOrder(true, false);
+            assertThat(sumStock()).isZero();
+        } finally {
+            buyerA.shutdownNow();
+            buyerB.shutdownNow();
+        }
+    }
+
+    private GroupBuyStockService stockServiceWithProbeOrder(
+            CountDownLatch buyerAProbedFirstShard, CountDownLatch buyerBProbedSecondShard) {
+        GroupBuyOptionStockShardRepository orderedShardRepository =
+                mock(GroupBuyOptionStockShardRepository.class, delegatesTo(stockShardRepository));
+        willAnswer(invocation -> {
+            int shardNo = invocation.getArgument(1);
+            boolean isBuyerA = BUYER_A.equals(Thread.currentThread().getName());
+            if (!isBuyerA && shardNo == 0) {
+                buyerAProbedFirstShard.await(AWAIT_SECONDS, TimeUnit.SECONDS);
+            }
+            if (isBuyerA && shardNo == 1) {
+                buyerBProbedSecondShard.await(AWAIT_SECONDS, TimeUnit.SECONDS);
+            }
+
+            Optional<GroupBuyOptionStockShard> locked =
+                    stockShardRepository.findByOptionIdAndShardNoSkipLocked(invocation.getArgument(0), shardNo);
+
+            if (isBuyerA && shardNo == 0) {
+                buyerAProbedFirstShard.countDown();
+            }
+            if (!isBuyerA && shardNo == 1) {
+                buyerBProbedSecondShard.countDown();
+            }
+            return locked;
+        }).given(orderedShardRepository).findByOptionIdAndShardNoSkipLocked(anyLong(), anyInt());
+
+        return new GroupBuyStockService(groupBuyOptionRepository, orderedShardRepository,
+                groupBuyRepository, soldQuantityDeltaRepository, eventPublisher);
+    }
+
+    private boolean decrease(GroupBuyStockService stockService, int quantity) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status ->
+                stockService.decreaseStocks(Map.of(OPTION_ID, quantity)).isEmpty()));
+    }
+
+    private int sumStock() {
+        Integer sum = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(stock), 0) FROM groupbuy_option_stock_shards WHERE groupbuy_option_id = ?",
+                Integer.class, OPTION_ID);
+        return sum == null ? 0 : sum;
+    }
+}
@@ -0,0 +1,161 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.ururulab.ururu.groupBuy.domain.entity.GroupBuySoldQuantityDelta;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionStockShardRepository;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuySoldQuantityDeltaRepository;
+import com.ururulab.ururu.groupBuy.event.GroupBuySoldQuantityChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("공동구매 재고 차감과 판매량 집계")
+class GroupBuyStockServiceTest {
+
+    private static final Long GROUP_BUY_ID = 1L;
+
+    @Mock
+    private GroupBuyOptionRepository groupBuyOptionRepository;
+
+    @Mock
+    private GroupBuyOptionStockShardRepository stockShardRepository;
+
+    @Mock
+    private GroupBuyRepository groupBuyRepository;
+
+    @Mock
+    private GroupBuySoldQuantityDeltaRepository soldQuantityDeltaRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Captor
+    private ArgumentCaptor<List<GroupBuySoldQuantityDelta>> deltasCaptor;
+
+    private GroupBuyStockService stockService;
+
+    @BeforeEach
+    void setUp() {
+        stockService = new GroupBuyStockService(groupBuyOptionRepository, stockShardRepository,
+                groupBuyRepository, soldQuantityDeltaRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("재고를 차감해도 공동구매 행은 갱신하지 않고 판매량 증감 기록과 판매량 변화 이벤트만 남긴다")
+    void decreaseStocks_doesNotTouchGroupBuyRow() {
+        // given
+        givenRoutes(new Object[]{10L, GROUP_BUY_ID, 0}, new Object[]{11L, GROUP_BUY_ID, 0});
+        given(groupBuyOptionRepository.decreaseStocks(anyMap())).willReturn(List.of());
+
+        // when
+        List<Long> failed = stockService.decreaseStocks(Map.of(10L, 2, 11L, 1));
+
+        // then
+        assertThat(failed).isEmpty();
+        then(groupBuyRepository).shouldHaveNoInteractions();
+        assertRecordedDelta(3);
+        then(eventPublisher).should().publishEvent(new GroupBuySoldQuantityChangedEvent(
+                Map.of(GROUP_BUY_ID, 3), Map.of(GROUP_BUY_ID, Map.of(10L, 2, 11L, 1))));
+    }
+
+    @Test
+    @DisplayName("재고가 부족한 옵션은 판매량 변화에서 제외한다")
+    void decreaseStocks_excludesFailedOptions() {
+        // given
+        givenRoutes(new Object[]{10L, GROUP_BUY_ID, 0}, new Object[]{11L, GROUP_BUY_ID, 0});
+        given(groupBuyOptionRepository.decreaseStocks(anyMap())).willReturn(List.of(11L));
+
+        // when
+        List<Long> failed = stockService.decreaseStocks(Map.of(10L, 2, 11L, 1));
+
+        // then
+        assertThat(failed).containsExactly(11L);
+        assertRecordedDelta(2);
+        then(eventPublisher).should().publishEvent(new GroupBuySoldQuantityChangedEvent(
+                Map.of(GROUP_BUY_ID, 2), Map.of(GROUP_BUY_ID, Map.of(10L, 2))));
+    }
+
+    @Test
+    @DisplayName("재고를 복구해도 공동구매 행은 건드리지 않고 음수 판매량 변화를 발행한다")
+    void increaseStock_doesNotTouchGroupBuyRow() {
+        // given
+        givenRoutes(new Object[]{10L, GROUP_BUY_ID, 0});
+        given(groupBuyOptionRepository.increaseStock(10L, 2)).willReturn(1);
+
+        // when
+        stockService.increaseStock(10L, 2);
+
+        // then
+        then(groupBuyRepository).shouldHaveNoInteractions();
+        assertRecordedDelta(-2);
+        then(eventPublisher).should().publishEvent(new GroupBuySoldQuantityChangedEvent(
+                Map.of(GROUP_BUY_ID, -2), Map.of(GROUP_BUY_ID, Map.of(10L, -2))));
+    }
+
+    @Test
+    @DisplayName("판매량 증감 기록은 공동구매별로 합산해 값이 바뀐 공동구매만 갱신하고 반영한 기록을 삭제한다")
+    void applySoldQuantityDeltas_foldsPerGroupBuy() {
+        // given
+        given(soldQuantityDeltaRepository.findBatchForUpdate(any(Pageable.class))).willReturn(List.of(
+                delta(1L, 2L, 3), delta(2L, 1L, 2), delta(3L, 2L, 1), delta(4L, 3L, 2), delta(5L, 3L, -2)));
+
+        // when
+        int applied = stockService.applySoldQuantityDeltas();
+
+        // then
+        assertThat(applied).isEqualTo(5);
+        then(groupBuyRepository).should().addSoldQuantity(1L, 2);
+        then(groupBuyRepository).should().addSoldQuantity(2L, 4);
+        then(groupBuyRepository).should(never()).addSoldQuantity(eq(3L), anyInt());
+        then(soldQuantityDeltaRepository).should().deleteAllByIds(List.of(1L, 2L, 3L, 4L, 5L));
+    }
+
+    @Test
+    @DisplayName("반영할 판매량 증감 기록이 없으면 공동구매 행을 건드리지 않는다")
+    void applySoldQuantityDeltas_noDeltas() {
+        // given
+        given(soldQuantityDeltaRepository.findBatchForUpdate(any(Pageable.class))).willReturn(List.of());
+
+        // when
+        int applied = stockService.applySoldQuantityDeltas();
+
+        // then
+        assertThat(applied).isZero();
+        then(groupBuyRepository).shouldHaveNoInteractions();
+    }
+
+    private void assertRecordedDelta(int expectedDelta) {
+        then(soldQuantityDeltaRepository).should().saveAll(deltasCaptor.capture());
+        assertThat(deltasCaptor.getValue()).singleElement().satisfies(delta -> {
+            assertThat(delta.getGroupBuyId()).isEqualTo(GROUP_BUY_ID);
+            assertThat(delta.getDelta()).isEqualTo(expectedDelta);
+        });
+    }
+
+    private GroupBuySoldQuantityDelta delta(Long id, Long groupBuyId, int delta) {
+        GroupBuySoldQuantityDelta soldQuantityDelta = GroupBuySoldQuantityDelta.of(groupBuyId, delta);
+        ReflectionTestUtils.setField(soldQuantityDelta, "id", id);
+        return soldQuantityDelta;
+    }
+
+    private void givenRoutes(Object[]... rows) {
+        given(groupBuyOptionRepository.findStockRoutesByOptionIds(anyCollection())).willReturn(List.of(rows));
+    }
+}
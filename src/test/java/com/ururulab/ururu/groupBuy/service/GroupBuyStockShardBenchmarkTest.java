@@ -0,0 +1,230 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.ururulab.ururu.global.config.JpaAuditingConfig;
+import com.ururulab.ururu.global.config.QueryDSLConfig;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionStockShardRepository;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyRepository;
+import com.ururulab.ururu.groupBuy.domain.repository.GroupBuySoldQuantityDeltaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 분할 재고 동시 차감 벤치마크 (기본 테스트에서 제외, ./gradlew benchmark 로 실행)
+ * 실제 GroupBuyStockService와 옵션/재고 버킷 저장소로 같은 옵션을 동시에 구매하며,
+ * 결제 트랜잭션이 재고 행 잠금을 잡고 있는 시간을 sleep으로 흉내 냅니다.
+ * 옵션 행 하나를 차감하는 경우와 버킷으로 나눠 차감하는 경우의 초당 처리 주문 수를 표준 출력으로 보고하고,
+ * 재고 합계가 맞는지 확인합니다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({QueryDSLConfig.class, JpaAuditingConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("재고 분할 카운터 벤치마크")
+class GroupBuyStockShardBenchmarkTest {
+
+    private static final long OPTION_ID = 1L;
+    private static final long GROUPBUY_ID = 1L;
+    private static final int THREADS = 16;
+    private static final int ORDERS_PER_THREAD = 25;
+    private static final int SHARD_COUNT = 8;
+    private static final long LOCK_HOLD_MILLIS = 2; // 차감 후 커밋까지 결제 트랜잭션이 하는 작업
+
+    @Autowired
+    private GroupBuyOptionRepository groupBuyOptionRepository;
+
+    @Autowired
+    private GroupBuyOptionStockShardRepository stockShardRepository;
+
+    @Autowired
+    private GroupBuyRepository groupBuyRepository;
+
+    @Autowired
+    private GroupBuySoldQuantityDeltaRepository soldQuantityDeltaRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private GroupBuyStockService stockService;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        stockService = new GroupBuyStockService(groupBuyOptionRepository, stockShardRepository,
+                groupBuyRepository, soldQuantityDeltaRepository, eventPublisher);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // 차감에 필요한 공동구매/옵션/버킷 행만 적재
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM groupbuy_option_stock_shards");
+        jdbcTemplate.update("DELETE FROM groupbuy_sold_quantity_deltas");
+        jdbcTemplate.update("DELETE FROM groupbuy_options");
+        jdbcTemplate.update("DELETE FROM groupbuys");
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+    }
+
+    @Test
+    @DisplayName("분할하지 않은 옵션은 옵션 행 하나에서 차감하며 합계가 정확하다")
+    void singleRowDecrease() throws Exception {
+        // given
+        int initialStock = 100_000;
+        givenGroupBuy(0, initialStock);
+
+        // when
+        int succeeded = runOrders("single-row", 1);
+
+        // then
+        int totalOrders = THREADS * ORDERS_PER_THREAD;
+        assertThat(succeeded).isEqualTo(totalOrders);
+        assertThat(optionStock()).isEqualTo(initialStock - totalOrders);
+    }
+
+    @Test
+    @DisplayName("재고가 넉넉하면 버킷 하나씩 차감하며 합계가 정확하다")
+    void singleShardDecrease() throws Exception {
+        // given
+        int initialStock = 100_000;
+        givenGroupBuy(SHARD_COUNT, initialStock);
+        givenShards(initialStock / SHARD_COUNT);
+
+        // when
+        int succeeded = runOrders("sharded", 1);
+
+        // then
+        int totalOrders = THREADS * ORDERS_PER_THREAD;
+        assertThat(succeeded).isEqualTo(totalOrders);
+        assertThat(shardStock()).isEqualTo(initialStock - totalOrders);
+    }
+
+    @Test
+    @DisplayName("버킷이 바닥나 여러 버킷에 걸쳐 차감해도 교착 없이 재고를 넘겨 팔지 않는다")
+    void acrossShardsDecrease() throws Exception {
+        // given
+        int initialStock = SHARD_COUNT * 20;
+        givenGroupBuy(SHARD_COUNT, initialStock);
+        givenShards(20);
+
+        // when
+        int succeeded = runOrders("sharded-sold-out", 3);
+
+        // then
+        assertThat(succeeded * 3).isLessThanOrEqualTo(initialStock);
+        assertThat(shardStock()).isEqualTo(initialStock - succeeded * 3);
+        assertThat(shardStock()).isLessThan(3); // 주문 수량보다 적게 남을 때까지 모두 판매
+    }
+
+    private void givenGroupBuy(int shardCount, int stock) {
+        jdbcTemplate.update("INSERT INTO groupbuys (id, product_id, seller_id, title, thumbnail_url, discount_stages, " +
+                "max_discount_rate, limit_quantity_per_member, status, display_final_price, current_discount_rate, " +
+                "min_start_price, sold_quantity, stock_shard_count, ends_at, created_at, updated_at) " +
+                "VALUES (?, 1, 1, 'groupbuy', '/thumb', '[]', 0, 10, 'OPEN', 10000, 0, 10000, 0, ?, " +
+                "DATEADD('DAY', 7, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                GROUPBUY_ID, shardCount);
+        jdbcTemplate.update("INSERT INTO groupbuy_options (id, groupbuy_id, product_option_id, initial_stock, stock, " +
+                "price_override, sale_price, version, created_at, updated_at) " +
+                "VALUES (?, ?, 1, ?, ?, 10000, 10000, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                OPTION_ID, GROUPBUY_ID, stock, stock);
+    }
+
+    private void givenShards(int stockPerShard) {
+        for (int shardNo = 0; shardNo < SHARD_COUNT; shardNo++) {
+            jdbcTemplate.update("INSERT INTO groupbuy_option_stock_shards " +
+                            "(groupbuy_option_id, shard_no, stock, created_at, updated_at) " +
+                            "VALUES (?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                    OPTION_ID, shardNo, stockPerShard);
+        }
+    }
+
+    /**
+     * 스레드마다 주문을 반복하며 성공한 주문 수를 반환하고, 초당 처리 주문 수를 출력
+     */
+    private int runOrders(String label, int quantity) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            long startedAt = System.nanoTime();
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    int succeeded = 0;
+                    for (int i = 0; i < ORDERS_PER_THREAD; i++) {
+                        Boolean decreased = transactionTemplate.execute(status -> {
+                            boolean ok = stockService.decreaseStocks(Map.of(OPTION_ID, quantity)).isEmpty();
+                            sleepWhileLocked();
+                            return ok;
+                        });
+                        if (Boolean.TRUE.equals(decreased)) {
+                            succeeded++;
+                        }
+                    }
+                    return succeeded;
+                }));
+            }
+
+            int succeeded = 0;
+            for (Future<Integer> future : futures) {
+                succeeded += future.get();
+            }
+            double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+            System.out.printf("[stock-benchmark] %s: %d orders, %.1f ops/sec%n",
+                    label, THREADS * ORDERS_PER_THREAD, THREADS * ORDERS_PER_THREAD / elapsedSeconds);
+            return succeeded;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void sleepWhileLocked() {
+        try {
+            Thread.sleep(LOCK_HOLD_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private int optionStock() {
+        Integer stock = jdbcTemplate.queryForObject(
+                "SELECT stock FROM groupbuy_options WHERE id = ?", Integer.class, OPTION_ID);
+        return stock == null ? 0 : stock;
+    }
+
+    private int shardStock() {
+        Integer sum = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(stock), 0) FROM groupbuy_option_stock_shards WHERE groupbuy_option_id = ?",
+                Integer.class, OPTION_ID);
+        return sum == null ? 0 : sum;
+    }
+}
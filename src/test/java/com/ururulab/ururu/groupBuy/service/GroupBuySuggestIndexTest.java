@@ -0,0 +1,73 @@
+package com.ururulab.ururu.groupBuy.service;
+
+import com.ururulab.ururu.groupBuy.dto.response.GroupBuySuggestResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("검색어 자동완성 색인")
+class GroupBuySuggestIndexTest {
+
+    private GroupBuySuggestIndex suggestIndex;
+
+    @BeforeEach
+    void setUp() {
+        suggestIndex = new GroupBuySuggestIndex(new SimpleMeterRegistry());
+        suggestIndex.rebuild(List.of(
+                new GroupBuySuggestIndex.GroupBuyTerm(1L, "수분 진정 크림", "라운드랩", 120),
+                new GroupBuySuggestIndex.GroupBuyTerm(2L, "수분 선크림", "라운드랩", 300),
+                new GroupBuySuggestIndex.GroupBuyTerm(3L, "진정 토너", "토리든", 50)
+        ), Map.of("수분크림", 40L));
+    }
+
+    @Test
+    @DisplayName("접두어로 시작하는 항목을 점수 내림차순으로 반환한다")
+    void suggest_prefixOrderedByScore() {
+        List<GroupBuySuggestResponse> result = suggestIndex.suggest("수분", 10);
+
+        assertThat(result).extracting(GroupBuySuggestResponse::text)
+                .containsExactly("수분 선크림", "수분 진정 크림", "수분크림");
+    }
+
+    @Test
+    @DisplayName("제목 중간 단어와 판매자명으로도 찾는다")
+    void suggest_middleWordAndSeller() {
+        assertThat(suggestIndex.suggest("진정", 10)).extracting(GroupBuySuggestResponse::groupBuyId)
+                .containsExactly(1L, 3L);
+
+        List<GroupBuySuggestResponse> sellers = suggestIndex.suggest("라운", 10);
+        assertThat(sellers).singleElement()
+                .satisfies(seller -> {
+                    assertThat(seller.type()).isEqualTo(GroupBuySuggestResponse.Type.SELLER);
+                    assertThat(seller.score()).isEqualTo(420L); // 판매자 공동구매 판매량 합계
+                });
+    }
+
+    @Test
+    @DisplayName("초성 및 초성이 섞인 입력을 처리한다")
+    void suggest_chosung() {
+        assertThat(suggestIndex.suggest("ㅅㅂㅅ", 10)).extracting(GroupBuySuggestResponse::groupBuyId)
+                .containsExactly(2L);
+        assertThat(suggestIndex.suggest("수ㅂㅈ", 10)).extracting(GroupBuySuggestResponse::groupBuyId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("종료된 공동구매는 제외되고 판매량 갱신이 순위에 반영된다")
+    void removeAndUpdateScores() {
+        suggestIndex.removeGroupBuys(List.of(2L));
+        suggestIndex.updateSoldQuantities(Map.of(3L, 500));
+
+        assertThat(suggestIndex.suggest("수분 선", 10)).isEmpty();
+        assertThat(suggestIndex.suggest("ㅈㅈ", 10)).extracting(GroupBuySuggestResponse::groupBuyId)
+                .containsExactly(3L, 1L);
+        assertThat(suggestIndex.suggest("라운드랩", 10)).singleElement()
+                .extracting(GroupBuySuggestResponse::score).isEqualTo(120L);
+    }
+}
@@ -0,0 +1,89 @@
+package com.ururulab.ururu.groupBuy.util;
+
+import com.ururulab.ururu.groupBuy.dto.common.DiscountStageDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("할인 단계 표")
+class DiscountTierTableTest {
+
+    private static final String STAGES_JSON = "[{\"count\":10,\"rate\":5},{\"count\":30,\"rate\":10}," +
+            "{\"count\":50,\"rate\":15},{\"count\":100,\"rate\":20},{\"count\":200,\"rate\":30}]";
+
+    @Test
+    @DisplayName("컴파일된 표는 호출마다 JSON을 파싱하던 방식과 같은 할인율을 반환한다")
+    void sameRatesAsParsing() {
+        // given
+        DiscountTierTable table = DiscountTierTable.compile(STAGES_JSON);
+
+        // when & then
+        for (int soldQuantity = 0; soldQuantity <= 250; soldQuantity++) {
+            assertThat(table.rateFor(soldQuantity)).isEqualTo(parseAndCalculate(STAGES_JSON, soldQuantity));
+        }
+    }
+
+    @Test
+    @DisplayName("판매량에 맞는 단계와 다음 단계 달성 수량을 반환한다")
+    void stagesAndNextQuantity() {
+        // given
+        DiscountTierTable table = DiscountTierTable.compile(STAGES_JSON);
+
+        // when & then
+        assertThat(table.size()).isEqualTo(5);
+        assertThat(table.stageFor(9)).isZero();
+        assertThat(table.stageFor(10)).isEqualTo(1);
+        assertThat(table.stageFor(30)).isEqualTo(2);
+        assertThat(table.stageFor(500)).isEqualTo(5);
+        assertThat(table.nextStageQuantity(0)).isEqualTo(10);
+        assertThat(table.nextStageQuantity(30)).isEqualTo(50);
+        assertThat(table.nextStageQuantity(200)).isNull();
+        assertThat(table.maxRate()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("단계 순서와 할인율 순서가 어긋나도 달성한 단계 중 최대 할인율을 반환한다")
+    void unorderedStages() {
+        // given
+        String json = "[{\"count\":50,\"rate\":10},{\"count\":10,\"rate\":15},{\"count\":30,\"rate\":5}]";
+
+        // when
+        DiscountTierTable table = DiscountTierTable.compile(json);
+
+        // then
+        for (int soldQuantity = 0; soldQuantity <= 60; soldQuantity++) {
+            assertThat(table.rateFor(soldQuantity)).isEqualTo(parseAndCalculate(json, soldQuantity));
+        }
+        assertThat(table.stageFor(30)).isEqualTo(2);
+        assertThat(table.nextStageQuantity(10)).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("할인 단계가 없으면 빈 표를 반환한다")
+    void emptyStages() {
+        // when
+        DiscountTierTable table = DiscountTierTable.compile("[]");
+
+        // then
+        assertThat(table).isSameAs(DiscountTierTable.EMPTY);
+        assertThat(DiscountTierTable.compile(null)).isSameAs(DiscountTierTable.EMPTY);
+        assertThat(table.rateFor(100)).isZero();
+        assertThat(table.stageFor(100)).isZero();
+        assertThat(table.nextStageQuantity(0)).isNull();
+    }
+
+    /**
+     * 기존 방식: 호출마다 JSON 파싱 후 달성한 단계 중 최대 할인율
+     */
+    private int parseAndCalculate(String json, int soldQuantity) {
+        List<DiscountStageDto> stages = DiscountStageParser.parseDiscountStages(json);
+        return stages.stream()
+                .filter(stage -> soldQuantity >= stage.minQuantity())
+                .mapToInt(DiscountStageDto::discountRate)
+                .max()
+                .orElse(0);
+    }
+}
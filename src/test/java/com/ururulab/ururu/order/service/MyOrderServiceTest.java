@@ -513,6 +513,8 @@ class MyOrderServiceTest {
         lenient().when(orderItem.getId()).thenReturn(1L);
         lenient().when(orderItem.getGroupBuyOption()).thenReturn(testGroupBuyOption);
         lenient().when(orderItem.getQuantity()).thenReturn(1);
+        lenient().when(orderItem.getUnitPrice()).thenReturn(15000);
+        lenient().when(orderItem.getTotalPrice()).thenReturn(15000);
         return orderItem;
     }
 
@@ -0,0 +1,152 @@
+package com.ururulab.ururu.order.service;
+
+import com.ururulab.ururu.groupBuy.event.StockAvailableEvent;
+import com.ururulab.ururu.order.domain.entity.Order;
+import com.ururulab.ururu.order.domain.entity.enumerated.OrderStatus;
+import com.ururulab.ururu.order.domain.repository.OrderRepository;
+import com.ururulab.ururu.order.dto.common.ExpiredReservationDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("만료 재고 예약 회수")
+class StockReservationSweepServiceTest {
+
+    @Mock
+    private StockReservationService stockReservationService;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private StockReservationSweepService sweepService;
+
+    @BeforeEach
+    void setUp() {
+        sweepService = new StockReservationSweepService(
+                stockReservationService, orderRepository, transactionTemplate, eventPublisher, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("잠금 후에도 PENDING인 주문만 취소하고, 상태 변경 후 이력을 남긴다")
+    void sweep_cancelsOnlyStillPendingOrders() {
+        // given
+        List<ExpiredReservationDto> expired = List.of(reservation(1L, 10L, 2));
+        given(stockReservationService.sweepExpiredReservations(100)).willReturn(expired);
+        given(stockReservationService.getReservationTtl()).willReturn(Duration.ofMinutes(30));
+        givenTransactionRuns();
+        given(orderRepository.findStalePendingOrderIds(anyCollection(), any(), any()))
+                .willReturn(List.of("order-1", "order-2"));
+        Order stillPending = order("order-1"); // order-2는 그 사이 결제 완료
+        given(orderRepository.findByIdInAndStatusForUpdate(List.of("order-1", "order-2"), OrderStatus.PENDING))
+                .willReturn(List.of(stillPending));
+        given(orderRepository.bulkUpdateStatus(eq(List.of("order-1")), eq(OrderStatus.PENDING),
+                eq(OrderStatus.CANCELLED), any())).willReturn(1);
+
+        // when
+        int swept = sweepService.sweepBatch(100);
+
+        // then
+        assertThat(swept).isEqualTo(1);
+        var inOrder = inOrder(orderRepository);
+        then(orderRepository).should(inOrder).bulkUpdateStatus(eq(List.of("order-1")), eq(OrderStatus.PENDING),
+                eq(OrderStatus.CANCELLED), any());
+        then(orderRepository).should(inOrder).bulkInsertHistories(eq(List.of("order-1")), eq(OrderStatus.CANCELLED),
+                anyString(), any());
+        then(stockReservationService).should(never()).requeueExpiredReservations(anyList());
+    }
+
+    @Test
+    @DisplayName("회수한 재고가 있으면 회수 트랜잭션 안에서 재고 반환 이벤트를 발행해 커밋 후 처리되게 한다")
+    void sweep_publishesStockAvailable() {
+        // given
+        List<ExpiredReservationDto> expired = List.of(
+                reservation(1L, 10L, 2), reservation(2L, 11L, 1), reservation(3L, 12L, 0));
+        given(stockReservationService.sweepExpiredReservations(100)).willReturn(expired);
+        given(stockReservationService.getReservationTtl()).willReturn(Duration.ofMinutes(30));
+        givenTransactionRuns();
+        given(orderRepository.findStalePendingOrderIds(anyCollection(), any(), any())).willReturn(List.of());
+
+        // when
+        sweepService.sweepBatch(100);
+
+        // then
+        then(eventPublisher).should().publishEvent(new StockAvailableEvent(Set.of(1L, 2L), 3));
+    }
+
+    @Test
+    @DisplayName("주문 취소 트랜잭션이 실패하면 꺼낸 예약을 만료 인덱스에 다시 등록한다")
+    void sweep_requeuesOnFailure() {
+        // given
+        List<ExpiredReservationDto> expired = List.of(reservation(1L, 10L, 2), reservation(2L, 11L, 1));
+        given(stockReservationService.sweepExpiredReservations(100)).willReturn(expired);
+        given(stockReservationService.getReservationTtl()).willReturn(Duration.ofMinutes(30));
+        givenTransactionRuns();
+        given(orderRepository.findStalePendingOrderIds(anyCollection(), any(), any()))
+                .willThrow(new IllegalStateException("db down"));
+
+        // when & then
+        assertThatThrownBy(() -> sweepService.sweepBatch(100)).isInstanceOf(IllegalStateException.class);
+        then(stockReservationService).should().requeueExpiredReservations(expired);
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("취소할 주문이 없으면 상태 변경과 이력 추가를 하지 않는다")
+    void sweep_noStaleOrders() {
+        // given
+        given(stockReservationService.sweepExpiredReservations(100)).willReturn(List.of(reservation(1L, 10L, 0)));
+        given(stockReservationService.getReservationTtl()).willReturn(Duration.ofMinutes(30));
+        givenTransactionRuns();
+        given(orderRepository.findStalePendingOrderIds(anyCollection(), any(), any())).willReturn(List.of());
+
+        // when
+        sweepService.sweepBatch(100);
+
+        // then
+        then(orderRepository).should(never()).bulkUpdateStatus(anyCollection(), any(), any(), any());
+        then(orderRepository).should(never()).bulkInsertHistories(anyCollection(), any(), anyString(), any());
+        then(eventPublisher).shouldHaveNoInteractions(); // 재등록된 예약(수량 0)만 있으면 알리지 않음
+    }
+
+    private void givenTransactionRuns() {
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private ExpiredReservationDto reservation(Long optionId, Long memberId, int quantity) {
+        return new ExpiredReservationDto(optionId, memberId, quantity, Instant.now().minusSeconds(5));
+    }
+
+    private Order order(String id) {
+        Order order = mock(Order.class);
+        given(order.getId()).willReturn(id);
+        return order;
+    }
+}
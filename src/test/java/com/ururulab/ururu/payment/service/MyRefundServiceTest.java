@@ -426,6 +426,8 @@ class MyRefundServiceTest {
         lenient().when(orderItem.getId()).thenReturn(1L);
         lenient().when(orderItem.getGroupBuyOption()).thenReturn(testGroupBuyOption);
         lenient().when(orderItem.getQuantity()).thenReturn(1);
+        lenient().when(orderItem.getUnitPrice()).thenReturn(15000);
+        lenient().when(orderItem.getTotalPrice()).thenReturn(15000);
         return orderItem;
     }
 
@@ -458,6 +460,8 @@ class MyRefundServiceTest {
         lenient().when(secondOrderItem.getId()).thenReturn(2L);
         lenient().when(secondOrderItem.getGroupBuyOption()).thenReturn(secondGroupBuyOption);
         lenient().when(secondOrderItem.getQuantity()).thenReturn(2);
+        lenient().when(secondOrderItem.getUnitPrice()).thenReturn(20000);
+        lenient().when(secondOrderItem.getTotalPrice()).thenReturn(40000);
 
         RefundItem secondRefundItem = mock(RefundItem.class);
         lenient().when(secondRefundItem.getOrderItem()).thenReturn(secondOrderItem);
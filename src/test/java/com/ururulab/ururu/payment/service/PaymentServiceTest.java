@@ -6,7 +6,7 @@ import com.ururulab.ururu.global.exception.BusinessException;
 import com.ururulab.ururu.global.exception.error.ErrorCode;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuy;
 import com.ururulab.ururu.groupBuy.domain.entity.GroupBuyOption;
-import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
+import com.ururulab.ururu.groupBuy.service.GroupBuyStockService;
 import com.ururulab.ururu.member.domain.entity.Member;
 import com.ururulab.ururu.member.domain.entity.enumerated.Role;
 import com.ururulab.ururu.member.domain.entity.enumerated.SocialProvider;
@@ -19,13 +19,18 @@ import com.ururulab.ururu.order.domain.repository.OrderRepository;
 import com.ururulab.ururu.order.service.StockReservationService;
 import com.ururulab.ururu.payment.dto.request.PaymentConfirmRequestDto;
 import com.ururulab.ururu.payment.dto.request.PaymentRequestDto;
+import com.ururulab.ururu.payment.dto.request.TossWebhookDataDto;
+import com.ururulab.ururu.payment.dto.request.TossWebhookDto;
 import com.ururulab.ururu.payment.dto.response.PaymentConfirmResponseDto;
 import com.ururulab.ururu.payment.dto.response.PaymentFailResponseDto;
 import com.ururulab.ururu.payment.dto.response.PaymentResponseDto;
 import com.ururulab.ururu.payment.dto.response.TossPaymentResponseDto;
 import com.ururulab.ururu.payment.domain.entity.Payment;
+import com.ururulab.ururu.payment.domain.entity.PaymentWebhookEvent;
 import com.ururulab.ururu.payment.domain.entity.enumerated.PaymentStatus;
+import com.ururulab.ururu.payment.domain.entity.enumerated.WebhookEventStatus;
 import com.ururulab.ururu.payment.domain.repository.PaymentRepository;
+import com.ururulab.ururu.payment.domain.repository.PaymentWebhookEventRepository;
 import com.ururulab.ururu.payment.domain.repository.PointTransactionRepository;
 import com.ururulab.ururu.product.domain.entity.Product;
 import jakarta.servlet.ServletInputStream;
@@ -39,13 +44,26 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -76,7 +94,7 @@ class PaymentServiceTest {
     private StockReservationService stockReservationService;
 
     @Mock
-    private GroupBuyOptionRepository groupBuyOptionRepository;
+    private GroupBuyStockService groupBuyStockService;
 
     @Mock
     private CartRepository cartRepository;
@@ -87,6 +105,12 @@ class PaymentServiceTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private PaymentWebhookEventRepository paymentWebhookEventRepository;
+
     private static final Long MEMBER_ID = 1L;
     private static final String ORDER_ID = "ORDER123";
     private static final String PAYMENT_KEY = "PAYMENT_KEY_123";
@@ -99,6 +123,8 @@ class PaymentServiceTest {
     void setUp() {
         ReflectionTestUtils.setField(paymentService, "tossSecretKey", "test_secret_key");
         ReflectionTestUtils.setField(paymentService, "tossBaseUrl", "https://api.tosspayments.com");
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
     }
 
     @Nested
@@ -223,7 +249,7 @@ class PaymentServiceTest {
             given(paymentRepository.findById(paymentId)).willReturn(Optional.of(payment));
             mockRestClientChain(tossResponse);
             given(memberRepository.decreasePoints(MEMBER_ID, USE_POINTS)).willReturn(1);
-            given(groupBuyOptionRepository.decreaseStock(anyLong(), anyInt())).willReturn(1);
+            given(groupBuyStockService.decreaseStocks(anyMap())).willReturn(List.of());
             given(cartRepository.findByMemberIdWithCartItems(MEMBER_ID)).willReturn(Optional.empty());
 
             // when
@@ -240,14 +266,52 @@ class PaymentServiceTest {
                             transaction.getMember().getId().equals(MEMBER_ID) &&
                             transaction.isUsed()
             ));
-            verify(stockReservationService).releaseReservation(1L, MEMBER_ID);
-            verify(groupBuyOptionRepository).decreaseStock(1L, 1);
+            verify(stockReservationService).confirmReservations(MEMBER_ID, Map.of(1L, 1));
+            verify(groupBuyStockService).decreaseStocks(Map.of(1L, 1));
 
             assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PAID);
             assertThat(payment.getPaymentKey()).isEqualTo(PAYMENT_KEY);
             assertThat(order.getStatus()).isEqualTo(OrderStatus.ORDERED);
         }
 
+        @Test
+        @DisplayName("재고 예약 확정(Redis)은 결제 완료 트랜잭션이 커밋된 뒤에 반영")
+        void confirmPayment_confirmsReservationsAfterCommit() {
+            // given
+            Long paymentId = 1L;
+            PaymentConfirmRequestDto request = new PaymentConfirmRequestDto(PAYMENT_KEY, PAYMENT_AMOUNT);
+
+            Member member = createMember();
+            Order order = createOrder(member);
+            addOrderItemToOrder(order);
+            Payment payment = createPayment(member, order);
+
+            TossPaymentResponseDto tossResponse = new TossPaymentResponseDto(
+                    PAYMENT_KEY, ORDER_ID, "카드", null, "DONE", "2024-01-01T10:00:00+09:00", PAYMENT_AMOUNT
+            );
+
+            given(paymentRepository.findById(paymentId)).willReturn(Optional.of(payment));
+            mockRestClientChain(tossResponse);
+            given(memberRepository.decreasePoints(MEMBER_ID, USE_POINTS)).willReturn(1);
+            given(groupBuyStockService.decreaseStocks(anyMap())).willReturn(List.of());
+            given(cartRepository.findByMemberIdWithCartItems(MEMBER_ID)).willReturn(Optional.empty());
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // when
+                paymentService.confirmPayment(paymentId, request);
+
+                // then
+                verify(stockReservationService, never()).confirmReservations(anyLong(), anyMap());
+
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(TransactionSynchronization::afterCommit);
+                verify(stockReservationService).confirmReservations(MEMBER_ID, Map.of(1L, 1));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
         @Test
         @DisplayName("존재하지 않는 결제")
         void confirmPayment_paymentNotFound_fail() {
@@ -290,6 +354,57 @@ class PaymentServiceTest {
                     .extracting(ex -> ((BusinessException) ex).getErrorCode())
                     .isEqualTo(ErrorCode.PAYMENT_NOT_PENDING);
         }
+
+        @Test
+        @DisplayName("토스 승인 거절 시 결제 대기 상태로 복구")
+        void confirmPayment_tossRejected_revertsToPending() {
+            // given
+            Long paymentId = 1L;
+            PaymentConfirmRequestDto request = new PaymentConfirmRequestDto(PAYMENT_KEY, PAYMENT_AMOUNT);
+
+            Member member = createMember();
+            Order order = createOrder(member);
+            Payment payment = createPayment(member, order);
+
+            given(paymentRepository.findById(paymentId)).willReturn(Optional.of(payment));
+            mockRestClientChainFailure(HttpClientErrorException.create(
+                    HttpStatus.BAD_REQUEST, "Bad Request", HttpHeaders.EMPTY,
+                    "{\"code\":\"REJECT_CARD_PAYMENT\"}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+
+            // when & then
+            assertThatThrownBy(() -> paymentService.confirmPayment(paymentId, request))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                    .isEqualTo(ErrorCode.PAYMENT_APPROVAL_FAILED);
+
+            assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PENDING);
+            verify(groupBuyStockService, never()).decreaseStocks(anyMap());
+        }
+
+        @Test
+        @DisplayName("토스 응답 타임아웃 시 승인 중 상태 유지")
+        void confirmPayment_tossTimeout_keepsConfirming() {
+            // given
+            Long paymentId = 1L;
+            PaymentConfirmRequestDto request = new PaymentConfirmRequestDto(PAYMENT_KEY, PAYMENT_AMOUNT);
+
+            Member member = createMember();
+            Order order = createOrder(member);
+            Payment payment = createPayment(member, order);
+
+            given(paymentRepository.findById(paymentId)).willReturn(Optional.of(payment));
+            mockRestClientChainFailure(new ResourceAccessException("Read timed out"));
+
+            // when & then
+            assertThatThrownBy(() -> paymentService.confirmPayment(paymentId, request))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                    .isEqualTo(ErrorCode.TOSS_API_CALL_FAILED);
+
+            assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CONFIRMING);
+            assertThat(payment.getPaymentKey()).isEqualTo(PAYMENT_KEY);
+            verify(groupBuyStockService, never()).decreaseStocks(anyMap());
+        }
     }
 
     @Nested
@@ -361,6 +476,54 @@ class PaymentServiceTest {
 
             verify(objectMapper, never()).readValue(anyString(), eq(Object.class));
         }
+
+        @Test
+        @DisplayName("서명 검증 후 수신함에만 저장하고 결제 처리는 하지 않음")
+        void handleTossWebhookWithValidation_enqueuesEvent() throws Exception {
+            // given
+            String rawBody = "{\"eventType\":\"PAYMENT_STATUS_CHANGED\"}";
+            HttpServletRequest request = mock(HttpServletRequest.class);
+            given(request.getInputStream()).willReturn(new MockServletInputStream(rawBody));
+            given(objectMapper.readValue(rawBody, TossWebhookDto.class)).willReturn(new TossWebhookDto(
+                    "PAYMENT_STATUS_CHANGED", new TossWebhookDataDto(PAYMENT_KEY, ORDER_ID, "DONE")));
+
+            // when
+            paymentService.handleTossWebhookWithValidation(request, sign(rawBody));
+
+            // then
+            verify(paymentWebhookEventRepository).save(argThat(event ->
+                    event.getPaymentKey().equals(PAYMENT_KEY)
+                            && event.getPaymentStatus().equals("DONE")
+                            && event.getStatus() == WebhookEventStatus.RECEIVED
+                            && event.getPayload().equals(rawBody)
+            ));
+            verify(paymentRepository, never()).findByPaymentKeyWithDetails(anyString());
+        }
+
+        @Test
+        @DisplayName("같은 결제 키/상태의 이벤트가 이미 처리되었으면 중복으로 건너뜀")
+        void processWebhookEvent_duplicate_skipped() {
+            // given
+            PaymentWebhookEvent event = PaymentWebhookEvent.receive(
+                    "event-1", "PAYMENT_STATUS_CHANGED", PAYMENT_KEY, "DONE", "{}");
+            ReflectionTestUtils.setField(event, "id", 2L);
+
+            given(paymentWebhookEventRepository.findByIdForUpdate(2L)).willReturn(Optional.of(event));
+            given(paymentWebhookEventRepository.existsProcessedEvent(PAYMENT_KEY, "DONE", 2L)).willReturn(true);
+
+            // when
+            paymentService.processWebhookEvent(2L);
+
+            // then
+            assertThat(event.getStatus()).isEqualTo(WebhookEventStatus.DUPLICATE);
+            verify(paymentRepository, never()).findByPaymentKeyWithDetails(anyString());
+        }
+    }
+
+    private String sign(String rawBody) throws Exception {
+        Mac hmac = Mac.getInstance("HmacSHA256");
+        hmac.init(new SecretKeySpec("test_secret_key".getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return Base64.getEncoder().encodeToString(hmac.doFinal(rawBody.getBytes(StandardCharsets.UTF_8)));
     }
 
     private PaymentRequestDto createPaymentRequest() {
@@ -392,6 +555,8 @@ class PaymentServiceTest {
         lenient().when(orderItem.getGroupBuyOption()).thenReturn(groupBuyOption);
         lenient().when(groupBuyOption.getSalePrice()).thenReturn(15000);
         lenient().when(orderItem.getQuantity()).thenReturn(1);
+        lenient().when(orderItem.getUnitPrice()).thenReturn(15000);
+        lenient().when(orderItem.getTotalPrice()).thenReturn(15000);
         lenient().when(groupBuyOption.getId()).thenReturn(1L);
         lenient().when(groupBuyOption.getGroupBuy()).thenReturn(groupBuy);
         lenient().when(groupBuy.getProduct()).thenReturn(product);
@@ -438,6 +603,19 @@ class PaymentServiceTest {
         given(responseSpec.body(TossPaymentResponseDto.class)).willReturn(tossResponse);
     }
 
+    private void mockRestClientChainFailure(RuntimeException exception) {
+        RestClient.RequestBodyUriSpec uriSpec = mock(RestClient.RequestBodyUriSpec.class);
+        RestClient.RequestBodySpec bodySpec = mock(RestClient.RequestBodySpec.class);
+        RestClient.ResponseSpec responseSpec = mock(RestClient.ResponseSpec.class);
+
+        given(restClient.post()).willReturn(uriSpec);
+        given(uriSpec.uri(anyString())).willReturn(bodySpec);
+        given(bodySpec.header(anyString(), anyString())).willReturn(bodySpec);
+        given(bodySpec.body(any(Map.class))).willReturn(bodySpec);
+        given(bodySpec.retrieve()).willReturn(responseSpec);
+        given(responseSpec.body(TossPaymentResponseDto.class)).willThrow(exception);
+    }
+
     private static class MockServletInputStream extends ServletInputStream {
         private final ByteArrayInputStream inputStream;
 
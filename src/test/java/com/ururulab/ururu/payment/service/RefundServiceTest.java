@@ -2,10 +2,11 @@ package com.ururulab.ururu.payment.service;
 
 import com.ururulab.ururu.global.exception.BusinessException;
 import com.ururulab.ururu.global.exception.error.ErrorCode;
-import com.ururulab.ururu.groupBuy.domain.repository.GroupBuyOptionRepository;
+import com.ururulab.ururu.groupBuy.service.GroupBuyStockService;
 import com.ururulab.ururu.member.domain.repository.MemberRepository;
 import com.ururulab.ururu.order.domain.repository.OrderItemRepository;
 import com.ururulab.ururu.order.domain.repository.OrderRepository;
+import com.ururulab.ururu.order.service.StockReservationService;
 import com.ururulab.ururu.payment.domain.entity.Refund;
 import com.ururulab.ururu.payment.domain.entity.enumerated.RefundStatus;
 import com.ururulab.ururu.payment.domain.entity.enumerated.RefundType;
@@ -24,6 +25,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Optional;
@@ -55,11 +59,14 @@ class RefundServiceTest {
     private MemberRepository memberRepository;
 
     @Mock
-    private GroupBuyOptionRepository groupBuyOptionRepository;
+    private GroupBuyStockService groupBuyStockService;
 
     @Mock
     private OrderItemRepository orderItemRepository;
 
+    @Mock
+    private StockReservationService stockReservationService;
+
     private RefundTestFixture.RefundTestScenario scenario;
 
     @BeforeEach
@@ -87,7 +94,7 @@ class RefundServiceTest {
 
             // 자동 승인 시 필요한 Mock들 추가
             given(memberRepository.increasePoints(eq(scenario.member.getId()), anyInt())).willReturn(1);
-            given(groupBuyOptionRepository.increaseStock(eq(scenario.groupBuyOption.getId()), anyInt())).willReturn(1);
+            given(groupBuyStockService.increaseStock(eq(scenario.groupBuyOption.getId()), anyInt())).willReturn(1);
 
             // when
             RefundCreateResponseDto result = refundService.createRefundRequest(
@@ -100,7 +107,33 @@ class RefundServiceTest {
 
             verify(memberRepository).increasePoints(eq(scenario.member.getId()), anyInt());
             verify(pointTransactionRepository).save(any());
-            verify(groupBuyOptionRepository).increaseStock(eq(scenario.groupBuyOption.getId()), anyInt());
+            verify(groupBuyStockService).increaseStock(eq(scenario.groupBuyOption.getId()), anyInt());
+        }
+
+        @Test
+        @DisplayName("성공 - 주문 후 판매가가 바뀌어도 주문 시점 단가로 환불 금액 계산")
+        void createRefundRequest_usesUnitPriceAtOrder() {
+            // given
+            RefundRequestDto request = RefundTestFixture.createChangeOfMindRequest();
+            ReflectionTestUtils.setField(scenario.groupBuyOption, "salePrice", 6000); // 주문 후 할인 단계 상승
+
+            setupBasicMocks();
+            given(refundRepository.findActiveManualRefundByOrderAndMember(scenario.order.getId(), scenario.member.getId()))
+                    .willReturn(Optional.empty());
+            given(orderItemRepository.findRefundableItemsByOrderId(scenario.order.getId()))
+                    .willReturn(List.of(scenario.orderItem));
+            given(refundRepository.save(any(Refund.class)))
+                    .willAnswer(invocation -> invocation.getArgument(0));
+            given(memberRepository.increasePoints(eq(scenario.member.getId()), anyInt())).willReturn(1);
+            given(groupBuyStockService.increaseStock(eq(scenario.groupBuyOption.getId()), anyInt())).willReturn(1);
+
+            // when
+            RefundCreateResponseDto result = refundService.createRefundRequest(
+                    scenario.member.getId(), scenario.order.getId(), request);
+
+            // then
+            assertThat(scenario.orderItem.getUnitPrice()).isEqualTo(8000);
+            assertThat(result.amount()).isEqualTo(8000 * 2 + 1000); // 결제 금액 16000원 + 포인트 1000원
         }
 
         @Test
@@ -184,7 +217,7 @@ class RefundServiceTest {
 
             given(refundRepository.findByIdWithDetails(refundId)).willReturn(Optional.of(refund));
             given(memberRepository.increasePoints(eq(scenario.member.getId()), eq(1000))).willReturn(1);
-            given(groupBuyOptionRepository.increaseStock(eq(scenario.groupBuyOption.getId()), eq(2))).willReturn(1);
+            given(groupBuyStockService.increaseStock(eq(scenario.groupBuyOption.getId()), eq(2))).willReturn(1);
 
             // when
             RefundProcessResponseDto result = refundService.processRefundRequest(sellerId, refundId, request);
@@ -196,7 +229,38 @@ class RefundServiceTest {
 
             verify(memberRepository).increasePoints(eq(scenario.member.getId()), eq(1000));
             verify(pointTransactionRepository).save(any());
-            verify(groupBuyOptionRepository).increaseStock(eq(scenario.groupBuyOption.getId()), eq(2));
+            verify(groupBuyStockService).increaseStock(eq(scenario.groupBuyOption.getId()), eq(2));
+        }
+
+        @Test
+        @DisplayName("성공 - Redis 재고 미러는 환불 트랜잭션이 커밋된 뒤에 복구")
+        void processRefundRequest_restoresStockMirrorAfterCommit() {
+            // given
+            String refundId = "refund-123";
+            Long sellerId = scenario.seller.getId();
+            RefundProcessRequestDto request = RefundTestFixture.createApproveRequest();
+
+            Refund refund = RefundTestFixture.createRefundWithItems(refundId, scenario.payment,
+                    RefundType.CHANGE_OF_MIND, "단순 변심", 15000, 1000, RefundStatus.INITIATED, scenario.orderItem);
+
+            given(refundRepository.findByIdWithDetails(refundId)).willReturn(Optional.of(refund));
+            given(memberRepository.increasePoints(eq(scenario.member.getId()), eq(1000))).willReturn(1);
+            given(groupBuyStockService.increaseStock(eq(scenario.groupBuyOption.getId()), eq(2))).willReturn(1);
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // when
+                refundService.processRefundRequest(sellerId, refundId, request);
+
+                // then
+                verify(stockReservationService, never()).restoreStock(anyLong(), anyInt());
+
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(TransactionSynchronization::afterCommit);
+                verify(stockReservationService).restoreStock(scenario.groupBuyOption.getId(), 2);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
         }
 
         @Test
@@ -224,7 +288,7 @@ class RefundServiceTest {
             // 환불 처리가 실행되지 않았는지 확인
             verify(memberRepository, never()).increasePoints(anyLong(), anyInt());
             verify(pointTransactionRepository, never()).save(any());
-            verify(groupBuyOptionRepository, never()).increaseStock(anyLong(), anyInt());
+            verify(groupBuyStockService, never()).increaseStock(anyLong(), anyInt());
         }
 
         @Test